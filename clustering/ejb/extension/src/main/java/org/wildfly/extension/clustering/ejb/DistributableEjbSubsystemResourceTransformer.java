@@ -0,0 +1,28 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.clustering.ejb;
+
+import java.util.function.Function;
+
+import org.jboss.as.controller.ModelVersion;
+import org.jboss.as.controller.transform.description.ResourceTransformationDescriptionBuilder;
+import org.jboss.as.controller.transform.description.TransformationDescription;
+import org.jboss.as.controller.transform.description.TransformationDescriptionBuilder;
+
+/**
+ * Describes resource transformations for the distributable-ejb subsystem.
+ */
+public class DistributableEjbSubsystemResourceTransformer implements Function<ModelVersion, TransformationDescription> {
+
+    private final ResourceTransformationDescriptionBuilder builder = TransformationDescriptionBuilder.Factory.createSubsystemInstance();
+
+    @Override
+    public TransformationDescription apply(ModelVersion version) {
+        new InfinispanBeanManagementResourceTransformer(this.builder).accept(version);
+
+        return this.builder.build();
+    }
+}
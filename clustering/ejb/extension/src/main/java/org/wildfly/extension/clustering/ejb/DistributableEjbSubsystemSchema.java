@@ -30,8 +30,9 @@ public enum DistributableEjbSubsystemSchema implements SubsystemResourceXMLSchem
 
     VERSION_1_0(1, 0), // WildFly 27-35
     VERSION_2_0(2, 0), // WildFly 36
+    VERSION_3_0(3, 0), // WildFly 37-present
     ;
-    static final DistributableEjbSubsystemSchema CURRENT = VERSION_2_0;
+    static final DistributableEjbSubsystemSchema CURRENT = VERSION_3_0;
 
     private final VersionedNamespace<IntVersion, DistributableEjbSubsystemSchema> namespace;
     private final ResourceXMLParticleFactory factory = ResourceXMLParticleFactory.newInstance(this);
@@ -73,9 +74,12 @@ public enum DistributableEjbSubsystemSchema implements SubsystemResourceXMLSchem
     }
 
     NamedResourceRegistrationXMLElement infinispanBeanManagementElement() {
-        return this.beanManagementElementBuilder(BeanManagementResourceRegistration.INFINISPAN)
-                .addAttributes(InfinispanBeanManagementResourceDefinitionRegistrar.CACHE_ATTRIBUTE_GROUP.getAttributes())
-                .build();
+        NamedResourceRegistrationXMLElement.Builder builder = this.beanManagementElementBuilder(BeanManagementResourceRegistration.INFINISPAN)
+                .addAttributes(InfinispanBeanManagementResourceDefinitionRegistrar.CACHE_ATTRIBUTE_GROUP.getAttributes());
+        if (this.since(VERSION_3_0)) {
+            builder.addAttribute(InfinispanBeanManagementResourceDefinitionRegistrar.MAX_OFF_HEAP_SIZE);
+        }
+        return builder.build();
     }
 
     NamedResourceRegistrationXMLElement.Builder beanManagementElementBuilder(ResourceRegistration registration) {
@@ -4,12 +4,28 @@
  */
 package org.wildfly.extension.clustering.ejb;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.function.Function;
+
+import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.jboss.as.controller.operations.validation.LongRangeValidator;
+import org.jboss.as.controller.registry.AttributeAccess.Flag;
 import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.wildfly.clustering.ejb.bean.BeanDeploymentMarshallingContext;
+import org.wildfly.clustering.ejb.bean.BeanManagementConfiguration;
 import org.wildfly.clustering.ejb.bean.BeanManagementProvider;
+import org.wildfly.clustering.ejb.infinispan.bean.InfinispanBeanManagementConfiguration;
 import org.wildfly.clustering.ejb.infinispan.bean.InfinispanBeanManagementProvider;
 import org.wildfly.clustering.infinispan.service.InfinispanCacheConfigurationAttributeGroup;
+import org.wildfly.clustering.marshalling.ByteBufferMarshaller;
 import org.wildfly.clustering.server.service.CacheConfigurationAttributeGroup;
 import org.wildfly.subsystem.resource.ResourceDescriptor;
 import org.wildfly.subsystem.service.ResourceServiceInstaller;
@@ -23,6 +39,14 @@ import org.wildfly.subsystem.service.capability.CapabilityServiceInstaller;
 public class InfinispanBeanManagementResourceDefinitionRegistrar extends BeanManagementResourceDefinitionRegistrar {
 
     static final CacheConfigurationAttributeGroup CACHE_ATTRIBUTE_GROUP = new InfinispanCacheConfigurationAttributeGroup(CAPABILITY);
+    static final AttributeDefinition MAX_OFF_HEAP_SIZE = new SimpleAttributeDefinitionBuilder("max-off-heap-size", ModelType.LONG)
+            .setAllowExpression(true)
+            .setRequired(false)
+            .setFlags(Flag.RESTART_RESOURCE_SERVICES)
+            .setMeasurementUnit(MeasurementUnit.BYTES)
+            .setValidator(new LongRangeValidator(1))
+            .setAlternatives(MAX_ACTIVE_BEANS.getName())
+            .build();
 
     InfinispanBeanManagementResourceDefinitionRegistrar() {
         super(BeanManagementResourceRegistration.INFINISPAN);
@@ -30,13 +54,34 @@ public class InfinispanBeanManagementResourceDefinitionRegistrar extends BeanMan
 
     @Override
     public ResourceDescriptor.Builder apply(ResourceDescriptor.Builder builder) {
-        return super.apply(builder).addAttributes(CACHE_ATTRIBUTE_GROUP.getAttributes());
+        return super.apply(builder)
+                .addAttributes(CACHE_ATTRIBUTE_GROUP.getAttributes())
+                .addAttributes(List.of(MAX_OFF_HEAP_SIZE))
+                ;
     }
 
     @Override
     public ResourceServiceInstaller configure(OperationContext context, ModelNode model) throws OperationFailedException {
         String name = context.getCurrentAddressValue();
-        BeanManagementProvider provider = new InfinispanBeanManagementProvider<>(name, this.resolve(context, model), CACHE_ATTRIBUTE_GROUP.resolve(context, model));
+        BeanManagementConfiguration configuration = this.resolve(context, model);
+        OptionalLong maxOffHeapSize = Optional.ofNullable(MAX_OFF_HEAP_SIZE.resolveModelAttribute(context, model).asLongOrNull()).map(OptionalLong::of).orElse(OptionalLong.empty());
+        InfinispanBeanManagementConfiguration infinispanConfiguration = new InfinispanBeanManagementConfiguration() {
+            @Override
+            public OptionalInt getMaxActiveBeans() {
+                return configuration.getMaxActiveBeans();
+            }
+
+            @Override
+            public Function<BeanDeploymentMarshallingContext, ByteBufferMarshaller> getMarshallerFactory() {
+                return configuration.getMarshallerFactory();
+            }
+
+            @Override
+            public OptionalLong getMaxOffHeapSize() {
+                return maxOffHeapSize;
+            }
+        };
+        BeanManagementProvider provider = new InfinispanBeanManagementProvider<>(name, infinispanConfiguration, CACHE_ATTRIBUTE_GROUP.resolve(context, model));
         return CapabilityServiceInstaller.builder(CAPABILITY, provider).build();
     }
 }
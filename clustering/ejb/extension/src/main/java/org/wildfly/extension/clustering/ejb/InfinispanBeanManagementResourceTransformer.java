@@ -0,0 +1,35 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.clustering.ejb;
+
+import java.util.function.Consumer;
+
+import org.jboss.as.controller.ModelVersion;
+import org.jboss.as.controller.transform.description.DiscardAttributeChecker;
+import org.jboss.as.controller.transform.description.RejectAttributeChecker;
+import org.jboss.as.controller.transform.description.ResourceTransformationDescriptionBuilder;
+
+/**
+ * Describes resource transformations for an Infinispan bean management provider.
+ */
+public class InfinispanBeanManagementResourceTransformer implements Consumer<ModelVersion> {
+
+    private final ResourceTransformationDescriptionBuilder builder;
+
+    InfinispanBeanManagementResourceTransformer(ResourceTransformationDescriptionBuilder parent) {
+        this.builder = parent.addChildResource(BeanManagementResourceRegistration.INFINISPAN.getPathElement());
+    }
+
+    @Override
+    public void accept(ModelVersion version) {
+        if (DistributableEjbSubsystemModel.VERSION_2_0_0.requiresTransformation(version)) {
+            this.builder.getAttributeBuilder()
+                    .setDiscard(DiscardAttributeChecker.UNDEFINED, InfinispanBeanManagementResourceDefinitionRegistrar.MAX_OFF_HEAP_SIZE)
+                    .addRejectCheck(RejectAttributeChecker.DEFINED, InfinispanBeanManagementResourceDefinitionRegistrar.MAX_OFF_HEAP_SIZE)
+                    .end();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.ejb.infinispan;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import org.infinispan.Cache;
+import org.wildfly.clustering.cache.infinispan.embedded.distribution.CacheStreamFilter;
+import org.wildfly.clustering.context.DefaultThreadFactory;
+import org.wildfly.clustering.ejb.infinispan.logging.InfinispanEjbLogger;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * Applies a task to the entries of a cache selected by a given {@link CacheStreamFilter}, e.g. the segments gained following a topology change.
+ * Entries are streamed from the local data container by the calling thread and dispatched in batches to an executor owned by the caller,
+ * e.g. a bean or timer manager, whose size bounds the parallelism of all of its scans.
+ * The executor is only used if the selected entries exceed a single batch.
+ * Processing stops if the calling thread is interrupted, e.g. if a subsequent topology change supersedes this one.
+ * @param <K> the cache key type
+ * @param <V> the cache value type
+ */
+public class ParallelCacheEntriesTask<K, V> implements Consumer<CacheStreamFilter<Map.Entry<K, V>>> {
+    private static final ThreadFactory THREAD_FACTORY = new DefaultThreadFactory(ParallelCacheEntriesTask.class, WildFlySecurityManager.getClassLoaderPrivileged(ParallelCacheEntriesTask.class));
+    static final int DEFAULT_BATCH_SIZE = 1024;
+    static final int DEFAULT_PARALLELISM = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors() / 2, 8));
+    // Scans only follow topology changes, so threads should not outlive them
+    static final Duration DEFAULT_KEEP_ALIVE = Duration.ofSeconds(30);
+
+    /**
+     * Creates an executor for use by the tasks of a given owner, which is responsible for shutting it down.
+     * The threads of this executor expire once idle, such that an owner retains no threads between scans.
+     * @return a bounded executor
+     */
+    public static ExecutorService createExecutor() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(DEFAULT_PARALLELISM, DEFAULT_PARALLELISM, DEFAULT_KEEP_ALIVE.toMillis(), TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), THREAD_FACTORY);
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private final Cache<K, V> cache;
+    private final Predicate<Map.Entry<? super K, ? super V>> filter;
+    private final Consumer<Map.Entry<K, V>> task;
+    private final ExecutorService executor;
+    private final int batchSize;
+
+    public ParallelCacheEntriesTask(Cache<K, V> cache, Predicate<Map.Entry<? super K, ? super V>> filter, Consumer<Map.Entry<K, V>> task, ExecutorService executor) {
+        this(cache, filter, task, executor, DEFAULT_BATCH_SIZE);
+    }
+
+    ParallelCacheEntriesTask(Cache<K, V> cache, Predicate<Map.Entry<? super K, ? super V>> filter, Consumer<Map.Entry<K, V>> task, ExecutorService executor, int batchSize) {
+        this.cache = cache;
+        this.filter = filter;
+        this.task = task;
+        this.executor = executor;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void accept(CacheStreamFilter<Map.Entry<K, V>> filter) {
+        long start = System.nanoTime();
+        int count = 0;
+        List<Future<?>> futures = new ArrayList<>();
+        try (Stream<Map.Entry<K, V>> stream = filter.apply(this.cache.entrySet().stream()).filter(this.filter)) {
+            Iterator<Map.Entry<K, V>> entries = stream.iterator();
+            List<Map.Entry<K, V>> batch = new ArrayList<>(this.batchSize);
+            while (entries.hasNext() && !Thread.currentThread().isInterrupted()) {
+                batch.add(entries.next());
+                // Dispatch full batch, unless it is the last
+                if ((batch.size() == this.batchSize) && entries.hasNext()) {
+                    futures.add(this.executor.submit(new BatchTask<>(batch, this.task)));
+                    count += batch.size();
+                    batch = new ArrayList<>(this.batchSize);
+                }
+            }
+            // Process last batch using calling thread
+            if (!Thread.currentThread().isInterrupted()) {
+                new BatchTask<>(batch, this.task).run();
+                count += batch.size();
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            InfinispanEjbLogger.ROOT_LOGGER.cacheEntriesProcessed(count, this.cache.getName(), Duration.ofNanos(System.nanoTime() - start).toMillis(), futures.size() + 1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            if (Thread.currentThread().isInterrupted()) {
+                InfinispanEjbLogger.ROOT_LOGGER.cacheEntriesInterrupted(count, this.cache.getName(), Duration.ofNanos(System.nanoTime() - start).toMillis());
+            }
+            // Abandon any outstanding batches, e.g. if interrupted
+            for (Future<?> future : futures) {
+                future.cancel(true);
+            }
+        }
+    }
+    private static class BatchTask<K, V> implements Runnable {
+        private final List<Map.Entry<K, V>> batch;
+        private final Consumer<Map.Entry<K, V>> task;
+
+        BatchTask(List<Map.Entry<K, V>> batch, Consumer<Map.Entry<K, V>> task) {
+            this.batch = batch;
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            for (Map.Entry<K, V> entry : this.batch) {
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+                this.task.accept(entry);
+            }
+        }
+    }
+}
@@ -0,0 +1,24 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.ejb.infinispan.bean;
+
+import java.util.OptionalLong;
+
+import org.wildfly.clustering.ejb.bean.BeanManagementConfiguration;
+
+/**
+ * Encapsulates the configuration of an Infinispan-based bean management provider.
+ */
+public interface InfinispanBeanManagementConfiguration extends BeanManagementConfiguration {
+
+    /**
+     * When present, returns the maximum number of bytes of serialized bean groups to retain off-heap at a given time, after which the least recently used will passivate.
+     * @return when present, the maximum off-heap size, in bytes, of the bean groups of a deployment, or empty if bean groups are retained on-heap.
+     */
+    default OptionalLong getMaxOffHeapSize() {
+        return OptionalLong.empty();
+    }
+}
@@ -7,6 +7,7 @@ package org.wildfly.clustering.ejb.infinispan.bean;
 import java.util.List;
 import java.util.Map;
 import java.util.OptionalInt;
+import java.util.OptionalLong;
 
 import org.infinispan.Cache;
 import org.infinispan.configuration.cache.ConfigurationBuilder;
@@ -24,7 +25,6 @@ import org.wildfly.clustering.ejb.DeploymentConfiguration;
 import org.wildfly.clustering.ejb.bean.BeanConfiguration;
 import org.wildfly.clustering.ejb.bean.BeanDeploymentConfiguration;
 import org.wildfly.clustering.ejb.bean.BeanInstance;
-import org.wildfly.clustering.ejb.bean.BeanManagementConfiguration;
 import org.wildfly.clustering.ejb.bean.BeanManagementProvider;
 import org.wildfly.clustering.ejb.bean.BeanManagerFactory;
 import org.wildfly.clustering.ejb.bean.BeanPassivationConfiguration;
@@ -58,10 +58,10 @@ import org.wildfly.subsystem.service.ServiceInstaller;
 public class InfinispanBeanManagementProvider<K, V extends BeanInstance<K>> implements BeanManagementProvider, UnaryOperator<ConfigurationBuilder> {
 
     private final String name;
-    private final BeanManagementConfiguration configuration;
+    private final InfinispanBeanManagementConfiguration configuration;
     private final BinaryServiceConfiguration cacheConfiguration;
 
-    public InfinispanBeanManagementProvider(String name, BeanManagementConfiguration configuration, BinaryServiceConfiguration cacheConfiguration) {
+    public InfinispanBeanManagementProvider(String name, InfinispanBeanManagementConfiguration configuration, BinaryServiceConfiguration cacheConfiguration) {
         this.name = name;
         this.configuration = configuration;
         this.cacheConfiguration = cacheConfiguration;
@@ -195,6 +195,11 @@ public class InfinispanBeanManagementProvider<K, V extends BeanInstance<K>> impl
             InfinispanEjbLogger.ROOT_LOGGER.expirationDisabled(InfinispanBeanManagementProvider.this.cacheConfiguration.getChildName());
         }
 
+        OptionalLong offHeapSize = InfinispanBeanManagementProvider.this.configuration.getMaxOffHeapSize();
+        if (offHeapSize.isPresent()) {
+            // The off-heap data container does not consult the evictable predicate, and would evict beans apart from their group
+            throw InfinispanEjbLogger.ROOT_LOGGER.offHeapBeanGroupsNotSupported(InfinispanBeanManagementProvider.this.cacheConfiguration.getChildName());
+        }
         OptionalInt size = InfinispanBeanManagementProvider.this.configuration.getMaxActiveBeans();
         EvictionStrategy strategy = size.isPresent() ? EvictionStrategy.REMOVE : EvictionStrategy.MANUAL;
         builder.memory().storage(StorageType.HEAP).whenFull(strategy).maxCount(size.orElse(0));
@@ -8,6 +8,7 @@ import java.time.Duration;
 import java.util.EnumSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeoutException;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
@@ -38,6 +39,7 @@ import org.wildfly.clustering.ejb.cache.bean.BeanFactory;
 import org.wildfly.clustering.ejb.cache.bean.BeanMetaDataKey;
 import org.wildfly.clustering.ejb.cache.bean.MutableBean;
 import org.wildfly.clustering.ejb.cache.bean.OnCloseBean;
+import org.wildfly.clustering.ejb.infinispan.ParallelCacheEntriesTask;
 import org.wildfly.clustering.ejb.infinispan.logging.InfinispanEjbLogger;
 import org.wildfly.clustering.server.expiration.ExpirationMetaData;
 import org.wildfly.clustering.server.infinispan.CacheContainerGroup;
@@ -78,6 +80,7 @@ public class InfinispanBeanManager<K, V extends BeanInstance<K>, M> implements B
 
     private volatile Scheduler<K, ExpirationMetaData> scheduler;
     private volatile ListenerRegistration schedulerListenerRegistration;
+    private volatile ExecutorService scheduleExecutor;
     private volatile UnaryOperator<Bean<K, V>> transformer;
 
     public InfinispanBeanManager(InfinispanBeanManagerConfiguration<K, V, M> configuration) {
@@ -141,7 +144,9 @@ public class InfinispanBeanManager<K, V extends BeanInstance<K>, M> implements B
             }
         })) : null;
 
-        Consumer<CacheStreamFilter<Map.Entry<BeanMetaDataKey<K>, M>>> scheduleTask = (localScheduler != null) ? CacheEntriesTask.schedule(this.cache, this.filter, localScheduler) : null;
+        // Shared by all scans, e.g. following successive topology changes
+        this.scheduleExecutor = (localScheduler != null) ? ParallelCacheEntriesTask.createExecutor() : null;
+        Consumer<CacheStreamFilter<Map.Entry<BeanMetaDataKey<K>, M>>> scheduleTask = (localScheduler != null) ? new ParallelCacheEntriesTask<>(this.cache, this.filter, localScheduler::schedule, this.scheduleExecutor) : null;
         Consumer<CacheStreamFilter<Map.Entry<BeanMetaDataKey<K>, M>>> cancelTask = (localScheduler != null) ? CacheEntriesTask.cancel(this.cache, this.filter, localScheduler) : null;
         this.schedulerListenerRegistration = (localScheduler != null) ? new SchedulerTopologyChangeListener<>(this.cache, scheduleTask, cancelTask).register() : null;
         if (scheduleTask != null) {
@@ -168,6 +173,9 @@ public class InfinispanBeanManager<K, V extends BeanInstance<K>, M> implements B
         if (this.schedulerListenerRegistration != null) {
             this.schedulerListenerRegistration.close();
         }
+        if (this.scheduleExecutor != null) {
+            this.scheduleExecutor.shutdownNow();
+        }
         if (this.scheduler != null) {
             this.scheduler.close();
         }
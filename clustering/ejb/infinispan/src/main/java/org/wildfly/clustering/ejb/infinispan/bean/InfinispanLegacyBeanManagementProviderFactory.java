@@ -10,7 +10,6 @@ import java.util.function.Function;
 import org.kohsuke.MetaInfServices;
 import org.wildfly.clustering.ejb.bean.BeanManagementProvider;
 import org.wildfly.clustering.ejb.bean.BeanDeploymentMarshallingContext;
-import org.wildfly.clustering.ejb.bean.BeanManagementConfiguration;
 import org.wildfly.clustering.ejb.bean.LegacyBeanManagementConfiguration;
 import org.wildfly.clustering.ejb.bean.LegacyBeanManagementProviderFactory;
 import org.wildfly.clustering.ejb.cache.bean.BeanMarshallerFactory;
@@ -28,7 +27,7 @@ public class InfinispanLegacyBeanManagementProviderFactory implements LegacyBean
 
     @Override
     public BeanManagementProvider createBeanManagementProvider(String name, LegacyBeanManagementConfiguration config) {
-        return new InfinispanBeanManagementProvider<>(name, new BeanManagementConfiguration() {
+        return new InfinispanBeanManagementProvider<>(name, new InfinispanBeanManagementConfiguration() {
             @Override
             public OptionalInt getMaxActiveBeans() {
                 return config.getMaxActiveBeans();
@@ -4,6 +4,7 @@
  */
 package org.wildfly.clustering.ejb.infinispan.logging;
 
+import static org.jboss.logging.Logger.Level.DEBUG;
 import static org.jboss.logging.Logger.Level.WARN;
 
 import java.lang.invoke.MethodHandles;
@@ -64,4 +65,15 @@ public interface InfinispanEjbLogger extends BasicLogger {
     @LogMessage(level = WARN)
     @Message(id = 10, value = "Disabling expiration for '%s'. SFSB expiration should be configured per \u00A74.3.11 of the Jakarta Enterprise Beans specification.")
     void expirationDisabled(String cacheName);
+
+    @Message(id = 11, value = "Cache '%s' cannot retain bean groups off-heap, since its off-heap data container would not restrict eviction to bean groups.")
+    IllegalStateException offHeapBeanGroupsNotSupported(String cacheName);
+
+    @LogMessage(level = DEBUG)
+    @Message(id = 12, value = "Processed %d entries of cache '%s' in %d ms using %d batches")
+    void cacheEntriesProcessed(int entries, String cacheName, long millis, int batches);
+
+    @LogMessage(level = DEBUG)
+    @Message(id = 13, value = "Interrupted after dispatching %d entries of cache '%s' in %d ms")
+    void cacheEntriesInterrupted(int entries, String cacheName, long millis);
 }
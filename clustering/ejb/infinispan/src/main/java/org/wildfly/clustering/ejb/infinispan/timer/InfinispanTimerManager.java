@@ -10,6 +10,7 @@ import java.lang.reflect.Method;
 import java.time.Duration;
 import java.util.AbstractMap;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
@@ -33,6 +34,7 @@ import org.wildfly.clustering.ejb.cache.timer.TimerFactory;
 import org.wildfly.clustering.ejb.cache.timer.TimerIndex;
 import org.wildfly.clustering.ejb.cache.timer.TimerMetaDataFactory;
 import org.wildfly.clustering.ejb.cache.timer.TimerMetaDataKey;
+import org.wildfly.clustering.ejb.infinispan.ParallelCacheEntriesTask;
 import org.wildfly.clustering.ejb.timer.ImmutableTimerMetaData;
 import org.wildfly.clustering.ejb.timer.IntervalTimerConfiguration;
 import org.wildfly.clustering.ejb.timer.ScheduleTimerConfiguration;
@@ -46,7 +48,6 @@ import org.wildfly.clustering.server.infinispan.CacheContainerGroupMember;
 import org.wildfly.clustering.server.infinispan.affinity.UnaryGroupMemberAffinity;
 import org.wildfly.clustering.server.infinispan.dispatcher.CacheContainerCommandDispatcherFactory;
 import org.wildfly.clustering.server.infinispan.manager.AffinityIdentifierFactory;
-import org.wildfly.clustering.server.infinispan.scheduler.CacheEntriesTask;
 import org.wildfly.clustering.server.infinispan.scheduler.CacheKeysTask;
 import org.wildfly.clustering.server.infinispan.scheduler.PrimaryOwnerScheduler;
 import org.wildfly.clustering.server.infinispan.scheduler.PrimaryOwnerSchedulerConfiguration;
@@ -75,6 +76,7 @@ public class InfinispanTimerManager<I, C> implements TimerManager<I> {
     private final Scheduler<I, TimeoutMetaData> scheduler;
     private final AtomicReference<Scheduler<I, TimeoutMetaData>> schedulerReference = new AtomicReference<>(this.inactiveScheduler);
     private final AtomicReference<ListenerRegistration> schedulerListenerRegistration = new AtomicReference<>();
+    private final AtomicReference<ExecutorService> scheduleExecutor = new AtomicReference<>();
 
     public InfinispanTimerManager(InfinispanTimerManagerConfiguration<I, C> config) {
         this.cache = config.getCache();
@@ -142,7 +144,10 @@ public class InfinispanTimerManager<I, C> implements TimerManager<I> {
             // auto-close
         }
 
-        Consumer<CacheStreamFilter<Map.Entry<TimerMetaDataKey<I>, RemappableTimerMetaDataEntry<C>>>> scheduleTask = new CacheEntriesTask<>(this.cache, TimerCacheEntryFilter.META_DATA_ENTRY.cast(), localScheduler::schedule);
+        // Shared by all scans, e.g. following successive topology changes
+        ExecutorService executor = ParallelCacheEntriesTask.createExecutor();
+        this.scheduleExecutor.set(executor);
+        Consumer<CacheStreamFilter<Map.Entry<TimerMetaDataKey<I>, RemappableTimerMetaDataEntry<C>>>> scheduleTask = new ParallelCacheEntriesTask<>(this.cache, TimerCacheEntryFilter.META_DATA_ENTRY.cast(), localScheduler::schedule, executor);
         org.wildfly.clustering.function.Consumer<I> cancel = localScheduler::cancel;
         Consumer<CacheStreamFilter<TimerMetaDataKey<I>>> cancelTask = new CacheKeysTask<>(this.cache, TimerCacheKeyFilter.META_DATA_KEY, cancel.compose(Key::getId));
 
@@ -165,6 +170,11 @@ public class InfinispanTimerManager<I, C> implements TimerManager<I> {
             // auto-closed
         }
 
+        ExecutorService executor = this.scheduleExecutor.getAndSet(null);
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+
         try (Scheduler<I, TimeoutMetaData> scheduler = this.schedulerReference.getAndSet(this.inactiveScheduler)) {
             // Switch to inactive scheduler
         }
@@ -0,0 +1,106 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.ejb.infinispan;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.infinispan.Cache;
+import org.infinispan.CacheSet;
+import org.infinispan.CacheStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.wildfly.clustering.cache.infinispan.embedded.distribution.CacheStreamFilter;
+
+/**
+ * Unit test for {@link ParallelCacheEntriesTask}.
+ */
+public class ParallelCacheEntriesTaskTestCase {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    // Threads used across all scans
+    private final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+    @AfterEach
+    public void destroy() {
+        this.executor.shutdownNow();
+    }
+
+    @Test
+    public void test() {
+        this.test(0);
+        // Remainder is processed by caller
+        this.test(99);
+        // Single batch is processed by caller
+        this.test(100);
+        // Multiple batches
+        this.test(10_000);
+        this.test(10_050);
+
+        // Executor is shared by successive scans
+        assertTrue(this.threads.size() <= 5, this.threads::toString);
+    }
+
+    @Test
+    public void createExecutor() {
+        ThreadPoolExecutor executor = (ThreadPoolExecutor) ParallelCacheEntriesTask.createExecutor();
+        try {
+            // Idle threads must not be retained between scans
+            assertTrue(executor.allowsCoreThreadTimeOut());
+            assertEquals(ParallelCacheEntriesTask.DEFAULT_PARALLELISM, executor.getMaximumPoolSize());
+            assertEquals(0, executor.getPoolSize());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void test(int size) {
+        Cache<Integer, String> cache = mock(Cache.class);
+        CacheSet<Map.Entry<Integer, String>> entrySet = mock(CacheSet.class);
+        CacheStream<Map.Entry<Integer, String>> stream = mock(CacheStream.class);
+        List<Map.Entry<Integer, String>> entries = IntStream.range(0, size).mapToObj(i -> Map.entry(i, Integer.toString(i))).collect(Collectors.toList());
+
+        when(cache.getName()).thenReturn("cache");
+        when(cache.entrySet()).thenReturn(entrySet);
+        when(entrySet.stream()).thenReturn(stream);
+        when(stream.filter(any(Predicate.class))).thenReturn(stream);
+        when(stream.iterator()).thenReturn(entries.iterator());
+
+        Set<Integer> processed = ConcurrentHashMap.newKeySet();
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        Consumer<Map.Entry<Integer, String>> task = entry -> {
+            threads.add(Thread.currentThread());
+            this.threads.add(Thread.currentThread());
+            assertTrue(processed.add(entry.getKey()), entry::toString);
+        };
+        // Selects all entries
+        CacheStreamFilter<Map.Entry<Integer, String>> filter = s -> s;
+
+        new ParallelCacheEntriesTask<>(cache, entry -> true, task, this.executor, 100).accept(filter);
+
+        assertEquals(size, processed.size());
+        assertTrue(threads.size() <= 5, threads::toString);
+        if (size <= 100) {
+            assertTrue(threads.isEmpty() || threads.equals(Set.of(Thread.currentThread())), threads::toString);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.ejb.infinispan.bean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+import org.infinispan.configuration.cache.Configuration;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.configuration.cache.StorageType;
+import org.infinispan.eviction.EvictionStrategy;
+import org.jboss.ejb.client.SessionID;
+import org.jboss.ejb.client.UUIDSessionID;
+import org.junit.jupiter.api.Test;
+import org.wildfly.clustering.cache.infinispan.embedded.container.DataContainerConfiguration;
+import org.wildfly.clustering.server.service.BinaryServiceConfiguration;
+
+/**
+ * Unit test for the cache configuration applied by {@link InfinispanBeanManagementProvider}.
+ */
+public class InfinispanBeanManagementProviderTestCase {
+
+    private final InfinispanBeanManagementConfiguration configuration = mock(InfinispanBeanManagementConfiguration.class);
+    private final BinaryServiceConfiguration cacheConfiguration = mock(BinaryServiceConfiguration.class);
+    private final InfinispanBeanManagementProvider<SessionID, ?> provider = new InfinispanBeanManagementProvider<>("provider", this.configuration, this.cacheConfiguration);
+
+    private Configuration apply(ConfigurationBuilder builder, OptionalInt maxActiveBeans, OptionalLong maxOffHeapSize) {
+        when(this.cacheConfiguration.getChildName()).thenReturn("bar");
+        when(this.configuration.getMaxActiveBeans()).thenReturn(maxActiveBeans);
+        when(this.configuration.getMaxOffHeapSize()).thenReturn(maxOffHeapSize);
+        return this.provider.apply(builder).build();
+    }
+
+    private static ConfigurationBuilder passivating() {
+        ConfigurationBuilder builder = new ConfigurationBuilder();
+        builder.persistence().passivation(true).addSoftIndexFileStore();
+        return builder;
+    }
+
+    private static void assertGroupEvictionOnly(Configuration configuration) {
+        DataContainerConfiguration container = configuration.module(DataContainerConfiguration.class);
+        Predicate<Object> evictable = container.evictable();
+        SessionID id = new UUIDSessionID(UUID.randomUUID());
+        assertTrue(evictable.test(new InfinispanBeanGroupKey<>(id)));
+        assertFalse(evictable.test(new InfinispanBeanMetaDataKey<>(id)));
+    }
+
+    @Test
+    public void unbounded() {
+        Configuration configuration = this.apply(new ConfigurationBuilder(), OptionalInt.empty(), OptionalLong.empty());
+
+        assertEquals(StorageType.HEAP, configuration.memory().storage());
+        assertEquals(EvictionStrategy.MANUAL, configuration.memory().whenFull());
+        assertNull(configuration.module(DataContainerConfiguration.class));
+    }
+
+    @Test
+    public void maxActiveBeans() {
+        Configuration configuration = this.apply(new ConfigurationBuilder(), OptionalInt.of(100), OptionalLong.empty());
+
+        assertEquals(StorageType.HEAP, configuration.memory().storage());
+        assertEquals(EvictionStrategy.REMOVE, configuration.memory().whenFull());
+        assertEquals(100L, configuration.memory().maxCount());
+        assertGroupEvictionOnly(configuration);
+    }
+
+    @Test
+    public void maxOffHeapSize() {
+        // The off-heap data container would evict beans apart from their group, even with a passivating store
+        assertThrows(IllegalStateException.class, () -> this.apply(passivating(), OptionalInt.empty(), OptionalLong.of(1 << 20)));
+        assertThrows(IllegalStateException.class, () -> this.apply(new ConfigurationBuilder(), OptionalInt.empty(), OptionalLong.of(1 << 20)));
+    }
+
+    @Test
+    public void expiration() {
+        ConfigurationBuilder builder = new ConfigurationBuilder();
+        builder.expiration().lifespan(1000).maxIdle(1000);
+
+        Configuration configuration = this.apply(builder, OptionalInt.empty(), OptionalLong.empty());
+
+        assertEquals(-1L, configuration.expiration().lifespan());
+        assertEquals(-1L, configuration.expiration().maxIdle());
+    }
+}
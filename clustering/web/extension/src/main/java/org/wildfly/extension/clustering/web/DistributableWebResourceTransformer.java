@@ -22,6 +22,7 @@ public class DistributableWebResourceTransformer implements Function<ModelVersio
 
         new InfinispanSessionManagementResourceTransformer(builder).accept(version);
         new HotRodSessionManagementResourceTransformer(builder).accept(version);
+        new HotRodUserManagementResourceTransformer(builder).accept(version);
 
         return builder;
     }
@@ -26,9 +26,10 @@ public enum DistributableWebSubsystemSchema implements PersistentSubsystemSchema
     VERSION_1_0(1, 0), // WildFly 17
     VERSION_2_0(2, 0), // WildFly 18-26.1, EAP 7.4
     VERSION_3_0(3, 0), // WildFly 27-29
-    VERSION_4_0(4, 0), // WildFly 30-present, EAP 8.0
+    VERSION_4_0(4, 0), // WildFly 30-36, EAP 8.0
+    VERSION_5_0(5, 0), // WildFly 37-present
     ;
-    static final DistributableWebSubsystemSchema CURRENT = VERSION_4_0;
+    static final DistributableWebSubsystemSchema CURRENT = VERSION_5_0;
 
     private final VersionedNamespace<IntVersion, DistributableWebSubsystemSchema> namespace;
 
@@ -47,14 +48,17 @@ public enum DistributableWebSubsystemSchema implements PersistentSubsystemSchema
                 .addChild(this.getInfinispanSessionManagementResourceXMLBuilder())
                 .addChild(this.getHotRodSessionManagementResourceXMLBuilder())
                 .addChild(builder(InfinispanUserManagementResourceDefinition.WILDCARD_PATH).addAttributes(InfinispanUserManagementResourceDefinition.CACHE_ATTRIBUTE_GROUP.getAttributes().stream()))
-                .addChild(builder(HotRodUserManagementResourceDefinition.WILDCARD_PATH).addAttributes(HotRodUserManagementResourceDefinition.CACHE_ATTRIBUTE_GROUP.getAttributes().stream()))
+                .addChild(this.getHotRodUserManagementResourceXMLBuilder())
                 .addChild(builder(LocalRoutingProviderResourceDefinition.PATH).setXmlElementName("local-routing"))
                 .addChild(builder(InfinispanRoutingProviderResourceDefinition.PATH).addAttributes(InfinispanRoutingProviderResourceDefinition.CACHE_ATTRIBUTE_GROUP.getAttributes().stream()).setXmlElementName("infinispan-routing"))
                 .build();
     }
 
     private PersistentResourceXMLBuilder getInfinispanSessionManagementResourceXMLBuilder() {
-        PersistentResourceXMLBuilder builder = builder(InfinispanSessionManagementResourceDefinition.WILDCARD_PATH).addAttributes(Stream.concat(InfinispanSessionManagementResourceDefinition.CACHE_ATTRIBUTE_GROUP.getAttributes().stream(), Stream.concat(Attribute.stream(InfinispanSessionManagementResourceDefinition.Attribute.class), Attribute.stream(SessionManagementResourceDefinition.Attribute.class))));
+        PersistentResourceXMLBuilder builder = builder(InfinispanSessionManagementResourceDefinition.WILDCARD_PATH).addAttributes(Stream.concat(InfinispanSessionManagementResourceDefinition.CACHE_ATTRIBUTE_GROUP.getAttributes().stream(), Attribute.stream(SessionManagementResourceDefinition.Attribute.class)));
+        if (this.namespace.since(DistributableWebSubsystemSchema.VERSION_5_0)) {
+            builder.addAttributes(Attribute.stream(InfinispanSessionManagementResourceDefinition.Attribute.class));
+        }
         addAffinityChildren(builder).addChild(builder(PrimaryOwnerAffinityResourceDefinition.PATH).setXmlElementName("primary-owner-affinity"));
         if (this.namespace.since(DistributableWebSubsystemSchema.VERSION_2_0)) {
             builder.addChild(builder(RankedAffinityResourceDefinition.PATH).addAttributes(Attribute.stream(RankedAffinityResourceDefinition.Attribute.class)).setXmlElementName("ranked-affinity"));
@@ -66,6 +70,14 @@ public enum DistributableWebSubsystemSchema implements PersistentSubsystemSchema
         return addAffinityChildren(builder(HotRodSessionManagementResourceDefinition.WILDCARD_PATH).addAttributes(Stream.concat(HotRodSessionManagementResourceDefinition.CACHE_ATTRIBUTE_GROUP.getAttributes().stream(), Stream.concat(Attribute.stream(HotRodSessionManagementResourceDefinition.Attribute.class), Attribute.stream(SessionManagementResourceDefinition.Attribute.class)))));
     }
 
+    private PersistentResourceXMLBuilder getHotRodUserManagementResourceXMLBuilder() {
+        PersistentResourceXMLBuilder builder = builder(HotRodUserManagementResourceDefinition.WILDCARD_PATH).addAttributes(HotRodUserManagementResourceDefinition.CACHE_ATTRIBUTE_GROUP.getAttributes().stream());
+        if (this.namespace.since(DistributableWebSubsystemSchema.VERSION_5_0)) {
+            builder.addAttributes(Attribute.stream(HotRodUserManagementResourceDefinition.Attribute.class));
+        }
+        return builder;
+    }
+
     private static PersistentResourceXMLBuilder addAffinityChildren(PersistentResourceXMLBuilder builder) {
         return builder
                 .addChild(builder(NoAffinityResourceDefinition.PATH).setXmlElementName("no-affinity"))
@@ -5,10 +5,17 @@
 
 package org.wildfly.extension.clustering.web;
 
+import java.util.OptionalInt;
+
+import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
+import org.jboss.as.controller.registry.AttributeAccess.Flag;
 import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
 import org.wildfly.clustering.infinispan.client.service.HotRodCacheConfigurationAttributeGroup;
 import org.wildfly.clustering.server.service.CacheConfigurationAttributeGroup;
 import org.wildfly.extension.clustering.web.sso.hotrod.HotRodUserManagementProvider;
@@ -23,12 +30,34 @@ public class HotRodUserManagementResourceDefinition extends UserManagementResour
     static final PathElement WILDCARD_PATH = PathElement.pathElement("hotrod-single-sign-on-management");
     static final CacheConfigurationAttributeGroup CACHE_ATTRIBUTE_GROUP = new HotRodCacheConfigurationAttributeGroup(CAPABILITY);
 
+    public enum Attribute implements org.jboss.as.clustering.controller.Attribute {
+        NEAR_CACHE_MAX_ENTRIES("near-cache-max-entries", ModelType.INT),
+        ;
+        private final AttributeDefinition definition;
+
+        Attribute(String name, ModelType type) {
+            this.definition = new SimpleAttributeDefinitionBuilder(name, type)
+                    .setAllowExpression(true)
+                    .setRequired(false)
+                    .setValidator(new IntRangeValidator(0))
+                    .setFlags(Flag.RESTART_RESOURCE_SERVICES)
+                    .build();
+        }
+
+        @Override
+        public AttributeDefinition getDefinition() {
+            return this.definition;
+        }
+    }
+
     HotRodUserManagementResourceDefinition() {
-        super(WILDCARD_PATH, builder -> builder.addAttributes(CACHE_ATTRIBUTE_GROUP.getAttributes()));
+        super(WILDCARD_PATH, builder -> builder.addAttributes(Attribute.class).addAttributes(CACHE_ATTRIBUTE_GROUP.getAttributes()));
     }
 
     @Override
     public ResourceServiceInstaller configure(OperationContext context, ModelNode model) throws OperationFailedException {
-        return CapabilityServiceInstaller.builder(CAPABILITY, new HotRodUserManagementProvider(CACHE_ATTRIBUTE_GROUP.resolve(context, model))).build();
+        ModelNode nearCacheMaxEntries = Attribute.NEAR_CACHE_MAX_ENTRIES.resolveModelAttribute(context, model);
+        OptionalInt maxEntries = nearCacheMaxEntries.isDefined() ? OptionalInt.of(nearCacheMaxEntries.asInt()) : OptionalInt.empty();
+        return CapabilityServiceInstaller.builder(CAPABILITY, new HotRodUserManagementProvider(CACHE_ATTRIBUTE_GROUP.resolve(context, model), maxEntries)).build();
     }
 }
@@ -0,0 +1,35 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.clustering.web;
+
+import java.util.function.Consumer;
+
+import org.jboss.as.controller.ModelVersion;
+import org.jboss.as.controller.transform.description.DiscardAttributeChecker;
+import org.jboss.as.controller.transform.description.RejectAttributeChecker;
+import org.jboss.as.controller.transform.description.ResourceTransformationDescriptionBuilder;
+
+/**
+ * Transformer for HotRod-based single sign-on management resources.
+ */
+public class HotRodUserManagementResourceTransformer implements Consumer<ModelVersion> {
+
+    private final ResourceTransformationDescriptionBuilder parent;
+
+    public HotRodUserManagementResourceTransformer(ResourceTransformationDescriptionBuilder parent) {
+        this.parent = parent;
+    }
+
+    @Override
+    public void accept(ModelVersion version) {
+        if (DistributableWebSubsystemModel.VERSION_5_0_0.requiresTransformation(version)) {
+            this.parent.addChildResource(HotRodUserManagementResourceDefinition.WILDCARD_PATH).getAttributeBuilder()
+                    .setDiscard(DiscardAttributeChecker.UNDEFINED, HotRodUserManagementResourceDefinition.Attribute.NEAR_CACHE_MAX_ENTRIES.getName())
+                    .addRejectCheck(RejectAttributeChecker.DEFINED, HotRodUserManagementResourceDefinition.Attribute.NEAR_CACHE_MAX_ENTRIES.getName())
+                    .end();
+        }
+    }
+}
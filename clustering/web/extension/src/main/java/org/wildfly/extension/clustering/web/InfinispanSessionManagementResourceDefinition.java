@@ -5,17 +5,25 @@
 
 package org.wildfly.extension.clustering.web;
 
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.function.Function;
 import java.util.function.UnaryOperator;
 
+import org.jboss.as.clustering.controller.DurationAttributeDefinition;
 import org.jboss.as.clustering.controller.ResourceDescriptor;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.as.server.deployment.DeploymentUnit;
 import org.jboss.dmr.ModelNode;
 import org.wildfly.clustering.infinispan.service.InfinispanCacheConfigurationAttributeGroup;
+import org.wildfly.clustering.marshalling.ByteBufferMarshaller;
 import org.wildfly.clustering.server.service.CacheConfigurationAttributeGroup;
+import org.wildfly.clustering.session.SessionAttributePersistenceStrategy;
 import org.wildfly.clustering.web.service.routing.RouteLocatorProvider;
+import org.wildfly.clustering.web.service.session.DistributableSessionManagementConfiguration;
 import org.wildfly.extension.clustering.web.session.infinispan.InfinispanSessionManagementProvider;
 import org.wildfly.subsystem.service.ResourceServiceInstaller;
 import org.wildfly.subsystem.service.ServiceDependency;
@@ -33,11 +41,27 @@ public class InfinispanSessionManagementResourceDefinition extends SessionManage
     }
     static final CacheConfigurationAttributeGroup CACHE_ATTRIBUTE_GROUP = new InfinispanCacheConfigurationAttributeGroup(SESSION_MANAGEMENT_PROVIDER);
 
+    public enum Attribute implements org.jboss.as.clustering.controller.Attribute {
+        LAST_ACCESS_FLUSH_INTERVAL("last-access-flush-interval", Duration.ZERO),
+        ;
+        private final DurationAttributeDefinition definition;
+
+        Attribute(String name, Duration defaultValue) {
+            this.definition = new DurationAttributeDefinition.Builder(name, ChronoUnit.MILLIS).setDefaultValue(defaultValue).build();
+        }
+
+        @Override
+        public DurationAttributeDefinition getDefinition() {
+            return this.definition;
+        }
+    }
+
     InfinispanSessionManagementResourceDefinition() {
         super(WILDCARD_PATH, new UnaryOperator<>() {
             @Override
             public ResourceDescriptor apply(ResourceDescriptor descriptor) {
-                return descriptor.addAttributes(CACHE_ATTRIBUTE_GROUP.getAttributes())
+                return descriptor.addAttributes(Attribute.class)
+                        .addAttributes(CACHE_ATTRIBUTE_GROUP.getAttributes())
                         .addRequiredSingletonChildren(PrimaryOwnerAffinityResourceDefinition.PATH)
                         ;
             }
@@ -61,4 +85,26 @@ public class InfinispanSessionManagementResourceDefinition extends SessionManage
                 .requires(locatorProvider)
                 .build();
     }
+
+    @Override
+    public DistributableSessionManagementConfiguration<DeploymentUnit> resolve(OperationContext context, ModelNode model) throws OperationFailedException {
+        DistributableSessionManagementConfiguration<DeploymentUnit> configuration = super.resolve(context, model);
+        Duration lastAccessFlushInterval = Attribute.LAST_ACCESS_FLUSH_INTERVAL.getDefinition().resolve(context, model);
+        return new DistributableSessionManagementConfiguration<>() {
+            @Override
+            public SessionAttributePersistenceStrategy getAttributePersistenceStrategy() {
+                return configuration.getAttributePersistenceStrategy();
+            }
+
+            @Override
+            public Function<DeploymentUnit, ByteBufferMarshaller> getMarshallerFactory() {
+                return configuration.getMarshallerFactory();
+            }
+
+            @Override
+            public Duration getLastAccessFlushInterval() {
+                return lastAccessFlushInterval;
+            }
+        };
+    }
 }
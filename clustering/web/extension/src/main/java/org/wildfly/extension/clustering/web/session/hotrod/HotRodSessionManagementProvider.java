@@ -5,15 +5,11 @@
 
 package org.wildfly.extension.clustering.web.session.hotrod;
 
-import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import jakarta.servlet.ServletContext;
 
 import org.infinispan.client.hotrod.RemoteCache;
-import org.infinispan.client.hotrod.configuration.NearCacheMode;
-import org.infinispan.client.hotrod.configuration.RemoteCacheConfigurationBuilder;
-import org.infinispan.client.hotrod.configuration.TransactionMode;
 import org.jboss.as.controller.ServiceNameFactory;
 import org.jboss.as.server.deployment.DeploymentUnit;
 import org.wildfly.clustering.cache.infinispan.remote.RemoteCacheConfiguration;
@@ -39,17 +35,6 @@ import org.wildfly.subsystem.service.ServiceInstaller;
  * @author Paul Ferraro
  */
 public class HotRodSessionManagementProvider extends AbstractSessionManagementProvider {
-    private static final String DEFAULT_CONFIGURATION = """
-{
-    "distributed-cache": {
-        "mode" : "SYNC",
-        "transaction" : {
-            "mode" : "NON_XA",
-            "locking" : "PESSIMISTIC"
-        }
-    }
-}""";
-
     public HotRodSessionManagementProvider(DistributableSessionManagementConfiguration<DeploymentUnit> configuration, BinaryServiceConfiguration cacheConfiguration, Supplier<RouteLocatorProvider> locatorProviderFactory) {
         super(configuration, cacheConfiguration, locatorProviderFactory);
     }
@@ -59,19 +44,7 @@ public class HotRodSessionManagementProvider extends AbstractSessionManagementPr
         BinaryServiceConfiguration deploymentCacheConfiguration = this.getCacheConfiguration().withChildName(configuration.getDeploymentName());
         String templateName = this.getCacheConfiguration().getChildName();
 
-        Consumer<RemoteCacheConfigurationBuilder> configurator = new Consumer<>() {
-            @Override
-            public void accept(RemoteCacheConfigurationBuilder builder) {
-                // Near caching not compatible with max-idle expiration.
-                builder.forceReturnValues(false).nearCacheMode(NearCacheMode.DISABLED).transactionMode(TransactionMode.NONE);
-                if (templateName != null) {
-                    builder.templateName(templateName);
-                } else {
-                    builder.configuration(DEFAULT_CONFIGURATION);
-                }
-            }
-        };
-        DeploymentServiceInstaller configurationInstaller = new RemoteCacheConfigurationServiceInstallerFactory(configurator).apply(deploymentCacheConfiguration);
+        DeploymentServiceInstaller configurationInstaller = new RemoteCacheConfigurationServiceInstallerFactory(new SessionCacheConfigurator(templateName)).apply(deploymentCacheConfiguration);
         DeploymentServiceInstaller cacheInstaller = RemoteCacheServiceInstallerFactory.INSTANCE.apply(deploymentCacheConfiguration);
 
         ServiceDependency<RemoteCache<?, ?>> cache = deploymentCacheConfiguration.getServiceDependency(HotRodServiceDescriptor.REMOTE_CACHE);
@@ -0,0 +1,50 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.clustering.web.session.hotrod;
+
+import java.util.function.Consumer;
+
+import org.infinispan.client.hotrod.configuration.NearCacheMode;
+import org.infinispan.client.hotrod.configuration.RemoteCacheConfigurationBuilder;
+import org.infinispan.client.hotrod.configuration.TransactionMode;
+
+/**
+ * Configures the remote cache of a HotRod-based session manager.
+ * Near caching is always disabled, since sessions expire on the server via max-idle, which is only refreshed by reads that reach the server.
+ * A read served by a near cache would allow the entries of an active session to expire.
+ */
+class SessionCacheConfigurator implements Consumer<RemoteCacheConfigurationBuilder> {
+    static final String DEFAULT_CONFIGURATION = """
+{
+    "distributed-cache": {
+        "mode" : "SYNC",
+        "transaction" : {
+            "mode" : "NON_XA",
+            "locking" : "PESSIMISTIC"
+        }
+    }
+}""";
+
+    private final String templateName;
+
+    /**
+     * Creates a remote cache configurator.
+     * @param templateName the name of the server-side cache template, or null to use the default configuration
+     */
+    SessionCacheConfigurator(String templateName) {
+        this.templateName = templateName;
+    }
+
+    @Override
+    public void accept(RemoteCacheConfigurationBuilder builder) {
+        builder.forceReturnValues(false).nearCacheMode(NearCacheMode.DISABLED).transactionMode(TransactionMode.NONE);
+        if (this.templateName != null) {
+            builder.templateName(this.templateName);
+        } else {
+            builder.configuration(DEFAULT_CONFIGURATION);
+        }
+    }
+}
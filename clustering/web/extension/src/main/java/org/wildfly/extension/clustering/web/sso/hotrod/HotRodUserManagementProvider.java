@@ -7,13 +7,10 @@ package org.wildfly.extension.clustering.web.sso.hotrod;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.function.Consumer;
+import java.util.OptionalInt;
 
 import org.infinispan.client.hotrod.DefaultTemplate;
 import org.infinispan.client.hotrod.RemoteCache;
-import org.infinispan.client.hotrod.configuration.NearCacheMode;
-import org.infinispan.client.hotrod.configuration.RemoteCacheConfigurationBuilder;
-import org.infinispan.client.hotrod.configuration.TransactionMode;
 import org.jboss.as.controller.ServiceNameFactory;
 import org.wildfly.clustering.cache.infinispan.remote.RemoteCacheConfiguration;
 import org.wildfly.clustering.infinispan.client.service.HotRodServiceDescriptor;
@@ -33,22 +30,23 @@ import org.wildfly.subsystem.service.ServiceInstaller;
 public class HotRodUserManagementProvider implements DistributableUserManagementProvider {
 
     private final BinaryServiceConfiguration configuration;
+    private final OptionalInt nearCacheMaxEntries;
 
-    public HotRodUserManagementProvider(BinaryServiceConfiguration configuration) {
+    /**
+     * Creates a HotRod-based single sign-on management provider.
+     * @param configuration the remote cache configuration
+     * @param nearCacheMaxEntries the maximum number of entries of the invalidated near cache, 0 to disable near caching, or empty if unbounded
+     */
+    public HotRodUserManagementProvider(BinaryServiceConfiguration configuration, OptionalInt nearCacheMaxEntries) {
         this.configuration = configuration;
+        this.nearCacheMaxEntries = nearCacheMaxEntries;
     }
 
     @Override
     public Iterable<ServiceInstaller> getServiceInstallers(String name) {
         String templateName = Optional.ofNullable(this.configuration.getChildName()).orElse(DefaultTemplate.DIST_SYNC.getTemplateName());
-        Consumer<RemoteCacheConfigurationBuilder> configurator = new Consumer<>() {
-            @Override
-            public void accept(RemoteCacheConfigurationBuilder builder) {
-                builder.forceReturnValues(false).nearCacheMode(NearCacheMode.INVALIDATED).templateName(templateName).transactionMode(TransactionMode.NONE);
-            }
-        };
         BinaryServiceConfiguration configuration = this.configuration.withChildName(name);
-        ServiceInstaller configurationInstaller = new RemoteCacheConfigurationServiceInstallerFactory(configurator).apply(configuration);
+        ServiceInstaller configurationInstaller = new RemoteCacheConfigurationServiceInstallerFactory(new UserCacheConfigurator(templateName, this.nearCacheMaxEntries)).apply(configuration);
         ServiceInstaller cacheInstaller = RemoteCacheServiceInstallerFactory.INSTANCE.apply(configuration);
 
         ServiceDependency<RemoteCache<?, ?>> cache = configuration.getServiceDependency(HotRodServiceDescriptor.REMOTE_CACHE);
@@ -0,0 +1,45 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.clustering.web.sso.hotrod;
+
+import java.util.OptionalInt;
+import java.util.function.Consumer;
+
+import org.infinispan.client.hotrod.configuration.NearCacheMode;
+import org.infinispan.client.hotrod.configuration.RemoteCacheConfigurationBuilder;
+import org.infinispan.client.hotrod.configuration.TransactionMode;
+
+/**
+ * Configures the remote cache of a HotRod-based single sign-on manager.
+ * Near cache entries are versioned and invalidated by the server on modification, removal, or expiration.
+ */
+class UserCacheConfigurator implements Consumer<RemoteCacheConfigurationBuilder> {
+
+    private final String templateName;
+    private final OptionalInt nearCacheMaxEntries;
+
+    /**
+     * Creates a remote cache configurator.
+     * @param templateName the name of the server-side cache template
+     * @param nearCacheMaxEntries the maximum number of entries of the invalidated near cache, 0 to disable near caching, or empty if unbounded
+     */
+    UserCacheConfigurator(String templateName, OptionalInt nearCacheMaxEntries) {
+        this.templateName = templateName;
+        this.nearCacheMaxEntries = nearCacheMaxEntries;
+    }
+
+    @Override
+    public void accept(RemoteCacheConfigurationBuilder builder) {
+        builder.forceReturnValues(false).templateName(this.templateName).transactionMode(TransactionMode.NONE);
+        if (this.nearCacheMaxEntries.isEmpty()) {
+            builder.nearCacheMode(NearCacheMode.INVALIDATED);
+        } else if (this.nearCacheMaxEntries.getAsInt() > 0) {
+            builder.nearCacheMode(NearCacheMode.INVALIDATED).nearCacheMaxEntries(this.nearCacheMaxEntries.getAsInt());
+        } else {
+            builder.nearCacheMode(NearCacheMode.DISABLED);
+        }
+    }
+}
@@ -176,6 +176,11 @@ public class DistributableWebTransformerTestCase extends AbstractSubsystemTest {
             config.addFailedAttribute(subsystemAddress.append(HotRodSessionManagementResourceDefinition.pathElement("remote-protostream")), new FailedOperationTransformationConfig.NewAttributesConfig(SessionManagementResourceDefinition.Attribute.MARSHALLER.getName()));
         }
 
+        if (DistributableWebSubsystemModel.VERSION_5_0_0.requiresTransformation(this.version)) {
+            config.addFailedAttribute(subsystemAddress.append(InfinispanSessionManagementResourceDefinition.pathElement("attribute")), new FailedOperationTransformationConfig.NewAttributesConfig(InfinispanSessionManagementResourceDefinition.Attribute.LAST_ACCESS_FLUSH_INTERVAL.getName()));
+            config.addFailedAttribute(subsystemAddress.append(HotRodUserManagementResourceDefinition.WILDCARD_PATH.getKey(), "remote"), new FailedOperationTransformationConfig.NewAttributesConfig(HotRodUserManagementResourceDefinition.Attribute.NEAR_CACHE_MAX_ENTRIES.getName()));
+        }
+
         return config;
     }
 }
@@ -0,0 +1,48 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.clustering.web.session.hotrod;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.infinispan.client.hotrod.configuration.ConfigurationBuilder;
+import org.infinispan.client.hotrod.configuration.NearCacheMode;
+import org.infinispan.client.hotrod.configuration.RemoteCacheConfiguration;
+import org.infinispan.client.hotrod.configuration.TransactionMode;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link SessionCacheConfigurator}.
+ */
+public class SessionCacheConfiguratorTestCase {
+    private static final String CACHE_NAME = "foo.war";
+
+    private static RemoteCacheConfiguration configure(String templateName) {
+        ConfigurationBuilder builder = new ConfigurationBuilder();
+        new SessionCacheConfigurator(templateName).accept(builder.remoteCache(CACHE_NAME));
+        RemoteCacheConfiguration configuration = builder.build().remoteCaches().get(CACHE_NAME);
+        // Near caching must remain disabled, since reads served locally would not refresh the max-idle expiration of the server
+        assertEquals(NearCacheMode.DISABLED, configuration.nearCacheMode());
+        assertEquals(TransactionMode.NONE, configuration.transactionMode());
+        return configuration;
+    }
+
+    @Test
+    public void template() {
+        RemoteCacheConfiguration configuration = configure("template");
+
+        assertEquals("template", configuration.templateName());
+        assertNull(configuration.configuration());
+    }
+
+    @Test
+    public void defaultConfiguration() {
+        RemoteCacheConfiguration configuration = configure(null);
+
+        assertNull(configuration.templateName());
+        assertEquals(SessionCacheConfigurator.DEFAULT_CONFIGURATION, configuration.configuration());
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.clustering.web.sso.hotrod;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.OptionalInt;
+
+import org.infinispan.client.hotrod.configuration.ConfigurationBuilder;
+import org.infinispan.client.hotrod.configuration.NearCacheMode;
+import org.infinispan.client.hotrod.configuration.RemoteCacheConfiguration;
+import org.infinispan.client.hotrod.configuration.TransactionMode;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link UserCacheConfigurator}.
+ */
+public class UserCacheConfiguratorTestCase {
+    private static final String CACHE_NAME = "sso";
+    private static final String TEMPLATE_NAME = "template";
+
+    private static RemoteCacheConfiguration configure(OptionalInt nearCacheMaxEntries) {
+        ConfigurationBuilder builder = new ConfigurationBuilder();
+        new UserCacheConfigurator(TEMPLATE_NAME, nearCacheMaxEntries).accept(builder.remoteCache(CACHE_NAME));
+        RemoteCacheConfiguration configuration = builder.build().remoteCaches().get(CACHE_NAME);
+        assertEquals(TEMPLATE_NAME, configuration.templateName());
+        assertEquals(TransactionMode.NONE, configuration.transactionMode());
+        assertFalse(configuration.forceReturnValues());
+        return configuration;
+    }
+
+    @Test
+    public void unbounded() {
+        RemoteCacheConfiguration configuration = configure(OptionalInt.empty());
+
+        assertEquals(NearCacheMode.INVALIDATED, configuration.nearCacheMode());
+        assertEquals(-1, configuration.nearCacheMaxEntries());
+    }
+
+    @Test
+    public void bounded() {
+        RemoteCacheConfiguration configuration = configure(OptionalInt.of(100));
+
+        assertEquals(NearCacheMode.INVALIDATED, configuration.nearCacheMode());
+        assertEquals(100, configuration.nearCacheMaxEntries());
+    }
+
+    @Test
+    public void disabled() {
+        RemoteCacheConfiguration configuration = configure(OptionalInt.of(0));
+
+        assertEquals(NearCacheMode.DISABLED, configuration.nearCacheMode());
+    }
+}
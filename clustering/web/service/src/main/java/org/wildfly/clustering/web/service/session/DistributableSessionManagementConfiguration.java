@@ -5,6 +5,7 @@
 
 package org.wildfly.clustering.web.service.session;
 
+import java.time.Duration;
 import java.util.function.Function;
 
 import org.wildfly.clustering.marshalling.ByteBufferMarshaller;
@@ -20,4 +21,13 @@ public interface DistributableSessionManagementConfiguration<M> {
     SessionAttributePersistenceStrategy getAttributePersistenceStrategy();
 
     Function<M, ByteBufferMarshaller> getMarshallerFactory();
+
+    /**
+     * Returns the interval at which the coalesced last access times of sessions are recorded.
+     * A zero duration indicates that the last access time of a session is recorded by every request.
+     * @return a duration
+     */
+    default Duration getLastAccessFlushInterval() {
+        return Duration.ZERO;
+    }
 }
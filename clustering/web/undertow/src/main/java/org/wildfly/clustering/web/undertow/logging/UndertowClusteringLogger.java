@@ -10,6 +10,7 @@ import java.lang.invoke.MethodHandles;
 import org.jboss.logging.BasicLogger;
 import org.jboss.logging.Logger;
 import org.jboss.logging.Logger.Level;
+import org.jboss.logging.annotations.Cause;
 import org.jboss.logging.annotations.LogMessage;
 import org.jboss.logging.annotations.Message;
 import org.jboss.logging.annotations.MessageLogger;
@@ -46,4 +47,8 @@ public interface UndertowClusteringLogger extends BasicLogger {
 
     @Message(id = 9, value = "Invalidation attempted for session %s after the response was committed (e.g. after HttpServletResponse.sendRedirect or sendError)")
     IllegalStateException batchIsAlreadyClosed(String sessionId);
+
+    @Message(id = 10, value = "Failed to record last access of session %s")
+    @LogMessage(level = Level.WARN)
+    void failedToRecordLastAccess(@Cause Throwable cause, String sessionId);
 }
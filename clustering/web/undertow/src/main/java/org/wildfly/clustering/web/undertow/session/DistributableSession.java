@@ -70,7 +70,10 @@ public class DistributableSession implements io.undertow.server.session.Session
                     if (session.isValid()) {
                         // According to §7.6 of the servlet specification:
                         // The session is considered to be accessed when a request that is part of the session is first handled by the servlet container.
-                        session.getMetaData().setLastAccess(this.startTime, Instant.now());
+                        Instant endTime = Instant.now();
+                        if (!this.manager.deferLastAccess(session, this.startTime, endTime)) {
+                            session.getMetaData().setLastAccess(this.startTime, endTime);
+                        }
                     }
                 }
             } catch (Throwable e) {
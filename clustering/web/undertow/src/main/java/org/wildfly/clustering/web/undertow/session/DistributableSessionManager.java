@@ -4,6 +4,8 @@
  */
 package org.wildfly.clustering.web.undertow.session;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
@@ -42,6 +44,7 @@ public class DistributableSessionManager implements UndertowSessionManager {
     private final RecordableSessionManagerStatistics statistics;
     private final StampedLock lifecycleLock = new StampedLock();
     private final AtomicLong lifecycleStamp = new AtomicLong(0L);
+    private final LastAccessCoalescer coalescer;
 
     // Matches io.undertow.server.session.InMemorySessionManager
     private volatile int defaultSessionTimeout = 30 * 60;
@@ -51,6 +54,8 @@ public class DistributableSessionManager implements UndertowSessionManager {
         this.manager = config.getSessionManager();
         this.listeners = config.getSessionListeners();
         this.statistics = config.getStatistics();
+        Duration flushInterval = config.getLastAccessFlushInterval();
+        this.coalescer = (flushInterval != null) && !flushInterval.isZero() ? new LastAccessCoalescer(this.manager, flushInterval, config.getContextualizer()) : null;
     }
 
     @Override
@@ -70,6 +75,9 @@ public class DistributableSessionManager implements UndertowSessionManager {
             this.lifecycleLock.unlockWrite(stamp);
         }
         this.manager.start();
+        if (this.coalescer != null) {
+            this.coalescer.start();
+        }
         if (this.statistics != null) {
             this.statistics.reset();
         }
@@ -82,9 +90,17 @@ public class DistributableSessionManager implements UndertowSessionManager {
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
         }
+        if (this.coalescer != null) {
+            this.coalescer.stop();
+        }
         this.manager.stop();
     }
 
+    @Override
+    public boolean deferLastAccess(Session<Map<String, Object>> session, Instant startTime, Instant endTime) {
+        return (this.coalescer != null) && this.coalescer.defer(session, startTime, endTime);
+    }
+
     private Consumer<HttpServerExchange> getSessionCloseTask() {
         StampedLock lock = this.lifecycleLock;
         long stamp = lock.tryReadLock();
@@ -5,8 +5,10 @@
 
 package org.wildfly.clustering.web.undertow.session;
 
+import java.time.Duration;
 import java.util.Map;
 
+import org.wildfly.clustering.context.Contextualizer;
 import org.wildfly.clustering.session.SessionManager;
 
 import io.undertow.server.session.SessionListeners;
@@ -19,4 +21,6 @@ public interface DistributableSessionManagerConfiguration {
     SessionManager<Map<String, Object>> getSessionManager();
     SessionListeners getSessionListeners();
     RecordableSessionManagerStatistics getStatistics();
+    Duration getLastAccessFlushInterval();
+    Contextualizer getContextualizer();
 }
@@ -39,10 +39,12 @@ public class DistributableSessionManagerFactory implements io.undertow.servlet.a
 
     private final SessionManagerFactory<ServletContext, Map<String, Object>> factory;
     private final SessionManagerFactoryConfiguration config;
+    private final Duration lastAccessFlushInterval;
 
-    public DistributableSessionManagerFactory(SessionManagerFactory<ServletContext, Map<String, Object>> factory, SessionManagerFactoryConfiguration config) {
+    public DistributableSessionManagerFactory(SessionManagerFactory<ServletContext, Map<String, Object>> factory, SessionManagerFactoryConfiguration config, Duration lastAccessFlushInterval) {
         this.factory = factory;
         this.config = config;
+        this.lastAccessFlushInterval = lastAccessFlushInterval;
     }
 
     @Override
@@ -108,6 +110,7 @@ public class DistributableSessionManagerFactory implements io.undertow.servlet.a
                 };
             }
         });
+        Duration lastAccessFlushInterval = this.lastAccessFlushInterval;
         RecordableSessionManagerStatistics statistics = (inactiveSessionStatistics != null) ? new DistributableSessionManagerStatistics(manager.getStatistics(), inactiveSessionStatistics, this.config.getMaxActiveSessions()) : null;
         io.undertow.server.session.SessionManager result = new DistributableSessionManager(new DistributableSessionManagerConfiguration() {
             @Override
@@ -129,6 +132,16 @@ public class DistributableSessionManagerFactory implements io.undertow.servlet.a
             public RecordableSessionManagerStatistics getStatistics() {
                 return statistics;
             }
+
+            @Override
+            public Duration getLastAccessFlushInterval() {
+                return lastAccessFlushInterval;
+            }
+
+            @Override
+            public Contextualizer getContextualizer() {
+                return contextualizer;
+            }
         });
         result.setDefaultSessionTimeout((int) this.config.getDefaultSessionTimeout().getSeconds());
         return result;
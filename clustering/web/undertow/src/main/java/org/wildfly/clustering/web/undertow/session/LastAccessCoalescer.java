@@ -0,0 +1,131 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.web.undertow.session;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.wildfly.clustering.cache.batch.Batch;
+import org.wildfly.clustering.context.Contextualizer;
+import org.wildfly.clustering.context.DefaultThreadFactory;
+import org.wildfly.clustering.session.Session;
+import org.wildfly.clustering.session.SessionManager;
+import org.wildfly.clustering.session.SessionMetaData;
+import org.wildfly.clustering.web.undertow.logging.UndertowClusteringLogger;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * Coalesces updates to the last access time of sessions, such that requests that do not otherwise modify a session need not write its meta data.
+ * The most recent access of a session is retained in memory and recorded asynchronously, at most once per flush interval.
+ * The access is recorded immediately if the session might otherwise expire before the next flush.
+ * Consequently, if this member crashes, a session may expire earlier than expected by at most the flush interval.
+ * Pending accesses are recorded when the session manager stops.
+ */
+class LastAccessCoalescer {
+    private static final ThreadFactory THREAD_FACTORY = new DefaultThreadFactory(LastAccessCoalescer.class, WildFlySecurityManager.getClassLoaderPrivileged(LastAccessCoalescer.class));
+
+    private final SessionManager<Map<String, Object>> manager;
+    private final Duration interval;
+    private final Runnable flushTask;
+    // Most recent unrecorded access of each session, mapping start time to end time
+    private final Map<String, Map.Entry<Instant, Instant>> accesses = new ConcurrentHashMap<>();
+
+    private volatile ScheduledExecutorService executor;
+
+    LastAccessCoalescer(SessionManager<Map<String, Object>> manager, Duration interval, Contextualizer contextualizer) {
+        this.manager = manager;
+        this.interval = interval;
+        this.flushTask = contextualizer.contextualize((Runnable) this::flush);
+    }
+
+    void start() {
+        this.executor = Executors.newSingleThreadScheduledExecutor(THREAD_FACTORY);
+        long interval = this.interval.toMillis();
+        this.executor.scheduleWithFixedDelay(this.flushTask, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    void stop() {
+        ScheduledExecutorService executor = this.executor;
+        if (executor != null) {
+            this.executor = null;
+            executor.shutdown();
+            try {
+                executor.awaitTermination(this.interval.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        // Record any remaining accesses, e.g. on undeploy or graceful shutdown
+        this.flushTask.run();
+    }
+
+    /**
+     * Defers the recording of the specified access of the specified session, if the session will not expire before the next flush.
+     * @param session a session
+     * @param startTime the start time of the access
+     * @param endTime the end time of the access
+     * @return true, if recording of the access was deferred, false if the caller must record the access itself
+     */
+    boolean defer(Session<Map<String, Object>> session, Instant startTime, Instant endTime) {
+        SessionMetaData metaData = session.getMetaData();
+        // The creation of a session must be written
+        if ((this.executor == null) || metaData.isNew()) {
+            return false;
+        }
+        Duration timeout = metaData.getTimeout();
+        if ((timeout != null) && !timeout.isZero() && !timeout.isNegative()) {
+            Instant lastAccessEndTime = metaData.getLastAccessEndTime();
+            Instant expirationTime = ((lastAccessEndTime != null) ? lastAccessEndTime : metaData.getCreationTime()).plus(timeout);
+            // Allow for a pending flush as well as the next one
+            if (expirationTime.isBefore(endTime.plus(this.interval.multipliedBy(2)))) {
+                this.accesses.remove(session.getId());
+                return false;
+            }
+        }
+        this.accesses.merge(session.getId(), Map.entry(startTime, endTime), LastAccessCoalescer::latest);
+        return true;
+    }
+
+    /**
+     * Returns the number of sessions with an unrecorded access.
+     * @return a number of sessions
+     */
+    int getPendingCount() {
+        return this.accesses.size();
+    }
+
+    void flush() {
+        for (String id : this.accesses.keySet()) {
+            Map.Entry<Instant, Instant> access = this.accesses.remove(id);
+            if (access != null) {
+                try (Batch batch = this.manager.getBatchFactory().get()) {
+                    try (Session<Map<String, Object>> session = this.manager.findSession(id)) {
+                        if ((session != null) && session.isValid()) {
+                            SessionMetaData metaData = session.getMetaData();
+                            Instant lastAccessEndTime = metaData.getLastAccessEndTime();
+                            // Session may have been written by a more recent request in the interim
+                            if ((lastAccessEndTime == null) || access.getValue().isAfter(lastAccessEndTime)) {
+                                metaData.setLastAccess(access.getKey(), access.getValue());
+                            }
+                        }
+                    }
+                } catch (RuntimeException e) {
+                    UndertowClusteringLogger.ROOT_LOGGER.failedToRecordLastAccess(e, id);
+                }
+            }
+        }
+    }
+
+    private static Map.Entry<Instant, Instant> latest(Map.Entry<Instant, Instant> access1, Map.Entry<Instant, Instant> access2) {
+        return access2.getValue().isAfter(access1.getValue()) ? access2 : access1;
+    }
+}
@@ -4,8 +4,10 @@
  */
 package org.wildfly.clustering.web.undertow.session;
 
+import java.time.Instant;
 import java.util.Map;
 
+import org.wildfly.clustering.session.Session;
 import org.wildfly.clustering.session.SessionManager;
 
 import io.undertow.server.session.SessionListeners;
@@ -26,4 +28,15 @@ public interface UndertowSessionManager extends io.undertow.server.session.Sessi
      * @return a session manager
      */
     SessionManager<Map<String, Object>> getSessionManager();
+
+    /**
+     * Defers the recording of the specified access of the specified session, if supported by this session manager.
+     * @param session a session
+     * @param startTime the start time of the access
+     * @param endTime the end time of the access
+     * @return true, if this session manager will record the access, false if the caller must record the access itself
+     */
+    default boolean deferLastAccess(Session<Map<String, Object>> session, Instant startTime, Instant endTime) {
+        return false;
+    }
 }
@@ -164,6 +164,33 @@ public class DistributableSessionTestCase {
         verify(this.closeTask).accept(exchange);
     }
 
+    @Test
+    public void deferredSessionRequestDone() {
+        doReturn(this.metaData).when(this.session).getMetaData();
+        doReturn(false).when(this.metaData).isNew();
+
+        io.undertow.server.session.Session session = new DistributableSession(this.manager, this.session, this.config, this.suspendedBatch, this.closeTask, this.statistics);
+
+        HttpServerExchange exchange = new HttpServerExchange(null);
+        Batch batch = mock(Batch.class);
+        ArgumentCaptor<Instant> capturedLastAccessStartTime = ArgumentCaptor.forClass(Instant.class);
+        ArgumentCaptor<Instant> capturedLastAccessEndTime = ArgumentCaptor.forClass(Instant.class);
+
+        doReturn(batch).when(this.suspendedBatch).resume();
+        doReturn(true).when(this.session).isValid();
+        doReturn(true).when(this.manager).deferLastAccess(same(this.session), capturedLastAccessStartTime.capture(), capturedLastAccessEndTime.capture());
+
+        session.requestDone(exchange);
+
+        Assert.assertFalse(capturedLastAccessStartTime.getValue().isAfter(capturedLastAccessEndTime.getValue()));
+
+        // Recording of the last access was deferred to the session manager
+        verify(this.metaData, never()).setLastAccess(any(Instant.class), any(Instant.class));
+        verify(this.session).close();
+        verify(batch).close();
+        verify(this.closeTask).accept(exchange);
+    }
+
     @Test
     public void invalidSessionRequestDone() {
         doReturn(this.metaData).when(this.session).getMetaData();
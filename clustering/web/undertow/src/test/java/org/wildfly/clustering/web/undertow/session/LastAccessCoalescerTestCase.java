@@ -0,0 +1,206 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.clustering.web.undertow.session;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.wildfly.clustering.cache.batch.Batch;
+import org.wildfly.clustering.context.Contextualizer;
+import org.wildfly.clustering.session.Session;
+import org.wildfly.clustering.session.SessionManager;
+import org.wildfly.clustering.session.SessionMetaData;
+import org.wildfly.common.function.Functions;
+
+/**
+ * Unit test for {@link LastAccessCoalescer}.
+ */
+public class LastAccessCoalescerTestCase {
+    // Long enough that the scheduled flush does not run during a test
+    private static final Duration INTERVAL = Duration.ofMinutes(1);
+    private static final Duration TIMEOUT = Duration.ofMinutes(30);
+
+    private final SessionManager<Map<String, Object>> manager = mock(SessionManager.class);
+    private final Session<Map<String, Object>> session = mock(Session.class);
+    private final SessionMetaData metaData = mock(SessionMetaData.class);
+    private final Batch batch = mock(Batch.class);
+    private final String id = "session";
+    private final Instant lastAccessEndTime = Instant.now().minus(Duration.ofMinutes(1));
+
+    private LastAccessCoalescer coalescer;
+
+    @Before
+    public void init() {
+        when(this.session.getId()).thenReturn(this.id);
+        when(this.session.getMetaData()).thenReturn(this.metaData);
+        when(this.session.isValid()).thenReturn(true);
+        when(this.metaData.getTimeout()).thenReturn(TIMEOUT);
+        when(this.metaData.getLastAccessEndTime()).thenReturn(this.lastAccessEndTime);
+        when(this.manager.getBatchFactory()).thenReturn(Functions.constantSupplier(this.batch));
+        when(this.manager.findSession(this.id)).thenReturn(this.session);
+
+        this.coalescer = new LastAccessCoalescer(this.manager, INTERVAL, Contextualizer.NONE);
+        this.coalescer.start();
+    }
+
+    @After
+    public void destroy() {
+        this.coalescer.stop();
+    }
+
+    @Test
+    public void defer() {
+        Instant start = Instant.now();
+        Instant end = start.plusMillis(10);
+
+        assertTrue(this.coalescer.defer(this.session, start.minusSeconds(1), end.minusSeconds(1)));
+        assertTrue(this.coalescer.defer(this.session, start, end));
+        assertEquals(1, this.coalescer.getPendingCount());
+
+        verify(this.metaData, never()).setLastAccess(any(), any());
+
+        // Only the most recent access of the session is recorded
+        this.coalescer.flush();
+
+        assertEquals(0, this.coalescer.getPendingCount());
+        verify(this.metaData).setLastAccess(start, end);
+        verify(this.session).close();
+        verify(this.batch).close();
+    }
+
+    @Test
+    public void newSession() {
+        when(this.metaData.isNew()).thenReturn(true);
+
+        assertFalse(this.coalescer.defer(this.session, Instant.now(), Instant.now()));
+        assertEquals(0, this.coalescer.getPendingCount());
+    }
+
+    @Test
+    public void immortalSession() {
+        when(this.metaData.getTimeout()).thenReturn(Duration.ZERO);
+
+        assertTrue(this.coalescer.defer(this.session, Instant.now(), Instant.now()));
+    }
+
+    @Test
+    public void nearExpiration() {
+        Instant start = Instant.now();
+        assertTrue(this.coalescer.defer(this.session, start, start));
+
+        // Session would expire before the next flush could record a deferred access
+        Instant end = this.lastAccessEndTime.plus(TIMEOUT).minus(INTERVAL);
+        assertFalse(this.coalescer.defer(this.session, end, end));
+        // Caller records the access itself, superseding the pending access
+        assertEquals(0, this.coalescer.getPendingCount());
+    }
+
+    /**
+     * An access is deferred only if the session cannot expire before both a pending flush and the next flush.
+     */
+    @Test
+    public void deadline() {
+        Instant latest = this.lastAccessEndTime.plus(TIMEOUT).minus(INTERVAL.multipliedBy(2));
+
+        assertTrue(this.coalescer.defer(this.session, latest, latest));
+        assertEquals(1, this.coalescer.getPendingCount());
+
+        Instant tooLate = latest.plusMillis(1);
+        assertFalse(this.coalescer.defer(this.session, tooLate, tooLate));
+        assertEquals(0, this.coalescer.getPendingCount());
+    }
+
+    @Test
+    public void failoverFrequentAccess() {
+        this.failover(INTERVAL.dividedBy(6));
+    }
+
+    @Test
+    public void failoverInfrequentAccess() {
+        this.failover(TIMEOUT.minus(INTERVAL));
+    }
+
+    /**
+     * Simulates a session accessed periodically by requests to this member, flushed once per interval.
+     * Were this member to crash at any point, the meta data seen by the member assuming ownership of the session must not expire the session
+     * earlier than the flush interval prior to its expected expiration time.
+     */
+    private void failover(Duration period) {
+        AtomicReference<Instant> persistentLastAccessEndTime = new AtomicReference<>(this.lastAccessEndTime);
+        when(this.metaData.getLastAccessEndTime()).thenAnswer(invocation -> persistentLastAccessEndTime.get());
+        doAnswer(invocation -> {
+            persistentLastAccessEndTime.set(invocation.getArgument(1));
+            return null;
+        }).when(this.metaData).setLastAccess(any(), any());
+
+        Instant time = this.lastAccessEndTime;
+        Instant nextFlush = time.plus(INTERVAL);
+        for (int i = 0; i < 1000; ++i) {
+            time = time.plus(period);
+            if (!this.coalescer.defer(this.session, time, time)) {
+                this.metaData.setLastAccess(time, time);
+            }
+            if (!time.isBefore(nextFlush)) {
+                this.coalescer.flush();
+                nextFlush = time.plus(INTERVAL);
+            }
+            Instant expirationTime = persistentLastAccessEndTime.get().plus(TIMEOUT);
+            assertFalse(expirationTime.isBefore(time.plus(TIMEOUT).minus(INTERVAL)));
+        }
+    }
+
+    @Test
+    public void supersededAccess() {
+        Instant start = this.lastAccessEndTime.minusSeconds(1);
+        assertTrue(this.coalescer.defer(this.session, start, start));
+
+        this.coalescer.flush();
+
+        // A more recent access was already recorded
+        verify(this.metaData, never()).setLastAccess(any(), any());
+        verify(this.session).close();
+    }
+
+    @Test
+    public void invalidSession() {
+        Instant start = Instant.now();
+        assertTrue(this.coalescer.defer(this.session, start, start));
+
+        when(this.manager.findSession(this.id)).thenReturn(null);
+
+        this.coalescer.flush();
+
+        assertEquals(0, this.coalescer.getPendingCount());
+        verify(this.batch).close();
+    }
+
+    @Test
+    public void stop() {
+        Instant start = Instant.now();
+        assertTrue(this.coalescer.defer(this.session, start, start));
+
+        // Pending accesses are recorded, e.g. before a graceful shutdown hands off the session to another member
+        this.coalescer.stop();
+
+        verify(this.metaData).setLastAccess(start, start);
+        // Once stopped, accesses are no longer deferred
+        assertFalse(this.coalescer.defer(this.session, start, start));
+    }
+}
@@ -7,6 +7,7 @@ package org.jboss.as.connector.services.workmanager;
 
 import static org.jboss.as.connector.logging.ConnectorLogger.ROOT_LOGGER;
 
+import java.time.Duration;
 import java.util.concurrent.Executor;
 
 import org.jboss.as.connector.security.ElytronSecurityIntegration;
@@ -34,6 +35,8 @@ public final class DistributedWorkManagerService implements Service<NamedDistrib
 
     private final NamedDistributedWorkManager value;
 
+    private final Duration batchInterval;
+
     private final InjectedValue<Executor> executorShort = new InjectedValue<Executor>();
 
     private final InjectedValue<Executor> executorLong = new InjectedValue<Executor>();
@@ -46,11 +49,13 @@ public final class DistributedWorkManagerService implements Service<NamedDistrib
      * create an instance
      *
      * @param value the work manager
+     * @param batchInterval the interval at which to send batched work statistics to other members, or zero to send them immediately
      */
-    public DistributedWorkManagerService(NamedDistributedWorkManager value) {
+    public DistributedWorkManagerService(NamedDistributedWorkManager value, Duration batchInterval) {
         super();
         ROOT_LOGGER.debugf("Building DistributedWorkManager");
         this.value = value;
+        this.batchInterval = batchInterval;
     }
 
     @Override
@@ -62,7 +67,7 @@ public final class DistributedWorkManagerService implements Service<NamedDistrib
     public void start(StartContext context) throws StartException {
         ROOT_LOGGER.debugf("Starting Jakarta Connectors DistributedWorkManager: ", value.getName());
 
-        CommandDispatcherTransport transport = new CommandDispatcherTransport(this.dispatcherFactory.getValue(), this.value.getName());
+        CommandDispatcherTransport transport = new CommandDispatcherTransport(this.dispatcherFactory.getValue(), this.value.getName(), this.batchInterval);
 
         this.value.setTransport(transport);
 
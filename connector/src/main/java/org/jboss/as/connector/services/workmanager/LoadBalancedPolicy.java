@@ -0,0 +1,68 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.connector.services.workmanager;
+
+import java.util.Map;
+
+import jakarta.resource.spi.work.DistributableWork;
+
+import org.jboss.jca.core.api.workmanager.DistributedWorkManager;
+import org.jboss.jca.core.api.workmanager.StatisticsExecutor;
+import org.jboss.jca.core.spi.workmanager.Address;
+import org.jboss.jca.core.workmanager.WorkManagerUtil;
+import org.jboss.jca.core.workmanager.policy.AbstractPolicy;
+
+/**
+ * A policy that distributes work only if some peer has sufficiently more free threads than the local work manager.
+ * Unlike {@link org.jboss.jca.core.workmanager.policy.WaterMark}, this avoids distributing work from a busy work manager to peers that are even busier.
+ */
+public class LoadBalancedPolicy extends AbstractPolicy {
+
+    private volatile int threshold = 2;
+
+    /**
+     * Returns the minimum number by which the free threads of a peer must exceed the free threads of the local work manager for work to be distributed.
+     * @return a number of threads
+     */
+    public int getThreshold() {
+        return this.threshold;
+    }
+
+    /**
+     * Sets the minimum number by which the free threads of a peer must exceed the free threads of the local work manager for work to be distributed.
+     * @param threshold a number of threads
+     */
+    public void setThreshold(int threshold) {
+        this.threshold = threshold;
+    }
+
+    @Override
+    public boolean shouldDistribute(DistributedWorkManager dwm, DistributableWork work) {
+        Boolean shouldDistribute = this.getShouldDistribute(work);
+        if (shouldDistribute != null) {
+            return shouldDistribute;
+        }
+        boolean longRunning = WorkManagerUtil.isLongRunning(work) && (dwm.getLongRunningThreadPool() != null);
+        StatisticsExecutor executor = longRunning ? dwm.getLongRunningThreadPool() : dwm.getShortRunningThreadPool();
+        long localFree = executor.getNumberOfFreeThreads();
+
+        Map<Address, Long> peers = (longRunning ? this.longRunning : this.shortRunning).get(dwm.getId());
+        if (peers == null) {
+            return false;
+        }
+        String localTransportId = (dwm.getTransport() != null) ? dwm.getTransport().getId() : null;
+        long maxPeerFree = 0L;
+        synchronized (peers) {
+            for (Map.Entry<Address, Long> entry : peers.entrySet()) {
+                Long free = entry.getValue();
+                if ((free != null) && (free > maxPeerFree) && !entry.getKey().getTransportId().equals(localTransportId)) {
+                    maxPeerFree = free;
+                }
+            }
+        }
+        return (maxPeerFree > 0) && (maxPeerFree - localFree >= this.threshold);
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.connector.services.workmanager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import jakarta.resource.spi.work.DistributableWork;
+
+import org.jboss.jca.core.spi.workmanager.Address;
+import org.jboss.jca.core.workmanager.WorkManagerUtil;
+import org.jboss.jca.core.workmanager.selector.AbstractSelector;
+
+/**
+ * A selector that distributes work using the "power of two choices", i.e. that samples two random peers and selects the one with the most free threads.
+ * Unlike {@link org.jboss.jca.core.workmanager.selector.MaxFreeThreads}, this avoids sending every work instance to the same peer between consecutive free thread count notifications.
+ * The free thread count reported by a peer is reduced by the number of work instances distributed to that peer since its last notification,
+ * which decays over time in case that notification is lost.
+ */
+public class LoadBalancedSelector extends AbstractSelector {
+
+    private final Supplier<Random> random;
+    // Work distributed to each peer since its last notification, guarded by this
+    private final Map<Address, DecayingCount> shortRunningPending = new HashMap<>();
+    private final Map<Address, DecayingCount> longRunningPending = new HashMap<>();
+
+    private volatile long halfLife = 1000L;
+
+    public LoadBalancedSelector() {
+        this(ThreadLocalRandom::current);
+    }
+
+    LoadBalancedSelector(Supplier<Random> random) {
+        this.random = random;
+    }
+
+    /**
+     * Returns the duration, in milliseconds, over which the number of work instances distributed to a peer decays by half.
+     * @return a number of milliseconds
+     */
+    public long getHalfLife() {
+        return this.halfLife;
+    }
+
+    /**
+     * Sets the duration, in milliseconds, over which the number of work instances distributed to a peer decays by half.
+     * A non-positive value disables tracking of distributed work.
+     * @param halfLife a number of milliseconds
+     */
+    public void setHalfLife(long halfLife) {
+        this.halfLife = halfLife;
+    }
+
+    @Override
+    public synchronized void updateShortRunningFree(Address address, long free) {
+        super.updateShortRunningFree(address, free);
+        // Reported count now reflects any previously distributed work
+        this.shortRunningPending.remove(address);
+    }
+
+    @Override
+    public synchronized void updateLongRunningFree(Address address, long free) {
+        super.updateLongRunningFree(address, free);
+        this.longRunningPending.remove(address);
+    }
+
+    @Override
+    public synchronized void leave(Address address) {
+        super.leave(address);
+        this.shortRunningPending.remove(address);
+        this.longRunningPending.remove(address);
+    }
+
+    @Override
+    public synchronized Address selectDistributedWorkManager(Address ownAddress, DistributableWork work) {
+        Map<Address, Long> selectionMap = this.getSelectionMap(ownAddress.getWorkManagerId(), work);
+        if (selectionMap == null) {
+            return null;
+        }
+        Map<Address, DecayingCount> pending = WorkManagerUtil.isLongRunning(work) ? this.longRunningPending : this.shortRunningPending;
+        long now = System.nanoTime();
+        long halfLife = TimeUnit.MILLISECONDS.toNanos(this.halfLife);
+        // Exclude peers whose free threads are presumed to be busy with previously distributed work
+        List<Address> candidates = new ArrayList<>(selectionMap.size());
+        List<Double> scores = new ArrayList<>(selectionMap.size());
+        for (Map.Entry<Address, Long> entry : selectionMap.entrySet()) {
+            Long free = entry.getValue();
+            if (!ownAddress.equals(entry.getKey()) && (free != null)) {
+                double score = free - pending(pending, entry.getKey(), now, halfLife);
+                if (score >= 1) {
+                    candidates.add(entry.getKey());
+                    scores.add(score);
+                }
+            }
+        }
+        if (candidates.isEmpty()) {
+            return null;
+        }
+        Random random = this.random.get();
+        int index = random.nextInt(candidates.size());
+        if (candidates.size() > 1) {
+            // Choose a second candidate, distinct from the first
+            int otherIndex = random.nextInt(candidates.size() - 1);
+            if (otherIndex >= index) {
+                otherIndex += 1;
+            }
+            if (scores.get(otherIndex) > scores.get(index)) {
+                index = otherIndex;
+            }
+        }
+        Address selected = candidates.get(index);
+        pending.computeIfAbsent(selected, key -> new DecayingCount()).increment(now, halfLife);
+        return selected;
+    }
+
+    private static double pending(Map<Address, DecayingCount> pending, Address address, long now, long halfLife) {
+        DecayingCount count = pending.get(address);
+        return (count != null) ? count.get(now, halfLife) : 0d;
+    }
+
+    private static class DecayingCount {
+        private double value = 0d;
+        private long time = 0L;
+
+        double get(long now, long halfLife) {
+            if ((this.value == 0d) || (halfLife <= 0)) {
+                return 0d;
+            }
+            return this.value * Math.pow(0.5d, (double) (now - this.time) / halfLife);
+        }
+
+        void increment(long now, long halfLife) {
+            this.value = this.get(now, halfLife) + 1d;
+            this.time = now;
+        }
+    }
+}
@@ -7,6 +7,10 @@ package org.jboss.as.connector.services.workmanager.transport;
 
 import java.io.IOException;
 import java.io.Serializable;
+import java.security.PrivilegedAction;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -15,6 +19,9 @@ import java.util.Set;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 import jakarta.resource.spi.work.DistributableWork;
@@ -25,6 +32,7 @@ import org.jboss.jca.core.api.workmanager.DistributedWorkManager;
 import org.jboss.jca.core.spi.workmanager.Address;
 import org.jboss.jca.core.workmanager.transport.remote.AbstractRemoteTransport;
 import org.jboss.jca.core.workmanager.transport.remote.ProtocolMessages.Request;
+import org.jboss.threads.JBossThreadFactory;
 import org.wildfly.clustering.server.GroupMember;
 import org.wildfly.clustering.server.GroupMembership;
 import org.wildfly.clustering.server.GroupMembershipEvent;
@@ -38,22 +46,39 @@ import org.wildfly.security.manager.WildFlySecurityManager;
 
 /**
  * {@link DistributedWorkManager}-specific transport based on a {@link CommandDispatcher}.
- * The current implementation is a direct translation of {@link org.jboss.jca.core.workmanager.transport.remote.jgroups.JGroupsTransport}.
+ * The current implementation is a direct translation of {@link org.jboss.jca.core.workmanager.transport.remote.jgroups.JGroupsTransport},
+ * except that work statistics and free thread count updates are sent asynchronously.
+ * If configured with a batch interval, these updates are instead aggregated per member and sent periodically via a single {@link UpdateBatchCommand}.
  * @author Paul Ferraro
  */
 public class CommandDispatcherTransport extends AbstractRemoteTransport<GroupMember> implements GroupMembershipListener<GroupMember> {
+    // Requests that update the work statistics or free thread counts of a remote work manager, whose responses are not used
+    private static final Set<Request> UPDATE_REQUESTS = EnumSet.of(Request.DELTA_DOWORK_ACCEPTED, Request.DELTA_DOWORK_REJECTED,
+            Request.DELTA_SCHEDULEWORK_ACCEPTED, Request.DELTA_SCHEDULEWORK_REJECTED,
+            Request.DELTA_STARTWORK_ACCEPTED, Request.DELTA_STARTWORK_REJECTED,
+            Request.DELTA_WORK_FAILED, Request.DELTA_WORK_SUCCESSFUL,
+            Request.UPDATE_LONGRUNNING_FREE, Request.UPDATE_SHORTRUNNING_FREE);
 
     private final BlockingExecutor executor;
     private final CommandDispatcherFactory<GroupMember> dispatcherFactory;
     private final String name;
+    private final Duration batchInterval;
+    // Pending updates per member, guarded by this map
+    private final Map<GroupMember, Map<Request, Map<Address, Long>>> batches = new HashMap<>();
 
     private volatile CommandDispatcher<GroupMember, CommandDispatcherTransport> dispatcher;
     private volatile Registration groupListenerRegistration;
+    private volatile ScheduledExecutorService batchExecutor;
     private volatile boolean initialized = false;
 
     public CommandDispatcherTransport(CommandDispatcherFactory<GroupMember> dispatcherFactory, String name) {
+        this(dispatcherFactory, name, Duration.ZERO);
+    }
+
+    public CommandDispatcherTransport(CommandDispatcherFactory<GroupMember> dispatcherFactory, String name, Duration batchInterval) {
         this.dispatcherFactory = dispatcherFactory;
         this.name = name;
+        this.batchInterval = batchInterval;
         this.executor = BlockingExecutor.newInstance(() -> {
             try {
                 CommandDispatcherTransport.this.broadcast(new LeaveCommand(this.getOwnAddress()));
@@ -75,11 +100,29 @@ public class CommandDispatcherTransport extends AbstractRemoteTransport<GroupMem
     public void startup() throws Exception {
         this.dispatcher = this.dispatcherFactory.createCommandDispatcher(this.name, this, WildFlySecurityManager.getClassLoaderPrivileged(this.getClass()));
         this.groupListenerRegistration = this.dispatcherFactory.getGroup().register(this);
+        if (!this.batchInterval.isZero() && !this.batchInterval.isNegative()) {
+            PrivilegedAction<JBossThreadFactory> action = () -> new JBossThreadFactory(null, Boolean.TRUE, null, "DistributedWorkManager " + this.name + " batch -- %t", null, null);
+            this.batchExecutor = Executors.newSingleThreadScheduledExecutor(WildFlySecurityManager.doUnchecked(action));
+            long interval = this.batchInterval.toMillis();
+            this.batchExecutor.scheduleWithFixedDelay(this::flush, interval, interval, TimeUnit.MILLISECONDS);
+        }
         this.broadcast(new JoinCommand());
     }
 
     @Override
     public void shutdown() {
+        ScheduledExecutorService batchExecutor = this.batchExecutor;
+        if (batchExecutor != null) {
+            this.batchExecutor = null;
+            batchExecutor.shutdown();
+            try {
+                batchExecutor.awaitTermination(this.batchInterval.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            // Send any remaining updates before leaving
+            this.flush();
+        }
         this.executor.close();
     }
 
@@ -120,9 +163,132 @@ public class CommandDispatcherTransport extends AbstractRemoteTransport<GroupMem
 
     @Override
     protected Serializable sendMessage(GroupMember physicalAddress, Request request, Serializable... parameters) throws WorkException {
+        if (UPDATE_REQUESTS.contains(request)) {
+            Address address = (Address) parameters[0];
+            // Deltas are accumulated, while free thread counts replace any previous value
+            boolean delta = (request != Request.UPDATE_LONGRUNNING_FREE) && (request != Request.UPDATE_SHORTRUNNING_FREE);
+            long value = delta ? 1L : (Long) parameters[1];
+            if (this.batchExecutor != null) {
+                synchronized (this.batches) {
+                    this.batches.computeIfAbsent(physicalAddress, key -> new EnumMap<>(Request.class))
+                            .computeIfAbsent(request, key -> new HashMap<>())
+                            .merge(address, value, delta ? Long::sum : (previous, current) -> current);
+                }
+            } else {
+                // Caller does not require a response, so do not wait for one
+                this.sendMessageAsync(physicalAddress, createCommand(request, (Object[]) parameters));
+            }
+            return null;
+        }
         return (Serializable) this.sendMessage(physicalAddress, request, (Object[]) parameters);
     }
 
+    /**
+     * Sends pending updates to each member via a single command.
+     */
+    void flush() {
+        Map<GroupMember, Map<Request, Map<Address, Long>>> batches;
+        synchronized (this.batches) {
+            if (this.batches.isEmpty()) {
+                return;
+            }
+            batches = new HashMap<>(this.batches);
+            this.batches.clear();
+        }
+        for (Map.Entry<GroupMember, Map<Request, Map<Address, Long>>> entry : batches.entrySet()) {
+            this.sendMessageAsync(entry.getKey(), new UpdateBatchCommand(entry.getValue()));
+        }
+    }
+
+    private void sendMessageAsync(GroupMember physicalAddress, TransportCommand<?> command) {
+        CommandDispatcher<GroupMember, CommandDispatcherTransport> dispatcher = this.dispatcher;
+        Runnable task = new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    dispatcher.dispatchToMember(command, physicalAddress).whenComplete((result, exception) -> {
+                        if ((exception != null) && !(exception instanceof CancellationException)) {
+                            ConnectorLogger.ROOT_LOGGER.debug(exception.getLocalizedMessage(), exception);
+                        }
+                    });
+                } catch (IOException e) {
+                    ConnectorLogger.ROOT_LOGGER.debug(e.getLocalizedMessage(), e);
+                }
+            }
+        };
+        this.executor.execute(task);
+    }
+
+    /**
+     * Applies the specified update from a remote member to the specified local work manager.
+     * @param request an update request
+     * @param address the address of a work manager
+     * @param value the number of deltas, or the free thread count
+     */
+    void localUpdate(Request request, Address address, long value) {
+        switch (request) {
+            case DELTA_DOWORK_ACCEPTED: {
+                for (long i = 0; i < value; ++i) {
+                    this.localDeltaDoWorkAccepted(address);
+                }
+                break;
+            }
+            case DELTA_DOWORK_REJECTED: {
+                for (long i = 0; i < value; ++i) {
+                    this.localDeltaDoWorkRejected(address);
+                }
+                break;
+            }
+            case DELTA_SCHEDULEWORK_ACCEPTED: {
+                for (long i = 0; i < value; ++i) {
+                    this.localDeltaScheduleWorkAccepted(address);
+                }
+                break;
+            }
+            case DELTA_SCHEDULEWORK_REJECTED: {
+                for (long i = 0; i < value; ++i) {
+                    this.localDeltaScheduleWorkRejected(address);
+                }
+                break;
+            }
+            case DELTA_STARTWORK_ACCEPTED: {
+                for (long i = 0; i < value; ++i) {
+                    this.localDeltaStartWorkAccepted(address);
+                }
+                break;
+            }
+            case DELTA_STARTWORK_REJECTED: {
+                for (long i = 0; i < value; ++i) {
+                    this.localDeltaStartWorkRejected(address);
+                }
+                break;
+            }
+            case DELTA_WORK_FAILED: {
+                for (long i = 0; i < value; ++i) {
+                    this.localDeltaWorkFailed(address);
+                }
+                break;
+            }
+            case DELTA_WORK_SUCCESSFUL: {
+                for (long i = 0; i < value; ++i) {
+                    this.localDeltaWorkSuccessful(address);
+                }
+                break;
+            }
+            case UPDATE_LONGRUNNING_FREE: {
+                this.localUpdateLongRunningFree(address, value);
+                break;
+            }
+            case UPDATE_SHORTRUNNING_FREE: {
+                this.localUpdateShortRunningFree(address, value);
+                break;
+            }
+            default: {
+                throw new IllegalStateException(request.name());
+            }
+        }
+    }
+
     private Object sendMessage(GroupMember physicalAddress, Request request, Object... parameters) throws WorkException {
         TransportCommand<?> command = createCommand(request, parameters);
         CommandDispatcher<GroupMember, CommandDispatcherTransport> dispatcher = this.dispatcher;
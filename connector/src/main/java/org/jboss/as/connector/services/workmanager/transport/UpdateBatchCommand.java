@@ -0,0 +1,39 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.connector.services.workmanager.transport;
+
+import java.util.Map;
+
+import org.jboss.jca.core.spi.workmanager.Address;
+import org.jboss.jca.core.workmanager.transport.remote.ProtocolMessages.Request;
+
+/**
+ * Applies a batch of work statistics and free thread count updates, aggregated per work manager.
+ * Values of delta requests are a number of occurrences, while values of free thread count requests are the most recent count.
+ */
+public class UpdateBatchCommand implements TransportCommand<Void> {
+    private static final long serialVersionUID = 1480452232466318349L;
+
+    private final Map<Request, Map<Address, Long>> updates;
+
+    public UpdateBatchCommand(Map<Request, Map<Address, Long>> updates) {
+        this.updates = updates;
+    }
+
+    Map<Request, Map<Address, Long>> getUpdates() {
+        return this.updates;
+    }
+
+    @Override
+    public Void execute(CommandDispatcherTransport transport) {
+        for (Map.Entry<Request, Map<Address, Long>> entry : this.updates.entrySet()) {
+            for (Map.Entry<Address, Long> update : entry.getValue().entrySet()) {
+                transport.localUpdate(entry.getKey(), update.getKey(), update.getValue());
+            }
+        }
+        return null;
+    }
+}
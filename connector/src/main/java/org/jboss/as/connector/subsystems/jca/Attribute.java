@@ -45,7 +45,9 @@ public enum Attribute {
 
     JGROUPS_CLUSTER("jgroups-cluster"),
 
-    REQUEST_TIMEOUT("request-timeout");
+    REQUEST_TIMEOUT("request-timeout"),
+
+    BATCH_INTERVAL("batch-interval");
 
     private final String name;
 
@@ -8,10 +8,13 @@ import static org.jboss.as.connector.logging.ConnectorLogger.ROOT_LOGGER;
 import static org.jboss.as.connector.subsystems.jca.Constants.WORKMANAGER_LONG_RUNNING;
 import static org.jboss.as.connector.subsystems.jca.Constants.WORKMANAGER_SHORT_RUNNING;
 
+import java.time.Duration;
 import java.util.Map;
 import java.util.concurrent.Executor;
 
 import org.jboss.as.connector.services.workmanager.DistributedWorkManagerService;
+import org.jboss.as.connector.services.workmanager.LoadBalancedPolicy;
+import org.jboss.as.connector.services.workmanager.LoadBalancedSelector;
 import org.jboss.as.connector.services.workmanager.NamedDistributedWorkManager;
 import org.jboss.as.connector.services.workmanager.statistics.DistributedWorkManagerStatisticsService;
 import org.jboss.as.connector.services.workmanager.statistics.WorkManagerStatisticsService;
@@ -62,6 +65,7 @@ public class DistributedWorkManagerAdd extends AbstractAddStepHandler {
 
         String policy = JcaDistributedWorkManagerDefinition.DWmParameters.POLICY.getAttribute().resolveModelAttribute(context, model).asString();
         String selector = JcaDistributedWorkManagerDefinition.DWmParameters.SELECTOR.getAttribute().resolveModelAttribute(context, model).asString();
+        Duration batchInterval = Duration.ofMillis(JcaDistributedWorkManagerDefinition.DWmParameters.BATCH_INTERVAL.getAttribute().resolveModelAttribute(context, model).asLong());
 
         ServiceTarget serviceTarget = context.getServiceTarget();
         NamedDistributedWorkManager namedDistributedWorkManager = new NamedDistributedWorkManager(name, elytronEnabled);
@@ -80,6 +84,10 @@ public class DistributedWorkManagerAdd extends AbstractAddStepHandler {
                     namedDistributedWorkManager.setPolicy(new WaterMark());
                     break;
                 }
+                case LOAD_BALANCED: {
+                    namedDistributedWorkManager.setPolicy(new LoadBalancedPolicy());
+                    break;
+                }
                 default:
                     throw ROOT_LOGGER.unsupportedPolicy(policy);
 
@@ -110,6 +118,10 @@ public class DistributedWorkManagerAdd extends AbstractAddStepHandler {
                     namedDistributedWorkManager.setSelector(new PingTime());
                     break;
                 }
+                case LOAD_BALANCED: {
+                    namedDistributedWorkManager.setSelector(new LoadBalancedSelector());
+                    break;
+                }
                 default:
                     throw ROOT_LOGGER.unsupportedSelector(selector);
             }
@@ -125,7 +137,7 @@ public class DistributedWorkManagerAdd extends AbstractAddStepHandler {
             namedDistributedWorkManager.setSelector(new PingTime());
         }
 
-        DistributedWorkManagerService wmService = new DistributedWorkManagerService(namedDistributedWorkManager);
+        DistributedWorkManagerService wmService = new DistributedWorkManagerService(namedDistributedWorkManager, batchInterval);
         ServiceBuilder<NamedDistributedWorkManager> builder = serviceTarget
                 .addService(ConnectorServices.WORKMANAGER_SERVICE.append(name), wmService);
         builder.addDependency(context.getCapabilityServiceName(ClusteringServiceDescriptor.DEFAULT_COMMAND_DISPATCHER_FACTORY), CommandDispatcherFactory.class, wmService.getCommandDispatcherFactoryInjector());
@@ -20,11 +20,13 @@ import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.PropertiesAttributeDefinition;
 import org.jboss.as.controller.ReadResourceNameOperationStepHandler;
 import org.jboss.as.controller.ReloadRequiredRemoveStepHandler;
+import org.jboss.as.controller.ReloadRequiredWriteAttributeHandler;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.capability.RuntimeCapability;
 import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.controller.operations.validation.EnumValidator;
+import org.jboss.as.controller.operations.validation.LongRangeValidator;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
@@ -61,6 +63,9 @@ public class JcaDistributedWorkManagerDefinition extends SimpleResourceDefinitio
             resourceRegistration.registerReadWriteAttribute(ad, null, JcaDistributedWorkManagerWriteHandler.INSTANCE);
         }
 
+        AttributeDefinition batchInterval = DWmParameters.BATCH_INTERVAL.getAttribute();
+        resourceRegistration.registerReadWriteAttribute(batchInterval, null, new ReloadRequiredWriteAttributeHandler(batchInterval));
+
     }
 
     @Override
@@ -115,6 +120,14 @@ public class JcaDistributedWorkManagerDefinition extends SimpleResourceDefinitio
                 .setAllowExpression(true)
                 .setDefaultValue(new ModelNode(ELYTRON_MANAGED_SECURITY))
                 .setDeprecated(ELYTRON_BY_DEFAULT_VERSION)
+                .build()),
+        BATCH_INTERVAL(new SimpleAttributeDefinitionBuilder("batch-interval", ModelType.LONG, true)
+                .setAllowExpression(true)
+                .setDefaultValue(ModelNode.ZERO_LONG)
+                .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+                .setRestartAllServices()
+                .setXmlName(Attribute.BATCH_INTERVAL.getLocalName())
+                .setValidator(new LongRangeValidator(0, true))
                 .build());
 
         public static AttributeDefinition[] getAttributeDefinitions() {
@@ -175,12 +188,14 @@ public class JcaDistributedWorkManagerDefinition extends SimpleResourceDefinitio
     public enum PolicyValue {
         NEVER,
         ALWAYS,
-        WATERMARK
+        WATERMARK,
+        LOAD_BALANCED
     }
 
     public enum SelectorValue {
         FIRST_AVAILABLE,
         PING_TIME,
-        MAX_FREE_THREADS
+        MAX_FREE_THREADS,
+        LOAD_BALANCED
     }
 }
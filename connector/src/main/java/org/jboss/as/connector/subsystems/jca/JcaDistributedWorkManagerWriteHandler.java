@@ -9,6 +9,8 @@ import static org.jboss.as.connector.logging.ConnectorLogger.ROOT_LOGGER;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
 
 import org.jboss.as.connector.logging.ConnectorLogger;
+import org.jboss.as.connector.services.workmanager.LoadBalancedPolicy;
+import org.jboss.as.connector.services.workmanager.LoadBalancedSelector;
 import org.jboss.as.connector.services.workmanager.NamedDistributedWorkManager;
 import org.jboss.as.connector.util.ConnectorServices;
 import org.jboss.as.connector.util.Injection;
@@ -65,6 +67,10 @@ public class JcaDistributedWorkManagerWriteHandler extends AbstractWriteAttribut
                     namedDistributedWorkManager.setPolicy(new WaterMark());
                     break;
                 }
+                case LOAD_BALANCED: {
+                    namedDistributedWorkManager.setPolicy(new LoadBalancedPolicy());
+                    break;
+                }
                 default: {
                     throw ROOT_LOGGER.unsupportedPolicy(resolvedValue.asString());
                 }
@@ -83,6 +89,10 @@ public class JcaDistributedWorkManagerWriteHandler extends AbstractWriteAttribut
                     namedDistributedWorkManager.setSelector(new PingTime());
                     break;
                 }
+                case LOAD_BALANCED: {
+                    namedDistributedWorkManager.setSelector(new LoadBalancedSelector());
+                    break;
+                }
                 default: {
                     throw ROOT_LOGGER.unsupportedSelector(resolvedValue.asString());
                 }
@@ -13,12 +13,16 @@ import org.jboss.as.controller.transform.ExtensionTransformerRegistration;
 import org.jboss.as.controller.transform.SubsystemTransformerRegistration;
 import org.jboss.as.controller.transform.description.AttributeConverter;
 import org.jboss.as.controller.transform.description.ChainedTransformationDescriptionBuilder;
+import org.jboss.as.controller.transform.description.DiscardAttributeChecker;
+import org.jboss.as.controller.transform.description.RejectAttributeChecker;
 import org.jboss.as.controller.transform.description.ResourceTransformationDescriptionBuilder;
 import org.jboss.as.controller.transform.description.TransformationDescriptionBuilder;
+import org.jboss.dmr.ModelNode;
 
 public class JcaTransformers implements ExtensionTransformerRegistration {
 
     private static final ModelVersion EAP_7_4 = ModelVersion.create(5, 0, 0);
+    private static final ModelVersion EAP_8_0 = ModelVersion.create(6, 0, 0);
 
     @Override
     public String getSubsystemName() {
@@ -28,13 +32,25 @@ public class JcaTransformers implements ExtensionTransformerRegistration {
     @Override
     public void registerTransformers(SubsystemTransformerRegistration subsystemRegistration) {
         ChainedTransformationDescriptionBuilder chainedBuilder = TransformationDescriptionBuilder.Factory.createChainedSubystemInstance(subsystemRegistration.getCurrentSubsystemVersion());
-        get500TransformationDescription(chainedBuilder.createBuilder(subsystemRegistration.getCurrentSubsystemVersion(), EAP_7_4));
+        get600TransformationDescription(chainedBuilder.createBuilder(subsystemRegistration.getCurrentSubsystemVersion(), EAP_8_0));
+        get500TransformationDescription(chainedBuilder.createBuilder(EAP_8_0, EAP_7_4));
 
         chainedBuilder.buildAndRegister(subsystemRegistration, new ModelVersion[]{
+                EAP_8_0,
                 EAP_7_4
         });
     }
 
+    private static void get600TransformationDescription(ResourceTransformationDescriptionBuilder parentBuilder) {
+        parentBuilder.addChildResource(PATH_DISTRIBUTED_WORK_MANAGER)
+            .getAttributeBuilder()
+                .setDiscard(DiscardAttributeChecker.DEFAULT_VALUE, JcaDistributedWorkManagerDefinition.DWmParameters.BATCH_INTERVAL.getAttribute())
+                .addRejectCheck(RejectAttributeChecker.DEFINED, JcaDistributedWorkManagerDefinition.DWmParameters.BATCH_INTERVAL.getAttribute())
+                .addRejectCheck(new RejectAttributeChecker.SimpleRejectAttributeChecker(new ModelNode(JcaDistributedWorkManagerDefinition.PolicyValue.LOAD_BALANCED.name())), JcaDistributedWorkManagerDefinition.DWmParameters.POLICY.getAttribute())
+                .addRejectCheck(new RejectAttributeChecker.SimpleRejectAttributeChecker(new ModelNode(JcaDistributedWorkManagerDefinition.SelectorValue.LOAD_BALANCED.name())), JcaDistributedWorkManagerDefinition.DWmParameters.SELECTOR.getAttribute())
+                .end();
+    }
+
     private static void get500TransformationDescription(ResourceTransformationDescriptionBuilder parentBuilder) {
         parentBuilder.addChildResource(PATH_WORK_MANAGER)
             .getAttributeBuilder()
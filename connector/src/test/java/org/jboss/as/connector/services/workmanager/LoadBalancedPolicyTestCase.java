@@ -0,0 +1,74 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.connector.services.workmanager;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import jakarta.resource.spi.work.DistributableWork;
+
+import org.jboss.jca.core.api.workmanager.DistributedWorkManager;
+import org.jboss.jca.core.api.workmanager.StatisticsExecutor;
+import org.jboss.jca.core.spi.workmanager.Address;
+import org.jboss.jca.core.spi.workmanager.transport.Transport;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link LoadBalancedPolicy}.
+ */
+public class LoadBalancedPolicyTestCase {
+    private static final String WORK_MANAGER_ID = "dwm-id";
+
+    private final DistributedWorkManager dwm = mock(DistributedWorkManager.class);
+    private final StatisticsExecutor executor = mock(StatisticsExecutor.class);
+    private final Transport transport = mock(Transport.class);
+    private final DistributableWork work = mock(DistributableWork.class);
+    private final Address local = new Address(WORK_MANAGER_ID, "dwm", "local");
+    private final Address peer = new Address(WORK_MANAGER_ID, "dwm", "peer");
+    private final LoadBalancedPolicy policy = new LoadBalancedPolicy();
+
+    @Before
+    public void init() {
+        when(this.dwm.getId()).thenReturn(WORK_MANAGER_ID);
+        when(this.dwm.getShortRunningThreadPool()).thenReturn(this.executor);
+        when(this.dwm.getTransport()).thenReturn(this.transport);
+        when(this.transport.getId()).thenReturn("local");
+    }
+
+    @Test
+    public void noPeers() {
+        when(this.executor.getNumberOfFreeThreads()).thenReturn(0L);
+
+        assertFalse(this.policy.shouldDistribute(this.dwm, this.work));
+
+        this.policy.join(this.local);
+        this.policy.updateShortRunningFree(this.local, 10);
+
+        // Local work manager is never considered a peer
+        assertFalse(this.policy.shouldDistribute(this.dwm, this.work));
+    }
+
+    @Test
+    public void threshold() {
+        this.policy.setThreshold(4);
+        this.policy.join(this.local);
+        this.policy.join(this.peer);
+        this.policy.updateShortRunningFree(this.peer, 5);
+
+        when(this.executor.getNumberOfFreeThreads()).thenReturn(2L);
+        assertFalse(this.policy.shouldDistribute(this.dwm, this.work));
+
+        when(this.executor.getNumberOfFreeThreads()).thenReturn(1L);
+        assertTrue(this.policy.shouldDistribute(this.dwm, this.work));
+
+        // Peer busier than local work manager
+        this.policy.updateShortRunningFree(this.peer, 0);
+        when(this.executor.getNumberOfFreeThreads()).thenReturn(0L);
+        assertFalse(this.policy.shouldDistribute(this.dwm, this.work));
+    }
+}
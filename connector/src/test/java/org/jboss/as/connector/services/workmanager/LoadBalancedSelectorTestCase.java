@@ -0,0 +1,133 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.connector.services.workmanager;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import jakarta.resource.spi.work.DistributableWork;
+
+import org.jboss.jca.core.spi.workmanager.Address;
+import org.jboss.jca.core.spi.workmanager.selector.Selector;
+import org.jboss.jca.core.workmanager.notification.AbstractNotificationListener;
+import org.jboss.jca.core.workmanager.selector.MaxFreeThreads;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link LoadBalancedSelector}, comparing the load skew against {@link MaxFreeThreads} under bursty work.
+ */
+public class LoadBalancedSelectorTestCase {
+    private static final String WORK_MANAGER_ID = "dwm-id";
+    private static final int ROUNDS = 100;
+
+    private final Address local = new Address(WORK_MANAGER_ID, "dwm", "local");
+    private final List<Address> peers = List.of(new Address(WORK_MANAGER_ID, "dwm", "a"), new Address(WORK_MANAGER_ID, "dwm", "b"), new Address(WORK_MANAGER_ID, "dwm", "c"), new Address(WORK_MANAGER_ID, "dwm", "d"));
+
+    @Test
+    public void skew() {
+        int maxFreeThreadsOverload = this.simulate(new MaxFreeThreads());
+        int loadBalancedOverload = this.simulate(new LoadBalancedSelector(random()));
+
+        // Every burst is sent to the single peer with the most free threads
+        assertEquals(ROUNDS * 12, maxFreeThreadsOverload);
+        assertEquals(0, loadBalancedOverload);
+    }
+
+    @Test
+    public void saturated() {
+        LoadBalancedSelector selector = new LoadBalancedSelector(random());
+        this.join(selector);
+        selector.updateShortRunningFree(this.local, 4);
+        selector.updateShortRunningFree(this.peers.get(0), 2);
+
+        assertEquals(this.peers.get(0), selector.selectDistributedWorkManager(this.local, new BurstWork()));
+        assertEquals(this.peers.get(0), selector.selectDistributedWorkManager(this.local, new BurstWork()));
+        // Remaining peer threads are presumed busy until the next notification
+        assertNull(selector.selectDistributedWorkManager(this.local, new BurstWork()));
+
+        selector.updateShortRunningFree(this.peers.get(0), 1);
+        assertEquals(this.peers.get(0), selector.selectDistributedWorkManager(this.local, new BurstWork()));
+
+        selector.leave(this.peers.get(0));
+        assertNull(selector.selectDistributedWorkManager(this.local, new BurstWork()));
+    }
+
+    @Test
+    public void excludesSource() {
+        LoadBalancedSelector selector = new LoadBalancedSelector(random());
+        this.join(selector);
+        selector.updateShortRunningFree(this.local, 100);
+        selector.updateShortRunningFree(this.peers.get(1), 1);
+
+        for (int i = 0; i < 10; ++i) {
+            assertNotEquals(this.local, selector.selectDistributedWorkManager(this.local, new BurstWork()));
+            selector.updateShortRunningFree(this.peers.get(1), 1);
+        }
+    }
+
+    /**
+     * Simulates bursts of work between free thread count notifications, where peers report varying free thread counts.
+     * @return the total number of work instances distributed to a peer in excess of its free threads
+     */
+    private <S extends AbstractNotificationListener & Selector> int simulate(S selector) {
+        this.join(selector);
+        int overload = 0;
+        for (int round = 0; round < ROUNDS; ++round) {
+            Map<Address, Integer> free = new HashMap<>();
+            int total = 0;
+            for (int i = 0; i < this.peers.size(); ++i) {
+                // Rotate the most available peer across rounds
+                int threads = 2 + 2 * ((i + round) % this.peers.size());
+                free.put(this.peers.get(i), threads);
+                selector.updateShortRunningFree(this.peers.get(i), threads);
+                total += threads;
+            }
+            // Burst fits within the total free threads of all peers
+            Map<Address, Integer> dispatched = new HashMap<>();
+            for (int i = 0; i < total; ++i) {
+                Address address = selector.selectDistributedWorkManager(this.local, new BurstWork());
+                // Burst never needs to execute locally
+                assertNotNull(address);
+                dispatched.merge(address, 1, Integer::sum);
+            }
+            for (Map.Entry<Address, Integer> entry : dispatched.entrySet()) {
+                overload += Math.max(0, entry.getValue() - free.get(entry.getKey()));
+            }
+        }
+        return overload;
+    }
+
+    private static Supplier<Random> random() {
+        Random random = new Random(0);
+        return () -> random;
+    }
+
+    private void join(AbstractNotificationListener listener) {
+        listener.join(this.local);
+        for (Address peer : this.peers) {
+            listener.join(peer);
+        }
+    }
+
+    private static class BurstWork implements DistributableWork {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void run() {
+        }
+
+        @Override
+        public void release() {
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.connector.services.workmanager.transport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.jboss.jca.core.spi.workmanager.Address;
+import org.jboss.jca.core.workmanager.transport.remote.ProtocolMessages.Request;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.wildfly.clustering.server.Group;
+import org.wildfly.clustering.server.GroupMember;
+import org.wildfly.clustering.server.Registration;
+import org.wildfly.clustering.server.dispatcher.Command;
+import org.wildfly.clustering.server.dispatcher.CommandDispatcher;
+import org.wildfly.clustering.server.dispatcher.CommandDispatcherFactory;
+
+/**
+ * Unit test for {@link CommandDispatcherTransport}, verifying the number of messages sent to a remote member.
+ */
+public class CommandDispatcherTransportTestCase {
+    private static final int WORK_COUNT = 100;
+
+    private final CommandDispatcherFactory<GroupMember> dispatcherFactory = mock(CommandDispatcherFactory.class);
+    private final Group<GroupMember> group = mock(Group.class);
+    private final CommandDispatcher<GroupMember, CommandDispatcherTransport> dispatcher = mock(CommandDispatcher.class);
+    private final GroupMember localMember = mock(GroupMember.class);
+    private final GroupMember remoteMember = mock(GroupMember.class);
+    private final Address remoteAddress = new Address("remote-id", "dwm", "remote");
+
+    private CommandDispatcherTransport transport;
+
+    @Before
+    public void init() throws Exception {
+        when(this.localMember.getName()).thenReturn("local");
+        when(this.remoteMember.getName()).thenReturn("remote");
+        when(this.dispatcherFactory.getGroup()).thenReturn(this.group);
+        when(this.group.getLocalMember()).thenReturn(this.localMember);
+        when(this.group.register(any())).thenReturn(mock(Registration.class));
+        doReturn(this.dispatcher).when(this.dispatcherFactory).createCommandDispatcher(any(), any(), any());
+        doReturn(CompletableFuture.completedFuture(null)).when(this.dispatcher).dispatchToMember(any(), any());
+    }
+
+    @After
+    public void destroy() {
+        if (this.transport != null) {
+            this.transport.shutdown();
+        }
+    }
+
+    @Test
+    public void unbatched() throws Exception {
+        this.transport = new CommandDispatcherTransport(this.dispatcherFactory, "dwm");
+        this.transport.startup();
+        this.transport.join(this.remoteAddress, this.remoteMember);
+
+        this.distributeWork();
+
+        // One message per update
+        verify(this.dispatcher, times(2 * WORK_COUNT)).dispatchToMember(any(), any());
+    }
+
+    @Test
+    public void batched() throws Exception {
+        // Long enough that the scheduled flush does not run during the test
+        this.transport = new CommandDispatcherTransport(this.dispatcherFactory, "dwm", Duration.ofMinutes(1));
+        this.transport.startup();
+        this.transport.join(this.remoteAddress, this.remoteMember);
+
+        this.distributeWork();
+
+        verify(this.dispatcher, never()).dispatchToMember(any(), any());
+
+        this.transport.flush();
+
+        // A single message per member containing the aggregated updates
+        ArgumentCaptor<Command<?, ? super CommandDispatcherTransport, ?>> command = ArgumentCaptor.forClass(Command.class);
+        verify(this.dispatcher).dispatchToMember(command.capture(), any());
+        assertTrue(command.getValue() instanceof UpdateBatchCommand);
+        Map<Request, Map<Address, Long>> updates = ((UpdateBatchCommand) command.getValue()).getUpdates();
+        assertEquals(2, updates.size());
+        assertEquals(Long.valueOf(WORK_COUNT), updates.get(Request.DELTA_DOWORK_ACCEPTED).get(this.remoteAddress));
+        assertEquals(Long.valueOf(WORK_COUNT), updates.get(Request.DELTA_WORK_SUCCESSFUL).get(this.remoteAddress));
+
+        // Subsequent flush has nothing to send
+        this.transport.flush();
+        verify(this.dispatcher).dispatchToMember(any(), any());
+    }
+
+    @Test
+    public void execute() {
+        CommandDispatcherTransport transport = mock(CommandDispatcherTransport.class);
+        Address address = new Address("id", "dwm", "transport");
+        UpdateBatchCommand command = new UpdateBatchCommand(Map.of(Request.DELTA_WORK_FAILED, Map.of(address, 3L), Request.UPDATE_SHORTRUNNING_FREE, Map.of(address, 5L)));
+
+        command.execute(transport);
+
+        verify(transport).localUpdate(Request.DELTA_WORK_FAILED, address, 3L);
+        verify(transport).localUpdate(Request.UPDATE_SHORTRUNNING_FREE, address, 5L);
+    }
+
+    private void distributeWork() {
+        for (int i = 0; i < WORK_COUNT; ++i) {
+            this.transport.deltaDoWorkAccepted(this.remoteAddress);
+            this.transport.deltaWorkSuccessful(this.remoteAddress);
+        }
+    }
+}
@@ -39,6 +39,7 @@ import org.jboss.as.ee.component.interceptors.InvocationType;
 import org.jboss.as.ejb3.component.allowedmethods.AllowedMethodsInformation;
 import org.jboss.as.ejb3.component.interceptors.ShutDownInterceptorFactory;
 import org.jboss.as.ejb3.component.invocationmetrics.InvocationMetrics;
+import org.jboss.as.ejb3.component.invocationmetrics.WaitTimeListener;
 import org.jboss.as.ejb3.context.CurrentInvocationContext;
 import org.jboss.as.ejb3.logging.EjbLogger;
 import org.jboss.as.ejb3.security.EJBSecurityMetaData;
@@ -446,6 +447,16 @@ public abstract class EJBComponent extends BasicComponent implements ServerActiv
         return EJBStatistics.getInstance().isEnabled();
     }
 
+    /**
+     * Returns the listener, if any, to notify of the wait time of each invocation of this component.
+     * If defined, wait times are measured even if statistics are disabled.
+     *
+     * @return a wait time listener, or null if wait times need not be measured for this component.
+     */
+    public WaitTimeListener getWaitTimeListener() {
+        return null;
+    }
+
     public Object lookup(String name) throws IllegalArgumentException {
         if (name == null) {
             throw EjbLogger.ROOT_LOGGER.jndiNameCannotBeNull();
@@ -22,10 +22,17 @@ public class ExecutionTimeInterceptor extends AbstractEJBInterceptor {
     @Override
     public Object processInvocation(final InterceptorContext context) throws Exception {
         final EJBComponent component = getComponent(context, EJBComponent.class);
-        if (!component.isStatisticsEnabled())
+        final boolean statisticsEnabled = component.isStatisticsEnabled();
+        final WaitTimeListener listener = component.getWaitTimeListener();
+        if (!statisticsEnabled && listener == null)
             return context.proceed();
         final Long startWaitTime = (Long) context.getPrivateData(WaitTimeInterceptor.START_WAIT_TIME);
         final long waitTime = startWaitTime != null && startWaitTime != 0L ? System.currentTimeMillis() - startWaitTime : 0L;
+        if (listener != null && startWaitTime != null) {
+            listener.waited(waitTime);
+        }
+        if (!statisticsEnabled)
+            return context.proceed();
         component.getInvocationMetrics().startInvocation();
         final long start = System.currentTimeMillis();
         try {
@@ -24,7 +24,7 @@ public class WaitTimeInterceptor extends AbstractEJBInterceptor {
     @Override
     public Object processInvocation(final InterceptorContext context) throws Exception {
         final EJBComponent component = getComponent(context, EJBComponent.class);
-        if (component.isStatisticsEnabled()) {
+        if (component.isStatisticsEnabled() || (component.getWaitTimeListener() != null)) {
             context.putPrivateData(START_WAIT_TIME, System.currentTimeMillis());
         }
         return context.proceed();
@@ -0,0 +1,18 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.ejb3.component.invocationmetrics;
+
+/**
+ * Receives the wait time measured by the {@link WaitTimeInterceptor} for each invocation of a component,
+ * regardless of whether statistics are enabled.
+ */
+public interface WaitTimeListener {
+    /**
+     * Notifies this listener that an invocation waited the specified time before it could execute.
+     *
+     * @param waitTime the wait time in milliseconds
+     */
+    void waited(long waitTime);
+}
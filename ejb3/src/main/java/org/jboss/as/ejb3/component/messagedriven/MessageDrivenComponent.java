@@ -20,6 +20,7 @@ import jakarta.transaction.TransactionManager;
 import org.jboss.as.ee.component.BasicComponentInstance;
 import org.jboss.as.ejb3.component.EJBComponent;
 import org.jboss.as.ejb3.component.allowedmethods.AllowedMethodsInformation;
+import org.jboss.as.ejb3.component.invocationmetrics.WaitTimeListener;
 import org.jboss.as.ejb3.component.pool.PoolConfig;
 import org.jboss.as.ejb3.component.pool.PooledComponent;
 import org.jboss.as.ejb3.inflow.JBossMessageEndpointFactory;
@@ -200,6 +201,11 @@ public class MessageDrivenComponent extends EJBComponent implements PooledCompon
         return poolName;
     }
 
+    @Override
+    public WaitTimeListener getWaitTimeListener() {
+        return (pool instanceof WaitTimeListener) ? (WaitTimeListener) pool : null;
+    }
+
     void setEndpoint(final Endpoint endpoint) {
         this.endpoint = endpoint;
     }
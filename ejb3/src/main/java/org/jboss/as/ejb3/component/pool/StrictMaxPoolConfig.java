@@ -7,7 +7,9 @@ package org.jboss.as.ejb3.component.pool;
 
 import org.jboss.as.ejb3.pool.Pool;
 import org.jboss.as.ejb3.pool.StatelessObjectFactory;
+import org.jboss.as.ejb3.pool.strictmax.AdaptiveStrictMaxPool;
 import org.jboss.as.ejb3.pool.strictmax.StrictMaxPool;
+import org.jboss.as.ejb3.pool.strictmax.StripedStrictMaxPool;
 
 import java.util.concurrent.TimeUnit;
 
@@ -22,6 +24,33 @@ public class StrictMaxPoolConfig extends PoolConfig {
 
     public static final TimeUnit DEFAULT_TIMEOUT_UNIT = TimeUnit.MINUTES;
 
+    public static final Strategy DEFAULT_STRATEGY = Strategy.SEMAPHORE;
+
+    public static final int DEFAULT_MIN_POOL_SIZE = 0;
+
+    /**
+     * Default idle timeout of an adaptive pool, in milliseconds.
+     */
+    public static final long DEFAULT_IDLE_TIMEOUT = TimeUnit.MINUTES.toMillis(5);
+
+    /**
+     * The mechanism by which a pool created from this configuration enforces its maximum size.
+     */
+    public enum Strategy {
+        /**
+         * A single semaphore and queue of idle instances, shared by all threads.
+         */
+        SEMAPHORE,
+        /**
+         * Permits and idle instances partitioned into per-CPU stripes, with work stealing between stripes.
+         */
+        STRIPED,
+        /**
+         * A single semaphore whose permits grow and shrink between the minimum and maximum size according to observed wait times,
+         * and whose idle instances are evicted after an idle timeout.
+         */
+        ADAPTIVE,
+    }
 
     private volatile int maxPoolSize;
 
@@ -29,16 +58,34 @@ public class StrictMaxPoolConfig extends PoolConfig {
 
     private volatile long timeout;
 
+    private volatile Strategy strategy;
+
+    private volatile int minPoolSize = DEFAULT_MIN_POOL_SIZE;
+
+    private volatile long idleTimeout = DEFAULT_IDLE_TIMEOUT;
+
     public StrictMaxPoolConfig(final String poolName, int maxSize, long timeout, TimeUnit timeUnit) {
+        this(poolName, maxSize, timeout, timeUnit, DEFAULT_STRATEGY);
+    }
+
+    public StrictMaxPoolConfig(final String poolName, int maxSize, long timeout, TimeUnit timeUnit, Strategy strategy) {
         super(poolName);
         this.maxPoolSize = maxSize;
         this.timeout = timeout;
         this.timeoutUnit = timeUnit;
+        this.strategy = strategy;
     }
 
     @Override
     public <T> Pool<T> createPool(final StatelessObjectFactory<T> statelessObjectFactory) {
-        return new StrictMaxPool<T>(statelessObjectFactory, this.maxPoolSize, this.timeout, this.timeoutUnit);
+        switch (this.strategy) {
+            case STRIPED:
+                return new StripedStrictMaxPool<T>(statelessObjectFactory, this.maxPoolSize, this.timeout, this.timeoutUnit);
+            case ADAPTIVE:
+                return new AdaptiveStrictMaxPool<T>(statelessObjectFactory, this.minPoolSize, this.maxPoolSize, this.timeout, this.timeoutUnit, this.idleTimeout, TimeUnit.MILLISECONDS);
+            default:
+                return new StrictMaxPool<T>(statelessObjectFactory, this.maxPoolSize, this.timeout, this.timeoutUnit);
+        }
     }
 
     public int getMaxPoolSize() {
@@ -65,6 +112,33 @@ public class StrictMaxPoolConfig extends PoolConfig {
         this.timeout = timeout;
     }
 
+    public Strategy getStrategy() {
+        return strategy;
+    }
+
+    public void setStrategy(Strategy strategy) {
+        this.strategy = strategy;
+    }
+
+    public int getMinPoolSize() {
+        return minPoolSize;
+    }
+
+    public void setMinPoolSize(int minPoolSize) {
+        this.minPoolSize = minPoolSize;
+    }
+
+    /**
+     * @return the idle timeout of an adaptive pool, in milliseconds
+     */
+    public long getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    public void setIdleTimeout(long idleTimeout) {
+        this.idleTimeout = idleTimeout;
+    }
+
     @Override
     public String toString() {
         return "StrictMaxPoolConfig{" +
@@ -72,6 +146,9 @@ public class StrictMaxPoolConfig extends PoolConfig {
                 ", maxPoolSize=" + maxPoolSize +
                 ", timeoutUnit=" + timeoutUnit +
                 ", timeout=" + timeout +
+                ", strategy=" + strategy +
+                ", minPoolSize=" + minPoolSize +
+                ", idleTimeout=" + idleTimeout +
                 '}';
     }
 }
@@ -0,0 +1,246 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.component.stateful.cache.simple;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import org.wildfly.clustering.server.local.scheduler.LocalScheduler;
+import org.wildfly.clustering.server.local.scheduler.LocalSchedulerConfiguration;
+import org.wildfly.clustering.server.local.scheduler.ScheduledEntries;
+import org.wildfly.clustering.server.scheduler.Scheduler;
+
+/**
+ * A local scheduler that partitions its scheduled entries into a number of independent shards, by hash of their key.
+ * Each shard uses its own {@link LocalScheduler}, i.e. its own scheduled entries and its own expiration thread,
+ * such that scheduling and cancellation of entries in different shards do not contend with each other.
+ * @param <K> the scheduled entry key type
+ */
+public class ShardedScheduler<K> implements Scheduler<K, Instant> {
+
+    private final List<Shard<K>> shards;
+
+    public ShardedScheduler(String name, int shards, Predicate<K> task, ThreadFactory threadFactory) {
+        this.shards = new ArrayList<>(shards);
+        for (int i = 0; i < shards; ++i) {
+            this.shards.add(new Shard<>(name + "[" + i + "]", task, threadFactory));
+        }
+    }
+
+    private Shard<K> shard(K key) {
+        int hash = key.hashCode();
+        return this.shards.get(Math.floorMod(hash ^ (hash >>> 16), this.shards.size()));
+    }
+
+    @Override
+    public void schedule(K key, Instant expiration) {
+        this.shard(key).schedule(key, expiration);
+    }
+
+    @Override
+    public void cancel(K key) {
+        this.shard(key).cancel(key);
+    }
+
+    @Override
+    public boolean contains(K key) {
+        return this.shard(key).contains(key);
+    }
+
+    @Override
+    public void close() {
+        for (Shard<K> shard : this.shards) {
+            shard.close();
+        }
+    }
+
+    /**
+     * Returns the statistics of each shard of this scheduler.
+     * @return a list of shard statistics
+     */
+    public List<? extends ShardStatistics> getShardStatistics() {
+        return this.shards;
+    }
+
+    /**
+     * Exposes the statistics of a shard.
+     */
+    public interface ShardStatistics {
+        /**
+         * Returns the number of entries currently scheduled by this shard.
+         * @return a number of scheduled entries
+         */
+        long getSize();
+
+        /**
+         * Returns the duration between the scheduled expiration and the actual execution of the most recently expired entry of this shard.
+         * @return an expiration lag
+         */
+        Duration getExpirationLag();
+    }
+
+    private static class Shard<K> implements Scheduler<K, Instant>, ShardStatistics, Predicate<K> {
+        private final TrackingScheduledEntries<K> entries = new TrackingScheduledEntries<>(ScheduledEntries.linked());
+        private final Predicate<K> task;
+        private final Scheduler<K, Instant> scheduler;
+        private volatile Duration expirationLag = Duration.ZERO;
+
+        Shard(String name, Predicate<K> task, ThreadFactory threadFactory) {
+            this.task = task;
+            ScheduledEntries<K, Instant> entries = this.entries;
+            Predicate<K> shardTask = this;
+            this.scheduler = new LocalScheduler<>(new LocalSchedulerConfiguration<>() {
+                @Override
+                public String getName() {
+                    return name;
+                }
+
+                @Override
+                public ScheduledEntries<K, Instant> getScheduledEntries() {
+                    return entries;
+                }
+
+                @Override
+                public Predicate<K> getTask() {
+                    return shardTask;
+                }
+
+                @Override
+                public ThreadFactory getThreadFactory() {
+                    return threadFactory;
+                }
+
+                @Override
+                public Duration getCloseTimeout() {
+                    return Duration.ZERO;
+                }
+            });
+        }
+
+        @Override
+        public boolean test(K key) {
+            // Invoked by the scheduler thread for the entry most recently returned by the iterator of our scheduled entries
+            Instant expiration = this.entries.getCurrentExpiration();
+            if (expiration != null) {
+                Duration lag = Duration.between(expiration, Instant.now());
+                this.expirationLag = lag.isNegative() ? Duration.ZERO : lag;
+            }
+            return this.task.test(key);
+        }
+
+        @Override
+        public void schedule(K key, Instant expiration) {
+            this.scheduler.schedule(key, expiration);
+        }
+
+        @Override
+        public void cancel(K key) {
+            this.scheduler.cancel(key);
+        }
+
+        @Override
+        public boolean contains(K key) {
+            return this.scheduler.contains(key);
+        }
+
+        @Override
+        public void close() {
+            this.scheduler.close();
+        }
+
+        @Override
+        public long getSize() {
+            return this.entries.stream().count();
+        }
+
+        @Override
+        public Duration getExpirationLag() {
+            return this.expirationLag;
+        }
+    }
+
+    /**
+     * Decorates scheduled entries, tracking the expiration of the entry most recently returned by its iterator.
+     * Only the scheduler thread iterates over the scheduled entries.
+     */
+    private static class TrackingScheduledEntries<K> implements ScheduledEntries<K, Instant> {
+        private final ScheduledEntries<K, Instant> entries;
+        private volatile Instant currentExpiration;
+
+        TrackingScheduledEntries(ScheduledEntries<K, Instant> entries) {
+            this.entries = entries;
+        }
+
+        Instant getCurrentExpiration() {
+            return this.currentExpiration;
+        }
+
+        @Override
+        public boolean isSorted() {
+            return this.entries.isSorted();
+        }
+
+        @Override
+        public void add(K key, Instant expiration) {
+            this.entries.add(key, expiration);
+        }
+
+        @Override
+        public void remove(K key) {
+            this.entries.remove(key);
+        }
+
+        @Override
+        public boolean contains(K key) {
+            return this.entries.contains(key);
+        }
+
+        @Override
+        public Map.Entry<K, Instant> peek() {
+            return this.entries.peek();
+        }
+
+        @Override
+        public Stream<Map.Entry<K, Instant>> stream() {
+            return this.entries.stream();
+        }
+
+        @Override
+        public Iterator<Map.Entry<K, Instant>> iterator() {
+            Iterator<Map.Entry<K, Instant>> iterator = this.entries.iterator();
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public Map.Entry<K, Instant> next() {
+                    Map.Entry<K, Instant> entry = iterator.next();
+                    TrackingScheduledEntries.this.currentExpiration = entry.getValue();
+                    return entry;
+                }
+
+                @Override
+                public void remove() {
+                    iterator.remove();
+                }
+            };
+        }
+
+        @Override
+        public String toString() {
+            return this.entries.toString();
+        }
+    }
+}
@@ -7,6 +7,7 @@ package org.jboss.as.ejb3.component.stateful.cache.simple;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ThreadFactory;
@@ -45,6 +46,7 @@ public class SimpleStatefulSessionBeanCache<K, V extends StatefulSessionBeanInst
     private final StatefulSessionBeanInstanceFactory<V> factory;
     private final Supplier<K> identifierFactory;
     private final Duration timeout;
+    private final int expirationShards;
     private final Affinity strongAffinity;
     private final AtomicBoolean started = new AtomicBoolean();
 
@@ -55,6 +57,7 @@ public class SimpleStatefulSessionBeanCache<K, V extends StatefulSessionBeanInst
         this.factory = configuration.getInstanceFactory();
         this.identifierFactory = configuration.getIdentifierFactory();
         this.timeout = configuration.getTimeout();
+        this.expirationShards = configuration.getExpirationShards();
         this.strongAffinity = new NodeAffinity(configuration.getEnvironment().getNodeName());
     }
 
@@ -68,32 +71,39 @@ public class SimpleStatefulSessionBeanCache<K, V extends StatefulSessionBeanInst
         if (this.started.compareAndSet(false, true)) {
             Predicate<K> task = this;
             String componentName = this.componentName;
-            this.scheduler = (this.timeout != null) && !this.timeout.isZero() ? new LocalScheduler<>(new LocalSchedulerConfiguration<>() {
-                @Override
-                public String getName() {
-                    return componentName;
-                }
-
-                @Override
-                public ScheduledEntries<K, Instant> getScheduledEntries() {
-                    return ScheduledEntries.linked();
-                }
-
-                @Override
-                public Predicate<K> getTask() {
-                    return task;
-                }
-
-                @Override
-                public ThreadFactory getThreadFactory() {
-                    return THREAD_FACTORY;
-                }
-
-                @Override
-                public Duration getCloseTimeout() {
-                    return Duration.ZERO;
-                }
-            }) : null;
+            if ((this.timeout == null) || this.timeout.isZero()) {
+                this.scheduler = null;
+            } else if (this.expirationShards > 1) {
+                // Partition beans across independent schedulers to avoid contention on a single set of scheduled entries
+                this.scheduler = new ShardedScheduler<>(componentName, this.expirationShards, task, THREAD_FACTORY);
+            } else {
+                this.scheduler = new LocalScheduler<>(new LocalSchedulerConfiguration<>() {
+                    @Override
+                    public String getName() {
+                        return componentName;
+                    }
+
+                    @Override
+                    public ScheduledEntries<K, Instant> getScheduledEntries() {
+                        return ScheduledEntries.linked();
+                    }
+
+                    @Override
+                    public Predicate<K> getTask() {
+                        return task;
+                    }
+
+                    @Override
+                    public ThreadFactory getThreadFactory() {
+                        return THREAD_FACTORY;
+                    }
+
+                    @Override
+                    public Duration getCloseTimeout() {
+                        return Duration.ZERO;
+                    }
+                });
+            }
         }
     }
 
@@ -175,6 +185,15 @@ public class SimpleStatefulSessionBeanCache<K, V extends StatefulSessionBeanInst
         return 0;
     }
 
+    /**
+     * Returns the statistics of each shard of the expiration scheduler of this cache.
+     * @return a list of shard statistics, empty if expiration is not sharded
+     */
+    public List<? extends ShardedScheduler.ShardStatistics> getExpirationShardStatistics() {
+        Scheduler<K, Instant> scheduler = this.scheduler;
+        return (scheduler instanceof ShardedScheduler) ? ((ShardedScheduler<K>) scheduler).getShardStatistics() : List.of();
+    }
+
     @Override
     public Supplier<K> getIdentifierFactory() {
         return this.identifierFactory;
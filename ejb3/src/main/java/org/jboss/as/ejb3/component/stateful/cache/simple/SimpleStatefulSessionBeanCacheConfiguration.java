@@ -18,4 +18,11 @@ import org.jboss.as.server.ServerEnvironment;
 public interface SimpleStatefulSessionBeanCacheConfiguration<K, V extends StatefulSessionBeanInstance<K>> extends StatefulSessionBeanCacheConfiguration<K, V> {
 
     ServerEnvironment getEnvironment();
+
+    /**
+     * Returns the number of shards into which beans are partitioned for the purpose of scheduling their expiration.
+     * A value of 1 schedules the expiration of all beans using a single scheduler.
+     * @return a number of expiration shards
+     */
+    int getExpirationShards();
 }
@@ -28,9 +28,16 @@ import org.wildfly.subsystem.service.ServiceInstaller;
  */
 public class SimpleStatefulSessionBeanCacheFactoryServiceInstallerFactory<K, V extends StatefulSessionBeanInstance<K>> implements Function<StatefulComponentDescription, ServiceInstaller> {
 
+    private final int expirationShards;
+
+    public SimpleStatefulSessionBeanCacheFactoryServiceInstallerFactory(int expirationShards) {
+        this.expirationShards = expirationShards;
+    }
+
     @Override
     public ServiceInstaller apply(StatefulComponentDescription description) {
         ServiceDependency<ServerEnvironment> environment = ServiceDependency.on(ServerEnvironment.SERVICE_DESCRIPTOR);
+        int expirationShards = this.expirationShards;
         StatefulSessionBeanCacheFactory<K, V> factory = new StatefulSessionBeanCacheFactory<>() {
             @Override
             public StatefulSessionBeanCache<K, V> createStatefulBeanCache(StatefulSessionBeanCacheConfiguration<K, V> configuration) {
@@ -55,6 +62,11 @@ public class SimpleStatefulSessionBeanCacheFactoryServiceInstallerFactory<K, V e
                         return environment.get();
                     }
 
+                    @Override
+                    public int getExpirationShards() {
+                        return expirationShards;
+                    }
+
                     @Override
                     public String getComponentName() {
                         return configuration.getComponentName();
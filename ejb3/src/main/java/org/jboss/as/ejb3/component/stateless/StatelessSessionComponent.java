@@ -10,6 +10,7 @@ import java.util.Map;
 
 import org.jboss.as.ee.component.BasicComponentInstance;
 import org.jboss.as.ejb3.component.allowedmethods.AllowedMethodsInformation;
+import org.jboss.as.ejb3.component.invocationmetrics.WaitTimeListener;
 import org.jboss.as.ejb3.component.pool.PoolConfig;
 import org.jboss.as.ejb3.component.pool.PooledComponent;
 import org.jboss.as.ejb3.component.session.SessionBeanComponent;
@@ -83,6 +84,11 @@ public class StatelessSessionComponent extends SessionBeanComponent implements P
         return poolName;
     }
 
+    @Override
+    public WaitTimeListener getWaitTimeListener() {
+        return (pool instanceof WaitTimeListener) ? (WaitTimeListener) pool : null;
+    }
+
     @Override
     public Method getTimeoutMethod() {
         return timeoutMethod;
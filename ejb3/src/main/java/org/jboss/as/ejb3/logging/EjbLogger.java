@@ -15,6 +15,7 @@ import java.io.IOException;
 import java.io.InvalidClassException;
 import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Method;
+import java.nio.file.Path;
 import java.rmi.RemoteException;
 import java.sql.SQLException;
 import java.util.Date;
@@ -3255,4 +3256,41 @@ public interface EjbLogger extends BasicLogger {
 
     @Message(id = 536, value = "Unsupported EJB receiver protocol %s")
     IllegalArgumentException unsupportedEJBReceiverProtocol(String uriScheme);
+
+    @LogMessage(level = ERROR)
+    @Message(id = 537, value = "Scheduled task %s failed")
+    void scheduledTaskFailed(Runnable task, @Cause Throwable cause);
+
+    @Message(id = 538, value = "%s is not a valid timer journal")
+    IOException invalidTimerJournal(Path file);
+
+    @Message(id = 539, value = "Timer journal %s exceeds its maximum capacity")
+    IOException timerJournalCapacityExceeded(Path file);
+
+    @LogMessage(level = WARN)
+    @Message(id = 540, value = "Discarding incomplete or corrupt records of timer journal %s, starting at offset %d")
+    void timerJournalTruncated(Path file, int offset);
+
+    @Message(id = 541, value = "Failed to access timer journal %s")
+    RuntimeException timerJournalAccessFailed(Path file, @Cause Throwable cause);
+
+    @LogMessage(level = ERROR)
+    @Message(id = 542, value = "Failed to compact timer journal %s")
+    void timerJournalCompactionFailed(Path file, @Cause Throwable cause);
+
+    @LogMessage(level = INFO)
+    @Message(id = 543, value = "Imported %d persistent timers of %s from %s into its timer journal")
+    void timersImported(int count, String timedObjectId, File directory);
+
+    @LogMessage(level = ERROR)
+    @Message(id = 544, value = "Cannot add last modification column for incremental refresh of timer persistence")
+    void couldNotAddLastModifiedColumn(@Cause SQLException e);
+
+    @LogMessage(level = WARN)
+    @Message(id = 545, value = "Failed to write %d batched timer state changes of %s")
+    void failedToWriteTimerUpdates(int count, String timedObjectId, @Cause Throwable cause);
+
+    @LogMessage(level = WARN)
+    @Message(id = 546, value = "Failed to evict idle instances of %s")
+    void failedToEvictIdleInstances(Object pool, @Cause Throwable cause);
 }
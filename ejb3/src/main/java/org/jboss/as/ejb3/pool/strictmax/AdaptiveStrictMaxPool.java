@@ -0,0 +1,317 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.ejb3.pool.strictmax;
+
+import static org.jboss.as.ejb3.logging.EjbLogger.ROOT_LOGGER;
+
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.as.ejb3.component.invocationmetrics.WaitTimeListener;
+import org.jboss.as.ejb3.logging.EjbLogger;
+import org.jboss.as.ejb3.pool.AbstractPool;
+import org.jboss.as.ejb3.pool.StatelessObjectFactory;
+import org.wildfly.clustering.context.DefaultThreadFactory;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * A pool with a maximum size, whose effective limit adapts to the observed wait time of invocations.
+ * <p/>
+ * The limit starts at the minimum size and is doubled, up to the maximum size, whenever invocations waited
+ * (on average) at least 1 millisecond for an instance during the last adaptation interval, or whenever a thread is still blocked waiting for a permit.
+ * Instances that remained idle for longer than the idle timeout are destroyed, but never below the minimum size,
+ * and the limit shrinks accordingly.
+ * <p/>
+ * Adaptation is driven by pool activity (i.e. acquisition, release, and wait time notifications) and is performed at most once per interval.
+ * While the pool is started, a periodic reaper also evicts idle instances, such that the pool shrinks once traffic stops.
+ */
+public class AdaptiveStrictMaxPool<T> extends AbstractPool<T> implements WaitTimeListener {
+
+    static final long DEFAULT_INTERVAL = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private static final ThreadFactory THREAD_FACTORY = new DefaultThreadFactory(AdaptiveStrictMaxPool.class, WildFlySecurityManager.getClassLoaderPrivileged(AdaptiveStrictMaxPool.class));
+    // Shared by the reapers of all pools, whose thread expires once no pool is started
+    private static final ScheduledThreadPoolExecutor REAPER = createReaper();
+
+    private static ScheduledThreadPoolExecutor createReaper() {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, THREAD_FACTORY);
+        executor.setRemoveOnCancelPolicy(true);
+        executor.setKeepAliveTime(1, TimeUnit.MINUTES);
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private final ResizableSemaphore semaphore;
+    /**
+     * Idle instances, most recently released first.
+     */
+    private final Deque<IdleInstance<T>> pool = new ConcurrentLinkedDeque<>();
+    private final int minSize;
+    private final int maxSize;
+    private final long timeout;
+    private final TimeUnit timeUnit;
+    private final long idleTimeout;
+    private final long interval;
+    private final AtomicInteger limit;
+    private final AtomicLong lastAdaptation;
+    private final LongAdder waits = new LongAdder();
+    private final LongAdder waitTime = new LongAdder();
+    private final AtomicLong growCount = new AtomicLong(0);
+    private final AtomicLong shrinkCount = new AtomicLong(0);
+    private volatile ScheduledFuture<?> reaper;
+
+    public AdaptiveStrictMaxPool(StatelessObjectFactory<T> factory, int minSize, int maxSize, long timeout, TimeUnit timeUnit, long idleTimeout, TimeUnit idleTimeoutUnit) {
+        this(factory, minSize, maxSize, timeout, timeUnit, idleTimeout, idleTimeoutUnit, DEFAULT_INTERVAL);
+    }
+
+    AdaptiveStrictMaxPool(StatelessObjectFactory<T> factory, int minSize, int maxSize, long timeout, TimeUnit timeUnit, long idleTimeout, TimeUnit idleTimeoutUnit, long interval) {
+        super(factory);
+        this.maxSize = maxSize;
+        this.minSize = Math.min(minSize, maxSize);
+        this.timeout = timeout;
+        this.timeUnit = timeUnit;
+        this.idleTimeout = idleTimeoutUnit.toNanos(idleTimeout);
+        this.interval = interval;
+        int initialLimit = Math.max(this.minSize, 1);
+        this.limit = new AtomicInteger(initialLimit);
+        this.semaphore = new ResizableSemaphore(initialLimit);
+        this.lastAdaptation = new AtomicLong(System.nanoTime());
+    }
+
+    public void discard(T ctx) {
+        if (ROOT_LOGGER.isTraceEnabled()) {
+            ROOT_LOGGER.tracef("Discard instance %s#%s", this, ctx);
+        }
+
+        semaphore.release();
+
+        super.doRemove(ctx);
+    }
+
+    public int getCurrentSize() {
+        return getCreateCount() - getRemoveCount();
+    }
+
+    public int getAvailableCount() {
+        return Math.max(semaphore.availablePermits(), 0);
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(int maxSize) {
+        throw EjbLogger.ROOT_LOGGER.methodNotImplemented();
+    }
+
+    /**
+     * @return the minimum number of instances retained by this pool
+     */
+    public int getMinSize() {
+        return minSize;
+    }
+
+    /**
+     * @return the current limit on the number of instances that may be in use concurrently
+     */
+    public int getLimit() {
+        return limit.get();
+    }
+
+    /**
+     * @return the number of times the limit of this pool was raised
+     */
+    public long getGrowCount() {
+        return growCount.get();
+    }
+
+    /**
+     * @return the number of times the limit of this pool was lowered
+     */
+    public long getShrinkCount() {
+        return shrinkCount.get();
+    }
+
+    @Override
+    public void waited(long waitTime) {
+        this.waits.increment();
+        this.waitTime.add(waitTime);
+        this.adapt(false);
+    }
+
+    /**
+     * Get an instance without identity.
+     * Can be used by finders,create-methods, and activation
+     *
+     * @return Context /w instance
+     */
+    public T get() {
+        long remaining = timeUnit.toNanos(timeout);
+        long deadline = System.nanoTime() + remaining;
+        try {
+            while (!semaphore.tryAcquire(Math.min(remaining, interval), TimeUnit.NANOSECONDS)) {
+                remaining = deadline - System.nanoTime();
+                if (remaining <= 0L) {
+                    throw EjbLogger.ROOT_LOGGER.failedToAcquirePermit(timeout, timeUnit);
+                }
+                // We are still blocked, which is reason enough to raise the limit
+                this.adapt(true);
+            }
+        } catch (InterruptedException e) {
+            throw EjbLogger.ROOT_LOGGER.acquireSemaphoreInterrupted();
+        }
+
+        IdleInstance<T> idle = pool.pollFirst();
+
+        if (idle != null) {
+            //we found a bean instance in the pool, return it
+            return idle.instance;
+        }
+
+        T bean = null;
+        try {
+            // Pool is empty, create an instance
+            bean = create();
+        } finally {
+            if (bean == null) {
+                semaphore.release();
+            }
+        }
+        return bean;
+    }
+
+    /**
+     * Return an instance after invocation.
+     * <p/>
+     * Called in 2 cases:
+     * a) Done with finder method
+     * b) Just removed
+     *
+     * @param obj
+     */
+    public void release(T obj) {
+        if (ROOT_LOGGER.isTraceEnabled()) {
+            ROOT_LOGGER.tracef("%s/%s Free instance: %s", limit.get(), maxSize, this);
+        }
+
+        pool.addFirst(new IdleInstance<>(obj, System.nanoTime()));
+
+        semaphore.release();
+
+        this.adapt(false);
+    }
+
+    @Override
+    @Deprecated
+    public void remove(T ctx) {
+        if (ROOT_LOGGER.isTraceEnabled()) {
+            ROOT_LOGGER.tracef("Removing instance: %s#%s", this, ctx);
+        }
+
+        semaphore.release();
+        // let the super do the other remove stuff
+        super.doRemove(ctx);
+    }
+
+    public synchronized void start() {
+        if (reaper == null) {
+            // Evicts instances at most half an idle timeout late
+            long period = Math.max(interval, idleTimeout / 2);
+            reaper = REAPER.scheduleWithFixedDelay(this::reap, period, period, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public synchronized void stop() {
+        if (reaper != null) {
+            reaper.cancel(false);
+            reaper = null;
+        }
+        for (IdleInstance<T> idle = pool.pollFirst(); idle != null; idle = pool.pollFirst()) {
+            destroy(idle.instance);
+        }
+    }
+
+    private void reap() {
+        try {
+            this.adapt(false);
+        } catch (RuntimeException e) {
+            // Must not suppress subsequent executions
+            ROOT_LOGGER.failedToEvictIdleInstances(this, e);
+        }
+    }
+
+    /**
+     * Raises or lowers the limit of this pool, if the adaptation interval elapsed since the last adaptation.
+     *
+     * @param blocked indicates whether the calling thread is blocked waiting for a permit
+     */
+    private void adapt(boolean blocked) {
+        long now = System.nanoTime();
+        long last = lastAdaptation.get();
+        if ((now - last < interval) || !lastAdaptation.compareAndSet(last, now)) return;
+
+        long waits = this.waits.sumThenReset();
+        long waitTime = this.waitTime.sumThenReset();
+        int current = limit.get();
+
+        if (blocked || ((waits > 0) && (waitTime >= waits))) {
+            if (current < maxSize) {
+                int target = Math.min(maxSize, current * 2);
+                limit.set(target);
+                semaphore.release(target - current);
+                growCount.incrementAndGet();
+                ROOT_LOGGER.debugf("Raised limit of %s from %d to %d", this, current, target);
+            }
+        } else {
+            int evicted = 0;
+            IdleInstance<T> idle = pool.peekLast();
+            while ((idle != null) && (now - idle.timestamp >= idleTimeout) && (getCurrentSize() > minSize)) {
+                if (pool.removeLastOccurrence(idle)) {
+                    destroy(idle.instance);
+                    evicted += 1;
+                }
+                idle = pool.peekLast();
+            }
+            int target = Math.max(Math.max(minSize, 1), current - evicted);
+            if (target < current) {
+                limit.set(target);
+                semaphore.reducePermits(current - target);
+                shrinkCount.incrementAndGet();
+                ROOT_LOGGER.debugf("Lowered limit of %s from %d to %d", this, current, target);
+            }
+        }
+    }
+
+    private static class IdleInstance<T> {
+        final T instance;
+        final long timestamp;
+
+        IdleInstance(T instance, long timestamp) {
+            this.instance = instance;
+            this.timestamp = timestamp;
+        }
+    }
+
+    private static class ResizableSemaphore extends Semaphore {
+        private static final long serialVersionUID = -4187225389622386291L;
+
+        ResizableSemaphore(int permits) {
+            super(permits, false);
+        }
+
+        @Override
+        protected void reducePermits(int reduction) {
+            super.reducePermits(reduction);
+        }
+    }
+}
@@ -0,0 +1,315 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.ejb3.pool.strictmax;
+
+import static org.jboss.as.ejb3.logging.EjbLogger.ROOT_LOGGER;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.jboss.as.ejb3.logging.EjbLogger;
+import org.jboss.as.ejb3.pool.AbstractPool;
+import org.jboss.as.ejb3.pool.StatelessObjectFactory;
+
+/**
+ * A pool with a maximum size whose permits and idle instances are partitioned into stripes.
+ * <p/>
+ * Each thread is mapped to a home stripe, from which it acquires a permit and polls an idle instance.
+ * If its home stripe is exhausted, the thread steals a permit or an instance from the remaining stripes.
+ * Only when no stripe has a free permit will the thread block, up to the configured timeout, until a permit is released.
+ * The total number of permits never exceeds the maximum size, so the same hard limit applies as for {@link StrictMaxPool}.
+ */
+public class StripedStrictMaxPool<T> extends AbstractPool<T> {
+
+    private final Stripe<T>[] stripes;
+    private final int mask;
+    private final int maxSize;
+    private final long timeout;
+    private final TimeUnit timeUnit;
+
+    // Used only by threads that found every stripe exhausted
+    private final AtomicInteger waiters = new AtomicInteger(0);
+    private final Lock lock = new ReentrantLock();
+    private final Condition released = this.lock.newCondition();
+
+    public StripedStrictMaxPool(StatelessObjectFactory<T> factory, int maxSize, long timeout, TimeUnit timeUnit) {
+        this(factory, maxSize, timeout, timeUnit, Runtime.getRuntime().availableProcessors());
+    }
+
+    @SuppressWarnings("unchecked")
+    StripedStrictMaxPool(StatelessObjectFactory<T> factory, int maxSize, long timeout, TimeUnit timeUnit, int concurrency) {
+        super(factory);
+        this.maxSize = maxSize;
+        this.timeout = timeout;
+        this.timeUnit = timeUnit;
+        int count = stripeCount(maxSize, concurrency);
+        this.mask = count - 1;
+        this.stripes = new Stripe[count];
+        for (int i = 0; i < count; ++i) {
+            // Distribute the permits as evenly as possible
+            this.stripes[i] = new Stripe<>(i, (maxSize / count) + ((i < (maxSize % count)) ? 1 : 0));
+        }
+    }
+
+    /**
+     * Returns the number of stripes, i.e. the smallest power of 2 not less than the specified concurrency,
+     * but never more stripes than there are permits.
+     */
+    static int stripeCount(int maxSize, int concurrency) {
+        int count = (concurrency > 1) ? Integer.highestOneBit(concurrency - 1) << 1 : 1;
+        while ((count > 1) && (count > maxSize)) {
+            count >>>= 1;
+        }
+        return count;
+    }
+
+    public void discard(T ctx) {
+        if (ROOT_LOGGER.isTraceEnabled()) {
+            ROOT_LOGGER.tracef("Discard instance %s#%s", this, ctx);
+        }
+
+        this.releasePermit(this.home());
+
+        super.doRemove(ctx);
+    }
+
+    public int getCurrentSize() {
+        return this.getCreateCount() - this.getRemoveCount();
+    }
+
+    public int getAvailableCount() {
+        int count = 0;
+        for (Stripe<T> stripe : this.stripes) {
+            count += stripe.permits.get();
+        }
+        return count;
+    }
+
+    public int getMaxSize() {
+        return this.maxSize;
+    }
+
+    public void setMaxSize(int maxSize) {
+        throw EjbLogger.ROOT_LOGGER.methodNotImplemented();
+    }
+
+    /**
+     * Returns the statistics of each stripe of this pool.
+     *
+     * @return a list of stripe statistics, ordered by stripe index
+     */
+    public List<StripeStatistics> getStripeStatistics() {
+        List<StripeStatistics> statistics = new ArrayList<>(this.stripes.length);
+        Collections.addAll(statistics, this.stripes);
+        return statistics;
+    }
+
+    /**
+     * Get an instance without identity.
+     * Can be used by finders,create-methods, and activation
+     *
+     * @return Context /w instance
+     */
+    public T get() {
+        long start = System.nanoTime();
+        Stripe<T> home = this.home();
+        this.acquirePermit(home, start);
+
+        T bean = this.poll(home);
+        if (bean == null) {
+            try {
+                // Pool is empty, create an instance
+                bean = this.create();
+            } finally {
+                if (bean == null) {
+                    this.releasePermit(home);
+                }
+            }
+        }
+        home.acquired(System.nanoTime() - start);
+        return bean;
+    }
+
+    /**
+     * Return an instance after invocation.
+     * <p/>
+     * Called in 2 cases:
+     * a) Done with finder method
+     * b) Just removed
+     *
+     * @param obj
+     */
+    public void release(T obj) {
+        Stripe<T> home = this.home();
+        if (ROOT_LOGGER.isTraceEnabled()) {
+            ROOT_LOGGER.tracef("Free instance: %s to stripe %d of %s", obj, home.index, this);
+        }
+
+        home.instances.add(obj);
+
+        this.releasePermit(home);
+    }
+
+    @Override
+    @Deprecated
+    public void remove(T ctx) {
+        if (ROOT_LOGGER.isTraceEnabled()) {
+            ROOT_LOGGER.tracef("Removing instance: %s#%s", this, ctx);
+        }
+
+        this.releasePermit(this.home());
+
+        super.doRemove(ctx);
+    }
+
+    public void start() {
+        // Nothing to start
+    }
+
+    public void stop() {
+        for (Stripe<T> stripe : this.stripes) {
+            for (T obj = stripe.instances.poll(); obj != null; obj = stripe.instances.poll()) {
+                this.destroy(obj);
+            }
+        }
+    }
+
+    private Stripe<T> home() {
+        return this.stripes[(int) Thread.currentThread().getId() & this.mask];
+    }
+
+    private T poll(Stripe<T> home) {
+        T bean = home.instances.poll();
+        for (int i = 1; (bean == null) && (i < this.stripes.length); ++i) {
+            bean = this.stripes[(home.index + i) & this.mask].instances.poll();
+        }
+        return bean;
+    }
+
+    private boolean tryAcquirePermit(Stripe<T> home) {
+        if (home.tryAcquire()) return true;
+        for (int i = 1; i < this.stripes.length; ++i) {
+            if (this.stripes[(home.index + i) & this.mask].tryAcquire()) return true;
+        }
+        return false;
+    }
+
+    private void acquirePermit(Stripe<T> home, long start) {
+        if (this.tryAcquirePermit(home)) return;
+
+        // All stripes are exhausted - wait for a release
+        long remaining = this.timeUnit.toNanos(this.timeout) - (System.nanoTime() - start);
+        this.waiters.incrementAndGet();
+        this.lock.lock();
+        try {
+            // Re-check while holding the lock, after registering as a waiter, so that a concurrent release cannot be missed
+            while (!this.tryAcquirePermit(home)) {
+                if (remaining <= 0L) {
+                    throw EjbLogger.ROOT_LOGGER.failedToAcquirePermit(this.timeout, this.timeUnit);
+                }
+                remaining = this.released.awaitNanos(remaining);
+            }
+        } catch (InterruptedException e) {
+            throw EjbLogger.ROOT_LOGGER.acquireSemaphoreInterrupted();
+        } finally {
+            this.lock.unlock();
+            this.waiters.decrementAndGet();
+        }
+    }
+
+    private void releasePermit(Stripe<T> home) {
+        home.permits.incrementAndGet();
+        if (this.waiters.get() > 0) {
+            this.lock.lock();
+            try {
+                this.released.signal();
+            } finally {
+                this.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Exposes the statistics of a single stripe of a {@link StripedStrictMaxPool}.
+     */
+    public interface StripeStatistics {
+        /**
+         * @return the number of permits currently available from this stripe
+         */
+        int getAvailableCount();
+
+        /**
+         * @return the number of idle instances currently held by this stripe
+         */
+        int getIdleCount();
+
+        /**
+         * @return the number of successful acquisitions by threads mapped to this stripe
+         */
+        long getAcquisitionCount();
+
+        /**
+         * @param unit the time unit of the return value
+         * @return the cumulative time spent acquiring instances by threads mapped to this stripe
+         */
+        long getAcquisitionTime(TimeUnit unit);
+    }
+
+    private static class Stripe<T> implements StripeStatistics {
+        final int index;
+        final AtomicInteger permits;
+        final Queue<T> instances = new ConcurrentLinkedQueue<>();
+        final AtomicLong acquisitions = new AtomicLong(0);
+        final AtomicLong acquisitionTime = new AtomicLong(0);
+
+        Stripe(int index, int permits) {
+            this.index = index;
+            this.permits = new AtomicInteger(permits);
+        }
+
+        boolean tryAcquire() {
+            int current = this.permits.get();
+            while (current > 0) {
+                if (this.permits.compareAndSet(current, current - 1)) return true;
+                current = this.permits.get();
+            }
+            return false;
+        }
+
+        void acquired(long nanos) {
+            this.acquisitions.incrementAndGet();
+            this.acquisitionTime.addAndGet(nanos);
+        }
+
+        @Override
+        public int getAvailableCount() {
+            return this.permits.get();
+        }
+
+        @Override
+        public int getIdleCount() {
+            return this.instances.size();
+        }
+
+        @Override
+        public long getAcquisitionCount() {
+            return this.acquisitions.get();
+        }
+
+        @Override
+        public long getAcquisitionTime(TimeUnit unit) {
+            return unit.convert(this.acquisitionTime.get(), TimeUnit.NANOSECONDS);
+        }
+    }
+}
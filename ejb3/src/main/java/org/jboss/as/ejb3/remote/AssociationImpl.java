@@ -11,6 +11,7 @@ import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
 import java.net.UnknownHostException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -87,11 +88,11 @@ final class AssociationImpl implements Association, AutoCloseable {
     private final Map<Integer, ClusterTopologyRegistrar> clusterTopologyRegistrars;
     private volatile Executor executor;
 
-    AssociationImpl(final DeploymentRepository deploymentRepository, final List<Map.Entry<ProtocolSocketBinding, Registry<GroupMember, String, List<ClientMapping>>>> clientMappingRegistries) {
+    AssociationImpl(final DeploymentRepository deploymentRepository, final List<Map.Entry<ProtocolSocketBinding, Registry<GroupMember, String, List<ClientMapping>>>> clientMappingRegistries, final Duration clusterTopologyUpdateDelay) {
         this.deploymentRepository = deploymentRepository;
         this.clusterTopologyRegistrars = clientMappingRegistries.isEmpty() ? Collections.emptyMap() : new HashMap<>(clientMappingRegistries.size());
         for (Map.Entry<ProtocolSocketBinding, Registry<GroupMember, String, List<ClientMapping>>> entry : clientMappingRegistries) {
-            this.clusterTopologyRegistrars.put(entry.getKey().getSocketBinding().getSocketAddress().getPort(), new ClusterTopologyRegistrar(entry.getValue()));
+            this.clusterTopologyRegistrars.put(entry.getKey().getSocketBinding().getSocketAddress().getPort(), new ClusterTopologyRegistrar(entry.getValue(), clusterTopologyUpdateDelay));
         }
     }
 
@@ -467,10 +468,13 @@ final class AssociationImpl implements Association, AutoCloseable {
         private final Set<ClusterTopologyListener> clusterTopologyListeners = ConcurrentHashMap.newKeySet();
         private final Registry<GroupMember, String, List<ClientMapping>> clientMappingRegistry;
         private final Registration listenerRegistration;
+        private final CoalescingRegistryListener<String, List<ClientMapping>> coalescingListener;
 
-        ClusterTopologyRegistrar(Registry<GroupMember, String, List<ClientMapping>> clientMappingRegistry) {
+        ClusterTopologyRegistrar(Registry<GroupMember, String, List<ClientMapping>> clientMappingRegistry, Duration updateDelay) {
             this.clientMappingRegistry = clientMappingRegistry;
-            this.listenerRegistration = clientMappingRegistry.register(this);
+            // If configured, coalesce registry changes within the update delay into fewer topology notifications to clients
+            this.coalescingListener = !updateDelay.isZero() && !updateDelay.isNegative() ? new CoalescingRegistryListener<>(this, updateDelay) : null;
+            this.listenerRegistration = clientMappingRegistry.register((this.coalescingListener != null) ? this.coalescingListener : this);
         }
 
         @Override
@@ -509,6 +513,9 @@ final class AssociationImpl implements Association, AutoCloseable {
 
         void close() {
             this.listenerRegistration.close();
+            if (this.coalescingListener != null) {
+                this.coalescingListener.close();
+            }
             this.clusterTopologyListeners.clear();
         }
 
@@ -5,6 +5,7 @@
 
 package org.jboss.as.ejb3.remote;
 
+import java.time.Duration;
 import java.util.AbstractMap;
 import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.ArrayList;
@@ -64,6 +65,7 @@ public final class AssociationService implements Service<AssociationService> {
     private volatile ServiceURL cachedServiceURL;
 
     private final MutableDiscoveryProvider mutableDiscoveryProvider = new MutableDiscoveryProvider();
+    private volatile Duration clusterTopologyUpdateDelay = Duration.ZERO;
 
     private volatile AssociationImpl value;
     private volatile ListenerHandle moduleAvailabilityListener;
@@ -76,7 +78,7 @@ public final class AssociationService implements Service<AssociationService> {
         for (Map.Entry<Value<ProtocolSocketBinding>, Value<Registry>> entry : this.clientMappingsRegistries) {
             clientMappingsRegistries.add(new SimpleImmutableEntry<>(entry.getKey().getValue(), entry.getValue().getValue()));
         }
-        value = new AssociationImpl(deploymentRepositoryInjector.getValue(), clientMappingsRegistries);
+        value = new AssociationImpl(deploymentRepositoryInjector.getValue(), clientMappingsRegistries, clusterTopologyUpdateDelay);
 
         String ourNodeName = serverEnvironmentServiceInjector.getValue().getNodeName();
 
@@ -176,6 +178,14 @@ public final class AssociationService implements Service<AssociationService> {
         return new AbstractMap.SimpleImmutableEntry<>(info, registry);
     }
 
+    /**
+     * Sets the duration within which changes to the client mappings of a cluster are coalesced into a single topology update to clients.
+     * @param delay a duration, where zero indicates that changes are sent to clients immediately
+     */
+    public void setClusterTopologyUpdateDelay(Duration delay) {
+        this.clusterTopologyUpdateDelay = delay;
+    }
+
     public InjectedValue<SuspendController> getSuspendControllerInjector() {
         return suspendControllerInjector;
     }
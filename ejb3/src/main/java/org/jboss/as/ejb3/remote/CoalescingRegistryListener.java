@@ -0,0 +1,156 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.remote;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jboss.as.ejb3.logging.EjbLogger;
+import org.wildfly.clustering.context.DefaultThreadFactory;
+import org.wildfly.clustering.server.registry.RegistryListener;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * A registry listener that accumulates the changes to a registry within a time window, and notifies its delegate listener of the net changes once the window elapses.
+ * e.g. an entry that is added and subsequently removed within the same window results in no notification,
+ * while consecutive updates to the same entry result in a single notification of its latest value.
+ * This prevents a rolling restart of a cluster from generating a separate topology notification to every client per registry change.
+ * @param <K> the registry key type
+ * @param <V> the registry value type
+ */
+class CoalescingRegistryListener<K, V> implements RegistryListener<K, V>, AutoCloseable {
+    private static final ThreadFactory THREAD_FACTORY = new DefaultThreadFactory(CoalescingRegistryListener.class, WildFlySecurityManager.getClassLoaderPrivileged(CoalescingRegistryListener.class));
+
+    private final RegistryListener<K, V> listener;
+    private final long delay;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(THREAD_FACTORY);
+    private final AtomicLong receivedChanges = new AtomicLong();
+    private final AtomicLong sentNotifications = new AtomicLong();
+
+    // Net changes within the current window, guarded by this
+    private Map<K, V> added = new LinkedHashMap<>();
+    private Map<K, V> updated = new LinkedHashMap<>();
+    private Map<K, V> removed = new LinkedHashMap<>();
+    private ScheduledFuture<?> future;
+
+    CoalescingRegistryListener(RegistryListener<K, V> listener, Duration delay) {
+        this.listener = listener;
+        this.delay = delay.toMillis();
+    }
+
+    @Override
+    public synchronized void added(Map<K, V> added) {
+        for (Map.Entry<K, V> entry : added.entrySet()) {
+            K key = entry.getKey();
+            // An entry removed then re-added within the same window is an update
+            if (this.removed.containsKey(key)) {
+                this.removed.remove(key);
+                this.updated.put(key, entry.getValue());
+            } else {
+                this.added.put(key, entry.getValue());
+            }
+        }
+        this.schedule(added.size());
+    }
+
+    @Override
+    public synchronized void updated(Map<K, V> updated) {
+        for (Map.Entry<K, V> entry : updated.entrySet()) {
+            K key = entry.getKey();
+            // An entry added then updated within the same window is an addition of its latest value
+            if (this.added.containsKey(key)) {
+                this.added.put(key, entry.getValue());
+            } else {
+                this.updated.put(key, entry.getValue());
+            }
+        }
+        this.schedule(updated.size());
+    }
+
+    @Override
+    public synchronized void removed(Map<K, V> removed) {
+        for (Map.Entry<K, V> entry : removed.entrySet()) {
+            K key = entry.getKey();
+            // An entry added then removed within the same window was never observed
+            if (this.added.containsKey(key)) {
+                this.added.remove(key);
+            } else {
+                this.updated.remove(key);
+                this.removed.put(key, entry.getValue());
+            }
+        }
+        this.schedule(removed.size());
+    }
+
+    private void schedule(int changes) {
+        this.receivedChanges.addAndGet(changes);
+        if ((this.future == null) && !this.executor.isShutdown()) {
+            this.future = this.executor.schedule(this::flush, this.delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    void flush() {
+        Map<K, V> added;
+        Map<K, V> updated;
+        Map<K, V> removed;
+        synchronized (this) {
+            this.future = null;
+            added = this.added;
+            updated = this.updated;
+            removed = this.removed;
+            this.added = new LinkedHashMap<>();
+            this.updated = new LinkedHashMap<>();
+            this.removed = new LinkedHashMap<>();
+        }
+        int notifications = 0;
+        try {
+            if (!removed.isEmpty()) {
+                this.listener.removed(removed);
+                notifications += 1;
+            }
+            if (!added.isEmpty()) {
+                this.listener.added(added);
+                notifications += 1;
+            }
+            if (!updated.isEmpty()) {
+                this.listener.updated(updated);
+                notifications += 1;
+            }
+        } finally {
+            this.sentNotifications.addAndGet(notifications);
+            EjbLogger.REMOTE_LOGGER.debugf("Sent %d coalesced notifications of %d added, %d updated, and %d removed registry entries (%d changes received, %d notifications sent in total)", notifications, added.size(), updated.size(), removed.size(), this.receivedChanges.get(), this.sentNotifications.get());
+        }
+    }
+
+    /**
+     * Returns the number of registry entry changes received by this listener.
+     * @return a number of changes
+     */
+    long getReceivedChanges() {
+        return this.receivedChanges.get();
+    }
+
+    /**
+     * Returns the number of notifications sent to the delegate listener.
+     * @return a number of notifications
+     */
+    long getSentNotifications() {
+        return this.sentNotifications.get();
+    }
+
+    @Override
+    public void close() {
+        // Pending changes are irrelevant once closed
+        this.executor.shutdownNow();
+    }
+}
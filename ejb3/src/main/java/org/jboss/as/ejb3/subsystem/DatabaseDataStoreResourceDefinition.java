@@ -5,18 +5,27 @@
 
 package org.jboss.as.ejb3.subsystem;
 
+import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
 import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.ReloadRequiredWriteAttributeHandler;
 import org.jboss.as.controller.ServiceRemoveStepHandler;
 import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.jboss.as.controller.operations.validation.EnumValidator;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
+import org.jboss.as.controller.operations.validation.LongRangeValidator;
 import org.jboss.as.controller.operations.validation.ModelTypeValidator;
 import org.jboss.as.controller.operations.validation.StringLengthValidator;
 import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.as.ejb3.timerservice.persistence.database.DatabaseTimerPersistence;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
+import org.jboss.msc.service.ServiceController;
 
 /**
  * {@link org.jboss.as.controller.ResourceDefinition} for the database data store resource.
@@ -51,6 +60,30 @@ public class DatabaseDataStoreResourceDefinition extends TimerPersistenceResourc
                     .setDefaultValue(new ModelNode(-1))
                     .build();
 
+    public static final SimpleAttributeDefinition REFRESH_MODE =
+            new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.REFRESH_MODE, ModelType.STRING, true)
+                    .setAllowExpression(true)
+                    .setFlags(AttributeAccess.Flag.RESTART_RESOURCE_SERVICES)
+                    .setDefaultValue(new ModelNode(RefreshMode.FULL.toString()))
+                    .setValidator(EnumValidator.create(RefreshMode.class))
+                    .build();
+
+    public static final SimpleAttributeDefinition WRITE_BATCH_SIZE =
+            new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.WRITE_BATCH_SIZE, ModelType.INT, true)
+                    .setAllowExpression(true)
+                    .setFlags(AttributeAccess.Flag.RESTART_RESOURCE_SERVICES)
+                    .setDefaultValue(new ModelNode(1))
+                    .setValidator(new IntRangeValidator(1, true, true))
+                    .build();
+
+    public static final SimpleAttributeDefinition WRITE_BATCH_DELAY =
+            new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.WRITE_BATCH_DELAY, ModelType.LONG, true)
+                    .setAllowExpression(true)
+                    .setFlags(AttributeAccess.Flag.RESTART_RESOURCE_SERVICES)
+                    .setDefaultValue(new ModelNode(100L))
+                    .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+                    .setValidator(new LongRangeValidator(1, Long.MAX_VALUE, true, true))
+                    .build();
 
     public static final SimpleAttributeDefinition ALLOW_EXECUTION =
             new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.ALLOW_EXECUTION, ModelType.BOOLEAN, true)
@@ -59,7 +92,20 @@ public class DatabaseDataStoreResourceDefinition extends TimerPersistenceResourc
                     .setDefaultValue(ModelNode.TRUE)
                     .build();
 
-    private static final AttributeDefinition[] ATTRIBUTES = new AttributeDefinition[] { DATASOURCE_JNDI_NAME, DATABASE, PARTITION, REFRESH_INTERVAL, ALLOW_EXECUTION };
+    static final SimpleAttributeDefinition REFRESH_ROWS_SCANNED =
+            new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.REFRESH_ROWS_SCANNED, ModelType.LONG)
+                    .setUndefinedMetricValue(ModelNode.ZERO)
+                    .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME, AttributeAccess.Flag.COUNTER_METRIC)
+                    .build();
+
+    static final SimpleAttributeDefinition REFRESH_LATENCY =
+            new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.REFRESH_LATENCY, ModelType.LONG)
+                    .setUndefinedMetricValue(ModelNode.ZERO)
+                    .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+                    .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME, AttributeAccess.Flag.GAUGE_METRIC)
+                    .build();
+
+    private static final AttributeDefinition[] ATTRIBUTES = new AttributeDefinition[] { DATASOURCE_JNDI_NAME, DATABASE, PARTITION, REFRESH_INTERVAL, REFRESH_MODE, WRITE_BATCH_SIZE, WRITE_BATCH_DELAY, ALLOW_EXECUTION };
     private static final DatabaseDataStoreAdd ADD_HANDLER = new DatabaseDataStoreAdd();
 
     DatabaseDataStoreResourceDefinition() {
@@ -73,6 +119,71 @@ public class DatabaseDataStoreResourceDefinition extends TimerPersistenceResourc
         for (AttributeDefinition attr : ATTRIBUTES) {
             resourceRegistration.registerReadWriteAttribute(attr, null, ReloadRequiredWriteAttributeHandler.INSTANCE);
         }
+        resourceRegistration.registerMetric(REFRESH_ROWS_SCANNED, new RefreshMetricHandler() {
+            @Override
+            long getValue(DatabaseTimerPersistence persistence) {
+                return persistence.getRefreshRowsScanned();
+            }
+        });
+        resourceRegistration.registerMetric(REFRESH_LATENCY, new RefreshMetricHandler() {
+            @Override
+            long getValue(DatabaseTimerPersistence persistence) {
+                return persistence.getRefreshLatency();
+            }
+        });
+    }
+
+    enum RefreshMode {
+        FULL("full", DatabaseTimerPersistence.RefreshMode.FULL),
+        INCREMENTAL("incremental", DatabaseTimerPersistence.RefreshMode.INCREMENTAL),
+        ;
+
+        private final String value;
+        private final DatabaseTimerPersistence.RefreshMode mode;
+
+        RefreshMode(String value, DatabaseTimerPersistence.RefreshMode mode) {
+            this.value = value;
+            this.mode = mode;
+        }
+
+        @Override
+        public String toString() {
+            return value;
+        }
+
+        DatabaseTimerPersistence.RefreshMode getMode() {
+            return mode;
+        }
+
+        static RefreshMode fromValue(String value) {
+            for (RefreshMode mode : values()) {
+                if (mode.value.equals(value)) {
+                    return mode;
+                }
+            }
+            return valueOf(value);
+        }
+    }
+
+    static DatabaseTimerPersistence.RefreshMode parseRefreshMode(OperationContext context, ModelNode model) throws OperationFailedException {
+        return RefreshMode.fromValue(REFRESH_MODE.resolveModelAttribute(context, model).asString()).getMode();
+    }
+
+    /**
+     * Reads a refresh metric from the running {@link DatabaseTimerPersistence}, if any.
+     */
+    private abstract static class RefreshMetricHandler extends AbstractRuntimeOnlyHandler {
+
+        @Override
+        protected void executeRuntimeStep(OperationContext context, ModelNode operation) throws OperationFailedException {
+            final ServiceController<?> controller = context.getServiceRegistry(false).getService(CAPABILITY.getCapabilityServiceName(context.getCurrentAddress()));
+            final Object value = (controller != null) ? controller.getValue() : null;
+            if (value instanceof DatabaseTimerPersistence) {
+                context.getResult().set(this.getValue((DatabaseTimerPersistence) value));
+            }
+        }
+
+        abstract long getValue(DatabaseTimerPersistence persistence);
     }
 
 }
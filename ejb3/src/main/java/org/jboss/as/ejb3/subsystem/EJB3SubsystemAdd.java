@@ -26,6 +26,7 @@ import static org.jboss.as.ejb3.subsystem.EJB3SubsystemRootResourceDefinition.DE
 import static org.jboss.as.ejb3.subsystem.StrictMaxPoolResourceDefinition.STRICT_MAX_POOL_CONFIG_CAPABILITY_NAME;
 
 import java.net.URI;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -277,6 +278,7 @@ class EJB3SubsystemAdd extends AbstractBoottimeAddStepHandler {
 
         if (resource.hasChild(EJB3SubsystemModel.REMOTE_SERVICE_PATH)) {
             ModelNode remoteModel = resource.getChild(EJB3SubsystemModel.REMOTE_SERVICE_PATH).getModel();
+            associationService.setClusterTopologyUpdateDelay(Duration.ofMillis(EJB3RemoteResourceDefinition.CLUSTER_TOPOLOGY_UPDATE_DELAY.resolveModelAttribute(context, remoteModel).asLong()));
 
             // For each connector
             for (ModelNode connector : EJB3RemoteResourceDefinition.CONNECTORS.resolveModelAttribute(context, remoteModel).asList()) {
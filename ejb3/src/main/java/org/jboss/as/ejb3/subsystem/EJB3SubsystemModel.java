@@ -53,10 +53,14 @@ public interface EJB3SubsystemModel {
     String STATISTICS_ENABLED = "statistics-enabled";
 
     String FILE_DATA_STORE = "file-data-store";
+    String FILE_JOURNAL_STORE = "file-journal-store";
 
     String MAX_POOL_SIZE = "max-pool-size";
     String DERIVE_SIZE = "derive-size";
     String DERIVED_SIZE = "derived-size";
+    String STRATEGY = "strategy";
+    String MIN_POOL_SIZE = "min-pool-size";
+    String INSTANCE_IDLE_TIMEOUT = "instance-idle-timeout";
 
     String STRICT_MAX_BEAN_INSTANCE_POOL = "strict-max-bean-instance-pool";
 
@@ -96,6 +100,7 @@ public interface EJB3SubsystemModel {
 
     @Deprecated String CACHE = "cache";
     String SIMPLE_CACHE = "simple-cache";
+    String EXPIRATION_SHARDS = "expiration-shards";
     String DISTRIBUTABLE_CACHE = "distributable-cache";
     String BEAN_MANAGEMENT = "bean-management";
     @Deprecated String PASSIVATION_STORE = "passivation-store";
@@ -125,6 +130,11 @@ public interface EJB3SubsystemModel {
     String DATABASE_DATA_STORE = "database-data-store";
     String PARTITION  = "partition";
     String REFRESH_INTERVAL = "refresh-interval";
+    String REFRESH_MODE = "refresh-mode";
+    String REFRESH_ROWS_SCANNED = "refresh-rows-scanned";
+    String REFRESH_LATENCY = "refresh-latency";
+    String WRITE_BATCH_SIZE = "write-batch-size";
+    String WRITE_BATCH_DELAY = "write-batch-delay";
     String ALLOW_EXECUTION = "allow-execution";
 
     String STATIC_URLS = "static-urls";
@@ -136,6 +146,7 @@ public interface EJB3SubsystemModel {
     PathElement THREAD_POOL_PATH = PathElement.pathElement(THREAD_POOL);
     PathElement IIOP_PATH = PathElement.pathElement(SERVICE, IIOP);
     PathElement FILE_DATA_STORE_PATH = PathElement.pathElement(FILE_DATA_STORE);
+    PathElement FILE_JOURNAL_STORE_PATH = PathElement.pathElement(FILE_JOURNAL_STORE);
     PathElement DATABASE_DATA_STORE_PATH = PathElement.pathElement(DATABASE_DATA_STORE);
     PathElement MDB_DELIVERY_GROUP_PATH = PathElement.pathElement(MDB_DELIVERY_GROUP);
     PathElement STRICT_MAX_BEAN_INSTANCE_POOL_PATH = PathElement.pathElement(STRICT_MAX_BEAN_INSTANCE_POOL);
@@ -146,6 +157,7 @@ public interface EJB3SubsystemModel {
     String BASE_EJB_THREAD_POOL_NAME = "ejb3";
     ServiceName BASE_THREAD_POOL_SERVICE_NAME = ThreadsServices.EXECUTOR.append(BASE_EJB_THREAD_POOL_NAME);
     String EXECUTE_IN_WORKER = "execute-in-worker";
+    String CLUSTER_TOPOLOGY_UPDATE_DELAY = "cluster-topology-update-delay";
 
     // Elytron integration
     String APPLICATION_SECURITY_DOMAIN = "application-security-domain";
@@ -26,6 +26,7 @@ public enum EJB3SubsystemXMLAttribute {
     CLIENT_MAPPINGS_CLUSTER_NAME("cluster"),
     @Deprecated CLIENT_MAPPINGS_CACHE("client-mappings-cache"),
     @Deprecated CLUSTERED_CACHE_REF("clustered-cache-ref"),
+    CLUSTER_TOPOLOGY_UPDATE_DELAY(EJB3SubsystemModel.CLUSTER_TOPOLOGY_UPDATE_DELAY),
     CONNECT_TIMEOUT("connect-timeout"),
     @Deprecated CONNECTOR_REF("connector-ref"),
     CONNECTORS("connectors"),
@@ -42,6 +43,7 @@ public enum EJB3SubsystemXMLAttribute {
     ENABLED("enabled"),
     ENABLE_BY_DEFAULT("enable-by-default"),
     EXCLUDE_LOCAL_RECEIVER("exclude-local-receiver"),
+    EXPIRATION_SHARDS(EJB3SubsystemModel.EXPIRATION_SHARDS),
 
     @Deprecated GROUPS_PATH("groups-path"),
 
@@ -49,6 +51,7 @@ public enum EJB3SubsystemXMLAttribute {
     @Deprecated IDLE_TIMEOUT_UNIT("idle-timeout-unit"),
     INSTANCE_ACQUISITION_TIMEOUT("instance-acquisition-timeout"),
     INSTANCE_ACQUISITION_TIMEOUT_UNIT("instance-acquisition-timeout-unit"),
+    INSTANCE_IDLE_TIMEOUT(EJB3SubsystemModel.INSTANCE_IDLE_TIMEOUT),
 
     KEEPALIVE_TIME("keepalive-time"),
 
@@ -58,6 +61,7 @@ public enum EJB3SubsystemXMLAttribute {
     MAX_SIZE("max-size"),
     DERIVE_SIZE("derive-size"),
     MAX_THREADS("max-threads"),
+    MIN_POOL_SIZE(EJB3SubsystemModel.MIN_POOL_SIZE),
 
     NAME("name"),
 
@@ -65,6 +69,7 @@ public enum EJB3SubsystemXMLAttribute {
 
     PARTITION("partition"),
     REFRESH_INTERVAL("refresh-interval"),
+    REFRESH_MODE(EJB3SubsystemModel.REFRESH_MODE),
     PASS_BY_VALUE("pass-by-value"),
     @Deprecated PASSIVATE_EVENTS_ON_REPLICATE("passivate-events-on-replicate"),
     PASSIVATION_DISABLED_CACHE_REF("passivation-disabled-cache-ref"),
@@ -77,6 +82,7 @@ public enum EJB3SubsystemXMLAttribute {
 
     @Deprecated SESSIONS_PATH("sessions-path"),
     STATIC_URLS("static-urls"),
+    STRATEGY(EJB3SubsystemModel.STRATEGY),
     @Deprecated SUBDIRECTORY_COUNT("subdirectory-count"),
 
     THREAD_POOL_NAME("thread-pool-name"),
@@ -86,6 +92,9 @@ public enum EJB3SubsystemXMLAttribute {
 
     VALUE("value"),
 
+    WRITE_BATCH_DELAY(EJB3SubsystemModel.WRITE_BATCH_DELAY),
+    WRITE_BATCH_SIZE(EJB3SubsystemModel.WRITE_BATCH_SIZE),
+
     ACTIVE("active"),
 
     EXECUTE_IN_WORKER("execute-in-worker"),
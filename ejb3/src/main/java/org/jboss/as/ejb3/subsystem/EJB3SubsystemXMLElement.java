@@ -35,6 +35,7 @@ public enum EJB3SubsystemXMLElement {
     ENABLE_GRACEFUL_TXN_SHUTDOWN(EJB3SubsystemModel.ENABLE_GRACEFUL_TXN_SHUTDOWN),
 
     FILE_DATA_STORE("file-data-store"),
+    FILE_JOURNAL_STORE(EJB3SubsystemModel.FILE_JOURNAL_STORE),
 
     IIOP("iiop"),
     IN_VM_REMOTE_INTERFACE_INVOCATION("in-vm-remote-interface-invocation"),
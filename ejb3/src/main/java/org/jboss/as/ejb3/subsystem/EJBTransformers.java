@@ -5,6 +5,7 @@
 
 package org.jboss.as.ejb3.subsystem;
 
+import static org.jboss.as.ejb3.subsystem.EJB3Model.VERSION_10_0_0;
 import static org.jboss.as.ejb3.subsystem.EJB3Model.VERSION_9_0_0;
 
 import org.jboss.as.controller.ModelVersion;
@@ -38,11 +39,37 @@ public class EJBTransformers implements ExtensionTransformerRegistration {
         ChainedTransformationDescriptionBuilder chainedBuilder = TransformationDescriptionBuilder.Factory.createChainedSubystemInstance(currentModel);
 
         // register the transformations required for each legacy version after 9.0.0
-        registerTransformers_9_0_0(chainedBuilder.createBuilder(currentModel, VERSION_9_0_0.getVersion()));
+        registerTransformers_10_0_0(chainedBuilder.createBuilder(currentModel, VERSION_10_0_0.getVersion()));
+        registerTransformers_9_0_0(chainedBuilder.createBuilder(VERSION_10_0_0.getVersion(), VERSION_9_0_0.getVersion()));
 
         // create the chained builder which incorporates all transformations
         chainedBuilder.buildAndRegister(subsystemRegistration, new ModelVersion[] {
-                VERSION_9_0_0.getVersion() });
+                VERSION_10_0_0.getVersion(), VERSION_9_0_0.getVersion() });
+    }
+
+    /*
+     * Transformers for changes in model version 11.0.0
+     */
+    private static void registerTransformers_10_0_0(ResourceTransformationDescriptionBuilder subsystemBuilder) {
+        subsystemBuilder.addChildResource(EJB3SubsystemModel.STRICT_MAX_BEAN_INSTANCE_POOL_PATH).getAttributeBuilder()
+                .setDiscard(DiscardAttributeChecker.DEFAULT_VALUE, StrictMaxPoolResourceDefinition.STRATEGY, StrictMaxPoolResourceDefinition.MIN_POOL_SIZE, StrictMaxPoolResourceDefinition.INSTANCE_IDLE_TIMEOUT)
+                .addRejectCheck(RejectAttributeChecker.DEFINED, StrictMaxPoolResourceDefinition.STRATEGY, StrictMaxPoolResourceDefinition.MIN_POOL_SIZE, StrictMaxPoolResourceDefinition.INSTANCE_IDLE_TIMEOUT)
+                .end();
+        subsystemBuilder.addChildResource(EJB3SubsystemModel.SIMPLE_CACHE_PATH).getAttributeBuilder()
+                .setDiscard(DiscardAttributeChecker.DEFAULT_VALUE, SimpleStatefulSessionBeanCacheProviderResourceDefinition.Attribute.EXPIRATION_SHARDS.getDefinition())
+                .addRejectCheck(RejectAttributeChecker.DEFINED, SimpleStatefulSessionBeanCacheProviderResourceDefinition.Attribute.EXPIRATION_SHARDS.getDefinition())
+                .end();
+        subsystemBuilder.addChildResource(EJB3SubsystemModel.REMOTE_SERVICE_PATH).getAttributeBuilder()
+                .setDiscard(DiscardAttributeChecker.DEFAULT_VALUE, EJB3RemoteResourceDefinition.CLUSTER_TOPOLOGY_UPDATE_DELAY)
+                .addRejectCheck(RejectAttributeChecker.DEFINED, EJB3RemoteResourceDefinition.CLUSTER_TOPOLOGY_UPDATE_DELAY)
+                .end();
+        ResourceTransformationDescriptionBuilder timerServiceBuilder = subsystemBuilder.addChildResource(EJB3SubsystemModel.TIMER_SERVICE_PATH);
+        // Reject ejb3/service=timer-service/file-journal-store element
+        timerServiceBuilder.rejectChildResource(EJB3SubsystemModel.FILE_JOURNAL_STORE_PATH);
+        timerServiceBuilder.addChildResource(EJB3SubsystemModel.DATABASE_DATA_STORE_PATH).getAttributeBuilder()
+                .setDiscard(DiscardAttributeChecker.DEFAULT_VALUE, DatabaseDataStoreResourceDefinition.REFRESH_MODE, DatabaseDataStoreResourceDefinition.WRITE_BATCH_SIZE, DatabaseDataStoreResourceDefinition.WRITE_BATCH_DELAY)
+                .addRejectCheck(RejectAttributeChecker.DEFINED, DatabaseDataStoreResourceDefinition.REFRESH_MODE, DatabaseDataStoreResourceDefinition.WRITE_BATCH_SIZE, DatabaseDataStoreResourceDefinition.WRITE_BATCH_DELAY)
+                .end();
     }
 
     /*
@@ -0,0 +1,47 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.subsystem;
+
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import jakarta.transaction.TransactionSynchronizationRegistry;
+
+import org.jboss.as.controller.AbstractAddStepHandler;
+import org.jboss.as.controller.CapabilityServiceBuilder;
+import org.jboss.as.controller.CapabilityServiceTarget;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.services.path.PathManager;
+import org.jboss.as.ejb3.timerservice.persistence.journal.FileJournalTimerPersistence;
+import org.jboss.as.server.Services;
+import org.jboss.dmr.ModelNode;
+import org.jboss.modules.ModuleLoader;
+
+/**
+ * Adds the timer service journal-based file data store
+ */
+public class FileJournalStoreAdd extends AbstractAddStepHandler {
+
+    private static final String TRANSACTION_SYNCHRONIZATION_REGISTRY_CAPABILITY_NAME = "org.wildfly.transactions.transaction-synchronization-registry";
+    private static final String TRANSACTION_GLOBAL_DEFAULT_LOCAL_PROVIDER_CAPABILITY_NAME = "org.wildfly.transactions.global-default-local-provider";
+
+    @Override
+    protected void performRuntime(final OperationContext context, ModelNode operation, final ModelNode model) throws OperationFailedException {
+        final String path = FileJournalStoreResourceDefinition.PATH.resolveModelAttribute(context, model).asStringOrNull();
+        final String relativeTo = FileJournalStoreResourceDefinition.RELATIVE_TO.resolveModelAttribute(context, model).asStringOrNull();
+
+        final CapabilityServiceTarget serviceTarget = context.getCapabilityServiceTarget();
+        final CapabilityServiceBuilder<?> builder = serviceTarget.addCapability(TimerPersistenceResourceDefinition.CAPABILITY);
+        final Consumer<FileJournalTimerPersistence> consumer = builder.provides(TimerPersistenceResourceDefinition.CAPABILITY);
+        builder.requiresCapability(TRANSACTION_GLOBAL_DEFAULT_LOCAL_PROVIDER_CAPABILITY_NAME, Void.class);
+        final Supplier<TransactionSynchronizationRegistry> txnRegistrySupplier = builder.requiresCapability(TRANSACTION_SYNCHRONIZATION_REGISTRY_CAPABILITY_NAME, TransactionSynchronizationRegistry.class);
+        final Supplier<ModuleLoader> moduleLoaderSupplier = builder.requires(Services.JBOSS_SERVICE_MODULE_LOADER);
+        final Supplier<PathManager> pathManagerSupplier = builder.requires(PathManager.SERVICE_DESCRIPTOR);
+        builder.setInstance(new FileJournalTimerPersistence(consumer, txnRegistrySupplier, moduleLoaderSupplier, pathManagerSupplier, path, relativeTo));
+        builder.install();
+    }
+}
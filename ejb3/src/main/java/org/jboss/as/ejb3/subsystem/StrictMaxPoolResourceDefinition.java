@@ -18,6 +18,7 @@ import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.capability.RuntimeCapability;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.controller.operations.validation.EnumValidator;
 import org.jboss.as.controller.operations.validation.IntRangeValidator;
 import org.jboss.as.controller.operations.validation.LongRangeValidator;
@@ -76,12 +77,34 @@ public class StrictMaxPoolResourceDefinition extends SimpleResourceDefinition {
                     .setFlags(AttributeAccess.Flag.RESTART_NONE)
                     .setAllowExpression(true)
                     .build();
+    public static final SimpleAttributeDefinition STRATEGY =
+            new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.STRATEGY, ModelType.STRING, true)
+                    .setDefaultValue(new ModelNode(PoolStrategy.forStrategy(StrictMaxPoolConfig.DEFAULT_STRATEGY).toString()))
+                    .setAllowExpression(true)
+                    .setValidator(EnumValidator.create(PoolStrategy.class))
+                    .setFlags(AttributeAccess.Flag.RESTART_NONE)
+                    .build();
+    public static final SimpleAttributeDefinition MIN_POOL_SIZE =
+            new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.MIN_POOL_SIZE, ModelType.INT, true)
+                    .setDefaultValue(new ModelNode().set(StrictMaxPoolConfig.DEFAULT_MIN_POOL_SIZE))
+                    .setAllowExpression(true)
+                    .setValidator(new IntRangeValidator(0, Integer.MAX_VALUE, true, true))
+                    .setFlags(AttributeAccess.Flag.RESTART_NONE)
+                    .build();
+    public static final SimpleAttributeDefinition INSTANCE_IDLE_TIMEOUT =
+            new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.INSTANCE_IDLE_TIMEOUT, ModelType.LONG, true)
+                    .setDefaultValue(new ModelNode().set(StrictMaxPoolConfig.DEFAULT_IDLE_TIMEOUT))
+                    .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+                    .setAllowExpression(true)
+                    .setValidator(new LongRangeValidator(1, Long.MAX_VALUE, true, true))
+                    .setFlags(AttributeAccess.Flag.RESTART_NONE)
+                    .build();
     public static final SimpleAttributeDefinition DERIVED_SIZE =
             new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.DERIVED_SIZE, ModelType.INT, true)
                     .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME)
                     .build();
 
-    private static final AttributeDefinition[] ATTRIBUTES = new AttributeDefinition[] { MAX_POOL_SIZE, DERIVE_SIZE, INSTANCE_ACQUISITION_TIMEOUT, INSTANCE_ACQUISITION_TIMEOUT_UNIT };
+    private static final AttributeDefinition[] ATTRIBUTES = new AttributeDefinition[] { MAX_POOL_SIZE, DERIVE_SIZE, INSTANCE_ACQUISITION_TIMEOUT, INSTANCE_ACQUISITION_TIMEOUT_UNIT, STRATEGY, MIN_POOL_SIZE, INSTANCE_IDLE_TIMEOUT };
     private static final StrictMaxPoolAdd ADD_HANDLER = new StrictMaxPoolAdd();
 
     private static final String NONE_VALUE = "none";
@@ -115,6 +138,52 @@ public class StrictMaxPoolResourceDefinition extends SimpleResourceDefinition {
         }
     }
 
+    enum PoolStrategy {
+        SEMAPHORE("semaphore", StrictMaxPoolConfig.Strategy.SEMAPHORE),
+        STRIPED("striped", StrictMaxPoolConfig.Strategy.STRIPED),
+        ADAPTIVE("adaptive", StrictMaxPoolConfig.Strategy.ADAPTIVE),
+        ;
+
+        private final String value;
+        private final StrictMaxPoolConfig.Strategy strategy;
+
+        PoolStrategy(String value, StrictMaxPoolConfig.Strategy strategy) {
+            this.value = value;
+            this.strategy = strategy;
+        }
+
+        @Override
+        public String toString() {
+            return value;
+        }
+
+        StrictMaxPoolConfig.Strategy getStrategy() {
+            return strategy;
+        }
+
+        static PoolStrategy forStrategy(StrictMaxPoolConfig.Strategy strategy) {
+            for (PoolStrategy value : values()) {
+                if (value.strategy == strategy) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException(strategy.name());
+        }
+
+        static PoolStrategy fromValue(String value) {
+            for (PoolStrategy strategy : values()) {
+                if (strategy.value.equals(value)) {
+                    return strategy;
+                }
+            }
+            return valueOf(value);
+        }
+    }
+
+    static StrictMaxPoolConfig.Strategy parseStrategy(OperationContext context, ModelNode strictMaxPoolModel) throws OperationFailedException {
+        return PoolStrategy.fromValue(STRATEGY.resolveModelAttribute(context, strictMaxPoolModel).asString()).getStrategy();
+    }
+
     static Derive parseDeriveSize(OperationContext context, ModelNode strictMaxPoolModel) throws OperationFailedException {
         ModelNode dsNode = StrictMaxPoolResourceDefinition.DERIVE_SIZE.resolveModelAttribute(context, strictMaxPoolModel);
         if (dsNode.isDefined()) {
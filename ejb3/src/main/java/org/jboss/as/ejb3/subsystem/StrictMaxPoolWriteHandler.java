@@ -62,6 +62,12 @@ class StrictMaxPoolWriteHandler extends AbstractWriteAttributeHandler<Void> {
                 } else if (StrictMaxPoolResourceDefinition.INSTANCE_ACQUISITION_TIMEOUT_UNIT.getName().equals(attributeName)) {
                     String timeoutUnit = StrictMaxPoolResourceDefinition.INSTANCE_ACQUISITION_TIMEOUT_UNIT.resolveModelAttribute(context, model).asString();
                     smpc.setTimeoutUnit(TimeUnit.valueOf(timeoutUnit));
+                } else if (StrictMaxPoolResourceDefinition.STRATEGY.getName().equals(attributeName)) {
+                    smpc.setStrategy(StrictMaxPoolResourceDefinition.parseStrategy(context, model));
+                } else if (StrictMaxPoolResourceDefinition.MIN_POOL_SIZE.getName().equals(attributeName)) {
+                    smpc.setMinPoolSize(StrictMaxPoolResourceDefinition.MIN_POOL_SIZE.resolveModelAttribute(context, model).asInt());
+                } else if (StrictMaxPoolResourceDefinition.INSTANCE_IDLE_TIMEOUT.getName().equals(attributeName)) {
+                    smpc.setIdleTimeout(StrictMaxPoolResourceDefinition.INSTANCE_IDLE_TIMEOUT.resolveModelAttribute(context, model).asLong());
                 }
             }
         }
@@ -13,6 +13,7 @@ import static org.jboss.as.ejb3.subsystem.deployment.TimerResourceDefinition.SCH
 import static org.jboss.as.ejb3.subsystem.deployment.TimerResourceDefinition.TIME_REMAINING;
 
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.ObjectListAttributeDefinition;
@@ -25,6 +26,7 @@ import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.StringListAttributeDefinition;
 import org.jboss.as.controller.operations.validation.StringLengthValidator;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.ejb3.component.EJBComponent;
@@ -32,6 +34,11 @@ import org.jboss.as.ejb3.component.invocationmetrics.InvocationMetrics;
 import org.jboss.as.ejb3.component.stateful.StatefulSessionComponent;
 import org.jboss.as.ejb3.component.stateful.StatefulSessionComponentInstance;
 import org.jboss.as.ejb3.component.stateful.cache.StatefulSessionBeanCache;
+import org.jboss.as.ejb3.component.stateful.cache.simple.ShardedScheduler;
+import org.jboss.as.ejb3.component.stateful.cache.simple.SimpleStatefulSessionBeanCache;
+import org.jboss.as.ejb3.pool.Pool;
+import org.jboss.as.ejb3.pool.strictmax.AdaptiveStrictMaxPool;
+import org.jboss.as.ejb3.pool.strictmax.StripedStrictMaxPool;
 import org.jboss.as.ejb3.subsystem.EJB3Extension;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
@@ -132,6 +139,21 @@ public abstract class AbstractEJBComponentResourceDefinition extends SimpleResou
             .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME)
             .build();
 
+    private static final AttributeDefinition CACHE_EXPIRATION_LAG = new SimpleAttributeDefinitionBuilder("cache-expiration-lag", ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME)
+            .build();
+
+    private static final AttributeDefinition CACHE_EXPIRATION_SHARDS = ObjectListAttributeDefinition.Builder.of("cache-expiration-shards",
+            ObjectTypeAttributeDefinition.Builder.of("shard",
+                    new SimpleAttributeDefinitionBuilder("size", ModelType.LONG).build(),
+                    new SimpleAttributeDefinitionBuilder("expiration-lag", ModelType.LONG).setMeasurementUnit(MeasurementUnit.MILLISECONDS).build())
+            .build())
+            .setRequired(false)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME)
+            .build();
+
     // Pool attributes
 
     public static final SimpleAttributeDefinition POOL_AVAILABLE_COUNT = new SimpleAttributeDefinitionBuilder("pool-available-count", ModelType.INT, false)
@@ -148,6 +170,32 @@ public abstract class AbstractEJBComponentResourceDefinition extends SimpleResou
     public static final SimpleAttributeDefinition POOL_MAX_SIZE = new SimpleAttributeDefinitionBuilder("pool-max-size", ModelType.INT, false)
             .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME).build();
 
+    private static final AttributeDefinition POOL_LIMIT = new SimpleAttributeDefinitionBuilder("pool-limit", ModelType.INT)
+            .setRequired(false)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME)
+            .build();
+
+    private static final AttributeDefinition POOL_GROW_COUNT = new SimpleAttributeDefinitionBuilder("pool-grow-count", ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME, AttributeAccess.Flag.COUNTER_METRIC)
+            .build();
+
+    private static final AttributeDefinition POOL_SHRINK_COUNT = new SimpleAttributeDefinitionBuilder("pool-shrink-count", ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME, AttributeAccess.Flag.COUNTER_METRIC)
+            .build();
+
+    private static final AttributeDefinition POOL_STRIPES = ObjectListAttributeDefinition.Builder.of("pool-stripes",
+            ObjectTypeAttributeDefinition.Builder.of("stripe",
+                    new SimpleAttributeDefinitionBuilder("available-count", ModelType.INT).build(),
+                    new SimpleAttributeDefinitionBuilder("idle-count", ModelType.INT).build(),
+                    new SimpleAttributeDefinitionBuilder("acquisition-count", ModelType.LONG).build(),
+                    new SimpleAttributeDefinitionBuilder("acquisition-time", ModelType.LONG).setMeasurementUnit(MeasurementUnit.MICROSECONDS).build())
+            .build())
+            .setRequired(false)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME)
+            .build();
+
     static final ObjectTypeAttributeDefinition TIMER = new ObjectTypeAttributeDefinition.Builder("timer",
             TIME_REMAINING, NEXT_TIMEOUT, CALENDAR_TIMER, PERSISTENT, INFO, new ObjectTypeAttributeDefinition.Builder(SCHEDULE.getName(), SCHEDULE.getValueTypes()).setSuffix("schedule").build())
             .setStorageRuntime()
@@ -193,6 +241,50 @@ public abstract class AbstractEJBComponentResourceDefinition extends SimpleResou
             resourceRegistration.registerReadOnlyAttribute(POOL_REMOVE_COUNT, handler);
             resourceRegistration.registerReadOnlyAttribute(POOL_CURRENT_SIZE, handler);
             resourceRegistration.registerReadWriteAttribute(POOL_MAX_SIZE, handler, handler);
+            resourceRegistration.registerMetric(POOL_LIMIT, new AbstractRuntimeMetricsHandler() {
+                @Override
+                protected void executeReadMetricStep(final OperationContext context, final ModelNode operation, final EJBComponent component) {
+                    final Pool<?> pool = componentType.getPool(component);
+                    if (pool instanceof AdaptiveStrictMaxPool) {
+                        context.getResult().set(((AdaptiveStrictMaxPool<?>) pool).getLimit());
+                    }
+                }
+            });
+            resourceRegistration.registerMetric(POOL_GROW_COUNT, new AbstractRuntimeMetricsHandler() {
+                @Override
+                protected void executeReadMetricStep(final OperationContext context, final ModelNode operation, final EJBComponent component) {
+                    final Pool<?> pool = componentType.getPool(component);
+                    if (pool instanceof AdaptiveStrictMaxPool) {
+                        context.getResult().set(((AdaptiveStrictMaxPool<?>) pool).getGrowCount());
+                    }
+                }
+            });
+            resourceRegistration.registerMetric(POOL_SHRINK_COUNT, new AbstractRuntimeMetricsHandler() {
+                @Override
+                protected void executeReadMetricStep(final OperationContext context, final ModelNode operation, final EJBComponent component) {
+                    final Pool<?> pool = componentType.getPool(component);
+                    if (pool instanceof AdaptiveStrictMaxPool) {
+                        context.getResult().set(((AdaptiveStrictMaxPool<?>) pool).getShrinkCount());
+                    }
+                }
+            });
+            resourceRegistration.registerMetric(POOL_STRIPES, new AbstractRuntimeMetricsHandler() {
+                @Override
+                protected void executeReadMetricStep(final OperationContext context, final ModelNode operation, final EJBComponent component) {
+                    final Pool<?> pool = componentType.getPool(component);
+                    if (pool instanceof StripedStrictMaxPool) {
+                        final ModelNode result = context.getResult().setEmptyList();
+                        for (StripedStrictMaxPool.StripeStatistics statistics : ((StripedStrictMaxPool<?>) pool).getStripeStatistics()) {
+                            final ModelNode stripe = new ModelNode();
+                            stripe.get("available-count").set(statistics.getAvailableCount());
+                            stripe.get("idle-count").set(statistics.getIdleCount());
+                            stripe.get("acquisition-count").set(statistics.getAcquisitionCount());
+                            stripe.get("acquisition-time").set(statistics.getAcquisitionTime(TimeUnit.MICROSECONDS));
+                            result.add(stripe);
+                        }
+                    }
+                }
+            });
         }
 
         if (componentType.equals(EJBComponentType.STATEFUL)) {
@@ -217,6 +309,34 @@ public abstract class AbstractEJBComponentResourceDefinition extends SimpleResou
                     context.getResult().set(cache.getActiveCount() + cache.getPassiveCount());
                 }
             });
+            resourceRegistration.registerMetric(CACHE_EXPIRATION_LAG, new AbstractRuntimeMetricsHandler() {
+                @Override
+                protected void executeReadMetricStep(final OperationContext context, final ModelNode operation, final EJBComponent component) {
+                    StatefulSessionBeanCache<SessionID, StatefulSessionComponentInstance> cache = ((StatefulSessionComponent) component).getCache();
+                    if (cache instanceof SimpleStatefulSessionBeanCache) {
+                        long lag = 0;
+                        for (ShardedScheduler.ShardStatistics statistics : ((SimpleStatefulSessionBeanCache<?, ?>) cache).getExpirationShardStatistics()) {
+                            lag = Math.max(lag, statistics.getExpirationLag().toMillis());
+                        }
+                        context.getResult().set(lag);
+                    }
+                }
+            });
+            resourceRegistration.registerMetric(CACHE_EXPIRATION_SHARDS, new AbstractRuntimeMetricsHandler() {
+                @Override
+                protected void executeReadMetricStep(final OperationContext context, final ModelNode operation, final EJBComponent component) {
+                    StatefulSessionBeanCache<SessionID, StatefulSessionComponentInstance> cache = ((StatefulSessionComponent) component).getCache();
+                    if (cache instanceof SimpleStatefulSessionBeanCache) {
+                        final ModelNode result = context.getResult().setEmptyList();
+                        for (ShardedScheduler.ShardStatistics statistics : ((SimpleStatefulSessionBeanCache<?, ?>) cache).getExpirationShardStatistics()) {
+                            final ModelNode shard = new ModelNode();
+                            shard.get("size").set(statistics.getSize());
+                            shard.get("expiration-lag").set(statistics.getExpirationLag().toMillis());
+                            result.add(shard);
+                        }
+                    }
+                }
+            });
         }
 
         resourceRegistration.registerMetric(EXECUTION_TIME, new AbstractRuntimeMetricsHandler() {
@@ -27,8 +27,10 @@ import java.sql.Timestamp;
 import java.sql.Types;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
@@ -39,10 +41,13 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.regex.Pattern;
@@ -50,9 +55,11 @@ import jakarta.ejb.ScheduleExpression;
 import javax.sql.DataSource;
 import jakarta.transaction.HeuristicMixedException;
 import jakarta.transaction.HeuristicRollbackException;
+import jakarta.transaction.InvalidTransactionException;
 import jakarta.transaction.NotSupportedException;
 import jakarta.transaction.RollbackException;
 import jakarta.transaction.SystemException;
+import jakarta.transaction.Transaction;
 
 import org.jboss.as.ejb3.logging.EjbLogger;
 import org.jboss.as.ejb3.timerservice.CalendarTimer;
@@ -61,6 +68,7 @@ import org.jboss.as.ejb3.timerservice.TimerServiceImpl;
 import org.jboss.as.ejb3.timerservice.TimerState;
 import org.jboss.as.ejb3.timerservice.persistence.TimeoutMethod;
 import org.jboss.as.ejb3.timerservice.persistence.TimerPersistence;
+import org.jboss.as.ejb3.timerservice.spi.TimeoutScheduler;
 import org.jboss.as.naming.ManagedReference;
 import org.jboss.as.naming.ManagedReferenceFactory;
 import org.jboss.marshalling.InputStreamByteInput;
@@ -76,6 +84,7 @@ import org.jboss.msc.Service;
 import org.jboss.msc.service.StartContext;
 import org.jboss.msc.service.StartException;
 import org.jboss.msc.service.StopContext;
+import org.wildfly.clustering.context.DefaultThreadFactory;
 import org.wildfly.security.manager.WildFlySecurityManager;
 import org.wildfly.transaction.client.ContextTransactionManager;
 
@@ -92,11 +101,17 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
     private final Consumer<DatabaseTimerPersistence> dbConsumer;
     private final Supplier<ManagedReferenceFactory> dataSourceSupplier;
     private final Supplier<ModuleLoader> moduleLoaderSupplier;
-    private final Supplier<Timer> timerSupplier;
+    private final Supplier<TimeoutScheduler> schedulerSupplier;
     private final Map<String, TimerChangeListener> changeListeners = Collections.synchronizedMap(new HashMap<String, TimerChangeListener>());
 
-
-    private final Map<String, Set<String>> knownTimerIds = new HashMap<>();
+    /** Timer ids per deployed timed object. Each id set also guards the changes applied to its timed object. */
+    private final Map<String, Set<String>> knownTimerIds = new ConcurrentHashMap<>();
+    /** Progress of the incremental refreshes of each timed object */
+    private final Map<String, IncrementalRefresh> incrementalRefreshes = new ConcurrentHashMap<>();
+    private final LongAdder refreshRowsScanned = new LongAdder();
+    private volatile long refreshLatency;
+    /** Deferred timer state changes per timed object */
+    private final Map<String, TimerWriteBatch<TimerUpdate>> writeBatches = new ConcurrentHashMap<>();
 
     /** Identifier for the database dialect to be used for the timer-sql.properties */
     private String database;
@@ -106,6 +121,12 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
     private final String nodeName;
     /** Interval in millis to refresh the timers from the persistence store*/
     private final int refreshInterval;
+    /** Whether to reload all timers, or only modified timers, from the persistence store on refresh */
+    private final RefreshMode refreshMode;
+    /** Maximum number of timer state changes of a timed object coalesced into a single batch, 1 if not batched */
+    private final int writeBatchSize;
+    /** Maximum delay in millis of a batched timer state change */
+    private final long writeBatchDelay;
     /** Flag whether this instance should execute persistent timers*/
     private final boolean allowExecution;
     private volatile ManagedReference managedReference;
@@ -114,6 +135,9 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
     private MarshallerFactory factory;
     private MarshallingConfiguration configuration;
     private RefreshTask refreshTask;
+    private TimeoutScheduler.Timeout refreshTimeout;
+    /** Performs the delayed writes of batched timer state changes */
+    private ExecutorService writeExecutor;
 
     /** database values */
     private static final String POSTGRES = "postgres";
@@ -140,8 +164,19 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
     private static final String DELETE_TIMER = "delete-timer";
     private static final String UPDATE_RUNNING = "update-running";
     private static final String GET_TIMER_INFO = "get-timer-info";
+    private static final String ADD_LAST_MODIFIED = "add-last-modified";
+    private static final String CREATE_TIMER_VERSIONED = "create-timer-versioned";
+    private static final String CREATE_AUTO_TIMER_VERSIONED = "create-auto-timer-versioned";
+    private static final String UPDATE_TIMER_VERSIONED = "update-timer-versioned";
+    private static final String UPDATE_RUNNING_VERSIONED = "update-running-versioned";
+    private static final String LOAD_CHANGED_TIMERS = "load-changed-timers";
+    private static final String LOAD_TIMER_IDS = "load-timer-ids";
+    private static final String COUNT_TIMERS = "count-timers";
+    /** The maximum number of refreshed timers applied while holding the lock of their timed object */
+    private static final int REFRESH_BATCH_SIZE = 100;
     /** The format for scheduler start and end date*/
     private static final String SCHEDULER_DATE_FORMAT = "yyyy-MM-dd HH:mm:ss";
+    private static final ThreadFactory THREAD_FACTORY = new DefaultThreadFactory(DatabaseTimerPersistence.class, WildFlySecurityManager.getClassLoaderPrivileged(DatabaseTimerPersistence.class));
     /** Pattern to pickout MSSQL */
     private static final Pattern MSSQL_PATTERN = Pattern.compile("(sqlserver|microsoft|mssql)");
 
@@ -167,19 +202,45 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
     private final long clearTimerInfoCacheBeyond = TimeUnit.MINUTES.toMillis(Long.parseLong(
             WildFlySecurityManager.getPropertyPrivileged("jboss.ejb.timer.database.clearTimerInfoCacheBeyond", "15")));
 
+    /**
+     * System property {@code jboss.ejb.timer.database.incrementalRefreshOverlap}
+     * to configure the period (in seconds) by which consecutive incremental refreshes overlap.
+     * The default value is 60 seconds.
+     * <p>
+     * The modification time of a timer is taken from the clock of the node that modified it,
+     * and only becomes visible once its transaction commits.  Each incremental refresh therefore
+     * reloads the timers modified since the start of the previous refresh minus this period,
+     * which must exceed the clock skew between nodes plus the duration of any timer transaction.
+     */
+    private final long incrementalRefreshOverlap = TimeUnit.SECONDS.toMillis(Long.parseLong(
+            WildFlySecurityManager.getPropertyPrivileged("jboss.ejb.timer.database.incrementalRefreshOverlap", "60")));
+
+    /**
+     * Strategies for refreshing the current timer set against the persistence store.
+     */
+    public enum RefreshMode {
+        /** Reloads every timer of each timed object */
+        FULL,
+        /** Reloads only those timers modified since the previous refresh of each timed object */
+        INCREMENTAL,
+    }
+
     public DatabaseTimerPersistence(final Consumer<DatabaseTimerPersistence> dbConsumer,
                                     final Supplier<ManagedReferenceFactory> dataSourceSupplier,
                                     final Supplier<ModuleLoader> moduleLoaderSupplier,
-                                    final Supplier<Timer> timerSupplier,
-                                    final String database, String partition, String nodeName, int refreshInterval, boolean allowExecution) {
+                                    final Supplier<TimeoutScheduler> schedulerSupplier,
+                                    final String database, String partition, String nodeName, int refreshInterval, RefreshMode refreshMode, int writeBatchSize, long writeBatchDelay, boolean allowExecution) {
         this.dbConsumer = dbConsumer;
         this.dataSourceSupplier = dataSourceSupplier;
         this.moduleLoaderSupplier = moduleLoaderSupplier;
-        this.timerSupplier = timerSupplier;
+        this.schedulerSupplier = schedulerSupplier;
         this.database = database;
         this.partition = partition;
         this.nodeName = nodeName;
         this.refreshInterval = refreshInterval;
+        this.refreshMode = refreshMode;
+        this.writeBatchSize = writeBatchSize;
+        this.writeBatchDelay = writeBatchDelay;
         this.allowExecution = allowExecution;
     }
 
@@ -195,17 +256,35 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
         investigateDialect();
         loadSqlProperties();
         checkDatabase();
+        if (refreshMode == RefreshMode.INCREMENTAL) {
+            checkLastModifiedColumn();
+        }
+        if (writeBatchSize > 1) {
+            writeExecutor = Executors.newSingleThreadExecutor(THREAD_FACTORY);
+        }
         refreshTask = new RefreshTask();
         if (refreshInterval > 0) {
-            timerSupplier.get().schedule(refreshTask, refreshInterval, refreshInterval);
+            refreshTimeout = schedulerSupplier.get().scheduleAtFixedRate(refreshTask, refreshInterval, refreshInterval, TimeUnit.MILLISECONDS);
         }
     }
 
     @Override
     public synchronized void stop(final StopContext context) {
         dbConsumer.accept(null);
-        refreshTask.cancel();
+        if (refreshTimeout != null) {
+            refreshTimeout.cancel();
+            refreshTimeout = null;
+        }
+        for (TimerWriteBatch<TimerUpdate> batch : writeBatches.values()) {
+            batch.close();
+        }
+        writeBatches.clear();
+        if (writeExecutor != null) {
+            writeExecutor.shutdown();
+            writeExecutor = null;
+        }
         knownTimerIds.clear();
+        incrementalRefreshes.clear();
         managedReference.release();
         managedReference = null;
         dataSource = null;
@@ -236,6 +315,14 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
             safeClose(stream);
         }
 
+        // Incremental refresh relies on each modification of a timer updating its last modification time
+        if (refreshMode == RefreshMode.INCREMENTAL) {
+            sql.setProperty(CREATE_TIMER, sql.getProperty(CREATE_TIMER_VERSIONED));
+            sql.setProperty(CREATE_AUTO_TIMER, sql.getProperty(CREATE_AUTO_TIMER_VERSIONED));
+            sql.setProperty(UPDATE_TIMER, sql.getProperty(UPDATE_TIMER_VERSIONED));
+            sql.setProperty(UPDATE_RUNNING, sql.getProperty(UPDATE_RUNNING_VERSIONED));
+        }
+
         // Update the create-auto-timer statements for DB specifics
         if (database != null) {
             switch (database) {
@@ -400,6 +487,32 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
         }
     }
 
+    /**
+     * Checks whether the timer table contains the last modification column required
+     * by incremental refresh, and adds it if necessary.
+     */
+    private void checkLastModifiedColumn() {
+        try (Connection connection = dataSource.getConnection()) {
+            //test for the existence of the column by running the load changed timers query
+            try (PreparedStatement statement = connection.prepareStatement(sql.getProperty(LOAD_CHANGED_TIMERS))) {
+                statement.setString(1, "NON-EXISTENT");
+                statement.setString(2, "NON-EXISTENT");
+                statement.setLong(3, 0L);
+                statement.executeQuery().close();
+            } catch (SQLException e) {
+                //the query failed, assume it is because the column does not exist
+                try (Statement statement = connection.createStatement()) {
+                    for (String alter : sql.getProperty(ADD_LAST_MODIFIED).split(";")) {
+                        statement.addBatch(alter);
+                    }
+                    statement.executeBatch();
+                }
+            }
+        } catch (SQLException e) {
+            EjbLogger.EJB3_TIMER_LOGGER.couldNotAddLastModifiedColumn(e);
+        }
+    }
+
     /**
      * Loads a timer from database by its id and timed object id.
      *
@@ -441,10 +554,9 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
     @Override
     public void addTimer(final TimerImpl timerEntity) {
         String timedObjectId = timerEntity.getTimedObjectId();
-        synchronized (this) {
-            if(!knownTimerIds.containsKey(timedObjectId)) {
-                throw EjbLogger.EJB3_TIMER_LOGGER.timerCannotBeAdded(timerEntity);
-            }
+        final Set<String> ids = knownTimerIds.get(timedObjectId);
+        if (ids == null) {
+            throw EjbLogger.EJB3_TIMER_LOGGER.timerCannotBeAdded(timerEntity);
         }
 
         if (timerEntity.isAutoTimer()) {
@@ -456,8 +568,8 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
         Connection connection = null;
         PreparedStatement statement = null;
         try {
-            synchronized (this) {
-                knownTimerIds.get(timerEntity.getTimedObjectId()).add(timerEntity.getId());
+            synchronized (ids) {
+                ids.add(timerEntity.getId());
             }
             connection = dataSource.getConnection();
             statement = connection.prepareStatement(createTimer);
@@ -479,36 +591,50 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
 
     @Override
     public void persistTimer(final TimerImpl timerEntity) {
+        final boolean removed = timerEntity.getState() == TimerState.CANCELED || timerEntity.getState() == TimerState.EXPIRED;
+        if (writeBatchSize > 1) {
+            if (!removed) {
+                final Set<String> ids = knownTimerIds.get(timerEntity.getTimedObjectId());
+                synchronized (ids) {
+                    ids.add(timerEntity.getId());
+                }
+                final TimerWriteBatch<TimerUpdate> batch = writeBatches.computeIfAbsent(timerEntity.getTimedObjectId(), this::createWriteBatch);
+                // Only a timer still owned by this node may be deferred, otherwise its release is written synchronously
+                final boolean owned = timerEntity.getState() == TimerState.IN_TIMEOUT || timerEntity.getState() == TimerState.RETRY_TIMEOUT;
+                if (batch.add(timerEntity.getId(), new TimerUpdate(timerEntity), owned)) {
+                    batch.flush();
+                }
+                return;
+            }
+            // Discard any deferred state change of a removed timer
+            final TimerWriteBatch<TimerUpdate> batch = writeBatches.get(timerEntity.getTimedObjectId());
+            if (batch != null) {
+                batch.remove(timerEntity.getId());
+            }
+        }
         Connection connection = null;
         PreparedStatement statement = null;
         try {
             connection = dataSource.getConnection();
-            if (timerEntity.getState() == TimerState.CANCELED ||
-                    timerEntity.getState() == TimerState.EXPIRED) {
+            if (removed) {
                 String deleteTimer = sql.getProperty(DELETE_TIMER);
                 statement = connection.prepareStatement(deleteTimer);
                 statement.setString(1, timerEntity.getTimedObjectId());
                 statement.setString(2, timerEntity.getId());
                 statement.setString(3, partition);
                 statement.execute();
-                synchronized (this) {
-                    knownTimerIds.get(timerEntity.getTimedObjectId()).remove(timerEntity.getId());
+                final Set<String> ids = knownTimerIds.get(timerEntity.getTimedObjectId());
+                synchronized (ids) {
+                    ids.remove(timerEntity.getId());
                 }
             } else {
-                synchronized (this) {
-                    knownTimerIds.get(timerEntity.getTimedObjectId()).add(timerEntity.getId());
+                final Set<String> ids = knownTimerIds.get(timerEntity.getTimedObjectId());
+                synchronized (ids) {
+                    ids.add(timerEntity.getId());
                 }
                 String updateTimer = sql.getProperty(UPDATE_TIMER);
                 statement = connection.prepareStatement(updateTimer);
-                statement.setTimestamp(1, timestamp(timerEntity.getNextExpiration()));
-                statement.setTimestamp(2, timestamp(timerEntity.getPreviousRun()));
-                statement.setString(3, timerEntity.getState().name());
-                setNodeName(timerEntity.getState(), statement, 4);
-                // WHERE CLAUSE
-                statement.setString(5, timerEntity.getTimedObjectId());
-                statement.setString(6, timerEntity.getId());
-                statement.setString(7, partition);
-                statement.setString(8, nodeName);   // only persist if this node or empty
+                new TimerUpdate(timerEntity).setParameters(statement);
                 statement.execute();
             }
         } catch (SQLException e) {
@@ -526,6 +652,11 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
             //timers never execute on this node
             return false;
         }
+        // Any deferred state change of this timer, e.g. the completion of its previous timeout, must precede its acquisition
+        final TimerWriteBatch<TimerUpdate> batch = writeBatches.get(timer.getTimedObjectId());
+        if (batch != null && batch.contains(timer.getId())) {
+            batch.flush();
+        }
         String loadTimer = sql.getProperty(UPDATE_RUNNING);
         Connection connection = null;
         PreparedStatement statement = null;
@@ -536,13 +667,14 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
                 statement = connection.prepareStatement(loadTimer);
                 statement.setString(1, TimerState.IN_TIMEOUT.name());
                 setNodeName(TimerState.IN_TIMEOUT, statement, 2);
-                statement.setString(3, timer.getId());
-                statement.setString(4, TimerState.IN_TIMEOUT.name());
-                statement.setString(5, TimerState.RETRY_TIMEOUT.name());
+                int index = setLastModified(statement, 2);
+                statement.setString(++index, timer.getId());
+                statement.setString(++index, TimerState.IN_TIMEOUT.name());
+                statement.setString(++index, TimerState.RETRY_TIMEOUT.name());
                 if (timer.getNextExpiration() == null) {
-                    statement.setTimestamp(6, null);
+                    statement.setTimestamp(++index, null);
                 } else {
-                    statement.setTimestamp(6, timestamp(timer.getNextExpiration()));
+                    statement.setTimestamp(++index, timestamp(timer.getNextExpiration()));
                 }
             } catch (SQLException e) {
                 try {
@@ -578,18 +710,24 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
     }
 
     @Override
-    public synchronized void timerUndeployed(final String timedObjectId) {
+    public void timerUndeployed(final String timedObjectId) {
+        final TimerWriteBatch<TimerUpdate> batch = writeBatches.remove(timedObjectId);
+        if (batch != null) {
+            batch.close();
+        }
         knownTimerIds.remove(timedObjectId);
+        incrementalRefreshes.remove(timedObjectId);
     }
 
     @Override
-    public synchronized void timerDeployed(String timedObjectId) {
+    public void timerDeployed(String timedObjectId) {
         knownTimerIds.put(timedObjectId, new HashSet<>());
     }
 
     @Override
     public List<TimerImpl> loadActiveTimers(final String timedObjectId, final TimerServiceImpl timerService) {
-        if(!knownTimerIds.containsKey(timedObjectId)) {
+        final Set<String> ids = knownTimerIds.get(timedObjectId);
+        if (ids == null) {
             // if the timedObjectId has not being deployed
             EjbLogger.EJB3_TIMER_LOGGER.timerNotDeployed(timedObjectId);
             return Collections.emptyList();
@@ -625,9 +763,7 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
                     EjbLogger.EJB3_TIMER_LOGGER.timerReinstatementFailed(resultSet.getString(2), timerId, e);
                 }
             }
-            synchronized (this) {
-                // ids should be always be not null
-                Set<String> ids = knownTimerIds.get(timedObjectId);
+            synchronized (ids) {
                 for (Holder timer : timers) {
                     ids.add(timer.timer.getId());
                 }
@@ -675,6 +811,22 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
         refreshTask.run();
     }
 
+    /**
+     * Returns the total number of timer rows read by refreshes of the current timer set.
+     * @return the number of rows scanned
+     */
+    public long getRefreshRowsScanned() {
+        return refreshRowsScanned.sum();
+    }
+
+    /**
+     * Returns the duration of the most recent refresh of the current timer set.
+     * @return the refresh latency in milliseconds
+     */
+    public long getRefreshLatency() {
+        return refreshLatency;
+    }
+
     /**
      * Obtains a {@link Holder} from a row in {@code ResultSet}.
      * Caller of this method must get the timer id from the {@code ResultSet}
@@ -809,6 +961,7 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
         }
         statement.setString(25, partition);
         setNodeName(timerEntity.getState(), statement, 26);
+        setLastModified(statement, 26);
     }
 
     private void addAutoTimer(final CalendarTimer timer) {
@@ -847,40 +1000,42 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
             statement.setString(18, timeoutMethodParam);
             statement.setBoolean(19, true);
             statement.setString(20, partition);
+            int index = setLastModified(statement, 20);
 
             // where clause
-            statement.setString(21, timer.getTimedObjectId());
-            statement.setString(22, exp.getSecond());
-            statement.setString(23, exp.getMinute());
-            statement.setString(24, exp.getHour());
-            statement.setString(25, exp.getDayOfWeek());
-            statement.setString(26, exp.getDayOfMonth());
-            statement.setString(27, exp.getMonth());
-            statement.setString(28, exp.getYear());
+            statement.setString(++index, timer.getTimedObjectId());
+            statement.setString(++index, exp.getSecond());
+            statement.setString(++index, exp.getMinute());
+            statement.setString(++index, exp.getHour());
+            statement.setString(++index, exp.getDayOfWeek());
+            statement.setString(++index, exp.getDayOfMonth());
+            statement.setString(++index, exp.getMonth());
+            statement.setString(++index, exp.getYear());
 
-            statement.setString(29, startDateString);
-            statement.setString(30, startDateString);
+            statement.setString(++index, startDateString);
+            statement.setString(++index, startDateString);
 
-            statement.setString(31, endDateString);
-            statement.setString(32, endDateString);
+            statement.setString(++index, endDateString);
+            statement.setString(++index, endDateString);
 
-            statement.setString(33, exp.getTimezone());
-            statement.setString(34, exp.getTimezone());
+            statement.setString(++index, exp.getTimezone());
+            statement.setString(++index, exp.getTimezone());
 
-            statement.setString(35, timeoutMethodClassName);
-            statement.setString(36, timeoutMethod.getName());
+            statement.setString(++index, timeoutMethodClassName);
+            statement.setString(++index, timeoutMethod.getName());
 
-            statement.setString(37, timeoutMethodParam);
-            statement.setString(38, timeoutMethodParam);
+            statement.setString(++index, timeoutMethodParam);
+            statement.setString(++index, timeoutMethodParam);
 
-            statement.setString(39, partition);
+            statement.setString(++index, partition);
 
             int affectedRows = statement.executeUpdate();
             if (affectedRows < 1) {
                 timer.setTimerState(TimerState.CANCELED, null);
             } else {
-                synchronized (this) {
-                    knownTimerIds.get(timer.getTimedObjectId()).add(timer.getId());
+                final Set<String> ids = knownTimerIds.get(timer.getTimedObjectId());
+                synchronized (ids) {
+                    ids.add(timer.getId());
                 }
             }
         } catch (SQLException e) {
@@ -1029,102 +1184,330 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
         }
     }
 
-    private class RefreshTask extends TimerTask {
+    /**
+     * Sets the last modification time parameter of a statement, if refreshing incrementally.
+     *
+     * @param statement a statement
+     * @param index the index of the preceding parameter
+     * @return the index of the last parameter set
+     */
+    private int setLastModified(PreparedStatement statement, int index) throws SQLException {
+        if (refreshMode == RefreshMode.INCREMENTAL) {
+            statement.setLong(++index, System.currentTimeMillis());
+        }
+        return index;
+    }
+
+    private TimerWriteBatch<TimerUpdate> createWriteBatch(String timedObjectId) {
+        return new TimerWriteBatch<>(timedObjectId, writeBatchSize, writeBatchDelay, schedulerSupplier.get(), writeExecutor, this::writeTimerUpdates);
+    }
+
+    /**
+     * Writes the specified timer state changes as a single JDBC batch within a new transaction.
+     *
+     * @param timedObjectId the timed object of the timers
+     * @param updates the timer state changes
+     * @return true, if the changes were written, false otherwise
+     */
+    private boolean writeTimerUpdates(final String timedObjectId, final Collection<TimerUpdate> updates) {
+        final ContextTransactionManager tm = ContextTransactionManager.getInstance();
+        Transaction suspended = null;
+        try {
+            suspended = tm.suspend();
+            tm.begin();
+            try (Connection connection = dataSource.getConnection();
+                 PreparedStatement statement = connection.prepareStatement(sql.getProperty(UPDATE_TIMER))) {
+                for (TimerUpdate update : updates) {
+                    update.setParameters(statement);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            } catch (SQLException | RuntimeException e) {
+                tm.rollback();
+                throw e;
+            }
+            tm.commit();
+            return true;
+        } catch (SQLException | SystemException | NotSupportedException | RollbackException | HeuristicMixedException | HeuristicRollbackException | RuntimeException e) {
+            EjbLogger.EJB3_TIMER_LOGGER.failedToWriteTimerUpdates(updates.size(), timedObjectId, e);
+            return false;
+        } finally {
+            if (suspended != null) {
+                try {
+                    tm.resume(suspended);
+                } catch (InvalidTransactionException | SystemException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }
+    }
+
+    /**
+     * A snapshot of the state of a timer, written via the update-timer statement.
+     */
+    private class TimerUpdate {
+        private final String timedObjectId;
+        private final String id;
+        private final Timestamp nextExpiration;
+        private final Timestamp previousRun;
+        private final TimerState state;
+
+        TimerUpdate(TimerImpl timer) {
+            this.timedObjectId = timer.getTimedObjectId();
+            this.id = timer.getId();
+            this.nextExpiration = timestamp(timer.getNextExpiration());
+            this.previousRun = timestamp(timer.getPreviousRun());
+            this.state = timer.getState();
+        }
+
+        void setParameters(PreparedStatement statement) throws SQLException {
+            statement.setTimestamp(1, this.nextExpiration);
+            statement.setTimestamp(2, this.previousRun);
+            statement.setString(3, this.state.name());
+            setNodeName(this.state, statement, 4);
+            int index = setLastModified(statement, 4);
+            // WHERE CLAUSE
+            statement.setString(++index, this.timedObjectId);
+            statement.setString(++index, this.id);
+            statement.setString(++index, partition);
+            statement.setString(++index, nodeName);   // only persist if this node or empty
+        }
+    }
+
+    private class RefreshTask implements Runnable {
 
-        private volatile AtomicBoolean running = new AtomicBoolean();
+        private final AtomicBoolean running = new AtomicBoolean();
 
         @Override
         public void run() {
             if (running.compareAndSet(false, true)) {
+                final long start = System.nanoTime();
                 try {
-                    Set<String> timedObjects;
-                    synchronized (DatabaseTimerPersistence.this) {
-                        timedObjects = new HashSet<>(knownTimerIds.keySet());
-                    }
-                    for (String timedObjectId : timedObjects) {
+                    for (Map.Entry<String, Set<String>> entry : knownTimerIds.entrySet()) {
+                        final String timedObjectId = entry.getKey();
                         TimerChangeListener listener = changeListeners.get(timedObjectId);
                         if (listener == null) {
                             continue;
                         }
-                        final Set<String> existing;
-                        synchronized (DatabaseTimerPersistence.this) {
-                            existing = new HashSet<>(knownTimerIds.get(timedObjectId));
-                        }
-                        String loadTimer = sql.getProperty(LOAD_ALL_TIMERS);
-                        Connection connection = null;
-                        PreparedStatement statement = null;
-                        ResultSet resultSet = null;
+                        final Set<String> ids = entry.getValue();
+                        final long refreshTime = System.currentTimeMillis();
+                        final IncrementalRefresh refresh = (refreshMode == RefreshMode.INCREMENTAL) ? incrementalRefreshes.get(timedObjectId) : null;
                         try {
-                            connection = dataSource.getConnection();
-                            statement = connection.prepareStatement(loadTimer);
-                            statement.setString(1, timedObjectId);
-                            statement.setString(2, partition);
-                            resultSet = statement.executeQuery();
-                            final TimerServiceImpl timerService = listener.getTimerService();
-                            while (resultSet.next()) {
-                                String id = null;
-                                try {
-                                    id = resultSet.getString(1);
-                                    if (!existing.remove(id)) {
-                                        final Holder holder = timerFromResult(resultSet, timerService, id, null);
-                                        if(holder != null) {
-                                            synchronized (DatabaseTimerPersistence.this) {
-                                                knownTimerIds.get(timedObjectId).add(id);
-                                                listener.timerAdded(holder.timer);
-                                            }
-                                        }
-                                    } else {
-                                        TimerImpl oldTimer = timerService.getTimer(id);
-                                        // if it is already in memory but it is not in sync we have a problem
-                                        // remove and add -> the probable cause is db glitch
-                                        boolean invalidMemoryTimer = oldTimer != null && !TimerState.CREATED_ACTIVE_IN_TIMEOUT_RETRY_TIMEOUT.contains(oldTimer.getState());
-
-                                        // if timers memory - db are in non intersect subsets of valid/invalid states. we put them in sync
-                                        if (invalidMemoryTimer) {
-                                            TimerState dbTimerState = TimerState.valueOf(resultSet.getString(9));
-                                            boolean validDBTimer = TimerState.CREATED_ACTIVE_IN_TIMEOUT_RETRY_TIMEOUT.contains(dbTimerState);
-                                            if (validDBTimer) {
-                                                final Holder holder = timerFromResult(resultSet, timerService, id, dbTimerState);
-                                                if (holder != null) {
-                                                    synchronized (DatabaseTimerPersistence.this) {
-                                                        knownTimerIds.get(timedObjectId).add(id);
-                                                        listener.timerSync(oldTimer, holder.timer);
-                                                    }
-                                                }
-                                            }
-                                        }
-                                    }
-                                } catch (Exception e) {
-                                    EjbLogger.EJB3_TIMER_LOGGER.timerReinstatementFailed(resultSet.getString(2), id, e);
-                                }
-                            }
-
-                            Set<String> timers;
-                            synchronized (DatabaseTimerPersistence.this) {
-                                 timers = knownTimerIds.get(timedObjectId);
-                            }
-                            for (String timer : existing) {
-                                TimerImpl timer1 = timerService.getTimer(timer);
-                                if (timer1 != null && timer1.getState() != TimerState.CREATED) {
-                                    synchronized (DatabaseTimerPersistence.this) {
-                                        timers.remove(timer);
-                                        listener.timerRemoved(timer);
-                                    }
+                            if (refresh == null) {
+                                refreshAll(timedObjectId, ids, listener);
+                                if (refreshMode == RefreshMode.INCREMENTAL) {
+                                    incrementalRefreshes.put(timedObjectId, new IncrementalRefresh(refreshTime - incrementalRefreshOverlap));
                                 }
+                            } else {
+                                refreshChanged(timedObjectId, ids, listener, refresh);
+                                refresh.setWatermark(refreshTime - incrementalRefreshOverlap);
                             }
                         } catch (SQLException e) {
                             EjbLogger.EJB3_TIMER_LOGGER.failedToRefreshTimers(timedObjectId);
-                        } finally {
-                            safeClose(resultSet);
-                            safeClose(statement);
-                            safeClose(connection);
                         }
                     }
                 } finally {
+                    refreshLatency = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
                     running.set(false);
                 }
             }
+        }
+
+        /**
+         * Reloads all timers of the specified timed object, removing any known timers that no longer exist.
+         */
+        private void refreshAll(String timedObjectId, Set<String> ids, TimerChangeListener listener) throws SQLException {
+            final Set<String> existing;
+            synchronized (ids) {
+                existing = new HashSet<>(ids);
+            }
+            try (Connection connection = dataSource.getConnection();
+                 PreparedStatement statement = connection.prepareStatement(sql.getProperty(LOAD_ALL_TIMERS))) {
+                statement.setString(1, timedObjectId);
+                statement.setString(2, partition);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    refresh(resultSet, ids, existing, listener);
+                }
+            }
+            remove(ids, existing, listener);
+        }
+
+        /**
+         * Reloads those timers of the specified timed object that were modified since the watermark of the specified refresh.
+         * Since a deleted timer leaves no modified row behind, the number of persistent timers is compared with the number of known timers.
+         * Once all modified timers are known, these only differ if a timer was deleted, or if a timer was created without a modification time,
+         * or if a timer could not be loaded, in which case the known timers are reconciled against the persistent timer ids,
+         * unless the difference is accounted for by the timers that could not be loaded by the previous reconciliation.
+         */
+        private void refreshChanged(String timedObjectId, Set<String> ids, TimerChangeListener listener, IncrementalRefresh refresh) throws SQLException {
+            final Set<String> existing;
+            synchronized (ids) {
+                existing = new HashSet<>(ids);
+            }
+            final int count;
+            try (Connection connection = dataSource.getConnection()) {
+                try (PreparedStatement statement = connection.prepareStatement(sql.getProperty(LOAD_CHANGED_TIMERS))) {
+                    statement.setString(1, timedObjectId);
+                    statement.setString(2, partition);
+                    statement.setLong(3, refresh.getWatermark());
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        refresh(resultSet, ids, existing, listener);
+                    }
+                }
+                try (PreparedStatement statement = connection.prepareStatement(sql.getProperty(COUNT_TIMERS))) {
+                    statement.setString(1, timedObjectId);
+                    statement.setString(2, partition);
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        count = resultSet.next() ? resultSet.getInt(1) : 0;
+                    }
+                }
+            }
+            final int known;
+            synchronized (ids) {
+                known = ids.size();
+            }
+            if (refresh.requiresReconciliation(count, known)) {
+                refresh.reconciled(reconcile(timedObjectId, ids, listener));
+            }
+        }
+
+        /**
+         * Reconciles the known timers of the specified timed object against the ids of its persistent timers.
+         * @return the ids of the persistent timers that could not be loaded
+         */
+        private List<String> reconcile(String timedObjectId, Set<String> ids, TimerChangeListener listener) throws SQLException {
+            final Set<String> existing;
+            synchronized (ids) {
+                existing = new HashSet<>(ids);
+            }
+            final List<String> unknown = new ArrayList<>();
+            try (Connection connection = dataSource.getConnection();
+                 PreparedStatement statement = connection.prepareStatement(sql.getProperty(LOAD_TIMER_IDS))) {
+                statement.setString(1, timedObjectId);
+                statement.setString(2, partition);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    long rows = 0;
+                    while (resultSet.next()) {
+                        rows++;
+                        final String id = resultSet.getString(1);
+                        if (!existing.remove(id)) {
+                            unknown.add(id);
+                        }
+                    }
+                    refreshRowsScanned.add(rows);
+                }
+            }
+            final TimerServiceImpl timerService = listener.getTimerService();
+            final List<Map.Entry<TimerImpl, TimerImpl>> batch = new ArrayList<>(Math.min(unknown.size(), REFRESH_BATCH_SIZE));
+            final List<String> unloadable = new ArrayList<>();
+            for (String id : unknown) {
+                final TimerImpl timer = loadTimer(timedObjectId, id, timerService);
+                refreshRowsScanned.increment();
+                if (timer != null) {
+                    batch.add(new AbstractMap.SimpleImmutableEntry<>(null, timer));
+                    if (batch.size() == REFRESH_BATCH_SIZE) {
+                        apply(ids, batch, listener);
+                    }
+                } else {
+                    unloadable.add(id);
+                }
+            }
+            apply(ids, batch, listener);
+            remove(ids, existing, listener);
+            return unloadable;
+        }
+
+        /**
+         * Adds the unknown timers and synchronizes the invalid known timers of the specified result set.
+         * Changes are applied in batches, while holding the lock of the timed object.
+         */
+        private void refresh(ResultSet resultSet, Set<String> ids, Set<String> existing, TimerChangeListener listener) throws SQLException {
+            final TimerServiceImpl timerService = listener.getTimerService();
+            final List<Map.Entry<TimerImpl, TimerImpl>> batch = new ArrayList<>(REFRESH_BATCH_SIZE);
+            long rows = 0;
+            while (resultSet.next()) {
+                rows++;
+                String id = null;
+                try {
+                    id = resultSet.getString(1);
+                    if (!existing.remove(id)) {
+                        final Holder holder = timerFromResult(resultSet, timerService, id, null);
+                        if (holder != null) {
+                            batch.add(new AbstractMap.SimpleImmutableEntry<>(null, holder.timer));
+                        }
+                    } else {
+                        TimerImpl oldTimer = timerService.getTimer(id);
+                        // if it is already in memory but it is not in sync we have a problem
+                        // remove and add -> the probable cause is db glitch
+                        boolean invalidMemoryTimer = oldTimer != null && !TimerState.CREATED_ACTIVE_IN_TIMEOUT_RETRY_TIMEOUT.contains(oldTimer.getState());
+
+                        // if timers memory - db are in non intersect subsets of valid/invalid states. we put them in sync
+                        if (invalidMemoryTimer) {
+                            TimerState dbTimerState = TimerState.valueOf(resultSet.getString(9));
+                            boolean validDBTimer = TimerState.CREATED_ACTIVE_IN_TIMEOUT_RETRY_TIMEOUT.contains(dbTimerState);
+                            if (validDBTimer) {
+                                final Holder holder = timerFromResult(resultSet, timerService, id, dbTimerState);
+                                if (holder != null) {
+                                    batch.add(new AbstractMap.SimpleImmutableEntry<>(oldTimer, holder.timer));
+                                }
+                            }
+                        }
+                    }
+                } catch (Exception e) {
+                    EjbLogger.EJB3_TIMER_LOGGER.timerReinstatementFailed(resultSet.getString(2), id, e);
+                }
+                if (batch.size() == REFRESH_BATCH_SIZE) {
+                    apply(ids, batch, listener);
+                }
+            }
+            apply(ids, batch, listener);
+            refreshRowsScanned.add(rows);
+        }
 
+        /**
+         * Applies, then clears, the specified batch of added (i.e. with no previous timer) or synchronized timers.
+         */
+        private void apply(Set<String> ids, List<Map.Entry<TimerImpl, TimerImpl>> batch, TimerChangeListener listener) {
+            if (batch.isEmpty()) {
+                return;
+            }
+            synchronized (ids) {
+                for (Map.Entry<TimerImpl, TimerImpl> change : batch) {
+                    final TimerImpl oldTimer = change.getKey();
+                    final TimerImpl timer = change.getValue();
+                    try {
+                        ids.add(timer.getId());
+                        if (oldTimer == null) {
+                            listener.timerAdded(timer);
+                        } else {
+                            listener.timerSync(oldTimer, timer);
+                        }
+                    } catch (Exception e) {
+                        EjbLogger.EJB3_TIMER_LOGGER.timerReinstatementFailed(timer.getTimedObjectId(), timer.getId(), e);
+                    }
+                }
+            }
+            batch.clear();
+        }
+
+        /**
+         * Removes the specified known timers that no longer exist in the database, in batches.
+         */
+        private void remove(Set<String> ids, Set<String> removed, TimerChangeListener listener) {
+            final TimerServiceImpl timerService = listener.getTimerService();
+            final Iterator<String> timers = removed.iterator();
+            while (timers.hasNext()) {
+                synchronized (ids) {
+                    for (int i = 0; i < REFRESH_BATCH_SIZE && timers.hasNext(); ++i) {
+                        final String id = timers.next();
+                        final TimerImpl timer = timerService.getTimer(id);
+                        if (timer != null && timer.getState() != TimerState.CREATED) {
+                            ids.remove(id);
+                            listener.timerRemoved(id);
+                        }
+                    }
+                }
+            }
         }
     }
 
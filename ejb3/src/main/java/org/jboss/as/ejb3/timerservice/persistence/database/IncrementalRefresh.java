@@ -0,0 +1,73 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.timerservice.persistence.database;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Tracks the progress of the incremental refreshes of the timers of a timed object.
+ * <p>
+ * Since a deleted timer leaves no modified row behind, an incremental refresh compares the number of persistent timers
+ * with the number of known timers, and reconciles the known timers against the persistent timer ids if these differ.
+ * Persistent timers that could not be loaded by the last reconciliation are accounted for, such that a timer that can
+ * never be loaded does not cause every subsequent refresh to reconcile.
+ */
+class IncrementalRefresh {
+
+    private volatile long watermark;
+    private volatile Set<String> unloadable = Set.of();
+
+    /**
+     * Creates the refresh state of a timed object whose timers were fully loaded.
+     * @param watermark the lower bound of the modification time of the timers loaded by the next refresh
+     */
+    IncrementalRefresh(long watermark) {
+        this.watermark = watermark;
+    }
+
+    /**
+     * Returns the lower bound of the modification time of the timers loaded by the next refresh.
+     * @return a time in milliseconds since the epoch
+     */
+    long getWatermark() {
+        return this.watermark;
+    }
+
+    /**
+     * Advances the lower bound of the modification time of the timers loaded by the next refresh.
+     * @param watermark a time in milliseconds since the epoch
+     */
+    void setWatermark(long watermark) {
+        this.watermark = watermark;
+    }
+
+    /**
+     * Indicates whether the known timers must be reconciled against the persistent timer ids.
+     * @param persistent the number of persistent timers
+     * @param known the number of known timers
+     * @return true, if the difference is not explained by the timers that failed to load during the last reconciliation
+     */
+    boolean requiresReconciliation(int persistent, int known) {
+        return persistent != known + this.unloadable.size();
+    }
+
+    /**
+     * Records the persistent timers that could not be loaded by a reconciliation.
+     * @param unloadable the identifiers of the timers that could not be loaded
+     */
+    void reconciled(Collection<String> unloadable) {
+        this.unloadable = Set.copyOf(unloadable);
+    }
+
+    /**
+     * Returns the identifiers of the persistent timers that could not be loaded by the last reconciliation.
+     * @return a set of timer identifiers
+     */
+    Set<String> getUnloadable() {
+        return this.unloadable;
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.timerservice.persistence.database;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiPredicate;
+
+import org.jboss.as.ejb3.timerservice.spi.TimeoutScheduler;
+
+/**
+ * Coalesces the state changes of the timers of a timed object, i.e. retaining only the latest state of each timer.
+ * Pending changes are written once the batch reaches its maximum size, or its oldest change reaches its maximum delay,
+ * or once a change that may not be deferred is added.
+ * Only changes retaining the ownership of a timer by its executing node may be deferred; a change releasing a timer is
+ * written immediately, along with any pending changes, such that other nodes never observe a stale owner.
+ * Delayed writes are performed by a dedicated executor, rather than by the thread of the timeout scheduler.
+ * @param <U> the timer state change type
+ */
+class TimerWriteBatch<U> {
+    private final String timedObjectId;
+    private final int maxSize;
+    private final long maxDelay;
+    private final TimeoutScheduler scheduler;
+    private final Executor executor;
+    private final BiPredicate<String, Collection<U>> writer;
+    // Guarded by this
+    private final Map<String, U> updates = new LinkedHashMap<>();
+    private TimeoutScheduler.Timeout deadline;
+    // Orders the writes of consecutive flushes
+    private final Object flushLock = new Object();
+
+    /**
+     * Creates a write batch for the specified timed object.
+     * @param timedObjectId the timed object of the timers
+     * @param maxSize the maximum number of pending changes
+     * @param maxDelay the maximum delay in milliseconds of a pending change
+     * @param scheduler the scheduler of the deadline of pending changes
+     * @param executor the executor of delayed writes
+     * @param writer writes the specified changes of the specified timed object, returning false if the changes were not written
+     */
+    TimerWriteBatch(String timedObjectId, int maxSize, long maxDelay, TimeoutScheduler scheduler, Executor executor, BiPredicate<String, Collection<U>> writer) {
+        this.timedObjectId = timedObjectId;
+        this.maxSize = maxSize;
+        this.maxDelay = maxDelay;
+        this.scheduler = scheduler;
+        this.executor = executor;
+        this.writer = writer;
+    }
+
+    /**
+     * Adds the specified state change to this batch, replacing any pending change of the same timer.
+     * @param id a timer identifier
+     * @param update the state change of the timer
+     * @param deferrable indicates whether the state change retains the ownership of the timer, and may therefore be deferred
+     * @return true, if this batch should be flushed by the caller, false otherwise
+     */
+    synchronized boolean add(String id, U update, boolean deferrable) {
+        this.updates.put(id, update);
+        if (!deferrable) return true;
+        this.scheduleFlush();
+        return this.updates.size() >= this.maxSize;
+    }
+
+    synchronized void remove(String id) {
+        this.updates.remove(id);
+    }
+
+    synchronized boolean contains(String id) {
+        return this.updates.containsKey(id);
+    }
+
+    synchronized int size() {
+        return this.updates.size();
+    }
+
+    private void scheduleFlush() {
+        if (this.deadline == null) {
+            this.deadline = this.scheduler.schedule(() -> this.executor.execute(this::flush), this.maxDelay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Writes any pending changes. Changes that could not be written are retried by a subsequent flush, unless superseded.
+     */
+    void flush() {
+        synchronized (this.flushLock) {
+            final List<U> updates;
+            final List<String> ids;
+            synchronized (this) {
+                this.cancelDeadline();
+                if (this.updates.isEmpty()) {
+                    return;
+                }
+                ids = new ArrayList<>(this.updates.keySet());
+                updates = new ArrayList<>(this.updates.values());
+                this.updates.clear();
+            }
+            if (!this.writer.test(this.timedObjectId, updates)) {
+                // Retry with the next flush, unless superseded by a subsequent change
+                synchronized (this) {
+                    for (int i = 0; i < ids.size(); ++i) {
+                        this.updates.putIfAbsent(ids.get(i), updates.get(i));
+                    }
+                    this.scheduleFlush();
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes any pending changes, without scheduling any retry.
+     */
+    void close() {
+        synchronized (this.flushLock) {
+            final List<U> updates;
+            synchronized (this) {
+                this.cancelDeadline();
+                updates = new ArrayList<>(this.updates.values());
+                this.updates.clear();
+            }
+            if (!updates.isEmpty()) {
+                this.writer.test(this.timedObjectId, updates);
+            }
+        }
+    }
+
+    private void cancelDeadline() {
+        if (this.deadline != null) {
+            this.deadline.cancel();
+            this.deadline = null;
+        }
+    }
+}
@@ -0,0 +1,559 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.timerservice.persistence.journal;
+
+import static org.jboss.as.ejb3.logging.EjbLogger.EJB3_TIMER_LOGGER;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FilePermission;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.security.PrivilegedAction;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import jakarta.ejb.ScheduleExpression;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.SystemException;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamReader;
+
+import org.jboss.as.controller.services.path.PathManager;
+import org.jboss.as.ejb3.component.stateful.CurrentSynchronizationCallback;
+import org.jboss.as.ejb3.timerservice.CalendarTimer;
+import org.jboss.as.ejb3.timerservice.TimerImpl;
+import org.jboss.as.ejb3.timerservice.TimerServiceImpl;
+import org.jboss.as.ejb3.timerservice.TimerState;
+import org.jboss.as.ejb3.timerservice.persistence.TimeoutMethod;
+import org.jboss.as.ejb3.timerservice.persistence.TimerPersistence;
+import org.jboss.as.ejb3.timerservice.persistence.filestore.EjbTimerXmlParser_1_0;
+import org.jboss.marshalling.InputStreamByteInput;
+import org.jboss.marshalling.Marshaller;
+import org.jboss.marshalling.MarshallerFactory;
+import org.jboss.marshalling.MarshallingConfiguration;
+import org.jboss.marshalling.ModularClassResolver;
+import org.jboss.marshalling.OutputStreamByteOutput;
+import org.jboss.marshalling.Unmarshaller;
+import org.jboss.marshalling.river.RiverMarshallerFactory;
+import org.jboss.modules.ModuleLoader;
+import org.jboss.msc.Service;
+import org.jboss.msc.service.StartContext;
+import org.jboss.msc.service.StopContext;
+import org.jboss.staxmapper.XMLMapper;
+import org.wildfly.clustering.context.DefaultThreadFactory;
+import org.wildfly.security.manager.WildFlySecurityManager;
+import org.wildfly.transaction.client.ContextTransactionManager;
+
+/**
+ * File based persistent timer store that records the changes to the timers of each timed object in an append-only
+ * {@link TimerJournal}, rather than rewriting an XML document per timer.
+ * <p/>
+ * A create record contains the complete state of a timer, whereas an update record only contains its mutable state,
+ * i.e. its next expiration, its previous run, and its state. Journals are compacted in the background.
+ * Timers persisted by a file-data-store using the same directory are imported into the journal of their timed object
+ * when its timers are first loaded.
+ */
+public class FileJournalTimerPersistence implements TimerPersistence, Service {
+
+    static final String JOURNAL_FILE_NAME = "timers.journal";
+
+    private static final FilePermission FILE_PERMISSION = new FilePermission("<<ALL FILES>>", "read,write,delete");
+    private static final XMLInputFactory INPUT_FACTORY = XMLInputFactory.newInstance();
+    private static final ThreadFactory THREAD_FACTORY = new DefaultThreadFactory(FileJournalTimerPersistence.class, WildFlySecurityManager.getClassLoaderPrivileged(FileJournalTimerPersistence.class));
+
+    private final Consumer<FileJournalTimerPersistence> consumer;
+    private final Supplier<TransactionSynchronizationRegistry> txnRegistrySupplier;
+    private final Supplier<ModuleLoader> moduleLoaderSupplier;
+    private final Supplier<PathManager> pathManagerSupplier;
+    private final String path;
+    private final String pathRelativeTo;
+    private final ConcurrentMap<String, TimerJournal> journals = new ConcurrentHashMap<>();
+
+    private MarshallerFactory factory;
+    private MarshallingConfiguration configuration;
+    private File baseDir;
+    private PathManager.Callback.Handle callbackHandle;
+    private ExecutorService compactor;
+
+    public FileJournalTimerPersistence(final Consumer<FileJournalTimerPersistence> consumer,
+                                       final Supplier<TransactionSynchronizationRegistry> txnRegistrySupplier,
+                                       final Supplier<ModuleLoader> moduleLoaderSupplier,
+                                       final Supplier<PathManager> pathManagerSupplier,
+                                       final String path, final String pathRelativeTo) {
+        this.consumer = consumer;
+        this.txnRegistrySupplier = txnRegistrySupplier;
+        this.moduleLoaderSupplier = moduleLoaderSupplier;
+        this.pathManagerSupplier = pathManagerSupplier;
+        final SecurityManager sm = System.getSecurityManager();
+        if (sm != null) {
+            sm.checkPermission(FILE_PERMISSION);
+        }
+        this.path = path;
+        this.pathRelativeTo = pathRelativeTo;
+    }
+
+    @Override
+    public void start(final StartContext context) {
+        this.consumer.accept(this);
+        this.doPrivileged(this::doStart);
+    }
+
+    private void doStart() {
+        final MarshallingConfiguration configuration = new MarshallingConfiguration();
+        configuration.setClassResolver(ModularClassResolver.getInstance(this.moduleLoaderSupplier.get()));
+        configuration.setVersion(3);
+
+        this.configuration = configuration;
+        this.factory = new RiverMarshallerFactory();
+        if (this.pathRelativeTo != null) {
+            this.callbackHandle = this.pathManagerSupplier.get().registerCallback(this.pathRelativeTo, PathManager.ReloadServerCallback.create(), PathManager.Event.UPDATED, PathManager.Event.REMOVED);
+        }
+        this.baseDir = new File(this.pathManagerSupplier.get().resolveRelativePathEntry(this.path, this.pathRelativeTo));
+        if (!this.baseDir.exists() && !this.baseDir.mkdirs()) {
+            throw EJB3_TIMER_LOGGER.failToCreateTimerFileStoreDir(this.baseDir);
+        }
+        if (!this.baseDir.isDirectory()) {
+            throw EJB3_TIMER_LOGGER.invalidTimerFileStoreDir(this.baseDir);
+        }
+        this.compactor = Executors.newSingleThreadExecutor(THREAD_FACTORY);
+    }
+
+    @Override
+    public void stop(final StopContext context) {
+        this.consumer.accept(null);
+        this.compactor.shutdown();
+        for (TimerJournal journal : this.journals.values()) {
+            this.close(journal);
+        }
+        this.journals.clear();
+        if (this.callbackHandle != null) {
+            this.callbackHandle.remove();
+        }
+        this.factory = null;
+        this.configuration = null;
+    }
+
+    @Override
+    public void addTimer(final TimerImpl timer) {
+        this.doPrivileged(() -> this.persistTimer(timer, true));
+    }
+
+    @Override
+    public void persistTimer(final TimerImpl timer) {
+        this.doPrivileged(() -> this.persistTimer(timer, false));
+    }
+
+    @Override
+    public boolean shouldRun(TimerImpl timer) {
+        return true;
+    }
+
+    private void persistTimer(final TimerImpl timer, boolean newTimer) {
+        final TimerJournal journal = this.getJournal(timer.getTimedObjectId());
+        try {
+            final int status = ContextTransactionManager.getInstance().getStatus();
+            if (status == Status.STATUS_MARKED_ROLLBACK || status == Status.STATUS_ROLLEDBACK ||
+                    status == Status.STATUS_ROLLING_BACK) {
+                //no need to persist anyway
+                return;
+            }
+
+            if (status == Status.STATUS_NO_TRANSACTION ||
+                    status == Status.STATUS_UNKNOWN || isBeforeCompletion()
+                    || status == Status.STATUS_COMMITTED) {
+                this.write(journal, timer, newTimer);
+            } else {
+                final String key = timerTransactionKey(timer);
+                Object existing = this.txnRegistrySupplier.get().getResource(key);
+                //check is there is already a persist sync for this timer
+                if (existing == null) {
+                    this.txnRegistrySupplier.get().registerInterposedSynchronization(new PersistTransactionSynchronization(journal, key, newTimer));
+                }
+                //update the most recent version of the timer to be persisted
+                this.txnRegistrySupplier.get().putResource(key, timer);
+            }
+        } catch (SystemException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Appends the record corresponding to the current state of the specified timer to the specified journal.
+     * An existing timer that is no longer present in the journal was cancelled by another thread, and is not updated.
+     */
+    private void write(TimerJournal journal, TimerImpl timer, boolean newTimer) {
+        try {
+            if (timer.getState() == TimerState.CANCELED || timer.getState() == TimerState.EXPIRED) {
+                journal.cancel(timer.getId());
+            } else if (newTimer) {
+                journal.create(timer.getId(), this.writeState(timer));
+            } else {
+                journal.update(timer.getId(), writeMutableState(timer));
+            }
+        } catch (IOException e) {
+            throw EJB3_TIMER_LOGGER.timerJournalAccessFailed(journal.getFile(), e);
+        }
+        if (journal.requiresCompaction()) {
+            this.compactor.execute(() -> {
+                try {
+                    journal.compact();
+                } catch (IOException e) {
+                    EJB3_TIMER_LOGGER.timerJournalCompactionFailed(journal.getFile(), e);
+                }
+            });
+        }
+    }
+
+    private static String timerTransactionKey(final TimerImpl timer) {
+        return "org.jboss.as.ejb3.timerTransactionKey." + timer.getId();
+    }
+
+    @Override
+    public void timerUndeployed(final String timedObjectId) {
+        TimerJournal journal = this.journals.remove(timedObjectId);
+        if (journal != null) {
+            this.close(journal);
+        }
+    }
+
+    private static boolean isBeforeCompletion() {
+        final CurrentSynchronizationCallback.CallbackType type = CurrentSynchronizationCallback.get();
+        if (type != null) {
+            return type == CurrentSynchronizationCallback.CallbackType.BEFORE_COMPLETION;
+        }
+        return false;
+    }
+
+    @Override
+    public List<TimerImpl> loadActiveTimers(final String timedObjectId, final TimerServiceImpl timerService) {
+        final List<TimerImpl> timers = new ArrayList<>();
+        this.doPrivileged(() -> this.loadActiveTimers(timedObjectId, timerService, timers));
+        return timers;
+    }
+
+    private void loadActiveTimers(final String timedObjectId, final TimerServiceImpl timerService, final List<TimerImpl> timers) {
+        final TimerJournal journal = this.getJournal(timedObjectId);
+        this.importTimers(journal, timedObjectId, timerService);
+        for (TimerJournal.Entry entry : journal.getEntries()) {
+            try {
+                TimerImpl timer = this.readTimer(timedObjectId, entry, timerService);
+                if (timer != null) {
+                    timers.add(this.mostRecentEntityVersion(timer));
+                } else {
+                    // Timeout method no longer exists
+                    EJB3_TIMER_LOGGER.timerReinstatementFailed(timedObjectId, entry.getId(), null);
+                    journal.cancel(entry.getId());
+                }
+            } catch (IOException | ClassNotFoundException e) {
+                EJB3_TIMER_LOGGER.timerReinstatementFailed(timedObjectId, entry.getId(), e);
+            }
+        }
+    }
+
+    @Override
+    public Closeable registerChangeListener(String timedObjectId, TimerChangeListener listener) {
+        return () -> { };
+    }
+
+    /**
+     * Returns either the loaded entity or the most recent version of the entity that has
+     * been persisted in this transaction.
+     */
+    private TimerImpl mostRecentEntityVersion(final TimerImpl timer) {
+        try {
+            final int status = ContextTransactionManager.getInstance().getStatus();
+            if (status == Status.STATUS_UNKNOWN ||
+                    status == Status.STATUS_NO_TRANSACTION) {
+                return timer;
+            }
+            final String key = timerTransactionKey(timer);
+            TimerImpl existing = (TimerImpl) this.txnRegistrySupplier.get().getResource(key);
+            return existing != null ? existing : timer;
+        } catch (SystemException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private TimerJournal getJournal(String timedObjectId) {
+        return this.journals.computeIfAbsent(timedObjectId, id -> {
+            Path file = new File(this.getDirectory(id), JOURNAL_FILE_NAME).toPath();
+            try {
+                return new TimerJournal(file);
+            } catch (IOException e) {
+                throw EJB3_TIMER_LOGGER.timerJournalAccessFailed(file, e);
+            }
+        });
+    }
+
+    private File getDirectory(String timedObjectId) {
+        return new File(this.baseDir, timedObjectId.replace(File.separator, "-"));
+    }
+
+    private void close(TimerJournal journal) {
+        try {
+            journal.close();
+        } catch (IOException e) {
+            EJB3_TIMER_LOGGER.failToCloseFile(e);
+        }
+    }
+
+    /**
+     * Imports any timers persisted by a file-data-store into the specified journal, deleting their XML documents.
+     */
+    private void importTimers(TimerJournal journal, String timedObjectId, TimerServiceImpl timerService) {
+        File directory = this.getDirectory(timedObjectId);
+        File[] files = directory.listFiles((dir, name) -> name.endsWith(".xml"));
+        if (files == null || files.length == 0) return;
+
+        final XMLMapper mapper = XMLMapper.Factory.create();
+        mapper.registerRootElement(new QName(EjbTimerXmlParser_1_0.NAMESPACE, "timers"), new EjbTimerXmlParser_1_0(timerService, this.factory, this.configuration, timerService.getInvoker().getClassLoader()));
+        setIfSupported(INPUT_FACTORY, XMLInputFactory.IS_VALIDATING, Boolean.FALSE);
+        setIfSupported(INPUT_FACTORY, XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+        int count = 0;
+        for (File file : files) {
+            try {
+                List<TimerImpl> timers = new ArrayList<>();
+                try (InputStream input = new FileInputStream(file)) {
+                    XMLStreamReader reader = INPUT_FACTORY.createXMLStreamReader(input);
+                    mapper.parseDocument(timers, reader);
+                }
+                for (TimerImpl timer : timers) {
+                    // Placeholder for a timer whose timeout method no longer exists
+                    if (timer.getId().equals("deleted-timer")) continue;
+                    if (!journal.contains(timer.getId())) {
+                        journal.create(timer.getId(), this.writeState(timer));
+                        if (timer.getNextExpiration() != null || timer.getPreviousRun() != null) {
+                            journal.update(timer.getId(), writeMutableState(timer));
+                        }
+                        count += 1;
+                    }
+                }
+                file.delete();
+            } catch (Exception e) {
+                EJB3_TIMER_LOGGER.failToRestoreTimersFromFile(file, e);
+            }
+        }
+        if (count > 0) {
+            EJB3_TIMER_LOGGER.timersImported(count, timedObjectId, directory);
+        }
+    }
+
+    private byte[] writeState(TimerImpl timer) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(bytes);
+        boolean calendar = timer instanceof CalendarTimer;
+        output.writeBoolean(calendar);
+        writeDate(output, timer.getInitialExpiration());
+        output.writeLong(timer.getInterval());
+        writeMutableState(output, timer);
+        if (calendar) {
+            CalendarTimer calendarTimer = (CalendarTimer) timer;
+            ScheduleExpression schedule = calendarTimer.getScheduleExpression();
+            writeString(output, schedule.getSecond());
+            writeString(output, schedule.getMinute());
+            writeString(output, schedule.getHour());
+            writeString(output, schedule.getDayOfWeek());
+            writeString(output, schedule.getDayOfMonth());
+            writeString(output, schedule.getMonth());
+            writeString(output, schedule.getYear());
+            writeDate(output, schedule.getStart());
+            writeDate(output, schedule.getEnd());
+            writeString(output, schedule.getTimezone());
+            output.writeBoolean(calendarTimer.isAutoTimer());
+            if (calendarTimer.isAutoTimer()) {
+                Method method = calendarTimer.getTimeoutMethod();
+                output.writeUTF(method.getDeclaringClass().getName());
+                output.writeUTF(method.getName());
+                Class<?>[] parameterTypes = method.getParameterTypes();
+                output.writeByte(parameterTypes.length);
+                for (Class<?> parameterType : parameterTypes) {
+                    output.writeUTF(parameterType.getName());
+                }
+            }
+        }
+        // Marshalled info, if any, consumes the remainder of the record
+        Serializable info = timer.getTimerInfo();
+        if (info != null) {
+            try (Marshaller marshaller = this.factory.createMarshaller(this.configuration)) {
+                marshaller.start(new OutputStreamByteOutput(output));
+                marshaller.writeObject(info);
+                marshaller.finish();
+            }
+        }
+        output.flush();
+        return bytes.toByteArray();
+    }
+
+    private static byte[] writeMutableState(TimerImpl timer) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(bytes);
+        writeMutableState(output, timer);
+        output.flush();
+        return bytes.toByteArray();
+    }
+
+    private static void writeMutableState(DataOutput output, TimerImpl timer) throws IOException {
+        writeDate(output, timer.getNextExpiration());
+        writeDate(output, timer.getPreviousRun());
+        output.writeUTF(timer.getState().name());
+    }
+
+    /**
+     * Reconstructs a timer from its journal entry.
+     * @return the timer, or null if the timeout method of an automatic timer no longer exists
+     */
+    private TimerImpl readTimer(String timedObjectId, TimerJournal.Entry entry, TimerServiceImpl timerService) throws IOException, ClassNotFoundException {
+        DataInputStream input = new DataInputStream(new ByteArrayInputStream(entry.getCreateState()));
+        boolean calendar = input.readBoolean();
+        TimerImpl.Builder builder = calendar ? CalendarTimer.builder() : TimerImpl.builder();
+        builder.setId(entry.getId()).setTimedObjectId(timedObjectId).setPersistent(true);
+        builder.setInitialDate(readDate(input));
+        builder.setRepeatInterval(input.readLong());
+        readMutableState(input, builder);
+        if (calendar) {
+            if (!readCalendarState(input, (CalendarTimer.Builder) builder, timerService)) return null;
+        }
+        if (input.available() > 0) {
+            try (Unmarshaller unmarshaller = this.factory.createUnmarshaller(this.configuration)) {
+                unmarshaller.start(new InputStreamByteInput(input));
+                builder.setInfo((Serializable) unmarshaller.readObject());
+                unmarshaller.finish();
+            }
+        }
+        if (entry.getUpdateState() != null) {
+            readMutableState(new DataInputStream(new ByteArrayInputStream(entry.getUpdateState())), builder);
+        }
+        return builder.build(timerService);
+    }
+
+    /**
+     * Reads the schedule and timeout method of a calendar timer.
+     * @return false, if the timeout method of an automatic timer no longer exists, true otherwise
+     */
+    private static boolean readCalendarState(DataInput input, CalendarTimer.Builder builder, TimerServiceImpl timerService) throws IOException {
+        ScheduleExpression schedule = new ScheduleExpression()
+                .second(readString(input))
+                .minute(readString(input))
+                .hour(readString(input))
+                .dayOfWeek(readString(input))
+                .dayOfMonth(readString(input))
+                .month(readString(input))
+                .year(readString(input))
+                .start(readDate(input))
+                .end(readDate(input))
+                .timezone(readString(input));
+        builder.setScheduleExpression(schedule);
+        boolean autoTimer = input.readBoolean();
+        builder.setAutoTimer(autoTimer);
+        if (autoTimer) {
+            String declaringClass = input.readUTF();
+            String name = input.readUTF();
+            String[] parameterTypes = new String[input.readUnsignedByte()];
+            for (int i = 0; i < parameterTypes.length; ++i) {
+                parameterTypes[i] = input.readUTF();
+            }
+            Method method = CalendarTimer.getTimeoutMethod(new TimeoutMethod(declaringClass, name, parameterTypes), timerService.getInvoker().getClassLoader());
+            if (method == null) return false;
+            builder.setTimeoutMethod(method);
+        }
+        return true;
+    }
+
+    private static void readMutableState(DataInput input, TimerImpl.Builder builder) throws IOException {
+        builder.setNextDate(readDate(input));
+        builder.setPreviousRun(readDate(input));
+        builder.setTimerState(TimerState.valueOf(input.readUTF()));
+    }
+
+    private static void writeDate(DataOutput output, Date date) throws IOException {
+        output.writeBoolean(date != null);
+        if (date != null) {
+            output.writeLong(date.getTime());
+        }
+    }
+
+    private static Date readDate(DataInput input) throws IOException {
+        return input.readBoolean() ? new Date(input.readLong()) : null;
+    }
+
+    private static void writeString(DataOutput output, String value) throws IOException {
+        output.writeBoolean(value != null);
+        if (value != null) {
+            output.writeUTF(value);
+        }
+    }
+
+    private static String readString(DataInput input) throws IOException {
+        return input.readBoolean() ? input.readUTF() : null;
+    }
+
+    private static void setIfSupported(final XMLInputFactory inputFactory, final String property, final Object value) {
+        if (inputFactory.isPropertySupported(property)) {
+            inputFactory.setProperty(property, value);
+        }
+    }
+
+    private void doPrivileged(Runnable action) {
+        if (WildFlySecurityManager.isChecking()) {
+            WildFlySecurityManager.doUnchecked((PrivilegedAction<Void>) () -> {
+                action.run();
+                return null;
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private final class PersistTransactionSynchronization implements Synchronization {
+
+        private final TimerJournal journal;
+        private final String transactionKey;
+        private final boolean newTimer;
+        private volatile TimerImpl timer;
+
+        PersistTransactionSynchronization(final TimerJournal journal, final String transactionKey, final boolean newTimer) {
+            this.journal = journal;
+            this.transactionKey = transactionKey;
+            this.newTimer = newTimer;
+        }
+
+        @Override
+        public void beforeCompletion() {
+            //get the latest version of the entity
+            this.timer = (TimerImpl) FileJournalTimerPersistence.this.txnRegistrySupplier.get().getResource(this.transactionKey);
+        }
+
+        @Override
+        public void afterCompletion(final int status) {
+            final TimerImpl timer = this.timer;
+            if ((timer != null) && (status == Status.STATUS_COMMITTED)) {
+                FileJournalTimerPersistence.this.doPrivileged(() -> FileJournalTimerPersistence.this.write(this.journal, timer, this.newTimer));
+            }
+        }
+    }
+}
@@ -0,0 +1,412 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.timerservice.persistence.journal;
+
+import static org.jboss.as.ejb3.logging.EjbLogger.EJB3_TIMER_LOGGER;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32C;
+
+/**
+ * An append-only log of the create, update, and cancel records of the persistent timers of a single timed object.
+ * <p/>
+ * Records are appended via positional writes to a {@link FileChannel}. The journal is deliberately not memory-mapped,
+ * since a mapping pins the underlying file until it is garbage collected, which prevents the file from being replaced
+ * on compaction, or deleted on undeploy, on some platforms. Each record is prefixed by the length and CRC32C checksum of
+ * its body, such that replay stops at the first incomplete or corrupt record. The live state of each timer,
+ * i.e. its create record and its most recent update record, is retained in memory, and is used to rewrite the log
+ * once it is dominated by obsolete records.
+ */
+class TimerJournal implements AutoCloseable {
+
+    static final byte CREATE = 1;
+    static final byte UPDATE = 2;
+    static final byte CANCEL = 3;
+
+    static final long DEFAULT_COMPACTION_THRESHOLD = 1024 * 1024;
+
+    private static final int MAGIC = 0x454a424a; // "EJBJ"
+    private static final int VERSION = 1;
+    private static final int FILE_HEADER_SIZE = Integer.BYTES * 2;
+    // Body length + CRC32C
+    private static final int RECORD_HEADER_SIZE = Integer.BYTES * 2;
+    // Record type + length of timer identifier
+    private static final int BODY_HEADER_SIZE = Byte.BYTES + Short.BYTES;
+
+    private final Path file;
+    private final long compactionThreshold;
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+    private final CRC32C checksum = new CRC32C();
+
+    private FileChannel channel;
+    private int position;
+    private long liveBytes = 0;
+    private boolean compacting = false;
+
+    TimerJournal(Path file) throws IOException {
+        this(file, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Opens the journal stored in the specified file, replaying any existing records.
+     * @param file the journal file
+     * @param compactionThreshold the journal size, in bytes, below which compaction is never required
+     * @throws IOException if the journal could not be opened
+     */
+    TimerJournal(Path file, long compactionThreshold) throws IOException {
+        this.file = file;
+        this.compactionThreshold = compactionThreshold;
+        this.open();
+        this.replay();
+    }
+
+    Path getFile() {
+        return this.file;
+    }
+
+    /**
+     * Appends a record creating the specified timer, replacing any existing state.
+     * @param id a timer identifier
+     * @param state the serialized state of the timer
+     * @throws IOException if the record could not be appended
+     */
+    synchronized void create(String id, byte[] state) throws IOException {
+        this.created(id, state, this.append(CREATE, id, state));
+    }
+
+    /**
+     * Appends a record updating the specified timer, superseding any previous update.
+     * @param id a timer identifier
+     * @param state the serialized mutable state of the timer
+     * @return true, if the timer was updated, false if the timer does not exist
+     * @throws IOException if the record could not be appended
+     */
+    synchronized boolean update(String id, byte[] state) throws IOException {
+        if (!this.entries.containsKey(id)) return false;
+        this.updated(id, state, this.append(UPDATE, id, state));
+        return true;
+    }
+
+    /**
+     * Appends a record cancelling the specified timer.
+     * @param id a timer identifier
+     * @return true, if the timer was cancelled, false if the timer does not exist
+     * @throws IOException if the record could not be appended
+     */
+    synchronized boolean cancel(String id) throws IOException {
+        if (!this.entries.containsKey(id)) return false;
+        this.append(CANCEL, id, new byte[0]);
+        this.cancelled(id);
+        return true;
+    }
+
+    synchronized boolean contains(String id) {
+        return this.entries.containsKey(id);
+    }
+
+    /**
+     * Returns a snapshot of the live timers of this journal, in creation order.
+     * @return a list of journal entries
+     */
+    synchronized List<Entry> getEntries() {
+        return new ArrayList<>(this.entries.values());
+    }
+
+    /**
+     * Returns the number of bytes of the journal currently in use, including obsolete records.
+     * @return a number of bytes
+     */
+    synchronized int getSize() {
+        return this.position;
+    }
+
+    /**
+     * Returns the number of bytes of the journal occupied by live records.
+     * @return a number of bytes
+     */
+    synchronized long getLiveSize() {
+        return FILE_HEADER_SIZE + this.liveBytes;
+    }
+
+    /**
+     * Indicates whether this journal should be compacted, i.e. whether it exceeds the compaction threshold, and
+     * obsolete records occupy more than half of it.
+     * If so, the caller is expected to subsequently invoke {@link #compact()}.
+     * @return true, if compaction is required and was not already requested, false otherwise
+     */
+    synchronized boolean requiresCompaction() {
+        int size = this.position;
+        if (this.compacting || (size < this.compactionThreshold) || (size <= 2 * this.getLiveSize())) return false;
+        this.compacting = true;
+        return true;
+    }
+
+    /**
+     * Rewrites this journal such that it only contains the records of its live timers.
+     * The compacted journal is written to a separate file, which atomically replaces the current journal.
+     * @throws IOException if the journal could not be compacted
+     */
+    synchronized void compact() throws IOException {
+        try {
+            // Journal may have been closed since compaction was requested
+            if (!this.channel.isOpen()) return;
+            Path target = this.file.resolveSibling(this.file.getFileName() + ".compact");
+            int size = (int) this.getLiveSize();
+            ByteBuffer compacted = ByteBuffer.allocate(size);
+            compacted.putInt(MAGIC).putInt(VERSION);
+            for (Entry entry : this.entries.values()) {
+                byte[] id = encode(entry.id);
+                write(compacted, this.checksum, CREATE, id, entry.create);
+                if (entry.update != null) {
+                    write(compacted, this.checksum, UPDATE, id, entry.update);
+                }
+            }
+            compacted.flip();
+            try (FileChannel channel = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                while (compacted.hasRemaining()) {
+                    channel.write(compacted);
+                }
+                channel.force(true);
+            }
+            int position = this.position;
+            this.channel.force(true);
+            this.channel.close();
+            try {
+                Files.move(target, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                position = size;
+            } finally {
+                // Reopen either the compacted journal, or the original journal if it could not be replaced
+                this.open();
+                this.position = position;
+            }
+        } finally {
+            this.compacting = false;
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (this.channel.isOpen()) {
+            this.channel.force(true);
+            this.channel.close();
+        }
+        this.entries.clear();
+    }
+
+    private void open() throws IOException {
+        Files.createDirectories(this.file.getParent());
+        this.channel = FileChannel.open(this.file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long size = this.channel.size();
+        if (size > Integer.MAX_VALUE) {
+            this.channel.close();
+            throw EJB3_TIMER_LOGGER.timerJournalCapacityExceeded(this.file);
+        }
+        ByteBuffer header = ByteBuffer.allocate(FILE_HEADER_SIZE);
+        if (size == 0) {
+            header.putInt(MAGIC).putInt(VERSION).flip();
+            this.write(header, 0);
+        } else {
+            this.read(header, 0);
+            header.flip();
+            if ((size < FILE_HEADER_SIZE) || (header.getInt() != MAGIC) || (header.getInt() != VERSION)) {
+                this.channel.close();
+                throw EJB3_TIMER_LOGGER.invalidTimerJournal(this.file);
+            }
+        }
+        this.position = FILE_HEADER_SIZE;
+    }
+
+    private void replay() throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate((int) this.channel.size() - FILE_HEADER_SIZE);
+        this.read(buffer, FILE_HEADER_SIZE);
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            int start = buffer.position();
+            if (buffer.remaining() < RECORD_HEADER_SIZE) {
+                this.truncate(start);
+                return;
+            }
+            int length = buffer.getInt();
+            int crc = buffer.getInt();
+            if ((length < BODY_HEADER_SIZE) || (length > buffer.remaining())) {
+                this.truncate(start);
+                return;
+            }
+            byte[] body = new byte[length];
+            buffer.get(body);
+            this.checksum.reset();
+            this.checksum.update(body);
+            ByteBuffer record = ByteBuffer.wrap(body);
+            byte type = record.get();
+            int idLength = Short.toUnsignedInt(record.getShort());
+            if (((int) this.checksum.getValue() != crc) || (idLength > record.remaining()) || (type < CREATE) || (type > CANCEL)) {
+                this.truncate(start);
+                return;
+            }
+            String id = new String(body, BODY_HEADER_SIZE, idLength, StandardCharsets.UTF_8);
+            byte[] state = new byte[record.remaining() - idLength];
+            System.arraycopy(body, BODY_HEADER_SIZE + idLength, state, 0, state.length);
+            int size = RECORD_HEADER_SIZE + length;
+            switch (type) {
+                case CREATE: {
+                    this.created(id, state, size);
+                    break;
+                }
+                case UPDATE: {
+                    this.updated(id, state, size);
+                    break;
+                }
+                default: {
+                    this.cancelled(id);
+                }
+            }
+        }
+        this.position = FILE_HEADER_SIZE + buffer.position();
+    }
+
+    private void created(String id, byte[] state, int size) {
+        Entry previous = this.entries.put(id, new Entry(id, state, size, null, 0));
+        if (previous != null) {
+            this.liveBytes -= previous.size();
+        }
+        this.liveBytes += size;
+    }
+
+    private void updated(String id, byte[] state, int size) {
+        Entry entry = this.entries.get(id);
+        if (entry != null) {
+            // Replacing the value of an existing key retains its creation order
+            this.entries.put(id, new Entry(id, entry.create, entry.createSize, state, size));
+            this.liveBytes += size - entry.updateSize;
+        }
+    }
+
+    private void cancelled(String id) {
+        Entry entry = this.entries.remove(id);
+        if (entry != null) {
+            this.liveBytes -= entry.size();
+        }
+    }
+
+    /**
+     * Discards an incomplete or corrupt record, along with everything that follows it.
+     * @param offset the offset of the record, relative to the file header
+     */
+    private void truncate(int offset) throws IOException {
+        this.position = FILE_HEADER_SIZE + offset;
+        EJB3_TIMER_LOGGER.timerJournalTruncated(this.file, this.position);
+        this.channel.truncate(this.position);
+    }
+
+    private int append(byte type, String id, byte[] state) throws IOException {
+        byte[] encodedId = encode(id);
+        int size = RECORD_HEADER_SIZE + BODY_HEADER_SIZE + encodedId.length + state.length;
+        if ((long) this.position + size > Integer.MAX_VALUE) {
+            throw EJB3_TIMER_LOGGER.timerJournalCapacityExceeded(this.file);
+        }
+        ByteBuffer record = ByteBuffer.allocate(size);
+        write(record, this.checksum, type, encodedId, state);
+        record.flip();
+        this.write(record, this.position);
+        this.position += size;
+        return size;
+    }
+
+    private void write(ByteBuffer buffer, long position) throws IOException {
+        long offset = position;
+        while (buffer.hasRemaining()) {
+            offset += this.channel.write(buffer, offset);
+        }
+    }
+
+    private void read(ByteBuffer buffer, long position) throws IOException {
+        long offset = position;
+        while (buffer.hasRemaining()) {
+            int read = this.channel.read(buffer, offset);
+            if (read < 0) return;
+            offset += read;
+        }
+    }
+
+    /**
+     * Writes a record to the specified buffer, prefixed by the length and checksum of its body.
+     */
+    private static void write(ByteBuffer buffer, CRC32C checksum, byte type, byte[] id, byte[] state) {
+        int start = buffer.position();
+        int length = BODY_HEADER_SIZE + id.length + state.length;
+        buffer.position(start + RECORD_HEADER_SIZE);
+        int bodyStart = buffer.position();
+        buffer.put(type).putShort((short) id.length).put(id).put(state);
+        checksum.reset();
+        checksum.update(buffer.duplicate().position(bodyStart).limit(bodyStart + length));
+        int end = buffer.position();
+        buffer.position(start);
+        buffer.putInt(length).putInt((int) checksum.getValue());
+        buffer.position(end);
+    }
+
+    private static byte[] encode(String id) throws IOException {
+        byte[] result = id.getBytes(StandardCharsets.UTF_8);
+        if (result.length > 0xFFFF) {
+            throw new IOException(id);
+        }
+        return result;
+    }
+
+    /**
+     * The live state of a timer.
+     */
+    static final class Entry {
+        private final String id;
+        private final byte[] create;
+        private final int createSize;
+        private final byte[] update;
+        private final int updateSize;
+
+        Entry(String id, byte[] create, int createSize, byte[] update, int updateSize) {
+            this.id = id;
+            this.create = create;
+            this.createSize = createSize;
+            this.update = update;
+            this.updateSize = updateSize;
+        }
+
+        String getId() {
+            return this.id;
+        }
+
+        /**
+         * Returns the state of the timer as of its creation.
+         * @return the serialized state of the timer
+         */
+        byte[] getCreateState() {
+            return this.create;
+        }
+
+        /**
+         * Returns the most recent update to the state of the timer, if any.
+         * @return the serialized mutable state of the timer, or null if the timer was never updated
+         */
+        byte[] getUpdateState() {
+            return this.update;
+        }
+
+        int size() {
+            return this.createSize + this.updateSize;
+        }
+    }
+}
@@ -0,0 +1,375 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.timerservice.scheduler;
+
+import static org.jboss.as.ejb3.logging.EjbLogger.EJB3_TIMER_LOGGER;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.jboss.as.ejb3.timerservice.spi.TimeoutScheduler;
+
+/**
+ * A {@link TimeoutScheduler} based on a hashed timing wheel.
+ * <p/>
+ * Each timeout is hashed into one of a fixed number of buckets according to its deadline, along with the number of
+ * revolutions of the wheel that remain before it expires. Scheduling and cancelling a timeout are O(1) operations:
+ * callers merely enqueue the timeout, which the scheduling thread subsequently links into, or unlinks from, its bucket.
+ * On each tick, the scheduling thread visits a single bucket, expiring the timeouts whose deadline has been reached.
+ * <p/>
+ * Timeouts are expired with a resolution of a single tick. Tasks run on the scheduling thread, and should therefore
+ * hand off to an executor. While the wheel is empty, the scheduling thread parks until a timeout is scheduled.
+ */
+public class HashedWheelTimeoutScheduler implements TimeoutScheduler, Runnable {
+
+    static final long DEFAULT_TICK_DURATION = TimeUnit.MILLISECONDS.toNanos(10);
+    static final int DEFAULT_TICKS_PER_WHEEL = 1024;
+
+    private static final AtomicInteger SCHEDULERS = new AtomicInteger(0);
+
+    private final long tickDuration;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final Queue<WheelTimeout> additions = new ConcurrentLinkedQueue<>();
+    private final Queue<WheelTimeout> cancellations = new ConcurrentLinkedQueue<>();
+    private final AtomicLong pending = new AtomicLong(0);
+    private final long startTime = System.nanoTime();
+
+    private volatile Thread worker;
+    // Indicates whether the scheduling thread is parked awaiting additions
+    private volatile boolean idle;
+    // Only accessed by the scheduling thread
+    private final Queue<WheelTimeout> rescheduled = new ArrayDeque<>();
+    private long tick;
+    private long linked;
+
+    public HashedWheelTimeoutScheduler() {
+        this(DEFAULT_TICK_DURATION, DEFAULT_TICKS_PER_WHEEL);
+    }
+
+    /**
+     * Creates a scheduler using the specified wheel geometry.
+     * @param tickDuration the duration of a tick, in nanoseconds
+     * @param ticksPerWheel the number of buckets of the wheel, rounded up to the next power of 2
+     */
+    HashedWheelTimeoutScheduler(long tickDuration, int ticksPerWheel) {
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException(Long.toString(tickDuration));
+        }
+        if (ticksPerWheel <= 0) {
+            throw new IllegalArgumentException(Integer.toString(ticksPerWheel));
+        }
+        this.tickDuration = tickDuration;
+        int size = (ticksPerWheel > 1) ? Integer.highestOneBit(ticksPerWheel - 1) << 1 : 1;
+        this.wheel = new Bucket[size];
+        for (int i = 0; i < size; ++i) {
+            this.wheel[i] = new Bucket();
+        }
+        this.mask = size - 1;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (this.worker == null) {
+            this.tick = (System.nanoTime() - this.startTime) / this.tickDuration;
+            Thread thread = new Thread(this, "EJB timer scheduler " + SCHEDULERS.incrementAndGet());
+            thread.setDaemon(true);
+            this.worker = thread;
+            thread.start();
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        Thread thread = this.worker;
+        if (thread != null) {
+            this.worker = null;
+            LockSupport.unpark(thread);
+            boolean interrupted = false;
+            while (thread.isAlive()) {
+                try {
+                    thread.join();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of timeouts that are scheduled but have neither expired nor been cancelled.
+     * Periodic timeouts remain pending until cancelled.
+     * @return the number of pending timeouts
+     */
+    public long getPendingCount() {
+        return this.pending.get();
+    }
+
+    /**
+     * Indicates whether the scheduling thread is parked, pending the addition of a timeout.
+     * @return true, if the wheel is empty and no timeouts were scheduled since
+     */
+    boolean isIdle() {
+        return this.idle;
+    }
+
+    @Override
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        return this.schedule(task, delay, 0L, unit);
+    }
+
+    @Override
+    public Timeout scheduleAtFixedRate(Runnable task, long delay, long period, TimeUnit unit) {
+        if (period <= 0) {
+            throw new IllegalArgumentException(Long.toString(period));
+        }
+        return this.schedule(task, delay, period, unit);
+    }
+
+    private Timeout schedule(Runnable task, long delay, long period, TimeUnit unit) {
+        long deadline = add(System.nanoTime() - this.startTime, unit.toNanos(Math.max(delay, 0L)));
+        WheelTimeout timeout = new WheelTimeout(task, deadline, unit.toNanos(period));
+        this.pending.incrementAndGet();
+        this.additions.add(timeout);
+        if (this.idle) {
+            Thread worker = this.worker;
+            if (worker != null) {
+                LockSupport.unpark(worker);
+            }
+        }
+        return timeout;
+    }
+
+    /**
+     * Adds a non-negative duration to a relative time, saturating at {@link Long#MAX_VALUE}, i.e. never.
+     */
+    private static long add(long time, long duration) {
+        return (duration < Long.MAX_VALUE - time) ? time + duration : Long.MAX_VALUE;
+    }
+
+    @Override
+    public void run() {
+        Thread current = Thread.currentThread();
+        while (this.worker == current) {
+            if (this.linked == 0) {
+                this.processCancellations();
+                this.awaitAdditions(current);
+                // Skip the ticks elapsed while idle, whose buckets were empty
+                this.tick = Math.max(this.tick, (System.nanoTime() - this.startTime) / this.tickDuration);
+            }
+            long deadline = this.waitForNextTick(current);
+            if (deadline < 0) break;
+
+            this.processCancellations();
+            this.transferAdditions();
+            this.wheel[(int) (this.tick & this.mask)].expire(deadline);
+            this.tick += 1;
+            // Re-add periodic timeouts only once the expired bucket is behind us
+            for (WheelTimeout timeout = this.rescheduled.poll(); timeout != null; timeout = this.rescheduled.poll()) {
+                if (timeout.state.get() == WheelTimeout.INIT) {
+                    this.add(timeout);
+                }
+            }
+        }
+        // Discard all remaining timeouts
+        for (Bucket bucket : this.wheel) {
+            bucket.clear();
+        }
+        for (WheelTimeout timeout = this.additions.poll(); timeout != null; timeout = this.additions.poll()) {
+            if (timeout.state.getAndSet(WheelTimeout.CANCELLED) == WheelTimeout.INIT) {
+                this.pending.decrementAndGet();
+            }
+        }
+        this.rescheduled.clear();
+        this.cancellations.clear();
+    }
+
+    /**
+     * Parks the scheduling thread until a timeout is scheduled, or this scheduler is stopped.
+     */
+    private void awaitAdditions(Thread current) {
+        this.idle = true;
+        // Re-check after publishing the idle flag, so that a concurrent schedule(...) either is seen here or unparks us
+        while (this.additions.isEmpty() && (this.worker == current)) {
+            LockSupport.park(this);
+        }
+        this.idle = false;
+    }
+
+    /**
+     * Waits until the start of the next tick.
+     * @return the current time relative to the start time of this scheduler, or -1 if this scheduler was stopped.
+     */
+    private long waitForNextTick(Thread current) {
+        long deadline = this.tickDuration * (this.tick + 1);
+        while (this.worker == current) {
+            long now = System.nanoTime() - this.startTime;
+            long remaining = deadline - now;
+            if (remaining <= 0) {
+                return now;
+            }
+            LockSupport.parkNanos(this, remaining);
+        }
+        return -1;
+    }
+
+    private void processCancellations() {
+        for (WheelTimeout timeout = this.cancellations.poll(); timeout != null; timeout = this.cancellations.poll()) {
+            Bucket bucket = timeout.bucket;
+            if (bucket != null) {
+                bucket.remove(timeout);
+            }
+        }
+    }
+
+    private void transferAdditions() {
+        for (WheelTimeout timeout = this.additions.poll(); timeout != null; timeout = this.additions.poll()) {
+            if (timeout.state.get() == WheelTimeout.INIT) {
+                this.add(timeout);
+            }
+        }
+    }
+
+    private void add(WheelTimeout timeout) {
+        long ticks = timeout.deadline / this.tickDuration;
+        timeout.rounds = Math.max(ticks - this.tick, 0L) / this.wheel.length;
+        // Ensure that a timeout whose deadline already passed expires on the current tick
+        this.wheel[(int) (Math.max(ticks, this.tick) & this.mask)].add(timeout);
+    }
+
+    private class WheelTimeout implements Timeout {
+        static final int INIT = 0;
+        static final int CANCELLED = 1;
+        static final int EXPIRED = 2;
+
+        final Runnable task;
+        final long period;
+        final AtomicInteger state = new AtomicInteger(INIT);
+        long deadline;
+
+        // Only accessed by the scheduling thread, except for bucket, which is only written by the scheduling thread
+        volatile Bucket bucket;
+        long rounds;
+        WheelTimeout next;
+        WheelTimeout previous;
+
+        WheelTimeout(Runnable task, long deadline, long period) {
+            this.task = task;
+            this.deadline = deadline;
+            this.period = period;
+        }
+
+        @Override
+        public boolean cancel() {
+            if (!this.state.compareAndSet(INIT, CANCELLED)) return false;
+            HashedWheelTimeoutScheduler.this.pending.decrementAndGet();
+            if (HashedWheelTimeoutScheduler.this.worker != null) {
+                HashedWheelTimeoutScheduler.this.cancellations.add(this);
+            }
+            return true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return this.state.get() == CANCELLED;
+        }
+
+        void expire() {
+            if (this.period == 0L) {
+                if (!this.state.compareAndSet(INIT, EXPIRED)) return;
+                HashedWheelTimeoutScheduler.this.pending.decrementAndGet();
+            }
+            try {
+                this.task.run();
+            } catch (Throwable e) {
+                EJB3_TIMER_LOGGER.scheduledTaskFailed(this.task, e);
+            }
+            if ((this.period > 0L) && (this.state.get() == INIT)) {
+                // Fixed rate, i.e. relative to the previous deadline
+                this.deadline = add(this.deadline, this.period);
+                HashedWheelTimeoutScheduler.this.rescheduled.add(this);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return this.task.toString();
+        }
+    }
+
+    /**
+     * A doubly-linked list of timeouts, only accessed by the scheduling thread.
+     */
+    private class Bucket {
+        private WheelTimeout head;
+        private WheelTimeout tail;
+
+        void add(WheelTimeout timeout) {
+            HashedWheelTimeoutScheduler.this.linked += 1;
+            timeout.bucket = this;
+            if (this.head == null) {
+                this.head = this.tail = timeout;
+            } else {
+                this.tail.next = timeout;
+                timeout.previous = this.tail;
+                this.tail = timeout;
+            }
+        }
+
+        void remove(WheelTimeout timeout) {
+            WheelTimeout next = timeout.next;
+            if (timeout.previous != null) {
+                timeout.previous.next = next;
+            }
+            if (timeout.next != null) {
+                timeout.next.previous = timeout.previous;
+            }
+            if (timeout == this.head) {
+                this.head = next;
+            }
+            if (timeout == this.tail) {
+                this.tail = timeout.previous;
+            }
+            timeout.previous = null;
+            timeout.next = null;
+            timeout.bucket = null;
+            HashedWheelTimeoutScheduler.this.linked -= 1;
+        }
+
+        void expire(long deadline) {
+            WheelTimeout timeout = this.head;
+            while (timeout != null) {
+                WheelTimeout next = timeout.next;
+                if (timeout.state.get() != WheelTimeout.INIT) {
+                    this.remove(timeout);
+                } else if ((timeout.rounds <= 0) && (timeout.deadline <= deadline)) {
+                    this.remove(timeout);
+                    timeout.expire();
+                } else {
+                    timeout.rounds -= 1;
+                }
+                timeout = next;
+            }
+        }
+
+        void clear() {
+            for (WheelTimeout timeout = this.head; timeout != null; timeout = this.head) {
+                this.remove(timeout);
+                if (timeout.state.getAndSet(WheelTimeout.CANCELLED) == WheelTimeout.INIT) {
+                    HashedWheelTimeoutScheduler.this.pending.decrementAndGet();
+                }
+            }
+        }
+    }
+}
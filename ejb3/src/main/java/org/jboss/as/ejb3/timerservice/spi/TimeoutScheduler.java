@@ -0,0 +1,62 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.timerservice.spi;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Schedules the timeouts of a timer service.
+ * Scheduled tasks are expected to complete quickly, e.g. by handing off to an executor, since implementations
+ * may run them on a single scheduling thread.
+ */
+public interface TimeoutScheduler {
+
+    /**
+     * Starts this scheduler.
+     */
+    void start();
+
+    /**
+     * Stops this scheduler, discarding any pending timeouts.
+     */
+    void stop();
+
+    /**
+     * Schedules the specified task to run once, after the specified delay.
+     * @param task a task
+     * @param delay the delay before the task should run
+     * @param unit the unit of the delay
+     * @return a handle to the scheduled timeout
+     */
+    Timeout schedule(Runnable task, long delay, TimeUnit unit);
+
+    /**
+     * Schedules the specified task to run repeatedly at a fixed rate, starting after the specified delay.
+     * @param task a task
+     * @param delay the delay before the first run of the task
+     * @param period the period between successive runs of the task
+     * @param unit the unit of the delay and period
+     * @return a handle to the scheduled timeout
+     */
+    Timeout scheduleAtFixedRate(Runnable task, long delay, long period, TimeUnit unit);
+
+    /**
+     * A handle to a scheduled timeout.
+     */
+    interface Timeout {
+        /**
+         * Cancels this timeout. A cancelled timeout will not run again.
+         * @return true, if this timeout was cancelled, false if it already expired or was already cancelled
+         */
+        boolean cancel();
+
+        /**
+         * Indicates whether this timeout was cancelled.
+         * @return true, if this timeout was cancelled, false otherwise
+         */
+        boolean isCancelled();
+    }
+}
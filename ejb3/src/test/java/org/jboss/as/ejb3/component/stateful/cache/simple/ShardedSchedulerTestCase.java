@@ -0,0 +1,89 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.component.stateful.cache.simple;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link ShardedScheduler}.
+ */
+public class ShardedSchedulerTestCase {
+
+    private static final int SHARDS = 4;
+    private static final int ENTRIES = 100;
+
+    @Test
+    public void distribution() {
+        try (ShardedScheduler<Integer> scheduler = new ShardedScheduler<>("test", SHARDS, key -> true, Executors.defaultThreadFactory())) {
+            List<? extends ShardedScheduler.ShardStatistics> statistics = scheduler.getShardStatistics();
+            assertEquals(SHARDS, statistics.size());
+
+            Instant expiration = Instant.now().plus(Duration.ofHours(1));
+            for (int i = 0; i < ENTRIES; ++i) {
+                scheduler.schedule(i, expiration);
+                assertTrue(scheduler.contains(i));
+            }
+            assertEquals(ENTRIES, statistics.stream().mapToLong(ShardedScheduler.ShardStatistics::getSize).sum());
+            // Entries should be distributed across all shards
+            for (ShardedScheduler.ShardStatistics shard : statistics) {
+                assertTrue(shard.getSize() > 0);
+            }
+
+            for (int i = 0; i < ENTRIES; ++i) {
+                scheduler.cancel(i);
+                assertFalse(scheduler.contains(i));
+            }
+            assertEquals(0, statistics.stream().mapToLong(ShardedScheduler.ShardStatistics::getSize).sum());
+        }
+    }
+
+    @Test
+    public void expiration() throws InterruptedException {
+        Set<Integer> expired = ConcurrentHashMap.newKeySet();
+        CountDownLatch latch = new CountDownLatch(ENTRIES / 2);
+        try (ShardedScheduler<Integer> scheduler = new ShardedScheduler<>("test", SHARDS, key -> {
+            expired.add(key);
+            latch.countDown();
+            return true;
+        }, Executors.defaultThreadFactory())) {
+            List<? extends ShardedScheduler.ShardStatistics> statistics = scheduler.getShardStatistics();
+
+            // Like bean expiration, entries are scheduled in order of their expiration
+            Instant now = Instant.now();
+            for (int i = 0; i < ENTRIES; i += 2) {
+                scheduler.schedule(i, now);
+            }
+            Instant distant = now.plus(Duration.ofHours(1));
+            for (int i = 1; i < ENTRIES; i += 2) {
+                scheduler.schedule(i, distant);
+            }
+
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+            for (int i = 0; i < ENTRIES; ++i) {
+                assertEquals(i % 2 == 0, expired.contains(i));
+            }
+            for (int i = 1; i < ENTRIES; i += 2) {
+                assertTrue(scheduler.contains(i));
+            }
+            for (ShardedScheduler.ShardStatistics shard : statistics) {
+                assertFalse(shard.getExpirationLag().isNegative());
+            }
+        }
+    }
+}
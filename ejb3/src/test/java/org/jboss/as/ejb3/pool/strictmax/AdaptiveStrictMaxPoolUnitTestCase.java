@@ -0,0 +1,208 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.ejb3.pool.strictmax;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.ejb3.logging.EjbLogger;
+import org.jboss.as.ejb3.pool.StatelessObjectFactory;
+import org.jboss.as.ejb3.pool.common.MockBean;
+import org.jboss.as.ejb3.pool.common.MockFactory;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link AdaptiveStrictMaxPool}.
+ */
+public class AdaptiveStrictMaxPoolUnitTestCase {
+
+    private static final long INTERVAL = TimeUnit.MILLISECONDS.toNanos(10);
+
+    /**
+     * A blocked acquisition should raise the limit, rather than wait for a release.
+     */
+    @Test
+    public void growWhenBlocked() {
+        MockBean.reset();
+        StatelessObjectFactory<MockBean> factory = new MockFactory();
+        AdaptiveStrictMaxPool<MockBean> pool = new AdaptiveStrictMaxPool<>(factory, 1, 4, 5, TimeUnit.SECONDS, 60, TimeUnit.SECONDS, INTERVAL);
+        pool.start();
+
+        assertEquals(1, pool.getLimit());
+
+        MockBean[] beans = new MockBean[4];
+        for (int i = 0; i < beans.length; i++) {
+            beans[i] = pool.get();
+        }
+        assertEquals(4, pool.getLimit());
+        assertEquals(2, pool.getGrowCount());
+        assertEquals(0, pool.getAvailableCount());
+
+        for (int i = 0; i < beans.length; i++) {
+            pool.release(beans[i]);
+            beans[i] = null;
+        }
+
+        pool.stop();
+
+        assertEquals(4, MockBean.getPostConstructs());
+        assertEquals(4, MockBean.getPreDestroys());
+    }
+
+    @Test
+    public void growOnWaitTime() throws Exception {
+        MockBean.reset();
+        StatelessObjectFactory<MockBean> factory = new MockFactory();
+        AdaptiveStrictMaxPool<MockBean> pool = new AdaptiveStrictMaxPool<>(factory, 2, 10, 1, TimeUnit.SECONDS, 60, TimeUnit.SECONDS, INTERVAL);
+        pool.start();
+
+        assertEquals(2, pool.getLimit());
+
+        Thread.sleep(TimeUnit.NANOSECONDS.toMillis(INTERVAL) * 2);
+        pool.waited(5);
+
+        assertEquals(4, pool.getLimit());
+        assertEquals(1, pool.getGrowCount());
+        assertEquals(4, pool.getAvailableCount());
+
+        pool.stop();
+    }
+
+    /**
+     * Idle instances should be evicted by pool activity, down to the minimum size.
+     */
+    @Test
+    public void shrink() throws Exception {
+        MockBean.reset();
+        StatelessObjectFactory<MockBean> factory = new MockFactory();
+        AdaptiveStrictMaxPool<MockBean> pool = new AdaptiveStrictMaxPool<>(factory, 1, 4, 5000, TimeUnit.MILLISECONDS, 20, TimeUnit.MILLISECONDS, INTERVAL);
+        // Not started, so that eviction is only performed by pool activity, not by the reaper
+
+        MockBean[] beans = new MockBean[4];
+        for (int i = 0; i < beans.length; i++) {
+            beans[i] = pool.get();
+        }
+        for (int i = 0; i < beans.length; i++) {
+            pool.release(beans[i]);
+            beans[i] = null;
+        }
+        assertEquals(4, pool.getLimit());
+        assertEquals(4, pool.getCurrentSize());
+
+        Thread.sleep(50);
+        pool.release(pool.get());
+
+        assertEquals(1, pool.getCurrentSize());
+        assertEquals(1, pool.getLimit());
+        assertEquals(1, pool.getAvailableCount());
+        assertEquals(1, pool.getShrinkCount());
+
+        pool.stop();
+
+        assertEquals(4, MockBean.getPostConstructs());
+        assertEquals(4, MockBean.getPreDestroys());
+    }
+
+    /**
+     * Idle instances should be evicted by the reaper, without further pool activity.
+     */
+    @Test
+    public void reap() throws Exception {
+        MockBean.reset();
+        StatelessObjectFactory<MockBean> factory = new MockFactory();
+        AdaptiveStrictMaxPool<MockBean> pool = new AdaptiveStrictMaxPool<>(factory, 1, 4, 5000, TimeUnit.MILLISECONDS, 20, TimeUnit.MILLISECONDS, INTERVAL);
+        pool.start();
+
+        MockBean[] beans = new MockBean[4];
+        for (int i = 0; i < beans.length; i++) {
+            beans[i] = pool.get();
+        }
+        for (int i = 0; i < beans.length; i++) {
+            pool.release(beans[i]);
+            beans[i] = null;
+        }
+        assertEquals(4, pool.getCurrentSize());
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while ((pool.getCurrentSize() > 1) && (System.nanoTime() < deadline)) {
+            Thread.sleep(10);
+        }
+
+        assertEquals(1, pool.getCurrentSize());
+        assertEquals(1, pool.getLimit());
+        assertEquals(3, MockBean.getPreDestroys());
+
+        pool.stop();
+
+        assertEquals(4, MockBean.getPostConstructs());
+        assertEquals(4, MockBean.getPreDestroys());
+    }
+
+    @Test
+    public void tooMany() {
+        MockBean.reset();
+        StatelessObjectFactory<MockBean> factory = new MockFactory();
+        AdaptiveStrictMaxPool<MockBean> pool = new AdaptiveStrictMaxPool<>(factory, 0, 4, 100, TimeUnit.MILLISECONDS, 60000, TimeUnit.MILLISECONDS, INTERVAL);
+        pool.start();
+
+        MockBean[] beans = new MockBean[4];
+        for (int i = 0; i < beans.length; i++) {
+            beans[i] = pool.get();
+        }
+
+        try {
+            pool.get();
+            fail("should have thrown an exception");
+        } catch (Exception e) {
+            assertEquals(EjbLogger.ROOT_LOGGER.failedToAcquirePermit(100, TimeUnit.MILLISECONDS).getMessage(), e.getMessage());
+        }
+        assertEquals(4, pool.getLimit());
+
+        for (int i = 0; i < beans.length; i++) {
+            pool.release(beans[i]);
+            beans[i] = null;
+        }
+
+        pool.stop();
+
+        assertEquals(4, MockBean.getPostConstructs());
+        assertEquals(4, MockBean.getPreDestroys());
+    }
+
+    /**
+     * A blocked acquisition must still be satisfied by a release once the limit reached the maximum size.
+     */
+    @Test
+    public void waitForRelease() throws Exception {
+        MockBean.reset();
+        StatelessObjectFactory<MockBean> factory = new MockFactory();
+        AdaptiveStrictMaxPool<MockBean> pool = new AdaptiveStrictMaxPool<>(factory, 1, 1, 10, TimeUnit.SECONDS, 60, TimeUnit.SECONDS, INTERVAL);
+        pool.start();
+
+        MockBean bean = pool.get();
+        ExecutorService service = Executors.newSingleThreadExecutor();
+        try {
+            Future<MockBean> result = service.submit(pool::get);
+            Thread.sleep(50);
+            pool.release(bean);
+            MockBean other = result.get(5, TimeUnit.SECONDS);
+            assertSame(bean, other);
+            pool.release(other);
+        } finally {
+            service.shutdown();
+        }
+
+        pool.stop();
+
+        assertEquals(1, MockBean.getPostConstructs());
+        assertEquals(1, MockBean.getPreDestroys());
+    }
+}
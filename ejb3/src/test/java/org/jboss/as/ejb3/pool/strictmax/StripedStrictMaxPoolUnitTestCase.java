@@ -0,0 +1,183 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.ejb3.pool.strictmax;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.as.ejb3.logging.EjbLogger;
+import org.jboss.as.ejb3.pool.StatelessObjectFactory;
+import org.jboss.as.ejb3.pool.common.MockBean;
+import org.jboss.as.ejb3.pool.common.MockFactory;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link StripedStrictMaxPool}.
+ */
+public class StripedStrictMaxPoolUnitTestCase {
+
+    @Test
+    public void stripeCount() {
+        assertEquals(1, StripedStrictMaxPool.stripeCount(10, 1));
+        assertEquals(2, StripedStrictMaxPool.stripeCount(10, 2));
+        assertEquals(4, StripedStrictMaxPool.stripeCount(10, 3));
+        assertEquals(8, StripedStrictMaxPool.stripeCount(10, 8));
+        // Never more stripes than permits
+        assertEquals(8, StripedStrictMaxPool.stripeCount(10, 64));
+        assertEquals(1, StripedStrictMaxPool.stripeCount(1, 64));
+    }
+
+    @Test
+    public void getAndRelease() {
+        MockBean.reset();
+        StatelessObjectFactory<MockBean> factory = new MockFactory();
+        StripedStrictMaxPool<MockBean> pool = new StripedStrictMaxPool<>(factory, 10, 1, TimeUnit.SECONDS, 4);
+        pool.start();
+
+        MockBean[] beans = new MockBean[10];
+        for (int i = 0; i < beans.length; i++) {
+            beans[i] = pool.get();
+        }
+        assertEquals(0, pool.getAvailableCount());
+
+        for (int i = 0; i < beans.length; i++) {
+            pool.release(beans[i]);
+            beans[i] = null;
+        }
+        assertEquals(10, pool.getAvailableCount());
+
+        long acquisitions = 0;
+        for (StripedStrictMaxPool.StripeStatistics statistics : pool.getStripeStatistics()) {
+            acquisitions += statistics.getAcquisitionCount();
+        }
+        assertEquals(10, acquisitions);
+
+        pool.stop();
+
+        assertEquals(10, MockBean.getPostConstructs());
+        assertEquals(10, MockBean.getPreDestroys());
+    }
+
+    /**
+     * Instances released to one stripe must be reused by threads mapped to another stripe.
+     */
+    @Test
+    public void steal() throws Exception {
+        MockBean.reset();
+        StatelessObjectFactory<MockBean> factory = new MockFactory();
+        StripedStrictMaxPool<MockBean> pool = new StripedStrictMaxPool<>(factory, 4, 1, TimeUnit.SECONDS, 4);
+        pool.start();
+
+        pool.release(pool.get());
+
+        // Each invocation runs sequentially on a distinct thread, and should reuse the same instance
+        ExecutorService service = Executors.newFixedThreadPool(4);
+        try {
+            for (int i = 0; i < 4; i++) {
+                service.submit(() -> pool.release(pool.get())).get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            service.shutdown();
+        }
+
+        pool.stop();
+
+        assertEquals(1, MockBean.getPostConstructs());
+        assertEquals(1, MockBean.getPreDestroys());
+    }
+
+    @Test
+    public void tooMany() {
+        MockBean.reset();
+        StatelessObjectFactory<MockBean> factory = new MockFactory();
+        StripedStrictMaxPool<MockBean> pool = new StripedStrictMaxPool<>(factory, 10, 1, TimeUnit.SECONDS, 4);
+        pool.start();
+
+        MockBean[] beans = new MockBean[10];
+        for (int i = 0; i < beans.length; i++) {
+            beans[i] = pool.get();
+        }
+
+        try {
+            pool.get();
+            fail("should have thrown an exception");
+        } catch (Exception e) {
+            assertEquals(EjbLogger.ROOT_LOGGER.failedToAcquirePermit(1, TimeUnit.SECONDS).getMessage(), e.getMessage());
+        }
+
+        for (int i = 0; i < beans.length; i++) {
+            pool.release(beans[i]);
+            beans[i] = null;
+        }
+
+        pool.stop();
+
+        assertEquals(10, MockBean.getPostConstructs());
+        assertEquals(10, MockBean.getPreDestroys());
+    }
+
+    /**
+     * More threads than the pool size, each of which must block until an instance is released.
+     */
+    @Test
+    public void multiThread() throws Exception {
+        MockBean.reset();
+        StatelessObjectFactory<MockBean> factory = new MockFactory();
+        StripedStrictMaxPool<MockBean> pool = new StripedStrictMaxPool<>(factory, 10, 60, TimeUnit.SECONDS, 4);
+        pool.start();
+
+        AtomicInteger inUse = new AtomicInteger(0);
+        AtomicInteger peak = new AtomicInteger(0);
+        CountDownLatch start = new CountDownLatch(1);
+
+        Callable<Void> task = () -> {
+            start.await();
+            for (int i = 0; i < 1000; i++) {
+                MockBean bean = pool.get();
+                try {
+                    peak.accumulateAndGet(inUse.incrementAndGet(), Math::max);
+                    Thread.yield();
+                } finally {
+                    inUse.decrementAndGet();
+                    pool.release(bean);
+                }
+            }
+            return null;
+        };
+
+        ExecutorService service = Executors.newFixedThreadPool(32);
+        try {
+            List<Future<Void>> results = new ArrayList<>();
+            for (int i = 0; i < 32; i++) {
+                results.add(service.submit(task));
+            }
+            start.countDown();
+            for (Future<Void> result : results) {
+                result.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            service.shutdown();
+        }
+
+        assertTrue(String.valueOf(peak.get()), peak.get() <= 10);
+        assertEquals(10, pool.getAvailableCount());
+
+        pool.stop();
+
+        assertTrue(MockBean.getPostConstructs() <= 10);
+        assertEquals(MockBean.getPostConstructs(), MockBean.getPreDestroys());
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.ejb3.remote;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Test;
+import org.wildfly.clustering.server.registry.RegistryListener;
+
+/**
+ * Unit test for {@link CoalescingRegistryListener}.
+ */
+public class CoalescingRegistryListenerTestCase {
+    // Long enough that the scheduled flush does not run during a test
+    private static final Duration DELAY = Duration.ofMinutes(1);
+
+    private final RegistryListener<String, String> listener = mock(RegistryListener.class);
+    private final CoalescingRegistryListener<String, String> coalescer = new CoalescingRegistryListener<>(this.listener, DELAY);
+
+    @After
+    public void destroy() {
+        this.coalescer.close();
+    }
+
+    @Test
+    public void updates() {
+        this.coalescer.updated(Map.of("a", "1"));
+        this.coalescer.updated(Map.of("a", "2", "b", "1"));
+
+        verifyNoInteractions(this.listener);
+
+        this.coalescer.flush();
+
+        // Only the latest value of each entry is sent
+        verify(this.listener).updated(Map.of("a", "2", "b", "1"));
+        verify(this.listener, never()).added(anyMap());
+        verify(this.listener, never()).removed(anyMap());
+        assertEquals(3, this.coalescer.getReceivedChanges());
+        assertEquals(1, this.coalescer.getSentNotifications());
+    }
+
+    @Test
+    public void addedThenRemoved() {
+        this.coalescer.added(Map.of("a", "1"));
+        this.coalescer.updated(Map.of("a", "2"));
+        this.coalescer.removed(Map.of("a", "2"));
+
+        this.coalescer.flush();
+
+        verifyNoInteractions(this.listener);
+        assertEquals(3, this.coalescer.getReceivedChanges());
+        assertEquals(0, this.coalescer.getSentNotifications());
+    }
+
+    @Test
+    public void addedThenUpdated() {
+        this.coalescer.added(Map.of("a", "1"));
+        this.coalescer.updated(Map.of("a", "2"));
+
+        this.coalescer.flush();
+
+        verify(this.listener).added(Map.of("a", "2"));
+        verify(this.listener, never()).updated(anyMap());
+    }
+
+    @Test
+    public void removedThenAdded() {
+        // e.g. a restarted member
+        this.coalescer.removed(Map.of("a", "1"));
+        this.coalescer.added(Map.of("a", "2"));
+
+        this.coalescer.flush();
+
+        verify(this.listener).updated(Map.of("a", "2"));
+        verify(this.listener, never()).added(anyMap());
+        verify(this.listener, never()).removed(anyMap());
+    }
+
+    @Test
+    public void updatedThenRemoved() {
+        this.coalescer.updated(Map.of("a", "1"));
+        this.coalescer.removed(Map.of("a", "1"));
+        this.coalescer.added(Map.of("b", "1"));
+
+        this.coalescer.flush();
+
+        verify(this.listener).removed(Map.of("a", "1"));
+        verify(this.listener).added(Map.of("b", "1"));
+        verify(this.listener, never()).updated(anyMap());
+        assertEquals(2, this.coalescer.getSentNotifications());
+
+        // Subsequent flush has nothing to send
+        this.coalescer.flush();
+        assertEquals(2, this.coalescer.getSentNotifications());
+    }
+}
@@ -68,7 +68,7 @@ public class Ejb3SubsystemUnitTestCase extends AbstractSubsystemBaseTest {
 
     @Override
     protected String getSubsystemXsdPath() throws Exception {
-        return "schema/wildfly-ejb3_10_0.xsd";
+        return "schema/wildfly-ejb3_11_0.xsd";
     }
 
     @Test
@@ -217,6 +217,15 @@ public class Ejb3SubsystemUnitTestCase extends AbstractSubsystemBaseTest {
         final String cachePassivationStore = ejb3.get("cache").asPropertyList().get(1).getValue().get("passivation-store").resolve().asString();
         assertEquals("infinispan", cachePassivationStore);
 
+        final String mdbPoolStrategy = ejb3.get("strict-max-bean-instance-pool", "mdb-strict-max-pool", "strategy").resolve().asString();
+        assertEquals("striped", mdbPoolStrategy);
+
+        final int mdbPoolMinSize = ejb3.get("strict-max-bean-instance-pool", "mdb-strict-max-pool", "min-pool-size").resolve().asInt();
+        assertEquals(2, mdbPoolMinSize);
+
+        final long mdbPoolIdleTimeout = ejb3.get("strict-max-bean-instance-pool", "mdb-strict-max-pool", "instance-idle-timeout").resolve().asLong();
+        assertEquals(10000L, mdbPoolIdleTimeout);
+
         final String mdbDeliveryGroupActive = ejb3.get("mdb-delivery-group").asPropertyList().get(1).getValue().get("active").resolve().asString();
         assertEquals("false", mdbDeliveryGroupActive);
 
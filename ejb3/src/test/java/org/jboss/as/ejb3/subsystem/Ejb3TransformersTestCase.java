@@ -69,7 +69,7 @@ public class Ejb3TransformersTestCase extends AbstractSubsystemBaseTest {
 
     @Override
     protected String getSubsystemXsdPath() throws Exception {
-        return "schema/wildfly-ejb3_10_0.xsd";
+        return "schema/wildfly-ejb3_11_0.xsd";
     }
 
     /*
@@ -117,6 +117,7 @@ public class Ejb3TransformersTestCase extends AbstractSubsystemBaseTest {
                 buildDynamicCapabilityName("org.wildfly.remoting.connector", "remoting-connector"),
                 buildDynamicCapabilityName("org.wildfly.clustering.infinispan.cache-container", "not-ejb"),
                 buildDynamicCapabilityName("org.wildfly.ejb3.timer-service.timer-persistence-service", "file-data-store"),
+                buildDynamicCapabilityName("org.wildfly.ejb3.timer-service.timer-persistence-service", "file-journal-store"),
                 buildDynamicCapabilityName("org.wildfly.ejb3.mdb-delivery-group", "1"),
                 buildDynamicCapabilityName("org.wildfly.ejb3.mdb-delivery-group", "2"),
                 buildDynamicCapabilityName("org.wildfly.ejb3.mdb-delivery-group", "3"),
@@ -148,6 +149,27 @@ public class Ejb3TransformersTestCase extends AbstractSubsystemBaseTest {
         FailedOperationTransformationConfig config = new FailedOperationTransformationConfig();
         PathAddress subsystemAddress = PathAddress.pathAddress(EJB3Extension.SUBSYSTEM_PATH);
 
+        // need to include all changes from current to 10.0.0
+        if (EJB3Model.VERSION_10_0_0.requiresTransformation(version)) {
+            // reject the strict-max-bean-instance-pool strategy attribute
+            config.addFailedAttribute(subsystemAddress.append(EJB3SubsystemModel.STRICT_MAX_BEAN_INSTANCE_POOL_PATH.getKey(), "slsb-strict-max-pool"),
+                    new FailedOperationTransformationConfig.NewAttributesConfig(StrictMaxPoolResourceDefinition.STRATEGY));
+            // reject the strict-max-bean-instance-pool adaptive strategy attributes
+            config.addFailedAttribute(subsystemAddress.append(EJB3SubsystemModel.STRICT_MAX_BEAN_INSTANCE_POOL_PATH.getKey(), "mdb-strict-max-pool"),
+                    new FailedOperationTransformationConfig.NewAttributesConfig(StrictMaxPoolResourceDefinition.STRATEGY, StrictMaxPoolResourceDefinition.MIN_POOL_SIZE, StrictMaxPoolResourceDefinition.INSTANCE_IDLE_TIMEOUT));
+            // reject the simple-cache expiration-shards attribute
+            config.addFailedAttribute(subsystemAddress.append(EJB3SubsystemModel.SIMPLE_CACHE_PATH),
+                    new FailedOperationTransformationConfig.NewAttributesConfig(SimpleStatefulSessionBeanCacheProviderResourceDefinition.Attribute.EXPIRATION_SHARDS.getDefinition()));
+            // reject the resource /subsystem=ejb3/service=timer-service/file-journal-store
+            config.addFailedAttribute(subsystemAddress.append(EJB3SubsystemModel.TIMER_SERVICE_PATH).append(EJB3SubsystemModel.FILE_JOURNAL_STORE_PATH.getKey(), "file-journal-store"), FailedOperationTransformationConfig.REJECTED_RESOURCE);
+            // reject the database-data-store refresh-mode and write batching attributes
+            config.addFailedAttribute(subsystemAddress.append(EJB3SubsystemModel.TIMER_SERVICE_PATH).append(EJB3SubsystemModel.DATABASE_DATA_STORE_PATH.getKey(), "database-data-store"),
+                    new FailedOperationTransformationConfig.NewAttributesConfig(DatabaseDataStoreResourceDefinition.REFRESH_MODE, DatabaseDataStoreResourceDefinition.WRITE_BATCH_SIZE, DatabaseDataStoreResourceDefinition.WRITE_BATCH_DELAY));
+            // reject the remote service cluster-topology-update-delay attribute
+            config.addFailedAttribute(subsystemAddress.append(EJB3SubsystemModel.REMOTE_SERVICE_PATH),
+                    new FailedOperationTransformationConfig.NewAttributesConfig(EJB3RemoteResourceDefinition.CLUSTER_TOPOLOGY_UPDATE_DELAY));
+        }
+
         // need to include all changes from current to 9.0.0
         if (EJB3Model.VERSION_9_0_0.requiresTransformation(version)) {
             // reject the resource /subsystem=ejb3/simple-cache
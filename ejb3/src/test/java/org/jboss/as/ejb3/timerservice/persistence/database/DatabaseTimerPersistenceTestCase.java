@@ -16,7 +16,7 @@ import org.junit.Test;
 
 public class DatabaseTimerPersistenceTestCase {
 
-    private DatabaseTimerPersistence object = new DatabaseTimerPersistence(null, null, null, null, "", "part", "nodeA", 1000000, true);
+    private DatabaseTimerPersistence object = new DatabaseTimerPersistence(null, null, null, null, "", "part", "nodeA", 1000000, DatabaseTimerPersistence.RefreshMode.FULL, 1, 100, true);
     private Field field;
     private Method method;
 
@@ -0,0 +1,68 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.timerservice.persistence.database;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link IncrementalRefresh}.
+ */
+public class IncrementalRefreshTestCase {
+
+    @Test
+    public void watermark() {
+        IncrementalRefresh refresh = new IncrementalRefresh(100L);
+        assertEquals(100L, refresh.getWatermark());
+
+        refresh.setWatermark(200L);
+        assertEquals(200L, refresh.getWatermark());
+    }
+
+    @Test
+    public void reconcile() {
+        IncrementalRefresh refresh = new IncrementalRefresh(0L);
+
+        // All persistent timers are known
+        assertFalse(refresh.requiresReconciliation(10, 10));
+        // A timer was deleted by another node
+        assertTrue(refresh.requiresReconciliation(9, 10));
+        // A timer was created without a modification time, or could not be loaded
+        assertTrue(refresh.requiresReconciliation(11, 10));
+    }
+
+    /**
+     * Timers that cannot be loaded must not trigger a reconciliation on every refresh.
+     */
+    @Test
+    public void unloadable() {
+        IncrementalRefresh refresh = new IncrementalRefresh(0L);
+        assertTrue(refresh.requiresReconciliation(12, 10));
+
+        refresh.reconciled(List.of("a", "b"));
+
+        assertEquals(Set.of("a", "b"), refresh.getUnloadable());
+        assertFalse(refresh.requiresReconciliation(12, 10));
+        assertFalse(refresh.requiresReconciliation(12, 10));
+
+        // An unloadable timer was deleted
+        assertTrue(refresh.requiresReconciliation(11, 10));
+        refresh.reconciled(List.of("a"));
+        assertFalse(refresh.requiresReconciliation(11, 10));
+
+        // The unloadable timer was since modified, and loaded by the incremental refresh
+        assertTrue(refresh.requiresReconciliation(11, 11));
+        refresh.reconciled(List.of());
+        assertTrue(refresh.getUnloadable().isEmpty());
+        assertFalse(refresh.requiresReconciliation(11, 11));
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.timerservice.persistence.database;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.ejb3.timerservice.scheduler.HashedWheelTimeoutScheduler;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link TimerWriteBatch}.
+ */
+public class TimerWriteBatchTestCase {
+
+    private final HashedWheelTimeoutScheduler scheduler = new HashedWheelTimeoutScheduler();
+    private final BlockingQueue<Runnable> tasks = new LinkedBlockingQueue<>();
+    private final List<List<String>> writes = new ArrayList<>();
+    private volatile boolean fail = false;
+
+    @Before
+    public void start() {
+        this.scheduler.start();
+    }
+
+    @After
+    public void stop() {
+        this.scheduler.stop();
+    }
+
+    private TimerWriteBatch<String> createBatch(int maxSize, long maxDelay) {
+        return new TimerWriteBatch<>("timed-object", maxSize, maxDelay, this.scheduler, this.tasks::add, this::write);
+    }
+
+    private synchronized boolean write(String timedObjectId, Collection<String> updates) {
+        if (this.fail) return false;
+        this.writes.add(new ArrayList<>(updates));
+        return true;
+    }
+
+    /**
+     * Deferred changes must coalesce per timer, and the batch must request a flush once full.
+     */
+    @Test
+    public void coalesce() {
+        TimerWriteBatch<String> batch = this.createBatch(3, TimeUnit.MINUTES.toMillis(1));
+
+        assertFalse(batch.add("a", "a1", true));
+        assertFalse(batch.add("a", "a2", true));
+        assertFalse(batch.add("b", "b1", true));
+        assertEquals(2, batch.size());
+        assertTrue(batch.contains("a"));
+        assertTrue(batch.add("c", "c1", true));
+
+        batch.flush();
+
+        assertEquals(List.of(List.of("a2", "b1", "c1")), this.writes);
+        assertEquals(0, batch.size());
+        assertFalse(batch.contains("a"));
+    }
+
+    /**
+     * A change that releases a timer must not be deferred, and must supersede any deferred change of the same timer.
+     */
+    @Test
+    public void release() {
+        TimerWriteBatch<String> batch = this.createBatch(10, TimeUnit.MINUTES.toMillis(1));
+
+        assertFalse(batch.add("a", "a-in-timeout", true));
+        assertFalse(batch.add("b", "b-in-timeout", true));
+        assertTrue(batch.add("a", "a-active", false));
+
+        batch.flush();
+
+        assertEquals(List.of(List.of("a-active", "b-in-timeout")), this.writes);
+    }
+
+    /**
+     * Delayed changes must be written by the flush executor, not by the thread of the timeout scheduler.
+     */
+    @Test
+    public void deadline() throws InterruptedException {
+        TimerWriteBatch<String> batch = this.createBatch(10, 10);
+
+        assertFalse(batch.add("a", "a1", true));
+
+        Runnable task = this.tasks.poll(5, TimeUnit.SECONDS);
+        assertTrue(task != null);
+        // Nothing is written until the executor runs the flush
+        assertTrue(this.writes.isEmpty());
+        assertTrue(batch.contains("a"));
+
+        task.run();
+
+        assertEquals(List.of(List.of("a1")), this.writes);
+        assertEquals(0, this.scheduler.getPendingCount());
+    }
+
+    /**
+     * Changes that failed to be written must be retried, unless superseded by a subsequent change.
+     */
+    @Test
+    public void retry() throws InterruptedException {
+        TimerWriteBatch<String> batch = this.createBatch(10, 10);
+        batch.add("a", "a1", true);
+        batch.add("b", "b1", true);
+
+        this.fail = true;
+        batch.flush();
+
+        assertEquals(2, batch.size());
+        assertTrue(this.writes.isEmpty());
+
+        batch.add("a", "a2", true);
+        batch.remove("b");
+        this.fail = false;
+
+        Runnable task = this.tasks.poll(5, TimeUnit.SECONDS);
+        assertTrue(task != null);
+        task.run();
+
+        assertEquals(List.of(List.of("a2")), this.writes);
+    }
+
+    /**
+     * Closing a batch must write pending changes and cancel its deadline.
+     */
+    @Test
+    public void close() throws InterruptedException {
+        TimerWriteBatch<String> batch = this.createBatch(10, 50);
+        batch.add("a", "a1", true);
+
+        batch.close();
+
+        assertEquals(List.of(List.of("a1")), this.writes);
+        assertEquals(0, this.scheduler.getPendingCount());
+        Thread.sleep(100);
+        assertTrue(this.tasks.isEmpty());
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.timerservice.persistence.journal;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Unit test for {@link TimerJournal}.
+ */
+public class TimerJournalTestCase {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void replay() throws IOException {
+        Path file = this.folder.getRoot().toPath().resolve("timed-object").resolve(FileJournalTimerPersistence.JOURNAL_FILE_NAME);
+        try (TimerJournal journal = new TimerJournal(file)) {
+            journal.create("a", bytes("a0"));
+            journal.create("b", bytes("b0"));
+            journal.create("c", bytes("c0"));
+            assertTrue(journal.update("a", bytes("a1")));
+            assertTrue(journal.update("a", bytes("a2")));
+            assertTrue(journal.cancel("b"));
+            assertFalse(journal.cancel("b"));
+            assertFalse(journal.update("b", bytes("b1")));
+        }
+
+        try (TimerJournal journal = new TimerJournal(file)) {
+            List<TimerJournal.Entry> entries = journal.getEntries();
+            assertEquals(2, entries.size());
+            assertEquals("a", entries.get(0).getId());
+            assertArrayEquals(bytes("a0"), entries.get(0).getCreateState());
+            assertArrayEquals(bytes("a2"), entries.get(0).getUpdateState());
+            assertEquals("c", entries.get(1).getId());
+            assertArrayEquals(bytes("c0"), entries.get(1).getCreateState());
+            assertNull(entries.get(1).getUpdateState());
+
+            // Subsequent records must follow the replayed records
+            journal.create("d", bytes("d0"));
+        }
+
+        try (TimerJournal journal = new TimerJournal(file)) {
+            assertEquals(3, journal.getEntries().size());
+            assertTrue(journal.contains("d"));
+        }
+    }
+
+    @Test
+    public void grow() throws IOException {
+        Path file = this.folder.getRoot().toPath().resolve(FileJournalTimerPersistence.JOURNAL_FILE_NAME);
+        byte[] state = new byte[100];
+        try (TimerJournal journal = new TimerJournal(file, Long.MAX_VALUE)) {
+            for (int i = 0; i < 100; ++i) {
+                journal.create(Integer.toString(i), state);
+            }
+            assertTrue(journal.getSize() > 100 * state.length);
+            assertEquals(journal.getSize(), Files.size(file));
+        }
+        try (TimerJournal journal = new TimerJournal(file, Long.MAX_VALUE)) {
+            assertEquals(100, journal.getEntries().size());
+        }
+    }
+
+    /**
+     * A torn or corrupt record, and everything following it, must be discarded on replay.
+     */
+    @Test
+    public void corruption() throws IOException {
+        Path file = this.folder.getRoot().toPath().resolve(FileJournalTimerPersistence.JOURNAL_FILE_NAME);
+        int size;
+        try (TimerJournal journal = new TimerJournal(file)) {
+            journal.create("a", bytes("a0"));
+            size = journal.getSize();
+            journal.create("b", bytes("b0"));
+            journal.create("c", bytes("c0"));
+        }
+        // Flip the last byte of the state of timer "b"
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            int position = size + 8 + 3 + 1 + 1;
+            ByteBuffer buffer = ByteBuffer.allocate(1);
+            channel.read(buffer, position);
+            buffer.put(0, (byte) ~buffer.get(0));
+            channel.write(buffer.rewind(), position);
+        }
+
+        try (TimerJournal journal = new TimerJournal(file)) {
+            assertEquals(1, journal.getEntries().size());
+            assertTrue(journal.contains("a"));
+            assertEquals(size, journal.getSize());
+            journal.create("d", bytes("d0"));
+        }
+
+        try (TimerJournal journal = new TimerJournal(file)) {
+            assertEquals(2, journal.getEntries().size());
+            assertTrue(journal.contains("a"));
+            assertTrue(journal.contains("d"));
+        }
+    }
+
+    @Test
+    public void compact() throws IOException {
+        Path file = this.folder.getRoot().toPath().resolve(FileJournalTimerPersistence.JOURNAL_FILE_NAME);
+        try (TimerJournal journal = new TimerJournal(file, 4096)) {
+            journal.create("a", bytes("a0"));
+            journal.create("b", bytes("b0"));
+            int i = 0;
+            while (!journal.requiresCompaction()) {
+                journal.update("a", bytes("a" + ++i));
+            }
+            // Compaction was already requested
+            assertFalse(journal.requiresCompaction());
+            journal.cancel("b");
+
+            journal.compact();
+
+            assertEquals(journal.getLiveSize(), journal.getSize());
+            assertFalse(journal.requiresCompaction());
+            assertFalse(Files.exists(file.resolveSibling(file.getFileName() + ".compact")));
+            journal.update("a", bytes("a" + ++i));
+            journal.create("c", bytes("c0"));
+
+            try (TimerJournal replayed = new TimerJournal(file)) {
+                List<TimerJournal.Entry> entries = replayed.getEntries();
+                assertEquals(2, entries.size());
+                assertEquals("a", entries.get(0).getId());
+                assertArrayEquals(bytes("a" + i), entries.get(0).getUpdateState());
+                assertEquals("c", entries.get(1).getId());
+                assertEquals(journal.getLiveSize(), replayed.getLiveSize());
+            }
+        }
+    }
+
+    /**
+     * A compacted journal must be replayable once closed, and must accept subsequent records once reopened.
+     */
+    @Test
+    public void compactAndReopen() throws IOException {
+        Path file = this.folder.getRoot().toPath().resolve("timed-object").resolve(FileJournalTimerPersistence.JOURNAL_FILE_NAME);
+        int i = 0;
+        try (TimerJournal journal = new TimerJournal(file, 4096)) {
+            journal.create("a", bytes("a0"));
+            journal.create("b", bytes("b0"));
+            while (!journal.requiresCompaction()) {
+                journal.update("b", bytes("b" + ++i));
+            }
+            journal.cancel("a");
+
+            journal.compact();
+
+            assertEquals(journal.getSize(), Files.size(file));
+        }
+
+        try (TimerJournal journal = new TimerJournal(file, 4096)) {
+            List<TimerJournal.Entry> entries = journal.getEntries();
+            assertEquals(1, entries.size());
+            assertEquals("b", entries.get(0).getId());
+            assertArrayEquals(bytes("b0"), entries.get(0).getCreateState());
+            assertArrayEquals(bytes("b" + i), entries.get(0).getUpdateState());
+            assertEquals(journal.getLiveSize(), journal.getSize());
+
+            journal.create("c", bytes("c0"));
+        }
+
+        try (TimerJournal journal = new TimerJournal(file, 4096)) {
+            assertEquals(2, journal.getEntries().size());
+            assertTrue(journal.contains("b"));
+            assertTrue(journal.contains("c"));
+        }
+
+        // Closed journal must not retain the file, e.g. on undeploy
+        Files.delete(file);
+        Files.delete(file.getParent());
+        assertFalse(Files.exists(file.getParent()));
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
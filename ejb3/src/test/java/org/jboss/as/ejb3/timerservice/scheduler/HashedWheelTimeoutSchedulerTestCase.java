@@ -0,0 +1,215 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.timerservice.scheduler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.as.ejb3.timerservice.spi.TimeoutScheduler;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link HashedWheelTimeoutScheduler}.
+ */
+public class HashedWheelTimeoutSchedulerTestCase {
+
+    private final HashedWheelTimeoutScheduler scheduler = new HashedWheelTimeoutScheduler(TimeUnit.MILLISECONDS.toNanos(1), 8);
+
+    @Before
+    public void start() {
+        this.scheduler.start();
+    }
+
+    @After
+    public void stop() {
+        this.scheduler.stop();
+    }
+
+    @Test
+    public void schedule() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(3);
+        long start = System.nanoTime();
+        // Exceeds a single revolution of the wheel
+        TimeoutScheduler.Timeout timeout = this.scheduler.schedule(latch::countDown, 50, TimeUnit.MILLISECONDS);
+        this.scheduler.schedule(latch::countDown, 0, TimeUnit.MILLISECONDS);
+        this.scheduler.schedule(latch::countDown, -10, TimeUnit.MILLISECONDS);
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(50));
+        assertFalse(timeout.isCancelled());
+        assertFalse(timeout.cancel());
+        assertEquals(0, this.scheduler.getPendingCount());
+    }
+
+    @Test
+    public void cancel() throws InterruptedException {
+        AtomicInteger count = new AtomicInteger(0);
+        TimeoutScheduler.Timeout timeout = this.scheduler.schedule(count::incrementAndGet, 20, TimeUnit.MILLISECONDS);
+        assertEquals(1, this.scheduler.getPendingCount());
+
+        assertTrue(timeout.cancel());
+        assertTrue(timeout.isCancelled());
+        assertFalse(timeout.cancel());
+        assertEquals(0, this.scheduler.getPendingCount());
+
+        Thread.sleep(100);
+        assertEquals(0, count.get());
+    }
+
+    @Test
+    public void scheduleAtFixedRate() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(5);
+        TimeoutScheduler.Timeout timeout = this.scheduler.scheduleAtFixedRate(latch::countDown, 0, 5, TimeUnit.MILLISECONDS);
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals(1, this.scheduler.getPendingCount());
+        assertTrue(timeout.cancel());
+        assertEquals(0, this.scheduler.getPendingCount());
+
+        AtomicInteger count = new AtomicInteger(0);
+        timeout = this.scheduler.scheduleAtFixedRate(count::incrementAndGet, 1000, 1000, TimeUnit.MILLISECONDS);
+        assertTrue(timeout.cancel());
+        Thread.sleep(50);
+        assertEquals(0, count.get());
+    }
+
+    /**
+     * A delay whose deadline exceeds the range of a long must never expire, rather than overflow and expire immediately.
+     */
+    @Test
+    public void scheduleMaxDelay() throws InterruptedException {
+        AtomicInteger count = new AtomicInteger(0);
+        TimeoutScheduler.Timeout timeout = this.scheduler.schedule(count::incrementAndGet, Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        TimeoutScheduler.Timeout days = this.scheduler.schedule(count::incrementAndGet, Long.MAX_VALUE, TimeUnit.DAYS);
+        TimeoutScheduler.Timeout periodic = this.scheduler.scheduleAtFixedRate(count::incrementAndGet, 0, Long.MAX_VALUE, TimeUnit.DAYS);
+
+        // Subsequent timeouts must still expire
+        CountDownLatch latch = new CountDownLatch(1);
+        this.scheduler.schedule(latch::countDown, 20, TimeUnit.MILLISECONDS);
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        Thread.sleep(50);
+
+        // Only the initial expiration of the periodic timeout
+        assertEquals(1, count.get());
+        assertEquals(3, this.scheduler.getPendingCount());
+        assertTrue(timeout.cancel());
+        assertTrue(days.cancel());
+        assertTrue(periodic.cancel());
+        assertEquals(0, this.scheduler.getPendingCount());
+    }
+
+    /**
+     * The scheduling thread must park while the wheel is empty, and resume once a timeout is scheduled.
+     */
+    @Test
+    public void idle() throws InterruptedException {
+        awaitIdle();
+
+        CountDownLatch latch = new CountDownLatch(1);
+        long start = System.nanoTime();
+        this.scheduler.schedule(latch::countDown, 20, TimeUnit.MILLISECONDS);
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(20));
+
+        awaitIdle();
+
+        // A cancelled timeout must not keep the scheduling thread busy
+        assertTrue(this.scheduler.schedule(latch::countDown, 1, TimeUnit.MINUTES).cancel());
+        awaitIdle();
+    }
+
+    private void awaitIdle() throws InterruptedException {
+        long timeout = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!this.scheduler.isIdle()) {
+            assertTrue(System.nanoTime() < timeout);
+            Thread.sleep(1);
+        }
+    }
+
+    /**
+     * A failing task must not prevent subsequent timeouts from expiring.
+     */
+    @Test
+    public void failure() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        this.scheduler.schedule(() -> {
+            throw new IllegalStateException();
+        }, 0, TimeUnit.MILLISECONDS);
+        this.scheduler.schedule(latch::countDown, 10, TimeUnit.MILLISECONDS);
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void stopDiscardsPending() {
+        AtomicInteger count = new AtomicInteger(0);
+        for (int i = 0; i < 100; ++i) {
+            this.scheduler.schedule(count::incrementAndGet, 1, TimeUnit.MINUTES);
+        }
+        assertEquals(100, this.scheduler.getPendingCount());
+
+        this.scheduler.stop();
+
+        assertEquals(0, this.scheduler.getPendingCount());
+        assertEquals(0, count.get());
+    }
+
+    /**
+     * Many short timeouts, spread across multiple revolutions of the wheel, must all expire.
+     */
+    @Test
+    public void scheduleMany() throws InterruptedException {
+        int timeouts = 10_000;
+        CountDownLatch latch = new CountDownLatch(timeouts);
+        for (int i = 0; i < timeouts; ++i) {
+            this.scheduler.schedule(latch::countDown, ThreadLocalRandom.current().nextInt(100), TimeUnit.MILLISECONDS);
+        }
+
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertEquals(0, this.scheduler.getPendingCount());
+    }
+
+    /**
+     * Timeouts concurrently scheduled and cancelled by multiple threads must neither fire nor leak.
+     */
+    @Test
+    public void concurrentScheduleAndCancel() throws InterruptedException {
+        AtomicInteger count = new AtomicInteger(0);
+        AtomicInteger failures = new AtomicInteger(0);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 8; ++i) {
+            threads.add(new Thread(() -> {
+                for (int j = 0; j < 10_000; ++j) {
+                    TimeoutScheduler.Timeout timeout = this.scheduler.schedule(count::incrementAndGet, 60_000 + ThreadLocalRandom.current().nextInt(60_000), TimeUnit.MILLISECONDS);
+                    if (!timeout.cancel()) {
+                        failures.incrementAndGet();
+                    }
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(0, failures.get());
+        assertEquals(0, this.scheduler.getPendingCount());
+        Thread.sleep(50);
+        assertEquals(0, count.get());
+    }
+}
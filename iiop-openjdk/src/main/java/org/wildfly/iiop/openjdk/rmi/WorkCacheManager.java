@@ -5,14 +5,16 @@
 package org.wildfly.iiop.openjdk.rmi;
 
 
-import java.lang.ref.SoftReference;
 import java.lang.reflect.Method;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.wildfly.iiop.openjdk.logging.IIOPLogger;
 
@@ -27,6 +29,11 @@ import org.wildfly.iiop.openjdk.logging.IIOPLogger;
  * <li><code>ExceptionAnalysis</code> for exceptions.</li>
  * </ul>
  * <p/>
+ * Completed analyses are associated with their class via a <code>ClassValue</code>,
+ * and thus live exactly as long as the analysed class.
+ * Concurrent requests for an analysis not yet completed wait for the
+ * thread performing it, rather than serializing on a global lock.
+ * <p/>
  * Besides caching work already done, this caches work in progress,
  * as we need to know about this to handle cyclic graphs of analyses.
  * When a thread re-enters the <code>getAnalysis()</code> method, an
@@ -50,18 +57,23 @@ class WorkCacheManager {
     private final Method initializer;
 
     /**
-     * This maps the classes of completely done analyses to soft
-     * references of their analysis.
+     * This associates classes with the future result of their analysis,
+     * which is unset until some thread begins the analysis.
      */
-    private final Map<Class, SoftReference<ContainerAnalysis>> workDone;
+    private final ClassValue<AtomicReference<CompletableFuture<ContainerAnalysis>>> workDone = new ClassValue<>() {
+        @Override
+        protected AtomicReference<CompletableFuture<ContainerAnalysis>> computeValue(Class<?> type) {
+            return new AtomicReference<>();
+        }
+    };
 
     /**
-     * This maps the classes of analyses in progress to their
-     * analysis.
+     * This maps the classes of analyses in progress by the current
+     * thread to their analysis.
      */
-    private final Map<InProgressKey, ContainerAnalysis> workInProgress;
+    private final ThreadLocal<Map<Class<?>, ContainerAnalysis>> workInProgress = ThreadLocal.withInitial(HashMap::new);
 
-    private final Map<ClassLoader, Set<Class<?>>> classesByLoader;
+    private final Map<ClassLoader, Set<Class<?>>> classesByLoader = new ConcurrentHashMap<>();
 
     /**
      * Create a new work cache manager.
@@ -76,9 +88,6 @@ class WorkCacheManager {
         } catch (NoSuchMethodException ex) {
             throw IIOPLogger.ROOT_LOGGER.unexpectedException(ex);
         }
-        workDone = new HashMap<Class, SoftReference<ContainerAnalysis>>();
-        workInProgress = new HashMap<InProgressKey, ContainerAnalysis>();
-        classesByLoader = new HashMap<ClassLoader, Set<Class<?>>>();
     }
 
     public void clearClassLoader(final ClassLoader cl) {
@@ -96,61 +105,48 @@ class WorkCacheManager {
      * class, an unfinished analysis is returned.
      */
     ContainerAnalysis getAnalysis(final Class cls) throws RMIIIOPViolationException {
-        ContainerAnalysis ret = null;
-        boolean created = false;
-        try {
-            synchronized (this) {
-                ret = lookupDone(cls);
-                if (ret != null) {
-                    return ret;
-                }
-
-                // is it work-in-progress?
-                final ContainerAnalysis inProgress = workInProgress.get(new InProgressKey(cls, Thread.currentThread()));
-                if (inProgress != null) {
-                        return inProgress; // return unfinished
-
-                    // Do not wait for the other thread: We may deadlock
-                    // Double work is better that deadlock...
-                }
+        final Map<Class<?>, ContainerAnalysis> inProgress = workInProgress.get();
+        // is it work-in-progress?
+        final ContainerAnalysis unfinished = inProgress.get(cls);
+        if (unfinished != null) {
+            return unfinished; // return unfinished
+        }
 
-                ret = createWorkInProgress(cls);
-            }
-            created = true;
-            // Do the work
-            doTheWork(cls, ret);
-        } finally {
-            // We did it
-            synchronized (this) {
-                if(created) {
-                    workInProgress.remove(new InProgressKey(cls, Thread.currentThread()));
-                    workDone.put(cls, new SoftReference<ContainerAnalysis>(ret));
-                    ClassLoader classLoader = cls.getClassLoader();
-                    if (classLoader != null) {
-                        Set<Class<?>> classes = classesByLoader.get(classLoader);
-                        if (classes == null) {
-                            classesByLoader.put(classLoader, classes = new HashSet<Class<?>>());
-                        }
-                        classes.add(cls);
-                    }
+        final AtomicReference<CompletableFuture<ContainerAnalysis>> reference = workDone.get(cls);
+        while (true) {
+            final CompletableFuture<ContainerAnalysis> future = reference.get();
+            if (future == null) {
+                final CompletableFuture<ContainerAnalysis> work = new CompletableFuture<>();
+                if (reference.compareAndSet(null, work)) {
+                    return doTheWork(cls, work, reference);
                 }
-                notifyAll();
+            } else if (future.isDone() || inProgress.isEmpty()) {
+                // Only wait if this thread has no unfinished analyses that the other thread may need
+                return lookupDone(future);
+            } else {
+                // Do not wait for the other thread: We may deadlock
+                // Double work is better that deadlock...
+                return doTheWork(cls, null, null);
             }
         }
-        return ret;
     }
 
     /**
-     * Lookup an analysis in the fully done map.
+     * Lookup an analysis done by some other thread, waiting for it if necessary.
      */
-    private ContainerAnalysis lookupDone(Class cls) {
-        SoftReference ref = (SoftReference) workDone.get(cls);
-        if (ref == null)
-            return null;
-        ContainerAnalysis ret = (ContainerAnalysis) ref.get();
-        if (ret == null)
-            workDone.remove(cls); // clear map entry if soft ref. was cleared.
-        return ret;
+    private static ContainerAnalysis lookupDone(final CompletableFuture<ContainerAnalysis> future) throws RMIIIOPViolationException {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            final Throwable t = ex.getCause();
+            if (t instanceof RMIIIOPViolationException)
+                throw (RMIIIOPViolationException) t;
+            if (t instanceof RuntimeException)
+                throw (RuntimeException) t;
+            if (t instanceof Error)
+                throw (Error) t;
+            throw ex;
+        }
     }
 
     /**
@@ -168,22 +164,41 @@ class WorkCacheManager {
             throw new RuntimeException(ex.toString());
         }
 
-        workInProgress.put(new InProgressKey(cls, Thread.currentThread()), analysis);
+        workInProgress.get().put(cls, analysis);
 
         return analysis;
     }
 
-    private void doTheWork(final Class cls, final ContainerAnalysis ret)
+    /**
+     * Performs an analysis, and if a future is specified, publishes its result.
+     */
+    private ContainerAnalysis doTheWork(final Class cls, final CompletableFuture<ContainerAnalysis> future, final AtomicReference<CompletableFuture<ContainerAnalysis>> reference)
             throws RMIIIOPViolationException {
         try {
-            initializer.invoke(ret);
-        } catch (Throwable t) {
-            synchronized (this) {
-                workInProgress.remove(new InProgressKey(cls, Thread.currentThread()));
+            final ContainerAnalysis ret = createWorkInProgress(cls);
+            try {
+                initializer.invoke(ret);
+            } finally {
+                workInProgress.get().remove(cls);
+            }
+            if (future != null) {
+                ClassLoader classLoader = cls.getClassLoader();
+                if (classLoader != null) {
+                    classesByLoader.computeIfAbsent(classLoader, key -> ConcurrentHashMap.newKeySet()).add(cls);
+                }
+                future.complete(ret);
             }
+            return ret;
+        } catch (Throwable t) {
             if (t instanceof InvocationTargetException) // unwrap
                 t = ((InvocationTargetException) t).getTargetException();
 
+            if (future != null) {
+                // Do not cache failures, but let waiting threads fail likewise
+                reference.compareAndSet(future, null);
+                future.completeExceptionally(t);
+            }
+
             if (t instanceof RMIIIOPViolationException)
                 throw (RMIIIOPViolationException) t;
             if (t instanceof RuntimeException)
@@ -193,35 +208,4 @@ class WorkCacheManager {
             throw new RuntimeException(t.toString());
         }
     }
-
-    private static class InProgressKey {
-        final Class<?> clazz;
-        final Thread thread;
-
-        private InProgressKey(Class<?> clazz, Thread thread) {
-            this.clazz = clazz;
-            this.thread = thread;
-        }
-
-        @Override
-        public boolean equals(Object o) {
-            if (this == o) return true;
-            if (o == null || getClass() != o.getClass()) return false;
-
-            InProgressKey that = (InProgressKey) o;
-
-            if (clazz != null ? !clazz.equals(that.clazz) : that.clazz != null) return false;
-            if (thread != null ? !thread.equals(that.thread) : that.thread != null) return false;
-
-            return true;
-        }
-
-        @Override
-        public int hashCode() {
-            int result = clazz != null ? clazz.hashCode() : 0;
-            result = 31 * result + (thread != null ? thread.hashCode() : 0);
-            return result;
-        }
-    }
 }
-
@@ -6,8 +6,9 @@ package org.wildfly.iiop.openjdk.rmi.marshal;
 
 import java.io.Externalizable;
 import java.io.Serializable;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 
 import javax.rmi.CORBA.Util;
 import javax.rmi.PortableRemoteObject;
@@ -575,8 +576,11 @@ public class CDRStream {
             implements CDRStreamReader {
         private static Class[] paramTypes = {org.omg.CORBA.portable.InputStream.class};
 
-        // The readMethod for this IdlInterfaceReader.
-        private Method readMethod = null;
+        private static final MethodType readType = MethodType.methodType(Object.class, InputStream.class);
+
+        // The read method of the helper class for this IdlInterfaceReader,
+        // resolved once so that reading does not go through reflection.
+        private final MethodHandle readMethod;
 
         IdlInterfaceReader(Class clz) {
             String helperClassName = clz.getName() + "Helper";
@@ -584,21 +588,21 @@ public class CDRStream {
             try {
                 Class helperClass =
                         clz.getClassLoader().loadClass(helperClassName);
-                readMethod = helperClass.getMethod("read", paramTypes);
+                readMethod = MethodHandles.publicLookup().unreflect(helperClass.getMethod("read", paramTypes)).asType(readType);
             } catch (ClassNotFoundException e) {
                 throw IIOPLogger.ROOT_LOGGER.errorLoadingClass(helperClassName, e);
             } catch (NoSuchMethodException e) {
                 throw IIOPLogger.ROOT_LOGGER.noReadMethodInHelper(helperClassName, e);
+            } catch (IllegalAccessException e) {
+                throw IIOPLogger.ROOT_LOGGER.unexpectedException(e);
             }
         }
 
         public Object read(InputStream in) {
             try {
-                return readMethod.invoke(null, new Object[]{in});
-            } catch (IllegalAccessException e) {
-                throw IIOPLogger.ROOT_LOGGER.unexpectedException(e);
-            } catch (InvocationTargetException e) {
-                throw IIOPLogger.ROOT_LOGGER.errorUnmarshaling(org.omg.CORBA.Object.class, e.getTargetException());
+                return (Object) readMethod.invokeExact(in);
+            } catch (Throwable e) {
+                throw IIOPLogger.ROOT_LOGGER.errorUnmarshaling(org.omg.CORBA.Object.class, e);
             }
         }
     }
@@ -875,8 +879,11 @@ public class CDRStream {
      */
     private static final class IdlInterfaceWriter
             implements CDRStreamWriter {
-        // The writeMethod for this IdlInterfaceReader.
-        private Method writeMethod = null;
+        private static final MethodType writeType = MethodType.methodType(void.class, OutputStream.class, Object.class);
+
+        // The write method of the helper class for this IdlInterfaceWriter,
+        // resolved once so that writing does not go through reflection.
+        private final MethodHandle writeMethod;
 
         IdlInterfaceWriter(Class clz) {
             String helperClassName = clz.getName() + "Helper";
@@ -888,21 +895,21 @@ public class CDRStream {
                         org.omg.CORBA.portable.OutputStream.class,
                         clz
                 };
-                writeMethod = helperClass.getMethod("write", paramTypes);
+                writeMethod = MethodHandles.publicLookup().unreflect(helperClass.getMethod("write", paramTypes)).asType(writeType);
             } catch (ClassNotFoundException e) {
                 throw IIOPLogger.ROOT_LOGGER.errorLoadingClass(helperClassName, e);
             } catch (NoSuchMethodException e) {
                 throw IIOPLogger.ROOT_LOGGER.noWriteMethodInHelper(helperClassName, e);
+            } catch (IllegalAccessException e) {
+                throw IIOPLogger.ROOT_LOGGER.unexpectedException(e);
             }
         }
 
         public void write(OutputStream out, Object obj) {
             try {
-                writeMethod.invoke(null, new Object[]{out, obj});
-            } catch (IllegalAccessException e) {
-                throw IIOPLogger.ROOT_LOGGER.unexpectedException(e);
-            } catch (InvocationTargetException e) {
-                throw IIOPLogger.ROOT_LOGGER.errorMarshaling(org.omg.CORBA.Object.class, e.getTargetException());
+                writeMethod.invokeExact(out, obj);
+            } catch (Throwable e) {
+                throw IIOPLogger.ROOT_LOGGER.errorMarshaling(org.omg.CORBA.Object.class, e);
             }
         }
     }
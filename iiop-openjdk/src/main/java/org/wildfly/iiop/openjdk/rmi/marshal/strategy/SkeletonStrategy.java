@@ -4,6 +4,9 @@
  */
 package org.wildfly.iiop.openjdk.rmi.marshal.strategy;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.rmi.RemoteException;
 
@@ -166,11 +169,11 @@ public class SkeletonStrategy {
 
         /*
         * If the exception class corresponds to an IDL-defined exception, this
-        * field contains the write method of the associated helper class.
-        * A null value indicates that the exception class does not correspond
-        * to an IDL-defined exception.
+        * field contains a handle to the write method of the associated helper
+        * class. A null value indicates that the exception class does not
+        * correspond to an IDL-defined exception.
         */
-        private Method writeMethod = null;
+        private MethodHandle writeMethod = null;
 
         /**
          * The CORBA repository id of the exception class. (This field is used
@@ -196,11 +199,14 @@ public class SkeletonStrategy {
                             clz.getClassLoader().loadClass(helperClassName);
                     Class[] paramTypes =
                             {org.omg.CORBA.portable.OutputStream.class, clz};
-                    writeMethod = helperClass.getMethod("write", paramTypes);
+                    writeMethod = MethodHandles.publicLookup().unreflect(helperClass.getMethod("write", paramTypes))
+                            .asType(MethodType.methodType(void.class, OutputStream.class, Object.class));
                 } catch (ClassNotFoundException e) {
                     throw IIOPLogger.ROOT_LOGGER.errorLoadingClass(helperClassName, e);
                 } catch (NoSuchMethodException e) {
                     throw IIOPLogger.ROOT_LOGGER.noWriteMethodInHelper(helperClassName, e);
+                } catch (IllegalAccessException e) {
+                    throw IIOPLogger.ROOT_LOGGER.unexpectedException(e);
                 }
 
             } else {
@@ -228,11 +234,9 @@ public class SkeletonStrategy {
         public void write(OutputStream out, Object excep) {
             if (writeMethod != null) {
                 try {
-                    writeMethod.invoke(null, new Object[]{out, excep});
-                } catch (IllegalAccessException e) {
-                    throw IIOPLogger.ROOT_LOGGER.unexpectedException(e);
-                } catch (java.lang.reflect.InvocationTargetException e) {
-                    throw IIOPLogger.ROOT_LOGGER.errorMarshaling(IDLEntity.class, e.getTargetException());
+                    writeMethod.invokeExact(out, excep);
+                } catch (Throwable e) {
+                    throw IIOPLogger.ROOT_LOGGER.errorMarshaling(IDLEntity.class, e);
                 }
             } else {
                 out.write_string(reposId);
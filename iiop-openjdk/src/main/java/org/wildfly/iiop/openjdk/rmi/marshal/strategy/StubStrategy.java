@@ -4,6 +4,9 @@
  */
 package org.wildfly.iiop.openjdk.rmi.marshal.strategy;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.rmi.NoSuchObjectException;
 import java.rmi.Remote;
 import java.util.ArrayList;
@@ -274,11 +277,11 @@ public class StubStrategy {
 
         /*
         * If the exception class corresponds to an IDL-defined exception, this
-        * field contains the read method of the associated helper class.
-        * A null value indicates that the exception class does not correspond
-        * to an IDL-defined exception.
+        * field contains a handle to the read method of the associated helper
+        * class. A null value indicates that the exception class does not
+        * correspond to an IDL-defined exception.
         */
-        private java.lang.reflect.Method readMethod = null;
+        private MethodHandle readMethod = null;
 
         /**
          * Constructs an <code>ExceptionReader</code> for a given exception
@@ -294,7 +297,8 @@ public class StubStrategy {
                 try {
                     Class<?> helperClass = clz.getClassLoader().loadClass(helperClassName);
                     Class<?>[] paramTypes = {org.omg.CORBA.portable.InputStream.class};
-                    readMethod = helperClass.getMethod("read", paramTypes);
+                    readMethod = MethodHandles.publicLookup().unreflect(helperClass.getMethod("read", paramTypes))
+                            .asType(MethodType.methodType(Exception.class, InputStream.class));
 
                     // Ignore the reposId parameter and use the id
                     // returned by the IDL-generated helper class
@@ -326,11 +330,9 @@ public class StubStrategy {
         public Exception read(InputStream in) {
             if (readMethod != null) {
                 try {
-                    return (Exception) readMethod.invoke(null, new Object[]{in});
-                } catch (IllegalAccessException e) {
-                    throw IIOPLogger.ROOT_LOGGER.unexpectedException(e);
-                } catch (java.lang.reflect.InvocationTargetException e) {
-                    throw IIOPLogger.ROOT_LOGGER.errorUnmarshaling(IDLEntity.class, e.getTargetException());
+                    return (Exception) readMethod.invokeExact(in);
+                } catch (Throwable e) {
+                    throw IIOPLogger.ROOT_LOGGER.errorUnmarshaling(IDLEntity.class, e);
                 }
             } else {
                 in.read_string(); // read and discard the repository id
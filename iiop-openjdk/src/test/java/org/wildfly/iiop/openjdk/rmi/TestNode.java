@@ -0,0 +1,17 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.iiop.openjdk.rmi;
+
+import java.io.Serializable;
+
+/**
+ * Self-referencing value type, whose analysis requires the analysis of itself.
+ */
+public class TestNode implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private TestNode next;
+    private TestNode[] children;
+}
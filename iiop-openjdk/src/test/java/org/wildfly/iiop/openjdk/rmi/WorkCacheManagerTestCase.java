@@ -0,0 +1,78 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.iiop.openjdk.rmi;
+
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.rmi.Remote;
+import java.rmi.RemoteException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link WorkCacheManager}.
+ */
+public class WorkCacheManagerTestCase {
+
+    @Test
+    public void concurrent() throws Exception {
+        WorkCacheManager manager = new WorkCacheManager(InterfaceAnalysis.class);
+        int threads = 8;
+        CountDownLatch latch = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<ContainerAnalysis>> futures = new ArrayList<>(threads);
+            for (int i = 0; i < threads; ++i) {
+                futures.add(executor.submit(new Callable<ContainerAnalysis>() {
+                    @Override
+                    public ContainerAnalysis call() throws Exception {
+                        latch.await();
+                        return manager.getAnalysis(Greeter.class);
+                    }
+                }));
+            }
+            latch.countDown();
+            // All threads share a single analysis
+            ContainerAnalysis analysis = futures.get(0).get();
+            for (Future<ContainerAnalysis> future : futures) {
+                assertSame(analysis, future.get());
+            }
+            assertSame(analysis, manager.getAnalysis(Greeter.class));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void cyclic() throws Exception {
+        WorkCacheManager manager = new WorkCacheManager(ValueAnalysis.class);
+
+        ContainerAnalysis analysis = manager.getAnalysis(TestNode.class);
+
+        assertSame(analysis, manager.getAnalysis(TestNode.class));
+    }
+
+    @Test
+    public void clearClassLoader() throws Exception {
+        WorkCacheManager manager = new WorkCacheManager(InterfaceAnalysis.class);
+        ContainerAnalysis analysis = manager.getAnalysis(Greeter.class);
+
+        manager.clearClassLoader(Greeter.class.getClassLoader());
+
+        assertNotSame(analysis, manager.getAnalysis(Greeter.class));
+    }
+
+    public interface Greeter extends Remote {
+        String greet(TestNode node) throws RemoteException;
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.iiop.openjdk.rmi.marshal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+
+import java.lang.reflect.Proxy;
+import java.util.Properties;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.omg.CORBA.ORB;
+import org.omg.CORBA_2_3.portable.InputStream;
+import org.omg.CORBA_2_3.portable.OutputStream;
+
+/**
+ * Unit test for {@link CDRStream}.
+ */
+public class CDRStreamTestCase {
+
+    private static ORB orb;
+
+    @BeforeClass
+    public static void init() {
+        Properties properties = new Properties();
+        properties.setProperty("org.omg.CORBA.ORBClass", "com.sun.corba.se.impl.orb.ORBImpl");
+        orb = ORB.init(new String[0], properties);
+    }
+
+    @AfterClass
+    public static void destroy() {
+        orb.destroy();
+    }
+
+    @Test
+    public void idlInterface() {
+        CDRStreamWriter writer = CDRStream.writerFor(Counter.class);
+        CDRStreamReader reader = CDRStream.readerFor(Counter.class);
+        assertSame(writer.getClass(), CDRStream.writerFor(CDRStream.abbrevFor(Counter.class), Counter.class.getClassLoader()).getClass());
+        assertSame(reader.getClass(), CDRStream.readerFor(CDRStream.abbrevFor(Counter.class), Counter.class.getClassLoader()).getClass());
+
+        OutputStream out = (OutputStream) orb.create_output_stream();
+        writer.write(out, CounterHelper.create(42));
+        InputStream in = (InputStream) out.create_input_stream();
+
+        assertEquals(42, ((Counter) reader.read(in)).hashCode());
+    }
+
+    @Test
+    public void idlInterfaceFailure() {
+        CDRStreamWriter writer = CDRStream.writerFor(Counter.class);
+        OutputStream out = (OutputStream) orb.create_output_stream();
+
+        // Exceptions thrown by the helper class are wrapped, as before
+        RuntimeException exception = assertThrows(RuntimeException.class, () -> writer.write(out, CounterHelper.create(-1)));
+        assertEquals(IllegalArgumentException.class, exception.getCause().getClass());
+    }
+
+    @Test
+    public void primitives() {
+        OutputStream out = (OutputStream) orb.create_output_stream();
+        Class<?>[] types = { boolean.class, byte.class, char.class, double.class, float.class, int.class, long.class, short.class, String.class };
+        Object[] values = { true, (byte) 1, 'c', 1.5d, 2.5f, 3, 4L, (short) 5, "value" };
+        for (int i = 0; i < types.length; ++i) {
+            CDRStream.writerFor(types[i]).write(out, values[i]);
+        }
+        InputStream in = (InputStream) out.create_input_stream();
+        for (int i = 0; i < types.length; ++i) {
+            assertEquals(values[i], CDRStream.readerFor(types[i]).read(in));
+        }
+    }
+
+    /**
+     * IDL interface, whose marshalling is delegated to {@link CounterHelper}.
+     */
+    public interface Counter extends org.omg.CORBA.Object {
+    }
+
+    /**
+     * Mimics an IDL-generated helper class.
+     */
+    public static final class CounterHelper {
+
+        static Counter create(int value) {
+            return (Counter) Proxy.newProxyInstance(Counter.class.getClassLoader(), new Class<?>[] { Counter.class }, (proxy, method, args) -> {
+                if (method.getName().equals("hashCode")) {
+                    return value;
+                }
+                throw new UnsupportedOperationException(method.getName());
+            });
+        }
+
+        public static Counter read(org.omg.CORBA.portable.InputStream in) {
+            return create(in.read_long());
+        }
+
+        public static void write(org.omg.CORBA.portable.OutputStream out, Counter value) {
+            int hash = value.hashCode();
+            if (hash < 0) {
+                throw new IllegalArgumentException(String.valueOf(hash));
+            }
+            out.write_long(hash);
+        }
+    }
+}
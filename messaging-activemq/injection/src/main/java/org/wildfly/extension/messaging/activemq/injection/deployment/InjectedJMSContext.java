@@ -38,6 +38,8 @@ class InjectedJMSContext extends JMSContextWrapper implements Serializable {
     private final RequestedJMSContext requestedJMSContext;
     // Identifier of the injected JMSContext
     private final String id;
+    // Key of the JMSContext used by this injection in the current transaction, within the transaction synchronization registry
+    private final String transactionResourceKey;
     // JMSContext bean with the @TransactionScoped scope.
     // An indirect reference is used as the instance is only valide when the transaction scope is active.
     private transient Instance<TransactedJMSContext> transactedJMSContext;
@@ -51,6 +53,7 @@ class InjectedJMSContext extends JMSContextWrapper implements Serializable {
     @Inject
     InjectedJMSContext(InjectionPoint ip, RequestedJMSContext requestedJMSContext, Instance<TransactedJMSContext> transactedJMSContext) {
         this.id = UUID.randomUUID().toString();
+        this.transactionResourceKey = InjectedJMSContext.class.getName() + "." + this.id;
         this.requestedJMSContext = requestedJMSContext;
         this.transactedJMSContext = transactedJMSContext;
         JMSConnectionFactory connectionFactory = ip.getAnnotated().getAnnotation(JMSConnectionFactory.class);
@@ -65,34 +68,31 @@ class InjectedJMSContext extends JMSContextWrapper implements Serializable {
      *
      * The use of the correct AbstractJMSContext (one with the @RequestScoped, the other
      * with the @TransactionScoped) is determined by the presence on an active transaction.
+     * Within a transaction, the JMSContext is also registered as a resource of the transaction,
+     * so that subsequent calls in the same transaction only require a single registry lookup.
      */
     @Override
     JMSContext getDelegate() {
-        boolean inTx = isInTransaction();
-        AbstractJMSContext jmsContext = inTx ? transactedJMSContext.get() : requestedJMSContext;
-
-        ROOT_LOGGER.debugf("using %s to create the injected JMSContext", jmsContext, id);
-        ConnectionFactory connectionFactory = getConnectionFactory();
-        JMSContext contextInstance = jmsContext.getContext(id, info, connectionFactory);
-
-        //fix of  WFLY-9501
-        // CCM tries to clean opened connections before execution of @PreDestroy method on JMSContext - which is executed after completion, see .
-        // Correct phase to call close is afterCompletion {@see TransactionSynchronizationRegistry.registerInterposedSynchronization}
-        if(inTx) {
-            TransactedJMSContext transactedJMSContext = (TransactedJMSContext)jmsContext;
-            transactedJMSContext.registerCleanUpListener(transactionSynchronizationRegistry, contextInstance);
+        TransactionSynchronizationRegistry tsr = getTransactionSynchronizationRegistry();
+        if (tsr.getTransactionStatus() != Status.STATUS_ACTIVE) {
+            ROOT_LOGGER.debugf("using %s to create the injected JMSContext", requestedJMSContext, id);
+            return requestedJMSContext.getContext(id, info, getConnectionFactory());
         }
 
-        return contextInstance;
-    }
+        JMSContext contextInstance = (JMSContext) tsr.getResource(transactionResourceKey);
+        if (contextInstance == null) {
+            TransactedJMSContext jmsContext = transactedJMSContext.get();
 
-    /**
-     * check whether there is an active transaction.
-     */
-    private boolean isInTransaction() {
-        TransactionSynchronizationRegistry tsr = getTransactionSynchronizationRegistry();
-        boolean inTx = tsr.getTransactionStatus() == Status.STATUS_ACTIVE;
-        return inTx;
+            ROOT_LOGGER.debugf("using %s to create the injected JMSContext", jmsContext, id);
+            contextInstance = jmsContext.getContext(id, info, getConnectionFactory());
+
+            //fix of  WFLY-9501
+            // CCM tries to clean opened connections before execution of @PreDestroy method on JMSContext - which is executed after completion, see .
+            // Correct phase to call close is afterCompletion {@see TransactionSynchronizationRegistry.registerInterposedSynchronization}
+            jmsContext.registerCleanUpListener(tsr, contextInstance);
+            tsr.putResource(transactionResourceKey, contextInstance);
+        }
+        return contextInstance;
     }
 
     /**
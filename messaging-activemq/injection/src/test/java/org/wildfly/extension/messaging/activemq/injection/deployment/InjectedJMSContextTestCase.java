@@ -0,0 +1,198 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.messaging.activemq.injection.deployment;
+
+import static org.wildfly.extension.messaging.activemq.injection.deployment.DefaultJMSConnectionFactoryBinding.COMP_DEFAULT_JMS_CONNECTION_FACTORY;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Hashtable;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.enterprise.inject.Instance;
+import jakarta.enterprise.inject.spi.Annotated;
+import jakarta.enterprise.inject.spi.InjectionPoint;
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.JMSContext;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import javax.naming.Context;
+import javax.naming.NamingException;
+import javax.naming.spi.InitialContextFactory;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+/**
+ * Unit test for {@link InjectedJMSContext#getDelegate()}.
+ */
+public class InjectedJMSContextTestCase {
+
+    private static final String TRANSACTION_SYNCHRONIZATION_REGISTRY_LOOKUP = "java:comp/TransactionSynchronizationRegistry";
+
+    static final Map<String, Object> BINDINGS = new HashMap<>();
+
+    private final TestTransactionSynchronizationRegistry tsr = new TestTransactionSynchronizationRegistry();
+    private final ConnectionFactory connectionFactory = Mockito.mock(ConnectionFactory.class);
+    private String initialContextFactory;
+    // The @TransactionScoped bean of the current transaction
+    private TransactedJMSContext transacted;
+
+    @Before
+    public void init() {
+        BINDINGS.put(TRANSACTION_SYNCHRONIZATION_REGISTRY_LOOKUP, this.tsr);
+        BINDINGS.put(COMP_DEFAULT_JMS_CONNECTION_FACTORY, this.connectionFactory);
+        this.initialContextFactory = System.setProperty(Context.INITIAL_CONTEXT_FACTORY, TestInitialContextFactory.class.getName());
+        Mockito.when(this.connectionFactory.createContext(JMSContext.AUTO_ACKNOWLEDGE)).thenAnswer(invocation -> Mockito.mock(JMSContext.class));
+    }
+
+    @After
+    public void destroy() {
+        if (this.initialContextFactory != null) {
+            System.setProperty(Context.INITIAL_CONTEXT_FACTORY, this.initialContextFactory);
+        } else {
+            System.clearProperty(Context.INITIAL_CONTEXT_FACTORY);
+        }
+        BINDINGS.clear();
+    }
+
+    @SuppressWarnings("unchecked")
+    private InjectedJMSContext createInjectedContext() {
+        InjectionPoint ip = Mockito.mock(InjectionPoint.class);
+        Mockito.when(ip.getAnnotated()).thenReturn(Mockito.mock(Annotated.class));
+        Instance<TransactedJMSContext> instance = Mockito.mock(Instance.class);
+        Mockito.when(instance.get()).thenAnswer(invocation -> this.transacted);
+        return new InjectedJMSContext(ip, new RequestedJMSContext(), instance);
+    }
+
+    private void begin() {
+        this.tsr.begin();
+        this.transacted = Mockito.spy(new TransactedJMSContext());
+    }
+
+    @Test
+    public void sameTransaction() {
+        InjectedJMSContext injected = this.createInjectedContext();
+        this.begin();
+
+        JMSContext context = injected.getDelegate();
+        Assert.assertNotNull(context);
+        Assert.assertSame(context, injected.getDelegate());
+        Assert.assertSame(context, injected.getDelegate());
+
+        // Subsequent calls must be served by the transaction resource, without consulting the @TransactionScoped bean
+        Mockito.verify(this.transacted).registerCleanUpListener(this.tsr, context);
+        Mockito.verify(this.transacted).getContext(Mockito.anyString(), Mockito.any(), Mockito.same(this.connectionFactory));
+        Assert.assertEquals(1, this.tsr.getSynchronizations().size());
+        Mockito.verify(this.connectionFactory, Mockito.times(1)).createContext(JMSContext.AUTO_ACKNOWLEDGE);
+    }
+
+    @Test
+    public void newTransaction() {
+        InjectedJMSContext injected = this.createInjectedContext();
+        this.begin();
+        JMSContext context = injected.getDelegate();
+        Assert.assertSame(context, injected.getDelegate());
+        List<Synchronization> synchronizations = this.tsr.getSynchronizations();
+        Assert.assertEquals(1, synchronizations.size());
+
+        // Completing the transaction closes its context
+        synchronizations.get(0).afterCompletion(Status.STATUS_COMMITTED);
+        Mockito.verify(context).close();
+
+        this.begin();
+        JMSContext newContext = injected.getDelegate();
+        Assert.assertNotNull(newContext);
+        Assert.assertNotSame(context, newContext);
+        Assert.assertSame(newContext, injected.getDelegate());
+        Assert.assertEquals(1, this.tsr.getSynchronizations().size());
+        Mockito.verify(newContext, Mockito.never()).close();
+    }
+
+    @Test
+    public void distinctInjections() {
+        InjectedJMSContext injected1 = this.createInjectedContext();
+        InjectedJMSContext injected2 = this.createInjectedContext();
+        this.begin();
+
+        JMSContext context1 = injected1.getDelegate();
+        JMSContext context2 = injected2.getDelegate();
+        Assert.assertNotSame(context1, context2);
+        Assert.assertSame(context1, injected1.getDelegate());
+        Assert.assertSame(context2, injected2.getDelegate());
+
+        // One clean up synchronization per context
+        Assert.assertEquals(2, this.tsr.getSynchronizations().size());
+    }
+
+    /**
+     * Resolves names against the bindings of the current test.
+     */
+    public static class TestInitialContextFactory implements InitialContextFactory {
+        @Override
+        public Context getInitialContext(Hashtable<?, ?> environment) throws NamingException {
+            Context context = Mockito.mock(Context.class);
+            Mockito.when(context.lookup(Mockito.anyString())).thenAnswer(invocation -> BINDINGS.get(invocation.<String>getArgument(0)));
+            return context;
+        }
+    }
+
+    /**
+     * Transaction synchronization registry whose resources and synchronizations are scoped to the last begun transaction.
+     */
+    private static class TestTransactionSynchronizationRegistry implements TransactionSynchronizationRegistry {
+        private Map<Object, Object> resources;
+        private List<Synchronization> synchronizations;
+
+        void begin() {
+            this.resources = new HashMap<>();
+            this.synchronizations = new ArrayList<>();
+        }
+
+        List<Synchronization> getSynchronizations() {
+            return this.synchronizations;
+        }
+
+        @Override
+        public Object getTransactionKey() {
+            return this.resources;
+        }
+
+        @Override
+        public void putResource(Object key, Object value) {
+            this.resources.put(key, value);
+        }
+
+        @Override
+        public Object getResource(Object key) {
+            return this.resources.get(key);
+        }
+
+        @Override
+        public void registerInterposedSynchronization(Synchronization sync) {
+            this.synchronizations.add(sync);
+        }
+
+        @Override
+        public int getTransactionStatus() {
+            return (this.resources != null) ? Status.STATUS_ACTIVE : Status.STATUS_NO_TRANSACTION;
+        }
+
+        @Override
+        public void setRollbackOnly() {
+        }
+
+        @Override
+        public boolean getRollbackOnly() {
+            return false;
+        }
+    }
+}
@@ -83,6 +83,20 @@ public class JGroupsDiscoveryGroupDefinition extends PersistentResourceDefinitio
         JGROUPS_CHANNEL_FACTORY, JGROUPS_CHANNEL, JGROUPS_CLUSTER, REFRESH_TIMEOUT, INITIAL_WAIT_TIMEOUT
     };
 
+    public static final AttributeDefinition QUEUED_BROADCAST_COUNT = create("queued-broadcast-count", ModelType.INT)
+            .setStorageRuntime()
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .addFlag(AttributeAccess.Flag.GAUGE_METRIC)
+            .build();
+
+    public static final AttributeDefinition DROPPED_BROADCAST_COUNT = create("dropped-broadcast-count", ModelType.LONG)
+            .setStorageRuntime()
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .addFlag(AttributeAccess.Flag.COUNTER_METRIC)
+            .build();
+
+    static final AttributeDefinition[] METRICS = { QUEUED_BROADCAST_COUNT, DROPPED_BROADCAST_COUNT };
+
     private final boolean registerRuntimeOnly;
 
     protected JGroupsDiscoveryGroupDefinition(final boolean registerRuntimeOnly, final boolean subsystemResource) {
@@ -106,5 +120,10 @@ public class JGroupsDiscoveryGroupDefinition extends PersistentResourceDefinitio
                 registry.registerReadWriteAttribute(attr, null, reloadRequiredWriteAttributeHandler);
             }
         }
+        if (registerRuntimeOnly) {
+            for (AttributeDefinition metric : METRICS) {
+                registry.registerMetric(metric, JGroupsDiscoveryGroupMetricHandler.INSTANCE);
+            }
+        }
     }
 }
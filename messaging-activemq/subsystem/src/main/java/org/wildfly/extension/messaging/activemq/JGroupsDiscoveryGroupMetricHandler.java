@@ -0,0 +1,60 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.messaging.activemq;
+
+import static org.wildfly.extension.messaging.activemq.JGroupsDiscoveryGroupDefinition.DROPPED_BROADCAST_COUNT;
+import static org.wildfly.extension.messaging.activemq.JGroupsDiscoveryGroupDefinition.JGROUPS_CHANNEL;
+import static org.wildfly.extension.messaging.activemq.JGroupsDiscoveryGroupDefinition.JGROUPS_CLUSTER;
+import static org.wildfly.extension.messaging.activemq.JGroupsDiscoveryGroupDefinition.QUEUED_BROADCAST_COUNT;
+
+import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.ServiceController;
+import org.wildfly.extension.messaging.activemq.broadcast.BroadcastManager;
+import org.wildfly.extension.messaging.activemq.broadcast.BroadcastReceiver;
+import org.wildfly.extension.messaging.activemq.broadcast.BroadcastReceiverRegistrar;
+
+/**
+ * Reads the metrics of a JGroups discovery group, aggregated over the broadcast endpoints currently receiving broadcasts for its cluster.
+ */
+public class JGroupsDiscoveryGroupMetricHandler extends AbstractRuntimeOnlyHandler {
+
+    static final JGroupsDiscoveryGroupMetricHandler INSTANCE = new JGroupsDiscoveryGroupMetricHandler();
+
+    private JGroupsDiscoveryGroupMetricHandler() {
+    }
+
+    @Override
+    protected void executeRuntimeStep(OperationContext context, ModelNode operation) throws OperationFailedException {
+        final String attributeName = operation.require(ModelDescriptionConstants.NAME).asString();
+        final ModelNode model = context.readResource(PathAddress.EMPTY_ADDRESS).getModel();
+        final String channelName = JGROUPS_CHANNEL.resolveModelAttribute(context, model).asStringOrNull();
+        final String clusterName = JGROUPS_CLUSTER.resolveModelAttribute(context, model).asString();
+
+        long result = 0;
+        ServiceController<?> service = context.getServiceRegistry(false).getService(MessagingServices.getBroadcastCommandDispatcherFactoryServiceName(channelName));
+        if (service != null && service.getState() == ServiceController.State.UP) {
+            BroadcastReceiverRegistrar registrar = BroadcastReceiverRegistrar.class.cast(service.getValue());
+            for (BroadcastReceiver receiver : registrar.getReceivers()) {
+                if (receiver instanceof BroadcastManager) {
+                    BroadcastManager manager = (BroadcastManager) receiver;
+                    if (clusterName.equals(manager.getName())) {
+                        if (QUEUED_BROADCAST_COUNT.getName().equals(attributeName)) {
+                            result += manager.getQueuedBroadcastCount();
+                        } else if (DROPPED_BROADCAST_COUNT.getName().equals(attributeName)) {
+                            result += manager.getDroppedBroadcastCount();
+                        }
+                    }
+                }
+            }
+        }
+        context.getResult().set(result);
+    }
+}
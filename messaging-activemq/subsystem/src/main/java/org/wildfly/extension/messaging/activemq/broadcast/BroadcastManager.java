@@ -12,9 +12,27 @@ import java.util.concurrent.TimeUnit;
  */
 public interface BroadcastManager extends BroadcastReceiver {
 
+    /**
+     * Returns the name of the group whose broadcasts are received by this manager.
+     * @return a group name
+     */
+    String getName();
+
     byte[] getBroadcast() throws InterruptedException;
 
     byte[] getBroadcast(long timeout, TimeUnit unit) throws InterruptedException;
 
+    /**
+     * Returns the number of received broadcasts not yet delivered.
+     * @return a number of broadcasts
+     */
+    int getQueuedBroadcastCount();
+
+    /**
+     * Returns the number of received broadcasts that were superseded before their delivery.
+     * @return a number of broadcasts
+     */
+    long getDroppedBroadcastCount();
+
     void clear();
 }
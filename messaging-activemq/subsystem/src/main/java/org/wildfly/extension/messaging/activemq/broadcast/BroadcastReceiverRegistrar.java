@@ -5,6 +5,8 @@
 
 package org.wildfly.extension.messaging.activemq.broadcast;
 
+import java.util.Collection;
+
 import org.wildfly.clustering.server.Registrar;
 
 /**
@@ -12,4 +14,10 @@ import org.wildfly.clustering.server.Registrar;
  * @author Paul Ferraro
  */
 public interface BroadcastReceiverRegistrar extends BroadcastReceiver, Registrar<BroadcastReceiver> {
+
+    /**
+     * Returns the currently registered receivers.
+     * @return an unmodifiable collection of receivers
+     */
+    Collection<BroadcastReceiver> getReceivers();
 }
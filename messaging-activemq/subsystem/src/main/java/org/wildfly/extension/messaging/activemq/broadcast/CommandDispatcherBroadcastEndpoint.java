@@ -5,8 +5,10 @@
 
 package org.wildfly.extension.messaging.activemq.broadcast;
 
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
@@ -19,6 +21,9 @@ import org.wildfly.extension.messaging.activemq._private.MessagingLogger;
 
 /**
  * A {@link BroadcastEndpoint} based on a {@link CommandDispatcher}.
+ * At most one thread per endpoint dispatches a broadcast at any given time.  A broadcast issued while another thread is dispatching
+ * is dispatched by that thread once its dispatch returns, superseding any other broadcast issued in the meantime.
+ * Dispatching does not wait for the responses of group members.
  * @author Paul Ferraro
  */
 public class CommandDispatcherBroadcastEndpoint implements BroadcastEndpoint {
@@ -32,6 +37,8 @@ public class CommandDispatcherBroadcastEndpoint implements BroadcastEndpoint {
     private final BroadcastReceiverRegistrar registrar;
     private final Function<String, BroadcastManager> managerFactory;
     private final AtomicReference<Mode> mode = new AtomicReference<>(Mode.CLOSED);
+    private final AtomicReference<byte[]> pendingBroadcast = new AtomicReference<>();
+    private final AtomicBoolean dispatching = new AtomicBoolean(false);
 
     private volatile BroadcastManager manager = null;
     private volatile Registration registration = null;
@@ -76,6 +83,7 @@ public class CommandDispatcherBroadcastEndpoint implements BroadcastEndpoint {
             if (this.manager != null) {
                 this.manager.clear();
             }
+            this.pendingBroadcast.set(null);
         }
     }
 
@@ -85,7 +93,24 @@ public class CommandDispatcherBroadcastEndpoint implements BroadcastEndpoint {
             if (MessagingLogger.ROOT_LOGGER.isDebugEnabled()) {
                 MessagingLogger.ROOT_LOGGER.debugf("Broadcasting to group %s: %s", this.name, Arrays.toString(data));
             }
-            this.dispatcher.dispatchToGroup(new BroadcastCommand(data));
+            if (this.pendingBroadcast.getAndSet(data) != null) {
+                MessagingLogger.ROOT_LOGGER.debugf("Superseded pending broadcast to group %s", this.name);
+            }
+            this.dispatch();
+        }
+    }
+
+    private void dispatch() throws IOException {
+        // Broadcasts issued concurrently with a dispatch are coalesced and dispatched by the thread performing that dispatch
+        while ((this.pendingBroadcast.get() != null) && this.dispatching.compareAndSet(false, true)) {
+            try {
+                byte[] data = this.pendingBroadcast.getAndSet(null);
+                if ((data != null) && (this.mode.get() == Mode.BROADCASTER)) {
+                    this.dispatcher.dispatchToGroup(new BroadcastCommand(data));
+                }
+            } finally {
+                this.dispatching.set(false);
+            }
         }
     }
 
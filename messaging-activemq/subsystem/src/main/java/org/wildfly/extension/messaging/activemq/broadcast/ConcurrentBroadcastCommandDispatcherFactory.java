@@ -6,6 +6,8 @@
 package org.wildfly.extension.messaging.activemq.broadcast;
 
 import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
@@ -57,6 +59,11 @@ public class ConcurrentBroadcastCommandDispatcherFactory implements BroadcastCom
         return () -> this.receivers.remove(receiver);
     }
 
+    @Override
+    public Collection<BroadcastReceiver> getReceivers() {
+        return Collections.unmodifiableSet(this.receivers);
+    }
+
     @Override
     public Group<GroupMember> getGroup() {
         return this.dispatcherFactory.getGroup();
@@ -5,44 +5,101 @@
 
 package org.wildfly.extension.messaging.activemq.broadcast;
 
+import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.Map;
 import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
+import org.apache.activemq.artemis.api.core.ActiveMQBuffers;
 import org.wildfly.extension.messaging.activemq._private.MessagingLogger;
 
 /**
+ * A {@link BroadcastManager} that retains only the latest undelivered broadcast of each sender.
+ * Since each broadcast announces the complete set of connectors of its sender, an undelivered broadcast superseded by a subsequent broadcast
+ * of the same sender is dropped.  Consequently, the number of queued broadcasts is bounded by the number of broadcasting servers.
  * @author Paul Ferraro
  */
 public class QueueBroadcastManager implements BroadcastManager {
-    private final BlockingQueue<byte[]> broadcasts = new LinkedBlockingDeque<>();
+    // Senders with an undelivered broadcast, in order of arrival
+    private final BlockingQueue<Object> senders = new LinkedBlockingQueue<>();
+    private final Map<Object, byte[]> broadcasts = new ConcurrentHashMap<>();
+    private final LongAdder dropped = new LongAdder();
     private final String name;
 
     public QueueBroadcastManager(String name) {
         this.name = name;
     }
 
+    @Override
+    public String getName() {
+        return this.name;
+    }
+
     @Override
     public void receive(byte[] broadcast) {
         if (MessagingLogger.ROOT_LOGGER.isDebugEnabled()) {
             MessagingLogger.ROOT_LOGGER.debugf("Received broadcast from group %s: %s", this.name, Arrays.toString(broadcast));
         }
-        this.broadcasts.add(broadcast);
+        Object sender = getSender(broadcast);
+        if (this.broadcasts.put(sender, broadcast) == null) {
+            this.senders.add(sender);
+        } else {
+            this.dropped.increment();
+        }
     }
 
     @Override
     public byte[] getBroadcast() throws InterruptedException {
-        return this.broadcasts.take();
+        byte[] broadcast = null;
+        while (broadcast == null) {
+            broadcast = this.broadcasts.remove(this.senders.take());
+        }
+        return broadcast;
     }
 
     @Override
     public byte[] getBroadcast(long timeout, TimeUnit unit) throws InterruptedException {
-        return this.broadcasts.poll(timeout, unit);
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        byte[] broadcast = null;
+        while (broadcast == null) {
+            Object sender = this.senders.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            if (sender == null) {
+                return null;
+            }
+            broadcast = this.broadcasts.remove(sender);
+        }
+        return broadcast;
+    }
+
+    @Override
+    public int getQueuedBroadcastCount() {
+        return this.broadcasts.size();
+    }
+
+    @Override
+    public long getDroppedBroadcastCount() {
+        return this.dropped.sum();
     }
 
     @Override
     public void clear() {
+        this.senders.clear();
         this.broadcasts.clear();
     }
+
+    /**
+     * Returns the sender of the specified broadcast, i.e. the node identifier with which Artemis prefixes each broadcast.
+     * Broadcasts not conforming to this format are identified by their content.
+     */
+    private static Object getSender(byte[] broadcast) {
+        try {
+            return ActiveMQBuffers.wrappedBuffer(broadcast).readString();
+        } catch (RuntimeException e) {
+            return ByteBuffer.wrap(broadcast);
+        }
+    }
 }
@@ -0,0 +1,81 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.messaging.activemq.broadcast;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.wildfly.clustering.server.GroupMember;
+import org.wildfly.clustering.server.dispatcher.CommandDispatcher;
+import org.wildfly.clustering.server.dispatcher.CommandDispatcherFactory;
+
+/**
+ * Unit test for {@link CommandDispatcherBroadcastEndpoint}.
+ */
+public class CommandDispatcherBroadcastEndpointTestCase {
+
+    private final CommandDispatcherFactory<GroupMember> factory = mock(CommandDispatcherFactory.class);
+    private final CommandDispatcher<GroupMember, BroadcastReceiverRegistrar> dispatcher = mock(CommandDispatcher.class);
+    private final BroadcastReceiverRegistrar registrar = mock(BroadcastReceiverRegistrar.class);
+    private final GroupMember member = mock(GroupMember.class);
+
+    @Test
+    public void coalesce() throws Exception {
+        // Responses that never complete must not gate subsequent broadcasts
+        Map<GroupMember, CompletionStage<Void>> responses = Map.of(this.member, new CompletableFuture<>());
+        ArgumentCaptor<BroadcastCommand> captor = ArgumentCaptor.forClass(BroadcastCommand.class);
+        byte[] data1 = new byte[] { 1 };
+        byte[] data2 = new byte[] { 2 };
+        byte[] data3 = new byte[] { 3 };
+        byte[] data4 = new byte[] { 4 };
+
+        CommandDispatcherBroadcastEndpoint endpoint = new CommandDispatcherBroadcastEndpoint(this.factory, "cluster", this.registrar, QueueBroadcastManager::new);
+        AtomicBoolean first = new AtomicBoolean(true);
+
+        when(this.factory.createCommandDispatcher("cluster", this.registrar)).thenReturn(this.dispatcher);
+        when(this.dispatcher.dispatchToGroup(any(BroadcastCommand.class))).thenAnswer(invocation -> {
+            if (first.getAndSet(false)) {
+                // Broadcasts issued while the first dispatch is in progress
+                endpoint.broadcast(data2);
+                endpoint.broadcast(data3);
+            }
+            return responses;
+        });
+
+        endpoint.openBroadcaster();
+
+        endpoint.broadcast(data1);
+
+        // Only the latest pending broadcast is dispatched, by the thread that dispatched the first broadcast
+        verify(this.dispatcher, times(2)).dispatchToGroup(captor.capture());
+
+        List<BroadcastCommand> commands = captor.getAllValues();
+        BroadcastReceiver receiver = mock(BroadcastReceiver.class);
+        commands.get(0).execute(receiver);
+        verify(receiver).receive(same(data1));
+        commands.get(1).execute(receiver);
+        verify(receiver).receive(same(data3));
+
+        endpoint.broadcast(data4);
+
+        verify(this.dispatcher, times(3)).dispatchToGroup(any(BroadcastCommand.class));
+
+        endpoint.close(true);
+        verify(this.dispatcher).close();
+    }
+}
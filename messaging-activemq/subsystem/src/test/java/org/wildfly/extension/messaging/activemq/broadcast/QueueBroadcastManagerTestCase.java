@@ -0,0 +1,81 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.messaging.activemq.broadcast;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.activemq.artemis.api.core.ActiveMQBuffer;
+import org.apache.activemq.artemis.api.core.ActiveMQBuffers;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link QueueBroadcastManager}.
+ */
+public class QueueBroadcastManagerTestCase {
+
+    @Test
+    public void latestPerSender() throws InterruptedException {
+        BroadcastManager manager = new QueueBroadcastManager("cluster");
+        byte[] broadcast1 = createBroadcast("node1", 1);
+        byte[] broadcast2 = createBroadcast("node2", 1);
+        byte[] broadcast3 = createBroadcast("node1", 2);
+
+        manager.receive(broadcast1);
+        manager.receive(broadcast2);
+        manager.receive(broadcast3);
+
+        assertEquals(2, manager.getQueuedBroadcastCount());
+        assertEquals(1, manager.getDroppedBroadcastCount());
+
+        // Superseded broadcast retains the position of its sender
+        assertArrayEquals(broadcast3, manager.getBroadcast());
+        assertArrayEquals(broadcast2, manager.getBroadcast(1, TimeUnit.SECONDS));
+        assertNull(manager.getBroadcast(1, TimeUnit.MILLISECONDS));
+        assertEquals(0, manager.getQueuedBroadcastCount());
+
+        // Sender whose previous broadcast was delivered
+        manager.receive(broadcast1);
+
+        assertEquals(1, manager.getQueuedBroadcastCount());
+        assertEquals(1, manager.getDroppedBroadcastCount());
+
+        manager.clear();
+
+        assertEquals(0, manager.getQueuedBroadcastCount());
+        assertNull(manager.getBroadcast(1, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void unrecognizedFormat() throws InterruptedException {
+        BroadcastManager manager = new QueueBroadcastManager("cluster");
+
+        manager.receive(new byte[] { 1 });
+        manager.receive(new byte[] { 1 });
+        manager.receive(new byte[] { 2 });
+
+        // Unrecognized broadcasts are identified by their content
+        assertEquals(2, manager.getQueuedBroadcastCount());
+        assertEquals(1, manager.getDroppedBroadcastCount());
+        assertArrayEquals(new byte[] { 1 }, manager.getBroadcast());
+        assertArrayEquals(new byte[] { 2 }, manager.getBroadcast());
+    }
+
+    /**
+     * Creates a broadcast prefixed by the node identifier and a unique identifier, as written by Artemis.
+     */
+    private static byte[] createBroadcast(String nodeId, long uniqueId) {
+        ActiveMQBuffer buffer = ActiveMQBuffers.dynamicBuffer(64);
+        buffer.writeString(nodeId);
+        buffer.writeLong(uniqueId);
+        byte[] data = new byte[buffer.writerIndex()];
+        buffer.readBytes(data);
+        return data;
+    }
+}
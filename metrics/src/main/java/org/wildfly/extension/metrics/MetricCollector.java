@@ -41,13 +41,13 @@ public class MetricCollector {
     }
 
     // collect metrics from the resources
-    public synchronized void collectResourceMetrics(final Resource resource,
-                                                     ImmutableManagementResourceRegistration managementResourceRegistration,
-                                                     Function<PathAddress, PathAddress> resourceAddressResolver,
-                                                     boolean exposeAnySubsystem,
-                                                     List<String> exposedSubsystems,
-                                                     String prefix,
-                                                     MetricRegistration registration) {
+    public void collectResourceMetrics(final Resource resource,
+                                        ImmutableManagementResourceRegistration managementResourceRegistration,
+                                        Function<PathAddress, PathAddress> resourceAddressResolver,
+                                        boolean exposeAnySubsystem,
+                                        List<String> exposedSubsystems,
+                                        String prefix,
+                                        MetricRegistration registration) {
         collectResourceMetrics0(resource, managementResourceRegistration, EMPTY_ADDRESS, resourceAddressResolver, registration,
                 exposeAnySubsystem, exposedSubsystems, prefix);
         // Defer the actual registration until the server is running and they can be collected w/o errors
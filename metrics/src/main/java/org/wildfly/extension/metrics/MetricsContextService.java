@@ -10,11 +10,20 @@ import static org.wildfly.extension.metrics.MetricsSubsystemDefinition.METRICS_H
 import static org.wildfly.extension.metrics.MetricsSubsystemDefinition.METRICS_HTTP_SECURITY_CAPABILITY;
 import static org.wildfly.extension.metrics.MetricsSubsystemDefinition.METRICS_REGISTRY_RUNTIME_CAPABILITY;
 
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import io.undertow.server.HttpHandler;
 import io.undertow.server.HttpServerExchange;
+import io.undertow.server.handlers.BlockingHandler;
+import io.undertow.server.handlers.encoding.ContentEncodingRepository;
+import io.undertow.server.handlers.encoding.EncodingHandler;
+import io.undertow.server.handlers.encoding.GzipEncodingProvider;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.server.mgmt.domain.ExtensibleHttpManagement;
 import org.jboss.msc.Service;
@@ -34,10 +43,11 @@ public class MetricsContextService implements Service {
     private final Supplier<ExtensibleHttpManagement> extensibleHttpManagement;
     private Supplier<WildFlyMetricRegistry> wildflyMetricRegistry;
     private final Supplier<Boolean> securityEnabledSupplier;
+    private final Duration snapshotTimeToLive;
     private final PrometheusExporter prometheusExporter = new PrometheusExporter();
     private HttpHandler overrideableMetricHandler;
 
-    static void install(OperationContext context, boolean securityEnabled) {
+    static void install(OperationContext context, boolean securityEnabled, Duration snapshotTimeToLive) {
         ServiceBuilder<?> serviceBuilder = context.getServiceTarget().addService(METRICS_HTTP_CONTEXT_CAPABILITY.getCapabilityServiceName());
 
         Supplier<ExtensibleHttpManagement> extensibleHttpManagement = serviceBuilder.requires(context.getCapabilityServiceName(HTTP_EXTENSIBILITY_CAPABILITY, ExtensibleHttpManagement.class));
@@ -54,20 +64,39 @@ public class MetricsContextService implements Service {
                 }
             };
         }
-        Service metricsContextService = new MetricsContextService(metricsContext, extensibleHttpManagement, wildflyMetricRegistry, securityEnabledSupplier);
+        Service metricsContextService = new MetricsContextService(metricsContext, extensibleHttpManagement, wildflyMetricRegistry, securityEnabledSupplier, snapshotTimeToLive);
 
         serviceBuilder.setInstance(metricsContextService)
                 .install();
     }
     public MetricsContextService(Consumer<MetricsContextService> consumer, Supplier<ExtensibleHttpManagement> extensibleHttpManagement, Supplier<WildFlyMetricRegistry> wildflyMetricRegistry, Supplier<Boolean> securityEnabledSupplier) {
+        this(consumer, extensibleHttpManagement, wildflyMetricRegistry, securityEnabledSupplier, Duration.ZERO);
+    }
+
+    public MetricsContextService(Consumer<MetricsContextService> consumer, Supplier<ExtensibleHttpManagement> extensibleHttpManagement, Supplier<WildFlyMetricRegistry> wildflyMetricRegistry, Supplier<Boolean> securityEnabledSupplier, Duration snapshotTimeToLive) {
         this.consumer = consumer;
         this.extensibleHttpManagement = extensibleHttpManagement;
         this.wildflyMetricRegistry = wildflyMetricRegistry;
         this.securityEnabledSupplier = securityEnabledSupplier;
+        this.snapshotTimeToLive = snapshotTimeToLive;
     }
 
     @Override
     public void start(StartContext context) {
+        // Reading metrics executes management operations, so the exposition is streamed from a worker thread
+        HttpHandler exportHandler = new EncodingHandler(new BlockingHandler(new HttpHandler() {
+            @Override
+            public void handleRequest(HttpServerExchange exchange) throws Exception {
+                WildFlyMetricRegistry metricRegistry = wildflyMetricRegistry.get();
+                if (!snapshotTimeToLive.isZero()) {
+                    exchange.getOutputStream().write(prometheusExporter.snapshot(metricRegistry, snapshotTimeToLive));
+                    return;
+                }
+                try (Writer writer = new BufferedWriter(new OutputStreamWriter(exchange.getOutputStream(), StandardCharsets.UTF_8))) {
+                    prometheusExporter.export(metricRegistry, writer);
+                }
+            }
+        }), new ContentEncodingRepository().addEncodingHandler("gzip", new GzipEncodingProvider(), 50));
         extensibleHttpManagement.get().addManagementHandler(CONTEXT_NAME, securityEnabledSupplier.get(), new HttpHandler() {
             @Override
             public void handleRequest(HttpServerExchange exchange) throws Exception {
@@ -75,15 +104,7 @@ public class MetricsContextService implements Service {
                     overrideableMetricHandler.handleRequest(exchange);
                     return;
                 }
-
-                WildFlyMetricRegistry metricRegistry = wildflyMetricRegistry.get();
-                metricRegistry.readLock();
-                try {
-                    String wildFlyMetrics = prometheusExporter.export(metricRegistry);
-                    exchange.getResponseSender().send(wildFlyMetrics);
-                } finally {
-                    metricRegistry.unlock();
-                }
+                exportHandler.handleRequest(exchange);
             }
         });
         consumer.accept(this);
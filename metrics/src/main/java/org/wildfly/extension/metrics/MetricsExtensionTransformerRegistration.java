@@ -0,0 +1,45 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.metrics;
+
+import org.jboss.as.controller.ModelVersion;
+import org.jboss.as.controller.transform.ExtensionTransformerRegistration;
+import org.jboss.as.controller.transform.SubsystemTransformerRegistration;
+import org.jboss.as.controller.transform.description.ChainedTransformationDescriptionBuilder;
+import org.jboss.as.controller.transform.description.DiscardAttributeChecker;
+import org.jboss.as.controller.transform.description.RejectAttributeChecker;
+import org.jboss.as.controller.transform.description.ResourceTransformationDescriptionBuilder;
+import org.jboss.as.controller.transform.description.TransformationDescriptionBuilder;
+import org.kohsuke.MetaInfServices;
+
+/**
+ * Registers the transformers of the metrics subsystem to its legacy model versions.
+ */
+@MetaInfServices
+public class MetricsExtensionTransformerRegistration implements ExtensionTransformerRegistration {
+
+    @Override
+    public String getSubsystemName() {
+        return MetricsExtension.SUBSYSTEM_NAME;
+    }
+
+    @Override
+    public void registerTransformers(SubsystemTransformerRegistration registration) {
+        ChainedTransformationDescriptionBuilder builder = TransformationDescriptionBuilder.Factory.createChainedSubystemInstance(registration.getCurrentSubsystemVersion());
+
+        registerV_1_0_Transformers(builder.createBuilder(MetricsExtension.VERSION_1_1_0, MetricsExtension.VERSION_1_0_0));
+
+        builder.buildAndRegister(registration, new ModelVersion[] { MetricsExtension.VERSION_1_0_0 });
+    }
+
+    private static void registerV_1_0_Transformers(ResourceTransformationDescriptionBuilder builder) {
+        // Snapshots are not supported by legacy hosts, which read metrics on every scrape
+        builder.getAttributeBuilder()
+                .setDiscard(DiscardAttributeChecker.DEFAULT_VALUE, MetricsSubsystemDefinition.SNAPSHOT_TTL)
+                .addRejectCheck(RejectAttributeChecker.DEFINED, MetricsSubsystemDefinition.SNAPSHOT_TTL)
+                .end();
+    }
+}
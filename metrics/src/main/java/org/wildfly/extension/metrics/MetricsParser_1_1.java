@@ -0,0 +1,38 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.metrics;
+
+import static org.jboss.as.controller.PersistentResourceXMLDescription.builder;
+
+import org.jboss.as.controller.PersistentResourceXMLDescription;
+import org.jboss.as.controller.PersistentResourceXMLParser;
+
+/**
+ * Parser and marshaller for the urn:wildfly:metrics:1.1 namespace, which adds the snapshot-ttl attribute.
+ */
+public class MetricsParser_1_1 extends PersistentResourceXMLParser {
+    /**
+     * The name space used for the {@code subsystem} element
+     */
+    public static final String NAMESPACE = "urn:wildfly:metrics:1.1";
+
+    private static final PersistentResourceXMLDescription xmlDescription;
+
+    static {
+        xmlDescription = builder(MetricsExtension.SUBSYSTEM_PATH, NAMESPACE)
+                .addAttributes(
+                        MetricsSubsystemDefinition.SECURITY_ENABLED,
+                        MetricsSubsystemDefinition.EXPOSED_SUBSYSTEMS,
+                        MetricsSubsystemDefinition.PREFIX,
+                        MetricsSubsystemDefinition.SNAPSHOT_TTL)
+                .build();
+    }
+
+    @Override
+    public PersistentResourceXMLDescription getParserDescription() {
+        return xmlDescription;
+    }
+}
\ No newline at end of file
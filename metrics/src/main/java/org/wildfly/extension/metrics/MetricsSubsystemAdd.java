@@ -15,6 +15,7 @@ import static org.wildfly.extension.metrics.MetricsSubsystemDefinition.METRICS_R
 import static org.wildfly.extension.metrics.MetricsSubsystemDefinition.WILDFLY_COLLECTOR;
 import static org.wildfly.extension.metrics._private.MetricsLogger.LOGGER;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
@@ -67,7 +68,8 @@ class MetricsSubsystemAdd extends AbstractBoottimeAddStepHandler {
 
         WildFlyMetricRegistryService.install(context);
         MetricsCollectorService.install(context);
-        MetricsContextService.install(context, securityEnabled);
+        Duration snapshotTimeToLive = Duration.ofMillis(MetricsSubsystemDefinition.SNAPSHOT_TTL.resolveModelAttribute(context, model).asLong());
+        MetricsContextService.install(context, securityEnabled, snapshotTimeToLive);
 
         // If the MP Metrics module is not installed, we need to install the WF Metrics DPU and initiate a metrics
         // collection. If MP Metrics *is* installed, then we do not need to do either of those things, as that module
@@ -4,50 +4,129 @@
  */
 package org.wildfly.extension.metrics;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.OptionalDouble;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.wildfly.extension.metrics.MetricMetadata.MetricTag;
 
+/**
+ * Exports the metrics of a registry using the Prometheus text exposition format.
+ * The metric names, tags and scale of each series are computed once per {@link MetricID}, such that a scrape only needs to write the metric values.
+ */
 public class PrometheusExporter {
 
     private static final String LF = "\n";
 
+    private final Map<MetricID, Series> series = new ConcurrentHashMap<>();
+    // Reusable buffer for snapshots, guarded by this
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    private volatile Snapshot snapshot;
+
     public String export(WildFlyMetricRegistry registry) {
-        Set<String> alreadyExportedMetrics = new HashSet<String>();
+        StringWriter writer = new StringWriter();
+        try {
+            this.export(registry, writer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return writer.toString();
+    }
 
-        StringBuilder out = new StringBuilder();
+    /**
+     * Writes the metrics of the specified registry to the specified writer.
+     * The {@link MetricRegistry#readLock() read lock} of the registry is only held while copying its metrics,
+     * such that neither reading metric values, which executes management operations, nor writing to a slow client
+     * blocks the registration of metrics.
+     * @param registry a metric registry
+     * @param out the writer to which the exposition is streamed
+     * @throws IOException if the exposition could not be written
+     */
+    public void export(WildFlyMetricRegistry registry, Writer out) throws IOException {
+        Set<String> alreadyExportedMetrics = new HashSet<>();
+        Map<MetricID, Metric> metrics;
+        Map<String, MetricMetadata> metadata;
+        registry.readLock();
+        try {
+            metrics = new TreeMap<>(registry.getMetrics());
+            metadata = new HashMap<>(registry.getMetricMetadata());
+        } finally {
+            registry.unlock();
+        }
 
-        for (Map.Entry<MetricID, Metric> entry : registry.getMetrics().entrySet()) {
+        for (Map.Entry<MetricID, Metric> entry : metrics.entrySet()) {
             MetricID metricID = entry.getKey();
-            String metricName = metricID.getMetricName();
-            MetricMetadata metadata = registry.getMetricMetadata().get(metricName);
-            String prometheusMetricName = toPrometheusMetricName(metricID, metadata);
             OptionalDouble metricValue = entry.getValue().getValue();
             // if the metric does not return a value, we skip printing the HELP and TYPE
             if (!metricValue.isPresent()) {
                 continue;
             }
-            if (!alreadyExportedMetrics.contains(metricName)) {
-                out.append("# HELP " + prometheusMetricName + " " + metadata.getDescription());
-                out.append(LF);
-                out.append("# TYPE " + prometheusMetricName + " " + metadata.getType());
-                out.append(LF);
-                alreadyExportedMetrics.add(metricName);
+            Series series = this.getSeries(metricID, metadata.get(metricID.getMetricName()));
+            if (alreadyExportedMetrics.add(metricID.getMetricName())) {
+                out.write(series.header);
             }
-            double scaledValue = scaleToBaseUnit(metricValue.getAsDouble(), metadata.getMeasurementUnit());
-            // I'm pretty sure this is incorrect but that aligns with smallrye-metrics OpenMetricsExporter behaviour
-            if (metadata.getType() == MetricMetadata.Type.COUNTER && metadata.getMeasurementUnit() != MeasurementUnit.NONE) {
-                prometheusMetricName += "_" + metadata.getBaseMetricUnit();
+            out.write(series.sample);
+            out.write(Double.toString(metricValue.getAsDouble() * series.scale));
+            out.write(LF);
+        }
+        out.flush();
+
+        // Discard series of unregistered metrics
+        if (this.series.size() > metrics.size()) {
+            this.series.keySet().retainAll(metrics.keySet());
+        }
+    }
+
+    /**
+     * Returns the exposition of the metrics of the specified registry, encoded as UTF-8.
+     * If an exposition was created within the specified duration, it is returned as is, such that concurrent scrapes do not each read every metric.
+     * Otherwise, a new exposition is created.
+     * @param registry a metric registry
+     * @param timeToLive the duration for which an exposition may be reused
+     * @return the UTF-8 encoded exposition
+     */
+    public byte[] snapshot(WildFlyMetricRegistry registry, Duration timeToLive) {
+        long ttl = timeToLive.toNanos();
+        Snapshot snapshot = this.snapshot;
+        if ((snapshot == null) || (System.nanoTime() - snapshot.time > ttl)) {
+            synchronized (this) {
+                snapshot = this.snapshot;
+                if ((snapshot == null) || (System.nanoTime() - snapshot.time > ttl)) {
+                    this.buffer.reset();
+                    try {
+                        this.export(registry, new OutputStreamWriter(this.buffer, StandardCharsets.UTF_8));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    snapshot = new Snapshot(System.nanoTime(), this.buffer.toByteArray());
+                    this.snapshot = snapshot;
+                }
             }
-            out.append(prometheusMetricName + getTagsAsAString(metricID) + " " + scaledValue);
-            out.append(LF);
         }
+        return snapshot.exposition;
+    }
 
-        return out.toString();
+    private Series getSeries(MetricID metricID, MetricMetadata metadata) {
+        Series series = this.series.get(metricID);
+        // Metadata is only replaced if the registry was closed
+        if ((series == null) || (series.metadata != metadata)) {
+            series = new Series(metricID, metadata);
+            this.series.put(metricID, series);
+        }
+        return series;
     }
 
     private static double scaleToBaseUnit(double value, MeasurementUnit unit) {
@@ -80,8 +159,43 @@ public class PrometheusExporter {
                 out.append(",");
             }
             MetricTag tag = tags[i];
-            out.append(tag.getKey() + "=\"" + tag.getValue() + "\"");
+            out.append(tag.getKey()).append("=\"").append(tag.getValue()).append('"');
         }
         return out.append("}").toString();
     }
-}
\ No newline at end of file
+
+    /**
+     * The precomputed exposition of a series, excluding its value.
+     */
+    private static class Series {
+        final MetricMetadata metadata;
+        // HELP and TYPE lines of the metric
+        final String header;
+        // Metric name and tags, followed by the separator of the value
+        final String sample;
+        final double scale;
+
+        Series(MetricID metricID, MetricMetadata metadata) {
+            this.metadata = metadata;
+            String prometheusMetricName = toPrometheusMetricName(metricID, metadata);
+            this.header = "# HELP " + prometheusMetricName + " " + metadata.getDescription() + LF
+                    + "# TYPE " + prometheusMetricName + " " + metadata.getType() + LF;
+            // I'm pretty sure this is incorrect but that aligns with smallrye-metrics OpenMetricsExporter behaviour
+            if (metadata.getType() == MetricMetadata.Type.COUNTER && metadata.getMeasurementUnit() != MeasurementUnit.NONE) {
+                prometheusMetricName += "_" + metadata.getBaseMetricUnit();
+            }
+            this.sample = prometheusMetricName + getTagsAsAString(metricID) + " ";
+            this.scale = scaleToBaseUnit(1, metadata.getMeasurementUnit());
+        }
+    }
+
+    private static class Snapshot {
+        final long time;
+        final byte[] exposition;
+
+        Snapshot(long time, byte[] exposition) {
+            this.time = time;
+            this.exposition = exposition;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.extension.metrics;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.OptionalDouble;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link PrometheusExporter}.
+ */
+public class PrometheusExporterTestCase {
+
+    private static final PathAddress ADDRESS = PathAddress.pathAddress(PathElement.pathElement("subsystem", "test"), PathElement.pathElement("resource", "foo"));
+
+    @Test
+    public void export() {
+        WildFlyMetricRegistry registry = new WildFlyMetricRegistry();
+        registry.registerMetric(() -> OptionalDouble.of(2), new WildFlyMetricMetadata("request-count", ADDRESS, null, "Number of requests", MeasurementUnit.NONE, MetricMetadata.Type.COUNTER));
+        registry.registerMetric(() -> OptionalDouble.of(1500), new WildFlyMetricMetadata("processing-time", ADDRESS, null, "Processing time", MeasurementUnit.MILLISECONDS, MetricMetadata.Type.COUNTER));
+        registry.registerMetric(() -> OptionalDouble.of(1024), new WildFlyMetricMetadata("size", ADDRESS, null, "Size", MeasurementUnit.KILOBYTES, MetricMetadata.Type.GAUGE));
+        registry.registerMetric(OptionalDouble::empty, new WildFlyMetricMetadata("undefined", ADDRESS, null, "Undefined", MeasurementUnit.NONE, MetricMetadata.Type.GAUGE));
+
+        PrometheusExporter exporter = new PrometheusExporter();
+        String expected = "# HELP test_processing_time_total Processing time\n"
+                + "# TYPE test_processing_time_total counter\n"
+                + "test_processing_time_total_seconds{resource=\"foo\"} 1.5\n"
+                + "# HELP test_request_count_total Number of requests\n"
+                + "# TYPE test_request_count_total counter\n"
+                + "test_request_count_total{resource=\"foo\"} 2.0\n"
+                + "# HELP test_size_bytes Size\n"
+                + "# TYPE test_size_bytes gauge\n"
+                + "test_size_bytes{resource=\"foo\"} 1048576.0\n";
+        assertEquals(expected, exporter.export(registry));
+        // Subsequent exports reuse the precomputed series
+        assertEquals(expected, exporter.export(registry));
+    }
+
+    @Test
+    public void snapshot() throws InterruptedException {
+        WildFlyMetricRegistry registry = new WildFlyMetricRegistry();
+        AtomicInteger reads = new AtomicInteger();
+        registry.registerMetric(() -> OptionalDouble.of(reads.incrementAndGet()), new WildFlyMetricMetadata("value", ADDRESS, null, "Value", MeasurementUnit.NONE, MetricMetadata.Type.GAUGE));
+
+        PrometheusExporter exporter = new PrometheusExporter();
+        byte[] snapshot = exporter.snapshot(registry, Duration.ofMinutes(1));
+        assertArrayEquals(exporter.export(registry).replace(" 2.0", " 1.0").getBytes(StandardCharsets.UTF_8), snapshot);
+        // Scrapes within the time-to-live are served from the snapshot
+        assertSame(snapshot, exporter.snapshot(registry, Duration.ofMinutes(1)));
+        assertEquals(2, reads.get());
+
+        Thread.sleep(10);
+        assertNotEquals(new String(snapshot, StandardCharsets.UTF_8), new String(exporter.snapshot(registry, Duration.ofMillis(1)), StandardCharsets.UTF_8));
+        assertEquals(3, reads.get());
+    }
+}
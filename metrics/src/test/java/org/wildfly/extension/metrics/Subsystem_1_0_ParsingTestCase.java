@@ -28,4 +28,10 @@ public class Subsystem_1_0_ParsingTestCase extends AbstractSubsystemBaseTest {
     protected String getSubsystemXsdPath() throws IOException {
         return "schema/wildfly-metrics_1_0.xsd";
     }
+
+    @Override
+    public void testSubsystem() throws Exception {
+        // Marshalled using the current namespace
+        standardSubsystemTest(null, false);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,74 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.mod_cluster;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.modcluster.container.Engine;
+import org.jboss.modcluster.load.metric.impl.AbstractLoadMetric;
+
+/**
+ * {@link org.jboss.modcluster.load.metric.LoadMetric} returning the average response time in milliseconds of requests completed since the
+ * previous load calculation, smoothed using an exponentially weighted moving average. Response times are recorded by the container
+ * integration, and include the time a request waits for a worker thread, so the load rises before the worker pool is saturated.
+ * Requires an explicit capacity.
+ */
+public class ResponseTimeLoadMetric extends AbstractLoadMetric {
+
+    public static final double DEFAULT_DECAY = 0.5;
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder responseTime = new LongAdder();
+
+    private volatile double decay = DEFAULT_DECAY;
+
+    // Guarded by this
+    private long previousRequests = 0;
+    private long previousResponseTime = 0;
+    private double average = 0;
+
+    /**
+     * Records the response time of a completed request.
+     *
+     * @param nanos response time in nanoseconds
+     */
+    public void record(long nanos) {
+        this.responseTime.add(nanos);
+        this.requests.increment();
+    }
+
+    /**
+     * @return the weight of the previous average response time relative to the latest sample
+     */
+    public double getDecay() {
+        return this.decay;
+    }
+
+    /**
+     * Sets the weight of the previous average response time relative to the latest sample, where 0 disables smoothing.
+     *
+     * @param decay a value within [0, 1)
+     */
+    public void setDecay(double decay) {
+        if (decay < 0 || decay >= 1) {
+            throw new IllegalArgumentException(String.valueOf(decay));
+        }
+        this.decay = decay;
+    }
+
+    @Override
+    public synchronized double getLoad(Engine engine) {
+        long requests = this.requests.sum();
+        long responseTime = this.responseTime.sum();
+        long completed = requests - this.previousRequests;
+        double sample = (completed > 0) ? (double) (responseTime - this.previousResponseTime) / completed / TimeUnit.MILLISECONDS.toNanos(1) : 0;
+        this.previousRequests = requests;
+        this.previousResponseTime = responseTime;
+        this.average = (this.average * this.decay) + (sample * (1 - this.decay));
+        return this.average;
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.mod_cluster;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link ResponseTimeLoadMetric}.
+ */
+public class ResponseTimeLoadMetricTestCase {
+
+    private static final double CAPACITY = 100;
+
+    @Test
+    public void decay() {
+        ResponseTimeLoadMetric metric = new ResponseTimeLoadMetric();
+        metric.setDecay(0.5);
+
+        // No requests
+        assertEquals(0, metric.getLoad(null), 0);
+
+        metric.record(TimeUnit.MILLISECONDS.toNanos(10));
+        metric.record(TimeUnit.MILLISECONDS.toNanos(30));
+        assertEquals(10, metric.getLoad(null), 0.001);
+
+        metric.record(TimeUnit.MILLISECONDS.toNanos(20));
+        assertEquals(15, metric.getLoad(null), 0.001);
+
+        // Idle node recovers
+        assertEquals(7.5, metric.getLoad(null), 0.001);
+
+        metric.setDecay(0);
+        metric.record(TimeUnit.MILLISECONDS.toNanos(40));
+        assertEquals(40, metric.getLoad(null), 0.001);
+
+        assertThrows(IllegalArgumentException.class, () -> metric.setDecay(1));
+        assertThrows(IllegalArgumentException.class, () -> metric.setDecay(-0.1));
+    }
+
+    /**
+     * Drives a simple proxy, which distributes requests proportionally to the available capacity of each node, against two nodes
+     * whose response time grows with their load, where one node is twice as slow as the other.
+     */
+    @Test
+    public void skewedLoad() {
+        Node fast = new Node(10);
+        Node slow = new Node(20);
+        int requests = 100;
+        int fastRequests = 0;
+        int slowRequests = 0;
+
+        for (int round = 0; round < 20; ++round) {
+            double fastAvailable = fast.getAvailable();
+            double slowAvailable = slow.getAvailable();
+            fastRequests = (int) Math.round(requests * fastAvailable / (fastAvailable + slowAvailable));
+            slowRequests = requests - fastRequests;
+            fast.handle(fastRequests);
+            slow.handle(slowRequests);
+        }
+
+        // Slow node receives less traffic, without being starved
+        assertTrue(fastRequests + " vs " + slowRequests, fastRequests > slowRequests);
+        assertTrue(String.valueOf(slowRequests), slowRequests > 0);
+        // Response times of both nodes remain within capacity
+        assertTrue(fast.getAvailable() > 0);
+        assertTrue(slow.getAvailable() > 0);
+    }
+
+    private static class Node {
+        private final ResponseTimeLoadMetric metric = new ResponseTimeLoadMetric();
+        private final long baseResponseTime;
+        private double load = 0;
+
+        Node(long baseResponseTime) {
+            this.baseResponseTime = baseResponseTime;
+            this.metric.setCapacity(CAPACITY);
+        }
+
+        double getAvailable() {
+            return Math.max(1 - this.load / this.metric.getCapacity(), 0.01);
+        }
+
+        void handle(int requests) {
+            // Requests queue for a worker thread as concurrency grows
+            long responseTime = this.baseResponseTime + this.baseResponseTime * requests / 20;
+            for (int i = 0; i < requests; ++i) {
+                this.metric.record(TimeUnit.MILLISECONDS.toNanos(responseTime));
+            }
+            this.load = this.metric.getLoad(null);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.mod_cluster.undertow.metric;
+
+import io.undertow.server.ExchangeCompletionListener;
+import io.undertow.server.HttpHandler;
+import io.undertow.server.HttpServerExchange;
+import org.wildfly.extension.mod_cluster.ResponseTimeLoadMetric;
+
+/**
+ * {@link HttpHandler} that records the response time of each request, including any time spent waiting for a worker thread,
+ * to a {@link ResponseTimeLoadMetric}.
+ */
+public class ResponseTimeHttpHandler implements HttpHandler {
+
+    private final HttpHandler wrappedHandler;
+    private final ResponseTimeLoadMetric metric;
+
+    public ResponseTimeHttpHandler(final HttpHandler handler, final ResponseTimeLoadMetric metric) {
+        this.wrappedHandler = handler;
+        this.metric = metric;
+    }
+
+    /**
+     * Registers a listener to record the response time upon exchange complete event.
+     */
+    @Override
+    public void handleRequest(HttpServerExchange exchange) throws Exception {
+        long start = System.nanoTime();
+
+        exchange.addExchangeCompleteListener(new ExchangeCompletionListener() {
+            @Override
+            public void exchangeEvent(HttpServerExchange exchange, NextListener nextListener) {
+                ResponseTimeHttpHandler.this.metric.record(System.nanoTime() - start);
+
+                // Proceed to next listener must be called!
+                nextListener.proceed();
+            }
+        });
+
+        this.wrappedHandler.handleRequest(exchange);
+    }
+}
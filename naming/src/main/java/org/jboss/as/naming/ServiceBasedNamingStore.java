@@ -11,9 +11,12 @@ import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.NavigableSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.LongAdder;
 
 import javax.naming.Binding;
 import javax.naming.CannotProceedException;
@@ -41,12 +44,19 @@ import org.wildfly.security.manager.WildFlySecurityManager;
  * @author Eduardo Martins
  */
 public class ServiceBasedNamingStore implements NamingStore {
+    // Upper bound on the number of resolved names cached per store, guarding against lookups of arbitrary names
+    private static final int LOOKUP_CACHE_MAX_SIZE = 4096;
+    private static final LongAdder LOOKUP_CACHE_HITS = new LongAdder();
+    private static final LongAdder LOOKUP_CACHE_MISSES = new LongAdder();
+
     private final Name EMPTY_NAME = new CompositeName();
     private Name baseName;
     private final ServiceRegistry serviceRegistry;
     private final ServiceName serviceNameBase;
 
     private ConcurrentSkipListSet<ServiceName> boundServices = new ConcurrentSkipListSet<ServiceName>();
+    // Resolved lookups keyed by name, replaced whenever a service is bound or unbound
+    private volatile Map<String, Resolution> lookupCache = new ConcurrentHashMap<>();
 
     public ServiceBasedNamingStore(final ServiceRegistry serviceRegistry, final ServiceName serviceNameBase) {
         this.serviceRegistry = serviceRegistry;
@@ -62,13 +72,14 @@ public class ServiceBasedNamingStore implements NamingStore {
         if (name.isEmpty()) {
             return new NamingContext(EMPTY_NAME, this, null);
         }
-        final ServiceName lookupName = buildServiceName(name);
-        Object obj = lookup(name.toString(), lookupName, dereference);
+        final Resolution resolution = resolve(name);
+        final ServiceName lookupName = resolution.name;
+        Object obj = lookup(name.toString(), resolution.controller, dereference);
         if (obj == null) {
-            final ServiceName lower = boundServices.lower(lookupName);
-            if (lower != null && lower.isParentOf(lookupName)) {
+            final ServiceName lower = resolution.parent;
+            if (lower != null) {
                 // Parent might be a reference or a link
-                obj = lookup(name.toString(), lower, dereference);
+                obj = lookup(name.toString(), resolution.parentController, dereference);
                 //if the lower is a context that has been explicitly bound then
                 //we do not return a resolve result, as this will result in an
                 //infinite loop
@@ -78,12 +89,11 @@ public class ServiceBasedNamingStore implements NamingStore {
                 }
             }
 
-            final ServiceName ceiling = boundServices.ceiling(lookupName);
-            if (ceiling != null && lookupName.isParentOf(ceiling)) {
-                if (lookupName.equals(ceiling)) {
-                    //the binder service returned null
-                    return null;
-                }
+            if (resolution.bound) {
+                //the binder service returned null
+                return null;
+            }
+            if (resolution.context) {
                 return new NamingContext((Name) name.clone(), this, null);
             }
             throw new NameNotFoundException(name.toString() + " -- " + lookupName);
@@ -92,6 +102,52 @@ public class ServiceBasedNamingStore implements NamingStore {
         return obj;
     }
 
+    /**
+     * Resolves the specified name against the services bound to this store, using the lookup cache if possible.
+     * Only resolutions that can not change until a service is bound or unbound are cached.
+     */
+    private Resolution resolve(final Name name) {
+        // The string form of a composite name uniquely identifies its components
+        if (!(name instanceof CompositeName)) {
+            return new Resolution(buildServiceName(name));
+        }
+        final Map<String, Resolution> cache = this.lookupCache;
+        final String key = name.toString();
+        Resolution resolution = cache.get(key);
+        if (resolution != null) {
+            LOOKUP_CACHE_HITS.increment();
+            return resolution;
+        }
+        LOOKUP_CACHE_MISSES.increment();
+        resolution = new Resolution(buildServiceName(name));
+        // A service that is installed, but not yet bound, may still bind or be removed without notifying this store
+        if ((resolution.controller == null || boundServices.contains(resolution.name)) && cache.size() < LOOKUP_CACHE_MAX_SIZE) {
+            // If the cache was invalidated since it was read, this resolution is discarded with it
+            cache.put(key, resolution);
+        }
+        return resolution;
+    }
+
+    private void invalidateLookupCache() {
+        this.lookupCache = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns the number of lookups, across all service based naming stores, whose name was resolved via the lookup cache.
+     * @return a number of lookups
+     */
+    public static long getLookupCacheHitCount() {
+        return LOOKUP_CACHE_HITS.sum();
+    }
+
+    /**
+     * Returns the number of lookups, across all service based naming stores, whose name was not found in the lookup cache.
+     * @return a number of lookups
+     */
+    public static long getLookupCacheMissCount() {
+        return LOOKUP_CACHE_MISSES.sum();
+    }
+
     private void checkReferenceForContinuation(final Name name, final Object object) throws CannotProceedException {
         if (object instanceof Reference
                 && ((Reference) object).get("nns") != null) {
@@ -107,8 +163,11 @@ public class ServiceBasedNamingStore implements NamingStore {
     }
 
     private Object lookup(final String name, final ServiceName lookupName, boolean dereference) throws NamingException {
+        return lookup(name, serviceRegistry.getService(lookupName), dereference);
+    }
+
+    private Object lookup(final String name, final ServiceController<?> controller, boolean dereference) throws NamingException {
         try {
-            final ServiceController<?> controller = serviceRegistry.getService(lookupName);
             if (controller != null) {
                 final Object object = controller.getValue();
                 if (dereference && object instanceof ManagedReferenceFactory) {
@@ -240,6 +299,7 @@ public class ServiceBasedNamingStore implements NamingStore {
 
     public void close() throws NamingException {
         boundServices.clear();
+        invalidateLookupCache();
     }
 
     public void addNamingListener(Name target, int scope, NamingListener listener) {
@@ -254,10 +314,12 @@ public class ServiceBasedNamingStore implements NamingStore {
             throw NamingLogger.ROOT_LOGGER.serviceAlreadyBound(serviceName);
         }
         boundServices.add(serviceName);
+        invalidateLookupCache();
     }
 
     public void remove(final ServiceName serviceName) {
         boundServices.remove(serviceName);
+        invalidateLookupCache();
     }
 
     protected ServiceName buildServiceName(final Name name) {
@@ -350,4 +412,31 @@ public class ServiceBasedNamingStore implements NamingStore {
         }
         return new CompositeName();
     }
+
+    /**
+     * The resolution of a name against the services bound to this store.
+     */
+    private class Resolution {
+        final ServiceName name;
+        // The controller of the service with the resolved name, if any
+        final ServiceController<?> controller;
+        // The closest bound parent of the resolved name, which might be a reference or a link, if any
+        final ServiceName parent;
+        final ServiceController<?> parentController;
+        // Whether the resolved name itself is bound
+        final boolean bound;
+        // Whether the resolved name is a context of bound services
+        final boolean context;
+
+        Resolution(ServiceName name) {
+            this.name = name;
+            this.controller = serviceRegistry.getService(name);
+            final ServiceName lower = boundServices.lower(name);
+            this.parent = (lower != null && lower.isParentOf(name)) ? lower : null;
+            this.parentController = (this.parent != null) ? serviceRegistry.getService(this.parent) : null;
+            final ServiceName ceiling = boundServices.ceiling(name);
+            this.bound = name.equals(ceiling);
+            this.context = ceiling != null && name.isParentOf(ceiling);
+        }
+    }
 }
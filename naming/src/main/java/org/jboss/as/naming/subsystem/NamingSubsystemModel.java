@@ -21,6 +21,8 @@ public interface NamingSubsystemModel {
     String EXTERNAL_CONTEXT = "external-context";
 
     String LOOKUP = "lookup";
+    String LOOKUP_CACHE_HIT_COUNT = "lookup-cache-hit-count";
+    String LOOKUP_CACHE_MISS_COUNT = "lookup-cache-miss-count";
 
     String OBJECT_FACTORY = "object-factory";
     String ENVIRONMENT = "environment";
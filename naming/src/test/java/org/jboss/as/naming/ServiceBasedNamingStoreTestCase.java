@@ -14,6 +14,7 @@ import javax.naming.CompositeName;
 import javax.naming.Context;
 import javax.naming.Name;
 import javax.naming.NameClassPair;
+import javax.naming.NameNotFoundException;
 import javax.naming.NameParser;
 import javax.naming.NamingEnumeration;
 import javax.naming.NamingException;
@@ -292,6 +293,42 @@ public class ServiceBasedNamingStoreTestCase {
     }
 
 
+    @Test
+    public void testLookupCache() throws Exception {
+        final ServiceName bindingName = ServiceName.JBOSS.append("foo", "bar");
+        final Object value = new Object();
+        bindObject(bindingName, value);
+
+        long hits = ServiceBasedNamingStore.getLookupCacheHitCount();
+        long misses = ServiceBasedNamingStore.getLookupCacheMissCount();
+        assertEquals(value, store.lookup(new CompositeName("foo/bar")));
+        assertEquals(value, store.lookup(new CompositeName("foo/bar")));
+        assertEquals(hits + 1, ServiceBasedNamingStore.getLookupCacheHitCount());
+        assertEquals(misses + 1, ServiceBasedNamingStore.getLookupCacheMissCount());
+
+        // Misses are cached until a service is bound
+        for (int i = 0; i < 2; ++i) {
+            try {
+                store.lookup(new CompositeName("foo/baz"));
+                fail("Expected NameNotFoundException");
+            } catch (NameNotFoundException expected) {
+            }
+        }
+        final Object other = new Object();
+        bindObject(ServiceName.JBOSS.append("foo", "baz", "qux"), other);
+        assertTrue(store.lookup(new CompositeName("foo/baz")) instanceof Context);
+        assertEquals(other, store.lookup(new CompositeName("foo/baz/qux")));
+
+        // Resolved lookups are invalidated when a service is unbound
+        store.remove(ServiceName.JBOSS.append("foo", "baz", "qux"));
+        try {
+            store.lookup(new CompositeName("foo/baz"));
+            fail("Expected NameNotFoundException");
+        } catch (NameNotFoundException expected) {
+        }
+        assertEquals(value, store.lookup(new CompositeName("foo/bar")));
+    }
+
     @Test
     public void testList() throws Exception {
         final Object value = new Object();
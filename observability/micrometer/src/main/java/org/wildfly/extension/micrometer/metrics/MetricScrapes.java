@@ -0,0 +1,59 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.micrometer.metrics;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Tracks the scrapes of the registries of this subsystem, e.g. a Prometheus scrape or an OTLP publication.
+ * A sample of the metrics of a resource is only reused by reads within the scrape that took it,
+ * such that a sample never outlives its scrape, regardless of which, or how many, of its metrics a registry reads.
+ */
+public final class MetricScrapes {
+
+    private static final AtomicLong SCRAPES = new AtomicLong(0);
+    private static final AtomicInteger ACTIVE = new AtomicInteger(0);
+
+    private MetricScrapes() {
+    }
+
+    /**
+     * Performs the specified scrape of metric values.
+     * @param scrape a scrape of metric values
+     * @return the result of the scrape
+     */
+    public static <T> T scrape(Supplier<T> scrape) {
+        ACTIVE.incrementAndGet();
+        // Supersedes any samples taken by a previous scrape
+        SCRAPES.incrementAndGet();
+        try {
+            return scrape.get();
+        } finally {
+            ACTIVE.decrementAndGet();
+        }
+    }
+
+    /**
+     * Performs the specified scrape of metric values.
+     * @param scrape a scrape of metric values
+     */
+    public static void scrape(Runnable scrape) {
+        scrape(() -> {
+            scrape.run();
+            return null;
+        });
+    }
+
+    /**
+     * Returns the identifier of the most recent scrape, if a scrape is in progress.
+     * @return a positive scrape identifier, or 0 if no scrape is in progress
+     */
+    static long current() {
+        return (ACTIVE.get() > 0) ? SCRAPES.get() : 0L;
+    }
+}
@@ -14,6 +14,8 @@ import static org.wildfly.extension.micrometer.metrics.MetricMetadata.Type.GAUGE
 
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.function.Function;
@@ -100,6 +102,9 @@ public class MicrometerCollector implements AutoCloseable {
         }
 
         ModelNode resourceDescription = null;
+        PathAddress resourceAddress = null;
+        List<String> attributeNames = new ArrayList<>();
+        List<WildFlyMetricMetadata> metadata = new ArrayList<>();
 
         for (Map.Entry<String, AttributeAccess> entry : attributes.entrySet()) {
             AttributeAccess attributeAccess = entry.getValue();
@@ -110,18 +115,26 @@ public class MicrometerCollector implements AutoCloseable {
             if (resourceDescription == null) {
                 DescriptionProvider modelDescription = mrr.getModelDescription(address);
                 resourceDescription = modelDescription.getModelDescription(Locale.getDefault());
+                resourceAddress = addressResolver.apply(address);
             }
-            PathAddress resourceAddress = addressResolver.apply(address);
             String attributeName = entry.getKey();
             MeasurementUnit unit = attributeAccess.getAttributeDefinition().getMeasurementUnit();
             boolean isCounter = attributeAccess.getFlags().contains(AttributeAccess.Flag.COUNTER_METRIC);
             String attributeDescription = resourceDescription.get(ATTRIBUTES, attributeName, DESCRIPTION).asStringOrNull();
 
-            WildFlyMetric metric = new WildFlyMetric(modelControllerClient, resourceAddress, attributeName);
-            WildFlyMetricMetadata metadata = new WildFlyMetricMetadata(attributeName, resourceAddress,
-                    attributeDescription, unit, isCounter ? COUNTER : GAUGE);
+            attributeNames.add(attributeName);
+            metadata.add(new WildFlyMetricMetadata(attributeName, resourceAddress,
+                    attributeDescription, unit, isCounter ? COUNTER : GAUGE));
+        }
 
-            registration.addRegistrationTask(() -> registration.registerMetric(metric, metadata));
+        if (!attributeNames.isEmpty()) {
+            // All metrics of this resource share a single sampling operation
+            ResourceMetricSampler sampler = new ResourceMetricSampler(modelControllerClient, resourceAddress, attributeNames);
+            for (int i = 0; i < attributeNames.size(); ++i) {
+                WildFlyMetric metric = new WildFlyMetric(sampler, i);
+                WildFlyMetricMetadata metricMetadata = metadata.get(i);
+                registration.addRegistrationTask(() -> registration.registerMetric(metric, metricMetadata));
+            }
         }
 
         for (String type : current.getChildTypes()) {
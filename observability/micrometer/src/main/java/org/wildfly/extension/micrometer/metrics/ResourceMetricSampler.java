@@ -0,0 +1,174 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.micrometer.metrics;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.COMPOSITE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FAILURE_DESCRIPTION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.INCLUDE_UNDEFINED_METRIC_VALUES;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OPERATION_HEADERS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OUTCOME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_ATTRIBUTE_OPERATION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESULT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ROLES;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ROLLBACK_ON_RUNTIME_FAILURE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.STEPS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUCCESS;
+import static org.wildfly.extension.micrometer.MicrometerExtensionLogger.MICROMETER_LOGGER;
+
+import java.util.List;
+
+import org.jboss.as.controller.LocalModelControllerClient;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.dmr.ModelNode;
+
+/**
+ * Samples the values of all metrics of a management resource using a single management operation.
+ * The operation is built once, and a sample is shared by all metrics of the resource for the duration of a single scrape,
+ * such that a scrape of N metrics of a resource executes a single operation instead of N operations.
+ * A sample expires once a subsequent scrape starts (see {@link MetricScrapes}), and is never reused by reads outside of a scrape.
+ * If a model stage failure of any attribute, e.g. an RBAC denial, fails the sampling operation as a whole,
+ * the attributes are read individually, such that the failure is confined to the affected metrics.
+ */
+public class ResourceMetricSampler {
+
+    private static final ModelNode UNDEFINED = new ModelNode();
+
+    static {
+        UNDEFINED.protect();
+    }
+
+    private final LocalModelControllerClient modelControllerClient;
+    private final PathAddress address;
+    private final List<String> attributeNames;
+    private final ModelNode operation;
+    // Reads each attribute individually, if the composite operation fails
+    private final List<ModelNode> attributeOperations;
+
+    private volatile Sample sample;
+
+    public ResourceMetricSampler(LocalModelControllerClient modelControllerClient, PathAddress address, List<String> attributeNames) {
+        this.modelControllerClient = modelControllerClient;
+        this.address = address;
+        this.attributeNames = List.copyOf(attributeNames);
+        this.attributeOperations = this.attributeNames.stream().map(attributeName -> createReadAttributeOperation(address, attributeName)).map(ResourceMetricSampler::asMonitor).toList();
+        this.operation = (this.attributeOperations.size() == 1) ? this.attributeOperations.get(0) : asMonitor(createCompositeOperation(address, this.attributeNames));
+    }
+
+    private static ModelNode createCompositeOperation(PathAddress address, List<String> attributeNames) {
+        ModelNode operation = new ModelNode();
+        operation.get(OP).set(COMPOSITE);
+        operation.get(OP_ADDR).setEmptyList();
+        ModelNode steps = operation.get(STEPS).setEmptyList();
+        for (String attributeName : attributeNames) {
+            steps.add(createReadAttributeOperation(address, attributeName));
+        }
+        // A runtime failure to read one attribute must not prevent reading the others
+        operation.get(OPERATION_HEADERS, ROLLBACK_ON_RUNTIME_FAILURE).set(false);
+        return operation;
+    }
+
+    private static ModelNode asMonitor(ModelNode operation) {
+        operation.get(OPERATION_HEADERS, ROLES).add("Monitor");
+        operation.protect();
+        return operation;
+    }
+
+    private static ModelNode createReadAttributeOperation(PathAddress address, String attributeName) {
+        ModelNode operation = new ModelNode();
+        operation.get(OP).set(READ_ATTRIBUTE_OPERATION);
+        operation.get(OP_ADDR).set(address.toModelNode());
+        operation.get(INCLUDE_UNDEFINED_METRIC_VALUES).set(false);
+        operation.get(NAME).set(attributeName);
+        return operation;
+    }
+
+    PathAddress getAddress() {
+        return this.address;
+    }
+
+    String getAttributeName(int index) {
+        return this.attributeNames.get(index);
+    }
+
+    /**
+     * Returns the value of the attribute with the specified index, sampling the resource unless the current sample was taken by the current scrape.
+     * @param index an index into the attribute names of this sampler
+     * @return the attribute value, or an undefined node if it could not be read
+     */
+    ModelNode getValue(int index) {
+        long scrape = MetricScrapes.current();
+        Sample sample = this.sample;
+        if (!isCurrent(sample, scrape)) {
+            synchronized (this) {
+                sample = this.sample;
+                if (!isCurrent(sample, scrape)) {
+                    sample = new Sample(scrape, this.sample());
+                    this.sample = sample;
+                }
+            }
+        }
+        return sample.values[index];
+    }
+
+    private static boolean isCurrent(Sample sample, long scrape) {
+        return (sample != null) && (scrape != 0L) && (sample.scrape == scrape);
+    }
+
+    private ModelNode[] sample() {
+        ModelNode[] values = new ModelNode[this.attributeNames.size()];
+        ModelNode response = this.modelControllerClient.execute(this.operation);
+        if (values.length == 1) {
+            values[0] = this.getResult(0, response);
+        } else if (isSuccess(response)) {
+            ModelNode result = response.get(RESULT);
+            for (int i = 0; i < values.length; ++i) {
+                // Each step succeeds or fails independently
+                values[i] = this.getResult(i, result.get("step-" + (i + 1)));
+            }
+        } else {
+            // A model stage failure of any step fails the composite operation as a whole, so read each attribute individually
+            MICROMETER_LOGGER.debugf("Unable to sample attributes of %s, reading them individually: %s", this.address, response.get(FAILURE_DESCRIPTION));
+            for (int i = 0; i < values.length; ++i) {
+                values[i] = this.getResult(i, this.modelControllerClient.execute(this.attributeOperations.get(i)));
+            }
+        }
+        return values;
+    }
+
+    private static boolean isSuccess(ModelNode response) {
+        return SUCCESS.equals(response.get(OUTCOME).asStringOrNull());
+    }
+
+    private ModelNode getResult(int index, ModelNode response) {
+        if (!isSuccess(response)) {
+            String error = response.get(FAILURE_DESCRIPTION).toString();
+            String attributeName = this.attributeNames.get(index);
+            // [WFLY-11933] if the value can not be read if the management resource is not accessible due to RBAC,
+            // it is logged it at a lower level.
+            if (error.contains("WFLYCTL0216")) {
+                MICROMETER_LOGGER.debugf("Unable to read attribute %s: %s.", attributeName, error);
+            } else {
+                MICROMETER_LOGGER.unableToReadAttribute(attributeName, this.address, error);
+            }
+            return UNDEFINED;
+        }
+        return response.get(RESULT);
+    }
+
+    private static class Sample {
+        // The scrape that took this sample
+        final long scrape;
+        final ModelNode[] values;
+
+        Sample(long scrape, ModelNode[] values) {
+            this.scrape = scrape;
+            this.values = values;
+        }
+    }
+}
@@ -16,6 +16,7 @@ import io.micrometer.registry.otlp.HistogramFlavor;
 import io.micrometer.registry.otlp.OtlpConfig;
 import io.micrometer.registry.otlp.OtlpMeterRegistry;
 import org.wildfly.extension.micrometer.WildFlyMicrometerConfig;
+import org.wildfly.extension.micrometer.metrics.MetricScrapes;
 import org.wildfly.extension.micrometer.registry.WildFlyRegistry;
 import org.wildfly.security.manager.WildFlySecurityManager;
 
@@ -24,6 +25,11 @@ public class WildFlyOtlpRegistry extends OtlpMeterRegistry implements WildFlyReg
         super(config, Clock.SYSTEM);
     }
 
+    @Override
+    protected void publish() {
+        MetricScrapes.scrape(() -> super.publish());
+    }
+
     public static class WildFlyMicrometerOtlpConfig extends WildFlyMicrometerConfig implements OtlpConfig {
         /**
          * The OTLP endpoint to which to push metrics
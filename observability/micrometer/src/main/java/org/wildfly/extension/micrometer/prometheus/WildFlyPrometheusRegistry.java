@@ -6,10 +6,16 @@ package org.wildfly.extension.micrometer.prometheus;
 
 import io.micrometer.prometheusmetrics.PrometheusConfig;
 import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.wildfly.extension.micrometer.metrics.MetricScrapes;
 import org.wildfly.extension.micrometer.registry.WildFlyRegistry;
 
 public class WildFlyPrometheusRegistry extends PrometheusMeterRegistry implements WildFlyRegistry {
     public WildFlyPrometheusRegistry() {
         super(PrometheusConfig.DEFAULT);
     }
+
+    @Override
+    public String scrape() {
+        return MetricScrapes.scrape(() -> super.scrape());
+    }
 }
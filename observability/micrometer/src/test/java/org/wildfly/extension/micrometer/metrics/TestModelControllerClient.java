@@ -0,0 +1,127 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.micrometer.metrics;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.COMPOSITE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FAILED;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FAILURE_DESCRIPTION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OUTCOME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESULT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.STEPS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUCCESS;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.jboss.as.controller.LocalModelControllerClient;
+import org.jboss.as.controller.client.Operation;
+import org.jboss.as.controller.client.OperationMessageHandler;
+import org.jboss.as.controller.client.OperationResponse;
+import org.jboss.dmr.ModelNode;
+import org.jboss.threads.AsyncFuture;
+
+/**
+ * A model controller client that answers read-attribute and composite operations using a function of the attribute name.
+ * A null attribute value results in a failed read-attribute operation.
+ * An attribute may instead be rejected during the model stage, e.g. by RBAC, which fails any composite operation that reads it as a whole.
+ * The cost of the management operation pipeline may be simulated by a fixed overhead per operation.
+ */
+class TestModelControllerClient implements LocalModelControllerClient {
+
+    private final Function<String, ModelNode> values;
+    private final Predicate<String> rejected;
+    private final long operationOverheadNanos;
+    private final AtomicInteger operations = new AtomicInteger();
+
+    TestModelControllerClient(Function<String, ModelNode> values) {
+        this(values, name -> false, 0);
+    }
+
+    TestModelControllerClient(Function<String, ModelNode> values, Predicate<String> rejected) {
+        this(values, rejected, 0);
+    }
+
+    TestModelControllerClient(Function<String, ModelNode> values, long operationOverheadNanos) {
+        this(values, name -> false, operationOverheadNanos);
+    }
+
+    private TestModelControllerClient(Function<String, ModelNode> values, Predicate<String> rejected, long operationOverheadNanos) {
+        this.values = values;
+        this.rejected = rejected;
+        this.operationOverheadNanos = operationOverheadNanos;
+    }
+
+    int getOperationCount() {
+        return this.operations.get();
+    }
+
+    @Override
+    public OperationResponse executeOperation(Operation operation, OperationMessageHandler messageHandler) {
+        this.operations.incrementAndGet();
+        if (this.operationOverheadNanos > 0) {
+            LockSupport.parkNanos(this.operationOverheadNanos);
+        }
+        ModelNode op = operation.getOperation();
+        ModelNode response = new ModelNode();
+        if (op.get(OP).asString().equals(COMPOSITE)) {
+            List<ModelNode> steps = op.get(STEPS).asList();
+            // A model stage failure of any step fails the composite operation as a whole
+            for (int i = 0; i < steps.size(); ++i) {
+                if (this.rejected.test(steps.get(i).get(NAME).asString())) {
+                    response.get(OUTCOME).set(FAILED);
+                    response.get(FAILURE_DESCRIPTION, "WFLYCTL0062: Composite operation failed and was rolled back. Steps that failed:", "Operation step-" + (i + 1)).set(this.readAttribute(steps.get(i)).get(FAILURE_DESCRIPTION));
+                    return OperationResponse.Factory.createSimple(response);
+                }
+            }
+            response.get(OUTCOME).set(SUCCESS);
+            for (int i = 0; i < steps.size(); ++i) {
+                response.get(RESULT, "step-" + (i + 1)).set(this.readAttribute(steps.get(i)));
+            }
+        } else {
+            response.set(this.readAttribute(op));
+        }
+        return OperationResponse.Factory.createSimple(response);
+    }
+
+    private ModelNode readAttribute(ModelNode operation) {
+        ModelNode response = new ModelNode();
+        String name = operation.get(NAME).asString();
+        if (this.rejected.test(name)) {
+            response.get(OUTCOME).set(FAILED);
+            response.get(FAILURE_DESCRIPTION).set("WFLYCTL0216: Management resource '" + operation.get(OP_ADDR) + "' not found");
+            return response;
+        }
+        ModelNode value = this.values.apply(name);
+        if (value != null) {
+            response.get(OUTCOME).set(SUCCESS);
+            response.get(RESULT).set(value);
+        } else {
+            response.get(OUTCOME).set(FAILED);
+            response.get(FAILURE_DESCRIPTION).set("WFLYCTL0201: Unknown attribute '" + name + "'");
+        }
+        return response;
+    }
+
+    @Override
+    public AsyncFuture<ModelNode> executeAsync(Operation operation, OperationMessageHandler messageHandler) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public AsyncFuture<OperationResponse> executeOperationAsync(Operation operation, OperationMessageHandler messageHandler) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void close() {
+    }
+}
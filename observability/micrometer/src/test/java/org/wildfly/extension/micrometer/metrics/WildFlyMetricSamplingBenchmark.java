@@ -0,0 +1,120 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.micrometer.metrics;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.INCLUDE_UNDEFINED_METRIC_VALUES;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OPERATION_HEADERS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_ATTRIBUTE_OPERATION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESULT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ROLES;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.PathElement;
+import org.jboss.dmr.ModelNode;
+
+/**
+ * Compares the cost of a scrape of all metrics when each metric executes its own read-attribute operation,
+ * as previously done by {@link WildFlyMetric}, vs sampling all metrics of a resource using a single operation.
+ * The management operation pipeline is simulated by a fixed overhead per operation.
+ * Not run as part of the test suite, e.g.:
+ * <pre>
+ * java -cp ... org.wildfly.extension.micrometer.metrics.WildFlyMetricSamplingBenchmark [resources] [metrics-per-resource] [operation-overhead-micros]
+ * </pre>
+ */
+public class WildFlyMetricSamplingBenchmark {
+
+    private static final int SCRAPES = 10;
+
+    public static void main(String... args) {
+        int resources = (args.length > 0) ? Integer.parseInt(args[0]) : 500;
+        int metrics = (args.length > 1) ? Integer.parseInt(args[1]) : 10;
+        long overhead = TimeUnit.MICROSECONDS.toNanos((args.length > 2) ? Long.parseLong(args[2]) : 20);
+
+        TestModelControllerClient client = new TestModelControllerClient(name -> new ModelNode(name.length()), overhead);
+        List<PathAddress> addresses = new ArrayList<>(resources);
+        List<String> attributeNames = new ArrayList<>(metrics);
+        for (int i = 0; i < resources; ++i) {
+            addresses.add(PathAddress.pathAddress(PathElement.pathElement("subsystem", "test"), PathElement.pathElement("resource", Integer.toString(i))));
+        }
+        for (int i = 0; i < metrics; ++i) {
+            attributeNames.add("metric-" + i);
+        }
+
+        for (int i = 0; i < 2; ++i) {
+            System.out.println("--- Iteration " + i);
+            benchmark("per-metric operation", client, () -> {
+                double sum = 0;
+                for (PathAddress address : addresses) {
+                    for (String attributeName : attributeNames) {
+                        sum += readAttribute(client, address, attributeName).asDouble();
+                    }
+                }
+                return sum;
+            }, resources * metrics);
+
+            List<WildFlyMetric> sampled = new ArrayList<>(resources * metrics);
+            for (PathAddress address : addresses) {
+                ResourceMetricSampler sampler = new ResourceMetricSampler(client, address, attributeNames);
+                for (int j = 0; j < metrics; ++j) {
+                    sampled.add(new WildFlyMetric(sampler, j));
+                }
+            }
+            benchmark("per-resource sample", client, () -> MetricScrapes.scrape(() -> {
+                double sum = 0;
+                for (WildFlyMetric metric : sampled) {
+                    sum += metric.getValue().orElse(0);
+                }
+                return sum;
+            }), resources * metrics);
+        }
+    }
+
+    // Replicates the previous implementation of WildFlyMetric.getValue()
+    private static ModelNode readAttribute(TestModelControllerClient client, PathAddress address, String attributeName) {
+        final ModelNode readAttributeOp = new ModelNode();
+        readAttributeOp.get(OP).set(READ_ATTRIBUTE_OPERATION);
+        readAttributeOp.get(OP_ADDR).set(address.toModelNode());
+        readAttributeOp.get(INCLUDE_UNDEFINED_METRIC_VALUES).set(false);
+        readAttributeOp.get(NAME).set(attributeName);
+        readAttributeOp.get(OPERATION_HEADERS).get(ROLES).add("Monitor");
+        return client.execute(readAttributeOp).get(RESULT);
+    }
+
+    /**
+     * Runs the specified scrape a number of times.
+     */
+    private static void benchmark(String name, TestModelControllerClient client, Scrape scrape, int metrics) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+        // Warm up
+        scrape.run();
+        int operations = 0;
+        long allocated = 0;
+        long elapsed = 0;
+        for (int i = 0; i < SCRAPES; ++i) {
+            int startOperations = client.getOperationCount();
+            long startAllocated = threads.getThreadAllocatedBytes(thread);
+            long start = System.nanoTime();
+            scrape.run();
+            elapsed += System.nanoTime() - start;
+            allocated += threads.getThreadAllocatedBytes(thread) - startAllocated;
+            operations += client.getOperationCount() - startOperations;
+        }
+        System.out.printf("%-22s %,d metrics: %,d operations/scrape, %,d KB/scrape, %,d ms/scrape%n", name, metrics, operations / SCRAPES, allocated / SCRAPES / 1024, TimeUnit.NANOSECONDS.toMillis(elapsed / SCRAPES));
+    }
+
+    private interface Scrape {
+        double run();
+    }
+}
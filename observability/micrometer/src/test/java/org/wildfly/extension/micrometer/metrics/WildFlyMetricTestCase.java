@@ -0,0 +1,141 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.micrometer.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.PathElement;
+import org.jboss.dmr.ModelNode;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link WildFlyMetric} backed by a {@link ResourceMetricSampler}.
+ */
+public class WildFlyMetricTestCase {
+
+    private static final PathAddress ADDRESS = PathAddress.pathAddress(PathElement.pathElement("subsystem", "test"));
+
+    @Test
+    public void sample() {
+        Map<String, ModelNode> values = new ConcurrentHashMap<>(Map.of("a", new ModelNode(1), "b", new ModelNode(2L), "c", new ModelNode()));
+        TestModelControllerClient client = new TestModelControllerClient(values::get);
+        ResourceMetricSampler sampler = new ResourceMetricSampler(client, ADDRESS, List.of("a", "b", "c", "unknown"));
+        WildFlyMetric a = new WildFlyMetric(sampler, 0);
+        WildFlyMetric b = new WildFlyMetric(sampler, 1);
+        WildFlyMetric c = new WildFlyMetric(sampler, 2);
+        WildFlyMetric unknown = new WildFlyMetric(sampler, 3);
+
+        MetricScrapes.scrape(() -> {
+            assertEquals(OptionalDouble.of(1), a.getValue());
+            assertEquals(OptionalDouble.of(2), b.getValue());
+            assertFalse(c.getValue().isPresent());
+            // A failure to read one attribute must not affect the others
+            assertFalse(unknown.getValue().isPresent());
+            // Re-reading a metric within the same scrape is served by the same sample
+            assertEquals(OptionalDouble.of(1), a.getValue());
+        });
+        // All metrics of the resource were read using a single operation
+        assertEquals(1, client.getOperationCount());
+
+        // A read outside of a scrape always samples the resource
+        values.put("a", new ModelNode(3));
+        assertEquals(OptionalDouble.of(3), a.getValue());
+        assertEquals(2, client.getOperationCount());
+        assertEquals(OptionalDouble.of(3), a.getValue());
+        assertEquals(3, client.getOperationCount());
+    }
+
+    /**
+     * A scrape that reads only some metrics of a resource must not leave behind a sample that a subsequent scrape would reuse.
+     */
+    @Test
+    public void partialScrape() {
+        AtomicInteger value = new AtomicInteger(1);
+        TestModelControllerClient client = new TestModelControllerClient(name -> new ModelNode(value.get()));
+        ResourceMetricSampler sampler = new ResourceMetricSampler(client, ADDRESS, List.of("a", "b", "c"));
+        WildFlyMetric a = new WildFlyMetric(sampler, 0);
+        WildFlyMetric b = new WildFlyMetric(sampler, 1);
+
+        MetricScrapes.scrape(() -> assertEquals(OptionalDouble.of(1), a.getValue()));
+        assertEquals(1, client.getOperationCount());
+
+        value.set(2);
+        MetricScrapes.scrape(() -> {
+            assertEquals(OptionalDouble.of(2), b.getValue());
+            assertEquals(OptionalDouble.of(2), a.getValue());
+        });
+        assertEquals(2, client.getOperationCount());
+    }
+
+    /**
+     * A model stage failure of one attribute, e.g. an RBAC denial, must not prevent reading the other attributes of the resource.
+     */
+    @Test
+    public void rejected() {
+        Map<String, ModelNode> values = Map.of("a", new ModelNode(1), "b", new ModelNode(2), "c", new ModelNode(3));
+        TestModelControllerClient client = new TestModelControllerClient(values::get, "b"::equals);
+        ResourceMetricSampler sampler = new ResourceMetricSampler(client, ADDRESS, List.of("a", "b", "c"));
+        WildFlyMetric a = new WildFlyMetric(sampler, 0);
+        WildFlyMetric b = new WildFlyMetric(sampler, 1);
+        WildFlyMetric c = new WildFlyMetric(sampler, 2);
+
+        MetricScrapes.scrape(() -> {
+            assertEquals(OptionalDouble.of(1), a.getValue());
+            assertFalse(b.getValue().isPresent());
+            assertEquals(OptionalDouble.of(3), c.getValue());
+        });
+        // The failed composite operation, followed by a read-attribute operation per attribute
+        assertEquals(4, client.getOperationCount());
+    }
+
+    /**
+     * Each scrape of all metrics must execute a single operation per resource.
+     */
+    @Test
+    public void scrape() {
+        AtomicInteger value = new AtomicInteger();
+        TestModelControllerClient client = new TestModelControllerClient(name -> new ModelNode(value.get()));
+        List<String> attributeNames = List.of("a", "b", "c", "d", "e");
+        List<WildFlyMetric> metrics = new ArrayList<>();
+        int resources = 20;
+        for (int i = 0; i < resources; ++i) {
+            PathAddress address = ADDRESS.append(PathElement.pathElement("resource", Integer.toString(i)));
+            ResourceMetricSampler sampler = new ResourceMetricSampler(client, address, attributeNames);
+            for (int j = 0; j < attributeNames.size(); ++j) {
+                metrics.add(new WildFlyMetric(sampler, j));
+            }
+        }
+
+        for (int scrape = 1; scrape <= 3; ++scrape) {
+            int expected = scrape;
+            value.set(expected);
+            MetricScrapes.scrape(() -> {
+                for (WildFlyMetric metric : metrics) {
+                    assertEquals(OptionalDouble.of(expected), metric.getValue());
+                }
+            });
+            assertEquals(scrape * resources, client.getOperationCount());
+        }
+    }
+
+    @Test
+    public void single() {
+        TestModelControllerClient client = new TestModelControllerClient(name -> new ModelNode(1.5));
+        WildFlyMetric metric = new WildFlyMetric(client, ADDRESS, "a");
+
+        assertEquals(OptionalDouble.of(1.5), metric.getValue());
+        assertEquals(1, client.getOperationCount());
+    }
+}
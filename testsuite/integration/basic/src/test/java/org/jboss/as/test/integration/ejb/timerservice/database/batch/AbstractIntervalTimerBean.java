@@ -0,0 +1,48 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.test.integration.ejb.timerservice.database.batch;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.annotation.Resource;
+import jakarta.ejb.Timeout;
+import jakarta.ejb.Timer;
+import jakarta.ejb.TimerConfig;
+import jakarta.ejb.TimerService;
+
+/**
+ * Creates persistent interval timers and counts their timeouts.
+ */
+public abstract class AbstractIntervalTimerBean {
+
+    private final AtomicInteger timeouts = new AtomicInteger();
+
+    @Resource
+    private TimerService timerService;
+
+    public void start(int timers, long interval) {
+        this.timeouts.set(0);
+        for (int i = 0; i < timers; ++i) {
+            this.timerService.createIntervalTimer(interval, interval, new TimerConfig(i, true));
+        }
+    }
+
+    /**
+     * Cancels all timers.
+     * @return the number of timeouts since {@link #start(int, long)}
+     */
+    public int stop() {
+        for (Timer timer : this.timerService.getTimers()) {
+            timer.cancel();
+        }
+        return this.timeouts.get();
+    }
+
+    @Timeout
+    public void timeout(Timer timer) {
+        this.timeouts.incrementAndGet();
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.test.integration.ejb.timerservice.database.batch;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ADD;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ALLOW_RESOURCE_SERVICE_RESTART;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OPERATION_HEADERS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.REMOVE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ROLLBACK_ON_RUNTIME_FAILURE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUBSYSTEM;
+
+import org.jboss.as.arquillian.api.ServerSetupTask;
+import org.jboss.as.arquillian.container.ManagementClient;
+import org.jboss.as.test.integration.management.ManagementOperations;
+import org.jboss.as.test.shared.ServerReload;
+import org.jboss.dmr.ModelNode;
+
+/**
+ * Adds a database data store that writes every timer state change immediately,
+ * and one that batches timer state changes, both using the embedded H2 database.
+ */
+class DatabaseTimerWriteBatchServerSetup implements ServerSetupTask {
+
+    static final String DIRECT_STORE = "dbstore-direct";
+    static final String BATCHED_STORE = "dbstore-batched";
+    static final int WRITE_BATCH_SIZE = 100;
+    static final long WRITE_BATCH_DELAY = 100;
+
+    @Override
+    public void setup(final ManagementClient managementClient, final String containerId) throws Exception {
+
+        ServerReload.BeforeSetupTask.INSTANCE.setup(managementClient, containerId);
+
+        ModelNode op = createOperation(ADD, DIRECT_STORE);
+        ManagementOperations.executeOperation(managementClient.getControllerClient(), op);
+
+        op = createOperation(ADD, BATCHED_STORE);
+        op.get("write-batch-size").set(WRITE_BATCH_SIZE);
+        op.get("write-batch-delay").set(WRITE_BATCH_DELAY);
+        ManagementOperations.executeOperation(managementClient.getControllerClient(), op);
+    }
+
+    @Override
+    public void tearDown(final ManagementClient managementClient, final String containerId) throws Exception {
+        for (String store : new String[] { DIRECT_STORE, BATCHED_STORE }) {
+            ModelNode op = createOperation(REMOVE, store);
+            op.get(OPERATION_HEADERS, ROLLBACK_ON_RUNTIME_FAILURE).set(false);
+            ManagementOperations.executeOperation(managementClient.getControllerClient(), op);
+        }
+    }
+
+    private static ModelNode createOperation(String operation, String store) {
+        ModelNode op = new ModelNode();
+        op.get(OP).set(operation);
+        op.get(OP_ADDR).add(SUBSYSTEM, "ejb3");
+        op.get(OP_ADDR).add("service", "timer-service");
+        op.get(OP_ADDR).add("database-data-store", store);
+        if (operation.equals(ADD)) {
+            op.get("datasource-jndi-name").set("java:jboss/datasources/ExampleDS");
+            op.get("database").set("hsql");
+            op.get("partition").set(store);
+        }
+        op.get(OPERATION_HEADERS, ALLOW_RESOURCE_SERVICE_RESTART).set(true);
+        return op;
+    }
+}
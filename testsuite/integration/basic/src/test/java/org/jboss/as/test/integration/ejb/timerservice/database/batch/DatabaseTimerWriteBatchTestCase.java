@@ -0,0 +1,69 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.test.integration.ejb.timerservice.database.batch;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.naming.InitialContext;
+import javax.naming.NamingException;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.as.arquillian.api.ServerSetup;
+import org.jboss.as.test.shared.TimeoutUtil;
+import org.jboss.logging.Logger;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Measures the timeout throughput of persistent interval timers using a database data store
+ * that writes every timer state change immediately vs one that batches timer state changes.
+ */
+@RunWith(Arquillian.class)
+@ServerSetup(DatabaseTimerWriteBatchServerSetup.class)
+public class DatabaseTimerWriteBatchTestCase {
+    private static final Logger LOGGER = Logger.getLogger(DatabaseTimerWriteBatchTestCase.class);
+
+    private static final int TIMERS = 200;
+    private static final long INTERVAL = 50;
+    private static final long DURATION = TimeoutUtil.adjust(5000);
+
+    @Deployment
+    public static Archive<?> deploy() {
+        final WebArchive war = ShrinkWrap.create(WebArchive.class, "testDatabaseTimerWriteBatch.war");
+        war.addPackage(DatabaseTimerWriteBatchTestCase.class.getPackage());
+        war.addAsWebInfResource(DatabaseTimerWriteBatchTestCase.class.getPackage(), "jboss-ejb3.xml", "jboss-ejb3.xml");
+        return war;
+    }
+
+    @Test
+    public void throughput() throws NamingException, InterruptedException {
+        double direct = this.measure(lookup(DirectIntervalTimerBean.class));
+        double batched = this.measure(lookup(BatchedIntervalTimerBean.class));
+
+        LOGGER.infof("Timeouts/s of %d interval timers (%d ms): write-through = %.1f, write-batch-size %d = %.1f (%.2fx)",
+                TIMERS, INTERVAL, direct, DatabaseTimerWriteBatchServerSetup.WRITE_BATCH_SIZE, batched, batched / direct);
+
+        Assert.assertTrue(direct > 0);
+        Assert.assertTrue(batched > 0);
+    }
+
+    private double measure(AbstractIntervalTimerBean bean) throws InterruptedException {
+        long start = System.nanoTime();
+        bean.start(TIMERS, INTERVAL);
+        Thread.sleep(DURATION);
+        int timeouts = bean.stop();
+        return timeouts / ((System.nanoTime() - start) / (double) TimeUnit.SECONDS.toNanos(1));
+    }
+
+    private static <T> T lookup(Class<T> beanClass) throws NamingException {
+        return beanClass.cast(new InitialContext().lookup("java:module/" + beanClass.getSimpleName()));
+    }
+}
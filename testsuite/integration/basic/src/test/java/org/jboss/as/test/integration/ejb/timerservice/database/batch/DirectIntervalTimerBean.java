@@ -0,0 +1,18 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.test.integration.ejb.timerservice.database.batch;
+
+import jakarta.ejb.ConcurrencyManagement;
+import jakarta.ejb.ConcurrencyManagementType;
+import jakarta.ejb.Singleton;
+
+/**
+ * Interval timer bean whose timers are persisted via the {@value DatabaseTimerWriteBatchServerSetup#DIRECT_STORE} data store.
+ */
+@Singleton
+@ConcurrencyManagement(ConcurrencyManagementType.BEAN)
+public class DirectIntervalTimerBean extends AbstractIntervalTimerBean {
+}
@@ -7,36 +7,71 @@ package org.wildfly.extension.undertow;
 import io.undertow.servlet.api.SessionPersistenceManager;
 import org.jboss.as.controller.services.path.PathManager;
 import org.jboss.marshalling.InputStreamByteInput;
-import org.jboss.marshalling.Marshaller;
-import org.jboss.marshalling.OutputStreamByteOutput;
 import org.jboss.marshalling.Unmarshaller;
 import org.jboss.modules.ModuleLoader;
 import org.jboss.msc.service.StartContext;
 import org.jboss.msc.service.StartException;
 import org.jboss.msc.service.StopContext;
+import org.jboss.threads.JBossThreadFactory;
 import org.wildfly.extension.undertow.logging.UndertowLogger;
+import org.wildfly.security.manager.WildFlySecurityManager;
 import org.xnio.IoUtils;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.EOFException;
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.security.PrivilegedAction;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 /**
- * Persistent session manager that stores persistent session information to disk
+ * Persistent session manager that stores persistent session information to disk.
+ * Sessions are split into segments that are streamed to and from the file in parallel, each located via an index in the file header.
  *
  * @author Stuart Douglas
  * @author <a href="mailto:ropalka@redhat.com">Richard Opalka</a>
  */
 public class DiskBasedModularPersistentSessionManager extends AbstractPersistentSessionManager {
+    // Identifies the segmented format, which cannot be mistaken for the start of a marshalled stream
+    private static final int MAGIC = 0x55534553;
+    private static final int HEADER_SIZE = Integer.BYTES * 2;
+    private static final int SEGMENT_INDEX_SIZE = Long.BYTES * 2 + Integer.BYTES;
+    private static final int MIN_SEGMENT_SIZE = 1000;
+    // Segment threads are only needed while sessions are loaded or persisted
+    private static final long THREAD_KEEP_ALIVE_SECONDS = 60;
+
     private final String path;
     private final String pathRelativeTo;
     private final Supplier<PathManager> pathManager;
     private File baseDir;
     private PathManager.Callback.Handle callbackHandle;
+    private ExecutorService executor;
 
     DiskBasedModularPersistentSessionManager(final Consumer<SessionPersistenceManager> serviceConsumer,
                                              final Supplier<ModuleLoader> moduleLoader,
@@ -54,6 +89,9 @@ public class DiskBasedModularPersistentSessionManager extends AbstractPersistent
         if (callbackHandle != null) {
             callbackHandle.remove();
         }
+        if (executor != null) {
+            executor.shutdown();
+        }
     }
 
     @Override
@@ -69,24 +107,61 @@ public class DiskBasedModularPersistentSessionManager extends AbstractPersistent
         if (!baseDir.isDirectory()) {
             throw UndertowLogger.ROOT_LOGGER.invalidPersistentSessionDir(baseDir);
         }
+        // Segments are processed by at most one thread per processor
+        int threads = Runtime.getRuntime().availableProcessors();
+        PrivilegedAction<ThreadFactory> action = () -> new JBossThreadFactory(null, Boolean.TRUE, null, "persistent-session-manager -- %t", null, null);
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), WildFlySecurityManager.doUnchecked(action));
+        executor.allowCoreThreadTimeOut(true);
+        this.executor = executor;
     }
 
 
     @Override
     protected void persistSerializedSessions(String deploymentName, Map<String, SessionEntry> serializedData) throws IOException {
+        List<Map.Entry<String, SessionEntry>> entries = new ArrayList<>(serializedData.entrySet());
+        int segmentCount = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), entries.size() / MIN_SEGMENT_SIZE));
+        List<List<Map.Entry<String, SessionEntry>>> segments = new ArrayList<>(segmentCount);
+
+        // Header contains the position, length and number of sessions of each segment
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE + segmentCount * SEGMENT_INDEX_SIZE);
+        header.putInt(MAGIC).putInt(segmentCount);
+        long[] positions = new long[segmentCount];
+        long[] lengths = new long[segmentCount];
+        long position = header.capacity();
+        for (int i = 0; i < segmentCount; ++i) {
+            List<Map.Entry<String, SessionEntry>> segment = entries.subList(i * entries.size() / segmentCount, (i + 1) * entries.size() / segmentCount);
+            long length = segmentLength(segment);
+            segments.add(segment);
+            positions[i] = position;
+            lengths[i] = length;
+            header.putLong(position).putLong(length).putInt(segment.size());
+            position += length;
+        }
+        header.flip();
+
         File file = new File(baseDir, deploymentName);
-        FileOutputStream out = new FileOutputStream(file, false);
-        try {
-            Marshaller marshaller = createMarshaller();
-            try {
-                marshaller.start(new OutputStreamByteOutput(out));
-                marshaller.writeObject(serializedData);
-                marshaller.finish();
-            } finally {
-                marshaller.close();
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            write(channel, header, 0);
+            List<CompletableFuture<Void>> writes = new ArrayList<>(segmentCount);
+            for (int i = 0; i < segmentCount; ++i) {
+                List<Map.Entry<String, SessionEntry>> segment = segments.get(i);
+                long segmentPosition = positions[i];
+                long segmentLength = lengths[i];
+                writes.add(CompletableFuture.runAsync(() -> {
+                    ChannelOutputStream stream = new ChannelOutputStream(channel, segmentPosition);
+                    try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(stream))) {
+                        writeSegment(output, segment);
+                        output.flush();
+                        // Sessions must not have been modified since the segment index was written
+                        if (stream.getPosition() != segmentPosition + segmentLength) {
+                            throw UndertowLogger.ROOT_LOGGER.corruptPersistentSessionFile(file);
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }, this.executor));
             }
-        } finally {
-            IoUtils.safeClose(out);
+            join(writes);
         }
     }
 
@@ -96,6 +171,46 @@ public class DiskBasedModularPersistentSessionManager extends AbstractPersistent
         if (!file.exists()) {
             return null;
         }
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            if ((size < HEADER_SIZE) || (read(channel, header, 0).getInt() != MAGIC)) {
+                // Written by a previous release
+                return this.loadLegacySerializedSessions(file);
+            }
+            int segmentCount = header.getInt();
+            // Validate the segment count against the file size before allocating its index
+            if ((segmentCount <= 0) || (segmentCount > (size - HEADER_SIZE) / SEGMENT_INDEX_SIZE)) {
+                throw UndertowLogger.ROOT_LOGGER.corruptPersistentSessionFile(file);
+            }
+            long indexEnd = HEADER_SIZE + (long) segmentCount * SEGMENT_INDEX_SIZE;
+            ByteBuffer index = read(channel, ByteBuffer.allocate(segmentCount * SEGMENT_INDEX_SIZE), HEADER_SIZE);
+            long now = System.currentTimeMillis();
+            List<CompletableFuture<Map<String, SessionEntry>>> futures = new ArrayList<>(segmentCount);
+            for (int i = 0; i < segmentCount; ++i) {
+                long position = index.getLong();
+                long length = index.getLong();
+                int sessions = index.getInt();
+                if ((position < indexEnd) || (position > size) || (length < 0) || (length > size - position) || (sessions < 0)) {
+                    throw UndertowLogger.ROOT_LOGGER.corruptPersistentSessionFile(file);
+                }
+                futures.add(CompletableFuture.supplyAsync(() -> {
+                    try (DataInputStream input = new DataInputStream(new BufferedInputStream(new ChannelInputStream(channel, position, length)))) {
+                        return readSegment(input, length, sessions, now);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }, this.executor));
+            }
+            Map<String, SessionEntry> result = new HashMap<>();
+            for (Map<String, SessionEntry> segment : join(futures)) {
+                result.putAll(segment);
+            }
+            return result;
+        }
+    }
+
+    private Map<String, SessionEntry> loadLegacySerializedSessions(File file) throws IOException {
         FileInputStream in = new FileInputStream(file);
         try {
             Unmarshaller unMarshaller = createUnmarshaller();
@@ -116,4 +231,186 @@ public class DiskBasedModularPersistentSessionManager extends AbstractPersistent
         }
 
     }
+
+    private static long segmentLength(List<Map.Entry<String, SessionEntry>> entries) {
+        long length = 0;
+        for (Map.Entry<String, SessionEntry> entry : entries) {
+            SessionEntry session = entry.getValue();
+            length += Integer.BYTES + entry.getKey().getBytes(StandardCharsets.UTF_8).length + Long.BYTES + Integer.BYTES;
+            for (Map.Entry<String, byte[]> attribute : session.getData().entrySet()) {
+                length += Integer.BYTES + attribute.getKey().getBytes(StandardCharsets.UTF_8).length + Integer.BYTES + attribute.getValue().length;
+            }
+        }
+        return length;
+    }
+
+    private static void writeSegment(DataOutput output, List<Map.Entry<String, SessionEntry>> entries) throws IOException {
+        for (Map.Entry<String, SessionEntry> entry : entries) {
+            SessionEntry session = entry.getValue();
+            writeBytes(output, entry.getKey().getBytes(StandardCharsets.UTF_8));
+            output.writeLong(session.getExpiry().getTime());
+            output.writeInt(session.getData().size());
+            // Attributes are already marshalled, so write their bytes as is
+            for (Map.Entry<String, byte[]> attribute : session.getData().entrySet()) {
+                writeBytes(output, attribute.getKey().getBytes(StandardCharsets.UTF_8));
+                writeBytes(output, attribute.getValue());
+            }
+        }
+    }
+
+    private static Map<String, SessionEntry> readSegment(DataInputStream input, long length, int sessions, long now) throws IOException {
+        Map<String, SessionEntry> result = new HashMap<>();
+        for (int i = 0; i < sessions; ++i) {
+            String id = new String(readBytes(input, length), StandardCharsets.UTF_8);
+            long expiry = input.readLong();
+            int attributes = input.readInt();
+            if (attributes < 0) {
+                throw new EOFException();
+            }
+            Map<String, byte[]> data = new HashMap<>();
+            for (int j = 0; j < attributes; ++j) {
+                String name = new String(readBytes(input, length), StandardCharsets.UTF_8);
+                if (expiry > now) {
+                    data.put(name, readBytes(input, length));
+                } else {
+                    // Skip attributes of expired sessions
+                    input.skipNBytes(readLength(input, length));
+                }
+            }
+            if (expiry > now) {
+                result.put(id, new SessionEntry(new Date(expiry), data));
+            }
+        }
+        return result;
+    }
+
+    private static void writeBytes(DataOutput output, byte[] bytes) throws IOException {
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static byte[] readBytes(DataInput input, long limit) throws IOException {
+        byte[] bytes = new byte[readLength(input, limit)];
+        input.readFully(bytes);
+        return bytes;
+    }
+
+    private static int readLength(DataInput input, long limit) throws IOException {
+        int length = input.readInt();
+        // A length beyond the end of its segment can only be the result of corruption
+        if ((length < 0) || (length > limit)) {
+            throw new EOFException();
+        }
+        return length;
+    }
+
+    private static void write(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        ByteBuffer source = buffer.duplicate();
+        while (source.hasRemaining()) {
+            channel.write(source, position + source.position());
+        }
+    }
+
+    private static ByteBuffer read(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException();
+            }
+        }
+        return buffer.flip();
+    }
+
+    private static <T> List<T> join(List<CompletableFuture<T>> futures) throws IOException {
+        List<T> results = new ArrayList<>(futures.size());
+        try {
+            for (CompletableFuture<T> future : futures) {
+                results.add(future.join());
+            }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) e.getCause()).getCause();
+            }
+            throw e;
+        }
+        return results;
+    }
+
+    /**
+     * Writes to a file channel starting at a given position, such that multiple streams can write distinct regions of the same channel concurrently.
+     */
+    private static class ChannelOutputStream extends OutputStream {
+        private final FileChannel channel;
+        private long position;
+
+        ChannelOutputStream(FileChannel channel, long position) {
+            this.channel = channel;
+            this.position = position;
+        }
+
+        long getPosition() {
+            return this.position;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            this.write(new byte[] { (byte) b }, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            DiskBasedModularPersistentSessionManager.write(this.channel, ByteBuffer.wrap(b, off, len).slice(), this.position);
+            this.position += len;
+        }
+    }
+
+    /**
+     * Reads a region of a file channel, such that multiple streams can read distinct regions of the same channel concurrently.
+     */
+    private static class ChannelInputStream extends InputStream {
+        private final FileChannel channel;
+        private long position;
+        private long remaining;
+
+        ChannelInputStream(FileChannel channel, long position, long length) {
+            this.channel = channel;
+            this.position = position;
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] b = new byte[1];
+            return (this.read(b, 0, 1) < 0) ? -1 : Byte.toUnsignedInt(b[0]);
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (this.remaining == 0) {
+                return -1;
+            }
+            int read = this.channel.read(ByteBuffer.wrap(b, off, (int) Math.min(len, this.remaining)), this.position);
+            if (read < 0) {
+                throw new EOFException();
+            }
+            this.position += read;
+            this.remaining -= read;
+            return read;
+        }
+
+        @Override
+        public long skip(long n) {
+            long skipped = Math.max(0, Math.min(n, this.remaining));
+            this.position += skipped;
+            this.remaining -= skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            return (int) Math.min(Integer.MAX_VALUE, this.remaining);
+        }
+    }
 }
@@ -0,0 +1,145 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.undertow;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+import io.undertow.servlet.api.SessionPersistenceManager.PersistentSession;
+import org.jboss.as.controller.services.path.PathManager;
+import org.jboss.marshalling.Marshaller;
+import org.jboss.marshalling.OutputStreamByteOutput;
+import org.jboss.modules.ModuleLoader;
+import org.jboss.msc.service.StartContext;
+import org.jboss.msc.service.StopContext;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Unit test for {@link DiskBasedModularPersistentSessionManager}.
+ */
+public class DiskBasedModularPersistentSessionManagerTestCase {
+    private static final String DEPLOYMENT = "test.war";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final ModuleLoader moduleLoader = mock(ModuleLoader.class);
+    private final PathManager pathManager = mock(PathManager.class);
+    private final DiskBasedModularPersistentSessionManager manager = new DiskBasedModularPersistentSessionManager(value -> { }, () -> this.moduleLoader, () -> this.pathManager, "sessions", null);
+
+    @Before
+    public void init() throws Exception {
+        when(this.pathManager.resolveRelativePathEntry("sessions", null)).thenReturn(this.folder.getRoot().getAbsolutePath());
+        this.manager.start(mock(StartContext.class));
+    }
+
+    @After
+    public void destroy() {
+        this.manager.stop(mock(StopContext.class));
+    }
+
+    @Test
+    public void persistAndLoad() {
+        Date expiry = new Date(System.currentTimeMillis() + 60000);
+        Map<String, PersistentSession> sessions = new HashMap<>();
+        // Enough sessions for multiple segments
+        for (int i = 0; i < 10000; ++i) {
+            sessions.put("session-" + i, new PersistentSession(expiry, Map.of("name", "value-" + i, "count", i)));
+        }
+        sessions.put("empty", new PersistentSession(expiry, Map.of()));
+        sessions.put("expired", new PersistentSession(new Date(System.currentTimeMillis() - 1), Map.of("name", "value")));
+
+        this.manager.persistSessions(DEPLOYMENT, sessions);
+        Map<String, PersistentSession> result = this.manager.loadSessionAttributes(DEPLOYMENT, this.getClass().getClassLoader());
+
+        assertEquals(sessions.size() - 1, result.size());
+        assertNull(result.get("expired"));
+        assertEquals(Map.of(), result.get("empty").getSessionData());
+        for (int i = 0; i < 10000; ++i) {
+            PersistentSession session = result.get("session-" + i);
+            assertEquals(expiry, session.getExpiration());
+            assertEquals(Map.of("name", "value-" + i, "count", i), session.getSessionData());
+        }
+    }
+
+    /**
+     * Identifiers and attribute names are not limited to the 64KB of modified UTF-8.
+     */
+    @Test
+    public void persistAndLoadLongNames() {
+        Date expiry = new Date(System.currentTimeMillis() + 60000);
+        String id = "\u00e9".repeat(Short.MAX_VALUE + 1);
+        String name = "a".repeat(Short.MAX_VALUE * 3);
+        Map<String, PersistentSession> sessions = Map.of(id, new PersistentSession(expiry, Map.of(name, "value")));
+
+        this.manager.persistSessions(DEPLOYMENT, sessions);
+        Map<String, PersistentSession> result = this.manager.loadSessionAttributes(DEPLOYMENT, this.getClass().getClassLoader());
+
+        assertEquals(1, result.size());
+        assertEquals(Map.of(name, "value"), result.get(id).getSessionData());
+    }
+
+    /**
+     * A corrupt segment count must be rejected before allocating the segment index.
+     */
+    @Test
+    public void loadCorrupt() throws Exception {
+        try (DataOutputStream out = new DataOutputStream(new FileOutputStream(new File(this.folder.getRoot(), DEPLOYMENT)))) {
+            // Magic number, followed by a segment count that exceeds the file size
+            out.writeInt(0x55534553);
+            out.writeInt(Integer.MAX_VALUE);
+            out.writeLong(8);
+        }
+
+        assertNull(this.manager.loadSessionAttributes(DEPLOYMENT, this.getClass().getClassLoader()));
+    }
+
+    @Test
+    public void loadMissing() {
+        assertNull(this.manager.loadSessionAttributes(DEPLOYMENT, this.getClass().getClassLoader()));
+    }
+
+    @Test
+    public void loadLegacy() throws Exception {
+        Date expiry = new Date(System.currentTimeMillis() + 60000);
+        Map<String, byte[]> data = new HashMap<>();
+        try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            Marshaller marshaller = this.manager.createMarshaller();
+            marshaller.start(new OutputStreamByteOutput(out));
+            marshaller.writeObject("value");
+            marshaller.finish();
+            marshaller.close();
+            data.put("name", out.toByteArray());
+        }
+        // Format written by previous releases
+        try (FileOutputStream out = new FileOutputStream(new File(this.folder.getRoot(), DEPLOYMENT))) {
+            Marshaller marshaller = this.manager.createMarshaller();
+            marshaller.start(new OutputStreamByteOutput(out));
+            marshaller.writeObject(new HashMap<>(Map.of("session", new AbstractPersistentSessionManager.SessionEntry(expiry, data))));
+            marshaller.finish();
+            marshaller.close();
+        }
+
+        Map<String, PersistentSession> result = this.manager.loadSessionAttributes(DEPLOYMENT, this.getClass().getClassLoader());
+
+        assertEquals(1, result.size());
+        assertEquals(Map.of("name", "value"), result.get("session").getSessionData());
+    }
+}